@@ -0,0 +1,67 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.tractusx.sde.common.entities.csv.RowData;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.CsvParse;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.RecordProcessUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Cost of turning one csv row into the row json object, including the copy of
+ * the request template every row starts from.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CsvParseBenchmark {
+
+	private CsvParse csvParse;
+
+	@Setup
+	public void setup(SubmodelSampleState state) {
+		csvParse = new CsvParse(new RecordProcessUtils());
+		csvParse.init(state.schema);
+	}
+
+	@Benchmark
+	public ObjectNode parseRow(SubmodelSampleState state) {
+		RowData rowData = state.nextCsvRow();
+		return csvParse.run(rowData, state.newRowObject(rowData.position()), "benchmark");
+	}
+
+}
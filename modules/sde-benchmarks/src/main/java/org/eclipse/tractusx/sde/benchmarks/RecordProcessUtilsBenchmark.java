@@ -0,0 +1,80 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.RecordProcessUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.gson.JsonObject;
+
+/**
+ * Cost of setting every field value of one row, without the csv splitting
+ * done by {@link org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.CsvParse}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecordProcessUtilsBenchmark {
+
+	private final RecordProcessUtils recordProcessUtils = new RecordProcessUtils();
+
+	private final List<Map.Entry<String, JsonObject>> fields = new ArrayList<>();
+
+	@Setup
+	public void setup(SubmodelSampleState state) {
+		JsonObject submodelProperties = state.schema.get("items").getAsJsonObject().get("properties")
+				.getAsJsonObject();
+		for (String ele : submodelProperties.keySet()) {
+			fields.add(Map.entry(ele, submodelProperties.get(ele).getAsJsonObject()));
+		}
+	}
+
+	@Benchmark
+	public ObjectNode setFieldValues(SubmodelSampleState state) {
+		ObjectNode source = state.nextParsedRow();
+		ObjectNode rowjObject = state.newRowObject(1);
+		for (Map.Entry<String, JsonObject> field : fields) {
+			String ele = field.getKey();
+			String fieldValue = source.hasNonNull(ele) ? source.get(ele).asText() : null;
+			recordProcessUtils.setFieldValue(rowjObject, ele, field.getValue(), fieldValue);
+		}
+		return rowjObject;
+	}
+
+}
@@ -0,0 +1,208 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.tractusx.sde.common.entities.SubmodelFileRequest;
+import org.eclipse.tractusx.sde.common.entities.csv.RowData;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.CsvParse;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.GenerateUrnUUID;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.JsonRecordValidate;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.RecordProcessUtils;
+import org.eclipse.tractusx.sde.submodels.apr.mapper.AspectRelationshipMapperImpl;
+import org.eclipse.tractusx.sde.submodels.batch.mapper.BatchMapperImpl;
+import org.eclipse.tractusx.sde.submodels.pap.mapper.PartAsPlannedMapperImpl;
+import org.eclipse.tractusx.sde.submodels.psiap.mapper.PartSiteInformationAsPlannedMapperImpl;
+import org.eclipse.tractusx.sde.submodels.slbap.mapper.SingleLevelBoMAsPlannedMapperImpl;
+import org.eclipse.tractusx.sde.submodels.sluab.mapper.SingleLevelUsageAsBuiltMapperImpl;
+import org.eclipse.tractusx.sde.submodels.spt.mapper.AspectMapperImpl;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Bundled sample csv of a submodel, repeated up to the configured number of
+ * rows, together with the parsed rows the later pipeline steps work on, and a
+ * row built from the schema examples. A sample row which does not match the
+ * schema fails the setup, so it can not skew the measured steps.
+ */
+@State(Scope.Benchmark)
+public class SubmodelSampleState {
+
+	private static final Map<String, String> SAMPLE_CSV = Map.of(
+			"serial-part-typization", "/serialPartTypization.csv",
+			"batch", "/batch.csv",
+			"assembly-part-relationship", "/assemblyPartRelationship.csv",
+			"part-as-planned", "/partAsPlanned.csv",
+			"single-level-bom-as-planned", "/SingleLevelBoMAsPlanned.csv",
+			"part-site-information-as-planned", "/partSiteInformationAsPlanned.csv",
+			"single-level-usage-as-built", "/singleLevelUsageAsBuilt.csv");
+
+	@Param({ "serial-part-typization", "batch", "assembly-part-relationship", "part-as-planned",
+			"single-level-bom-as-planned", "part-site-information-as-planned", "single-level-usage-as-built" })
+	public String submodel;
+
+	@Param({ "1000000" })
+	public int rows;
+
+	public final ObjectMapper mapper = new ObjectMapper();
+
+	public JsonObject schema;
+
+	public ObjectNode requestTemplate;
+
+	public RowData[] csvRows;
+
+	public ObjectNode[] parsedRows;
+
+	public Function<ObjectNode, Object> submodelMapper;
+
+	public Object[] models;
+
+	private int csvCursor;
+
+	private int parsedCursor;
+
+	private int modelCursor;
+
+	@Setup
+	public void setup() throws Exception {
+		schema = JsonParser.parseString(readResource("/" + submodel + ".json")).getAsJsonObject();
+		requestTemplate = mapper.convertValue(new SubmodelFileRequest("unrestricted", List.of(), List.of()),
+				ObjectNode.class);
+		submodelMapper = mapperFor(submodel);
+
+		CsvParse csvParse = new CsvParse(new RecordProcessUtils());
+		csvParse.init(schema);
+		JsonRecordValidate jsonRecordValidate = new JsonRecordValidate();
+		jsonRecordValidate.init(schema);
+		GenerateUrnUUID generateUrnUUID = new GenerateUrnUUID();
+
+		List<String> lines = new ArrayList<>(List.of(readResource(SAMPLE_CSV.get(submodel)).split("\\R")));
+		lines.add(exampleRow());
+
+		List<String> samples = new ArrayList<>();
+		List<ObjectNode> parsed = new ArrayList<>();
+		for (String line : lines) {
+			if (line.isBlank() || isHeader(line))
+				continue;
+			RowData rowData = new RowData(samples.size() + 2, line);
+			try {
+				ObjectNode rowjObject = csvParse.run(rowData, newRowObject(rowData.position()), "benchmark");
+				if (rowjObject.has("uuid"))
+					generateUrnUUID.run(rowjObject, "benchmark");
+				jsonRecordValidate.run(rowData.position(), rowjObject);
+				samples.add(line);
+				parsed.add(rowjObject);
+			} catch (Exception e) {
+				throw new IllegalStateException(String.format("Invalid %s sample row %s: %s", submodel,
+						rowData.position(), e.getMessage()), e);
+			}
+		}
+
+		csvRows = new RowData[rows];
+		for (int i = 0; i < rows; i++) {
+			csvRows[i] = new RowData(i + 2, samples.get(i % samples.size()));
+		}
+		parsedRows = parsed.toArray(new ObjectNode[0]);
+		models = parsed.stream().map(submodelMapper).toArray();
+	}
+
+	public ObjectNode newRowObject(int rowNumber) {
+		ObjectNode rowjObject = requestTemplate.deepCopy();
+		rowjObject.put("row_number", rowNumber);
+		rowjObject.put("process_id", "benchmark");
+		return rowjObject;
+	}
+
+	public RowData nextCsvRow() {
+		RowData rowData = csvRows[csvCursor];
+		csvCursor = (csvCursor + 1) % csvRows.length;
+		return rowData;
+	}
+
+	public ObjectNode nextParsedRow() {
+		ObjectNode rowjObject = parsedRows[parsedCursor];
+		parsedCursor = (parsedCursor + 1) % parsedRows.length;
+		return rowjObject;
+	}
+
+	public Object nextModel() {
+		Object model = models[modelCursor];
+		modelCursor = (modelCursor + 1) % models.length;
+		return model;
+	}
+
+	private String exampleRow() {
+		JsonObject submodelProperties = schema.get("items").getAsJsonObject().get("properties").getAsJsonObject();
+		List<String> values = new ArrayList<>();
+		for (String ele : submodelProperties.keySet()) {
+			JsonElement examples = submodelProperties.get(ele).getAsJsonObject().get("examples");
+			values.add(examples != null && examples.isJsonArray() && !examples.getAsJsonArray().isEmpty()
+					? examples.getAsJsonArray().get(0).getAsString()
+					: "");
+		}
+		return String.join(";", values);
+	}
+
+	private boolean isHeader(String line) {
+		return schema.get("items").getAsJsonObject().get("properties").getAsJsonObject()
+				.has(line.split(";", -1)[0]);
+	}
+
+	private static Function<ObjectNode, Object> mapperFor(String submodel) {
+		return switch (submodel) {
+		case "serial-part-typization" -> new AspectMapperImpl()::mapFrom;
+		case "batch" -> new BatchMapperImpl()::mapFrom;
+		case "assembly-part-relationship" -> new AspectRelationshipMapperImpl()::mapFrom;
+		case "part-as-planned" -> new PartAsPlannedMapperImpl()::mapFrom;
+		case "single-level-bom-as-planned" -> new SingleLevelBoMAsPlannedMapperImpl()::mapFrom;
+		case "part-site-information-as-planned" -> new PartSiteInformationAsPlannedMapperImpl()::mapFrom;
+		case "single-level-usage-as-built" -> new SingleLevelUsageAsBuiltMapperImpl()::mapFrom;
+		default -> throw new IllegalArgumentException("Unsupported submodel " + submodel);
+		};
+	}
+
+	private static String readResource(String name) throws Exception {
+		try (InputStream input = SubmodelSampleState.class.getResourceAsStream(name)) {
+			if (input == null)
+				throw new IllegalStateException("Missing resource " + name);
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+				return String.join("\n", reader.lines().toList());
+			}
+		}
+	}
+}
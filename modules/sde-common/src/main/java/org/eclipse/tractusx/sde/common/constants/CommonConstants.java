@@ -31,6 +31,7 @@ public class CommonConstants {
 
 	public static final String UPDATED_Y = "Y";
 	public static final String DELETED_Y = "Y";
+	public static final String UPDATED_UNCHANGED = "U";
 
 	public static final String PART_INSTANCE_ID = "partInstanceId";
 	public static final String MANUFACTURER_PART_ID = "manufacturerPartId";
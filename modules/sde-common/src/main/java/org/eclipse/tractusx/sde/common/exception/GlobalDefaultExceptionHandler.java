@@ -23,6 +23,7 @@ package org.eclipse.tractusx.sde.common.exception;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -75,7 +76,7 @@ public class GlobalDefaultExceptionHandler extends ResponseEntityExceptionHandle
 		log.error("FeignException: " + ex.getMessage());
 		log.error("FeignException RequestBody: " + ex.request());
 		log.error("FeignException ResponseBody: " + ex.contentUTF8());
-		ObjectMapper objmap = new ObjectMapper();
+		ObjectMapper objmap = JsonMappers.objectMapper();
 		Map<String, String> errorResponse = new HashMap<>();
 		errorResponse.put("msg", "Error in remote service execution");
 		try {
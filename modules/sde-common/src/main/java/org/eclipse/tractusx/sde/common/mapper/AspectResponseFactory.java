@@ -20,25 +20,25 @@
 
 package org.eclipse.tractusx.sde.common.mapper;
 
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
-
-import lombok.SneakyThrows;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 @Component
 public class AspectResponseFactory {
 
-	ObjectMapper mapper = new ObjectMapper();
-	
-	@SneakyThrows
-	public JsonObject maptoReponse(Object csvObject, Object aspectObject) {
-		JsonObject jobj = new JsonObject();
-		jobj.add("csv", new Gson().fromJson(mapper.writeValueAsString(csvObject), JsonObject.class));
-		jobj.add("json", new Gson().toJsonTree(aspectObject).getAsJsonObject());
-		
+	ObjectMapper mapper = JsonMappers.objectMapper();
+
+	// aspect payloads leave out empty fields
+	ObjectMapper aspectMapper = JsonMappers.nonNullMapper();
+
+	public ObjectNode maptoReponse(Object csvObject, Object aspectObject) {
+		ObjectNode jobj = mapper.createObjectNode();
+		jobj.set("csv", mapper.valueToTree(csvObject));
+		jobj.set("json", aspectMapper.valueToTree(aspectObject));
+
 		return jobj;
 	}
 
@@ -23,6 +23,7 @@ package org.eclipse.tractusx.sde.common.mapper;
 import java.util.Map;
 
 import org.eclipse.tractusx.sde.common.entities.SubmodelFileRequest;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.mapstruct.Mapper;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -35,8 +36,8 @@ import lombok.SneakyThrows;
 @Mapper(componentModel = "spring")
 public abstract class JsonObjectMapper {
 
-	Gson gson = new Gson();
-	ObjectMapper mapper = new ObjectMapper();
+	Gson gson = JsonMappers.gson();
+	ObjectMapper mapper = JsonMappers.objectMapper();
 
 	@SneakyThrows
 	public JsonObject submodelFileRequestToJsonPojo(SubmodelFileRequest submodelFileRequest) {
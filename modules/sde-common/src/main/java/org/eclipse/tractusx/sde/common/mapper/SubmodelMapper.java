@@ -28,6 +28,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.tractusx.sde.common.model.Submodel;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.mapstruct.Mapper;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -39,7 +40,7 @@ import lombok.SneakyThrows;
 @Mapper(componentModel = "spring")
 public abstract class SubmodelMapper {
 
-	Gson gson = new Gson();
+	Gson gson = JsonMappers.gson();
 
 	@SneakyThrows
 	public JsonObject jsonfileToJsonPojo(InputStream input) {
@@ -49,7 +50,7 @@ public abstract class SubmodelMapper {
 
 	@SneakyThrows
 	public Submodel jsonPojoToSubmodelPojo(JsonObject input) {
-		ObjectMapper objectMapper = new ObjectMapper();
+		ObjectMapper objectMapper = JsonMappers.objectMapper();
 		return objectMapper.readValue(input.toString(), Submodel.class);
 	}
 	
@@ -30,6 +30,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.eclipse.tractusx.sde.common.model.Usecase;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.mapstruct.Mapper;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -43,7 +44,7 @@ import lombok.SneakyThrows;
 @Mapper(componentModel = "spring")
 public abstract class UsecaseMapper {
 
-	Gson gson = new Gson();
+	Gson gson = JsonMappers.gson();
 
 	@SneakyThrows
 	public JsonArray jsonfileToJsonPojo(InputStream input) {
@@ -53,7 +54,7 @@ public abstract class UsecaseMapper {
 
 	@SneakyThrows
 	public Usecase jsonPojoToSubmodelPojo(JsonObject input) {
-		ObjectMapper objectMapper = new ObjectMapper();
+		ObjectMapper objectMapper = JsonMappers.objectMapper();
 		return objectMapper.readValue(input.toString(), Usecase.class);
 	}
 
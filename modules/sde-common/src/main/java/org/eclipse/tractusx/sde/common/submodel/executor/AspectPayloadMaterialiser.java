@@ -0,0 +1,39 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.common.submodel.executor;
+
+/**
+ * Told by the executors when the public aspect of a record changed, so it can
+ * be rendered once at write time instead of on every read. Rows report their
+ * uuid with {@link #changed(String, String, String)}, which evicts what is
+ * cached or stored for it at once, and the orchestrator calls
+ * {@link #flush(String)} after each chunk, so a uuid written by several rows of
+ * a chunk is rendered once.
+ */
+public interface AspectPayloadMaterialiser {
+
+	void refresh(String submodel, String uuid);
+
+	void changed(String processId, String submodel, String uuid);
+
+	void flush(String processId);
+
+}
@@ -0,0 +1,78 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.common.submodel.executor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+
+/**
+ * Collects step timings, remote calls and retries per process until they are
+ * drained at the next checkpoint of the process.
+ */
+@Component
+public class ProcessTraceRecorder {
+
+	private final Map<String, ProcessTrace> traces = new ConcurrentHashMap<>();
+
+	public void recordStep(String processId, String step, long nanos, boolean success) {
+		traces.compute(processId, (key, trace) -> {
+			trace = trace == null ? new ProcessTrace() : trace;
+			trace.steps.computeIfAbsent(step, s -> new StepTiming()).record(nanos, success);
+			return trace;
+		});
+	}
+
+	public void recordRemoteCall(String processId) {
+		traces.compute(processId, (key, trace) -> {
+			trace = trace == null ? new ProcessTrace() : trace;
+			trace.remoteCalls.increment();
+			return trace;
+		});
+	}
+
+	public void recordRetry(String processId) {
+		traces.compute(processId, (key, trace) -> {
+			trace = trace == null ? new ProcessTrace() : trace;
+			trace.retries.increment();
+			return trace;
+		});
+	}
+
+	public Optional<ProcessTrace> drain(String processId) {
+		return Optional.ofNullable(traces.remove(processId));
+	}
+
+	@Getter
+	public static class ProcessTrace {
+
+		private final Map<String, StepTiming> steps = new ConcurrentHashMap<>();
+
+		private final LongAdder remoteCalls = new LongAdder();
+
+		private final LongAdder retries = new LongAdder();
+	}
+}
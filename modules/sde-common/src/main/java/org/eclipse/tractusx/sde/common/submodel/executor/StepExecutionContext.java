@@ -0,0 +1,69 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.common.submodel.executor;
+
+import java.util.Optional;
+
+import lombok.Getter;
+
+/**
+ * Submodel, process, chunk and row the current thread is working on, used to
+ * attribute step metrics and work buffered per chunk.
+ */
+@Getter
+public class StepExecutionContext implements AutoCloseable {
+
+	private static final ThreadLocal<StepExecutionContext> CURRENT = new ThreadLocal<>();
+
+	private final String submodel;
+
+	private final String processId;
+
+	private final String chunk;
+
+	private final Integer row;
+
+	private StepExecutionContext(String submodel, String processId, String chunk, Integer row) {
+		this.submodel = submodel;
+		this.processId = processId;
+		this.chunk = chunk;
+		this.row = row;
+	}
+
+	public static StepExecutionContext open(String submodel, String processId) {
+		return open(submodel, processId, processId, null);
+	}
+
+	public static StepExecutionContext open(String submodel, String processId, String chunk, Integer row) {
+		StepExecutionContext context = new StepExecutionContext(submodel, processId, chunk, row);
+		CURRENT.set(context);
+		return context;
+	}
+
+	public static Optional<StepExecutionContext> current() {
+		return Optional.ofNullable(CURRENT.get());
+	}
+
+	@Override
+	public void close() {
+		CURRENT.remove();
+	}
+}
@@ -0,0 +1,129 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.common.submodel.executor;
+
+import java.util.Optional;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.eclipse.tractusx.sde.common.entities.csv.RowData;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Observes every submodel record and every step of it. Each observation is
+ * recorded as a timer and, when tracing is enabled, as a span, so remote calls
+ * made by a step are children of the step and the row.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class StepMetricsAspect {
+
+	public static final String STEP_TIMER = "sde.step";
+
+	public static final String RECORD_TIMER = "sde.record";
+
+	private static final String NONE = "none";
+
+	private final ObservationRegistry observationRegistry;
+
+	private final ProcessTraceRecorder processTraceRecorder;
+
+	@Around("execution(public * org.eclipse.tractusx.sde.common.submodel.executor.SubmodelExecutor+.execute*Record(..))")
+	public Object observeRecord(ProceedingJoinPoint joinPoint) throws Throwable {
+
+		Optional<StepExecutionContext> context = StepExecutionContext.current();
+		Object row = joinPoint.getArgs()[0] instanceof RowData rowData ? rowData.position() : joinPoint.getArgs()[0];
+
+		Observation observation = Observation.createNotStarted(RECORD_TIMER, observationRegistry)
+				.contextualName("record")
+				.lowCardinalityKeyValue("submodel", context.map(StepExecutionContext::getSubmodel).orElse(NONE))
+				.highCardinalityKeyValue("process.id", context.map(StepExecutionContext::getProcessId).orElse(NONE))
+				.highCardinalityKeyValue("row", String.valueOf(row));
+
+		observation.start();
+		try (Observation.Scope scope = observation.openScope()) {
+			return joinPoint.proceed();
+		} catch (Throwable e) {
+			observation.error(e);
+			throw e;
+		} finally {
+			observation.stop();
+		}
+	}
+
+	@Around("execution(public * org.eclipse.tractusx.sde.common.submodel.executor.Step+.run(..))")
+	public Object timeStep(ProceedingJoinPoint joinPoint) throws Throwable {
+
+		String step = stepName(joinPoint.getTarget().getClass());
+		Optional<StepExecutionContext> context = StepExecutionContext.current();
+		String submodel = context.map(StepExecutionContext::getSubmodel).orElse(NONE);
+		boolean success = false;
+
+		Observation observation = Observation.createNotStarted(STEP_TIMER, observationRegistry)
+				.contextualName("step " + step)
+				.lowCardinalityKeyValue("step", step)
+				.lowCardinalityKeyValue("submodel", submodel);
+
+		long start = System.nanoTime();
+		observation.start();
+		try (Observation.Scope scope = observation.openScope()) {
+			Object result = joinPoint.proceed();
+			success = true;
+			return result;
+		} catch (Throwable e) {
+			observation.error(e);
+			throw e;
+		} finally {
+			long nanos = System.nanoTime() - start;
+			observation.lowCardinalityKeyValue("outcome", success ? "success" : "failure");
+			observation.stop();
+			boolean succeeded = success;
+			context.ifPresent(ctx -> processTraceRecorder.recordStep(ctx.getProcessId(), step, nanos, succeeded));
+		}
+	}
+
+	public static String stepName(Class<?> stepClass) {
+		String name = stepClass.getSimpleName();
+		if (name.equals("CsvParse"))
+			return "parse";
+		if (name.equals("JsonRecordFormating"))
+			return "format";
+		if (name.equals("JsonRecordValidate"))
+			return "validate";
+		if (name.contains("UUID"))
+			return "generate-uuid";
+		if (name.startsWith("DigitalTwins"))
+			return "digital-twins";
+		if (name.startsWith("EDC"))
+			return "edc";
+		if (name.startsWith("BPNDiscovery"))
+			return "bpn-discovery";
+		if (name.startsWith("Store"))
+			return "store";
+		return name;
+	}
+}
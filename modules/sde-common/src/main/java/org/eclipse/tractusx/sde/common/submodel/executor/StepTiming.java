@@ -0,0 +1,125 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.common.submodel.executor;
+
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Invocation count, failures and a log scaled latency histogram of one step
+ * of a process. Buckets grow by a quarter power of two starting at one
+ * microsecond, so percentiles are accurate to about 19% while the histogram
+ * stays small enough to be merged into the step row at each checkpoint.
+ */
+public class StepTiming {
+
+	private static final int SUB_BUCKETS = 4;
+
+	private static final int BUCKETS = 40 * SUB_BUCKETS;
+
+	private final LongAdder invocations = new LongAdder();
+
+	private final LongAdder failures = new LongAdder();
+
+	private final LongAdder totalMicros = new LongAdder();
+
+	private final AtomicLong maxMicros = new AtomicLong();
+
+	private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+	public void record(long nanos, boolean success) {
+		long micros = Math.max(1, nanos / 1000);
+		invocations.increment();
+		if (!success)
+			failures.increment();
+		totalMicros.add(micros);
+		maxMicros.accumulateAndGet(micros, Math::max);
+		histogram.incrementAndGet(bucketOf(micros));
+	}
+
+	public void merge(long invocationCount, long failureCount, long totalTimeMicros, long maxTimeMicros,
+			String encodedHistogram) {
+		invocations.add(invocationCount);
+		failures.add(failureCount);
+		totalMicros.add(totalTimeMicros);
+		maxMicros.accumulateAndGet(maxTimeMicros, Math::max);
+		if (encodedHistogram == null || encodedHistogram.isBlank())
+			return;
+		for (String bucket : encodedHistogram.split(",")) {
+			String[] indexAndCount = bucket.split(":");
+			histogram.addAndGet(Integer.parseInt(indexAndCount[0]), Long.parseLong(indexAndCount[1]));
+		}
+	}
+
+	public long getInvocations() {
+		return invocations.sum();
+	}
+
+	public long getFailures() {
+		return failures.sum();
+	}
+
+	public long getTotalMicros() {
+		return totalMicros.sum();
+	}
+
+	public long getMaxMicros() {
+		return maxMicros.get();
+	}
+
+	public long percentileMicros(double percentile) {
+		long count = 0;
+		for (int i = 0; i < BUCKETS; i++)
+			count += histogram.get(i);
+		long rank = (long) Math.ceil(count * percentile);
+		long seen = 0;
+		for (int i = 0; i < BUCKETS && count > 0; i++) {
+			seen += histogram.get(i);
+			if (seen >= rank)
+				return Math.min(upperBoundOf(i), getMaxMicros());
+		}
+		return 0;
+	}
+
+	/**
+	 * Non empty buckets as comma separated {@code index:count} pairs.
+	 */
+	public String encodeHistogram() {
+		StringJoiner joiner = new StringJoiner(",");
+		for (int i = 0; i < BUCKETS; i++) {
+			long count = histogram.get(i);
+			if (count > 0)
+				joiner.add(i + ":" + count);
+		}
+		return joiner.toString();
+	}
+
+	private static int bucketOf(long micros) {
+		int bucket = (int) (Math.log(micros) / Math.log(2) * SUB_BUCKETS);
+		return Math.min(bucket, BUCKETS - 1);
+	}
+
+	private static long upperBoundOf(int bucket) {
+		return (long) Math.ceil(Math.pow(2, (bucket + 1) / (double) SUB_BUCKETS));
+	}
+}
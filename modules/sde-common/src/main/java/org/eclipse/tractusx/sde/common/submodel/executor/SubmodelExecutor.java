@@ -50,12 +50,27 @@ public abstract class SubmodelExecutor {
 
 	public abstract void executeJsonRecord(Integer rowIndex, ObjectNode jsonObject, String processId);
 
-	public abstract List<JsonObject> readCreatedTwinsforDelete(String refProcessId);
+	public abstract int countCreatedTwinsforDelete(String refProcessId);
+
+	/**
+	 * Next page of the records of a process not deleted yet, in the order of
+	 * their key and starting after the record after, or from the beginning if it
+	 * is null. An empty page ends the read.
+	 */
+	public abstract List<JsonObject> readCreatedTwinsforDelete(String refProcessId, JsonObject after, int pageSize);
 
 	public abstract void executeDeleteRecord(JsonObject jsonObject, String delProcessId, String refProcessId);
 
-	public abstract JsonObject readCreatedTwinsDetails(String uuid);
+	public abstract void markDeleted(String refProcessId, List<JsonObject> deletedRecords);
+
+	public abstract ObjectNode readCreatedTwinsDetails(String uuid);
 
 	public abstract int  getUpdatedRecordCount(String processId);
+
+	/**
+	 * Rows of the process whose content matched an earlier upload and were
+	 * skipped without touching the digital twin registry or the EDC.
+	 */
+	public abstract int getUnchangedRecordCount(String processId);
 	
 }
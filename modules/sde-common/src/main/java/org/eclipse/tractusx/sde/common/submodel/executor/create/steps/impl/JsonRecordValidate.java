@@ -20,7 +20,9 @@
 
 package org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.tractusx.sde.common.exception.ValidationException;
@@ -43,10 +45,18 @@ public class JsonRecordValidate extends Step {
 
 	JsonSchemaFactory factory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V201909);
 
+	// compiled once per submodel, schemas do not change after registration
+	private final Map<String, JsonSchema> schemas = new ConcurrentHashMap<>();
+
 	@SneakyThrows
 	public boolean run(Integer rowIndex, JsonNode inputJsonObject) {
 
-		JsonSchema jsonSchema = factory.getSchema(getSubmodelItems().toString());
+		// init of another upload may replace the schema meanwhile, key and value
+		// must come from the same one
+		JsonObject submodelSchema = getSubmodelSchema();
+		JsonObject submodelItems = submodelSchema.get("items").getAsJsonObject();
+		JsonSchema jsonSchema = schemas.computeIfAbsent(submodelSchema.get("id").getAsString(),
+				id -> factory.getSchema(submodelItems.toString()));
 
 		Set<ValidationMessage> errors = jsonSchema.validate(inputJsonObject);
 		StringBuilder sb = new StringBuilder();
@@ -56,15 +66,15 @@ public class JsonRecordValidate extends Step {
 		if (!sb.isEmpty())
 			throw new ValidationException(String.format("RowPosition: %s | Description: %s", rowIndex, sb.toString()));
 
-		dependentFieldValidation(rowIndex, inputJsonObject);
+		dependentFieldValidation(rowIndex, inputJsonObject, submodelItems);
 
 		return true;
 
 	}
 
-	private void dependentFieldValidation(Integer rowIndex, JsonNode inputJsonObject) {
+	private void dependentFieldValidation(Integer rowIndex, JsonNode inputJsonObject, JsonObject submodelItems) {
 
-		JsonObject submodelProperties = getSubmodelDependentRequiredFields();
+		JsonObject submodelProperties = submodelItems.get("dependentRequired").getAsJsonObject();
 		Set<String> fields = submodelProperties.keySet();
 		for (String ele : fields) {
 			try {
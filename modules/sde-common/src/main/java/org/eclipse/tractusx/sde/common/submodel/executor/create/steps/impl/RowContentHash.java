@@ -0,0 +1,68 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Map;
+
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+
+/**
+ * Fingerprints a formatted row so a re-upload of identical content can be
+ * recognised without calling the digital twin registry or the EDC again.
+ */
+@Component
+public class RowContentHash {
+
+	private static final String PROCESS_ID = "process_id";
+	private static final String ROW_NUMBER = "row_number";
+
+	private final ObjectWriter canonicalWriter = JsonMappers.objectMapper().writer()
+			.with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+	@Getter
+	@Value("${submodel.skip-unchanged.enabled:false}")
+	private boolean enabled;
+
+	@SneakyThrows
+	public String hash(ObjectNode jsonObject) {
+		Map<String, Object> content = JsonMappers.objectMapper().convertValue(jsonObject,
+				new TypeReference<Map<String, Object>>() {
+				});
+		content.remove(PROCESS_ID);
+		content.remove(ROW_NUMBER);
+		byte[] digest = MessageDigest.getInstance("SHA-256")
+				.digest(canonicalWriter.writeValueAsString(content).getBytes(StandardCharsets.UTF_8));
+		return HexFormat.of().formatHex(digest);
+	}
+
+}
@@ -0,0 +1,89 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.common.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.google.gson.Gson;
+
+/**
+ * Shared JSON infrastructure. Mappers, readers and writers are thread safe and
+ * keep their serializer caches, so they are created once here instead of per
+ * call. The mappers are configured like a plain {@code new ObjectMapper()} and
+ * must not be reconfigured by callers; use the readers and writers for per use
+ * settings.
+ */
+public class JsonMappers {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new BlackbirdModule());
+
+	private static final ObjectMapper NON_NULL_MAPPER = OBJECT_MAPPER.copy()
+			.setSerializationInclusion(Include.NON_NULL);
+
+	private static final ObjectWriter PRETTY_WRITER = OBJECT_MAPPER.writerWithDefaultPrettyPrinter();
+
+	private static final Gson GSON = new Gson();
+
+	private static final Map<Object, ObjectReader> READERS = new ConcurrentHashMap<>();
+
+	private static final Map<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+
+	private JsonMappers() {
+	}
+
+	public static ObjectMapper objectMapper() {
+		return OBJECT_MAPPER;
+	}
+
+	/**
+	 * Mapper leaving out null fields, matching the output of {@link #gson()}.
+	 */
+	public static ObjectMapper nonNullMapper() {
+		return NON_NULL_MAPPER;
+	}
+
+	public static Gson gson() {
+		return GSON;
+	}
+
+	public static ObjectReader readerFor(Class<?> type) {
+		return READERS.computeIfAbsent(type, t -> OBJECT_MAPPER.readerFor(type));
+	}
+
+	public static ObjectReader readerFor(TypeReference<?> type) {
+		return READERS.computeIfAbsent(type.getType(), t -> OBJECT_MAPPER.readerFor(type));
+	}
+
+	public static ObjectWriter writerFor(Class<?> type) {
+		return WRITERS.computeIfAbsent(type, t -> OBJECT_MAPPER.writerFor(type));
+	}
+
+	public static ObjectWriter prettyWriter() {
+		return PRETTY_WRITER;
+	}
+}
@@ -82,7 +82,7 @@ public class TokenUtility {
 		Base64.Decoder decoder = Base64.getUrlDecoder();
 		String body = new String(decoder.decode(str[1]));
 
-		ObjectMapper mapper = new ObjectMapper();
+		ObjectMapper mapper = JsonMappers.objectMapper();
 		JsonNode actualObj = mapper.readTree(body);
 		long tokenExpirationTime = actualObj.get("exp").asLong() * 1000;
 		long currentTime = System.currentTimeMillis();
@@ -21,6 +21,7 @@
 package org.eclipse.tractusx.sde.common.validators;
 
 import org.eclipse.tractusx.sde.common.entities.SubmodelFileRequest;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -30,7 +31,7 @@ import lombok.SneakyThrows;
 
 public class UploadFileUsagePolicyValidationService implements ConstraintValidator<UsagePolicyValidation, String> {
 
-    private ObjectMapper objectMapper = new ObjectMapper();
+    private ObjectMapper objectMapper = JsonMappers.objectMapper();
     private final ValidationService validationService;
 
     public UploadFileUsagePolicyValidationService(ValidationService validationService) {
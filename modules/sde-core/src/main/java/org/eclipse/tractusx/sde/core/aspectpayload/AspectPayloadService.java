@@ -0,0 +1,186 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.aspectpayload;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.tractusx.sde.common.exception.NoDataFoundException;
+import org.eclipse.tractusx.sde.common.model.Submodel;
+import org.eclipse.tractusx.sde.common.submodel.executor.AspectPayloadMaterialiser;
+import org.eclipse.tractusx.sde.common.submodel.executor.SubmodelExecutor;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
+import org.eclipse.tractusx.sde.core.aspectpayload.entity.AspectPayloadEntity;
+import org.eclipse.tractusx.sde.core.aspectpayload.entity.AspectPayloadPrimaryKey;
+import org.eclipse.tractusx.sde.core.aspectpayload.repository.AspectPayloadRepository;
+import org.eclipse.tractusx.sde.core.service.PublicAspectResponseCache;
+import org.eclipse.tractusx.sde.core.service.SubmodelCsvService;
+import org.eclipse.tractusx.sde.core.service.SubmodelService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Renders the response of the public aspect endpoint. With
+ * submodel.materialised-payload.enabled the rendered bytes are stored gzipped
+ * whenever a record is written, and reads return them without touching the
+ * submodel tables. Records written before the mode was enabled are stored on
+ * their first read. A row write evicts the cached response and drops the
+ * stored payload of its uuid right away, so nothing stale is served even if
+ * the process dies before its chunk is flushed. The flush then renders each
+ * changed uuid once.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AspectPayloadService implements AspectPayloadMaterialiser {
+
+	private final SubmodelService submodelService;
+
+	private final SubmodelCsvService submodelCsvService;
+
+	private final AspectPayloadRepository aspectPayloadRepository;
+
+	private final PublicAspectResponseCache publicAspectResponseCache;
+
+	private final ObjectMapper mapper = JsonMappers.objectMapper();
+
+	@Value(value = "${submodel.materialised-payload.enabled:false}")
+	private boolean materialised;
+
+	private final Map<String, Set<ChangedAspect>> changedAspects = new ConcurrentHashMap<>();
+
+	public ObjectNode render(String submodel, String uuid) {
+		Submodel submodelSchema = submodelService.findSubmodelByNameAsSubmdelObject(submodel);
+		SubmodelExecutor executor = submodelSchema.getExecutor();
+		ObjectNode readCreatedTwinsDetails = executor.readCreatedTwinsDetails(uuid);
+		List<String> csvHeader = submodelCsvService.getCSVHeader(submodelSchema);
+		JsonNode jElement = readCreatedTwinsDetails.get("csv");
+		ObjectNode jObject = mapper.createObjectNode();
+		for (String field : csvHeader) {
+			jObject.set(field, jElement.get(field));
+		}
+		readCreatedTwinsDetails.set("csv", jObject);
+		return readCreatedTwinsDetails;
+	}
+
+	@SneakyThrows
+	public byte[] read(String submodel, String uuid) {
+		if (!materialised)
+			return mapper.writeValueAsBytes(render(submodel, uuid));
+
+		Optional<AspectPayloadEntity> stored = aspectPayloadRepository
+				.findById(new AspectPayloadPrimaryKey(submodel.toLowerCase(), uuid));
+		if (stored.isPresent())
+			return gunzip(stored.get().getPayload());
+
+		byte[] payload = mapper.writeValueAsBytes(render(submodel, uuid));
+		aspectPayloadRepository.upsertPayload(submodel.toLowerCase(), uuid, gzip(payload), LocalDateTime.now());
+		return payload;
+	}
+
+	@Override
+	public void changed(String processId, String submodel, String uuid) {
+		if (uuid == null)
+			return;
+		evict(submodel, uuid);
+		changedAspects.computeIfAbsent(processId, key -> ConcurrentHashMap.newKeySet())
+				.add(new ChangedAspect(submodel, uuid));
+	}
+
+	@Override
+	public void flush(String processId) {
+		Set<ChangedAspect> changed = changedAspects.remove(processId);
+		if (changed != null)
+			changed.forEach(aspect -> refresh(aspect.submodel(), aspect.uuid()));
+	}
+
+	@Override
+	public void refresh(String submodel, String uuid) {
+		if (uuid == null)
+			return;
+		try {
+			store(submodel, uuid);
+		} finally {
+			publicAspectResponseCache.invalidate(submodel, uuid);
+		}
+	}
+
+	private void evict(String submodel, String uuid) {
+		try {
+			if (materialised)
+				aspectPayloadRepository.deletePayload(submodel.toLowerCase(), uuid);
+		} finally {
+			publicAspectResponseCache.invalidate(submodel, uuid);
+		}
+	}
+
+	private void store(String submodel, String uuid) {
+		if (!materialised)
+			return;
+
+		String submodelKey = submodel.toLowerCase();
+		try {
+			byte[] payload = mapper.writeValueAsBytes(render(submodel, uuid));
+			aspectPayloadRepository.upsertPayload(submodelKey, uuid, gzip(payload), LocalDateTime.now());
+		} catch (NoDataFoundException e) {
+			aspectPayloadRepository.deletePayload(submodelKey, uuid);
+		} catch (Exception e) {
+			// a missing payload is rendered again on read, a stale one would be served
+			log.warn(String.format("Unable to store %s payload of %s, %s", submodel, uuid, e.getMessage()));
+			aspectPayloadRepository.deletePayload(submodelKey, uuid);
+		}
+	}
+
+	private record ChangedAspect(String submodel, String uuid) {
+	}
+
+	@SneakyThrows
+	private static byte[] gzip(byte[] payload) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 4 + 64);
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(payload);
+		}
+		return out.toByteArray();
+	}
+
+	@SneakyThrows
+	private static byte[] gunzip(byte[] payload) {
+		try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+			return gzip.readAllBytes();
+		}
+	}
+}
@@ -0,0 +1,51 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.aspectpayload.entity;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+@Data
+@Entity
+@Cacheable(value = false)
+@Table(name = "aspect_payload")
+@IdClass(AspectPayloadPrimaryKey.class)
+public class AspectPayloadEntity implements Serializable {
+
+    @Id
+    @Column(name = "submodel")
+    private String submodel;
+    @Id
+    @Column(name = "uuid")
+    private String uuid;
+    @Column(name = "payload")
+    private byte[] payload;
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,47 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.aspectpayload.repository;
+
+import java.time.LocalDateTime;
+
+import org.eclipse.tractusx.sde.core.aspectpayload.entity.AspectPayloadEntity;
+import org.eclipse.tractusx.sde.core.aspectpayload.entity.AspectPayloadPrimaryKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface AspectPayloadRepository extends JpaRepository<AspectPayloadEntity, AspectPayloadPrimaryKey> {
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO aspect_payload (submodel, uuid, payload, updated_at) " +
+            "VALUES (?1, ?2, ?3, ?4) " +
+            "ON CONFLICT (submodel, uuid) DO UPDATE " +
+            "SET payload = EXCLUDED.payload, " +
+            "updated_at = EXCLUDED.updated_at", nativeQuery = true)
+    void upsertPayload(String submodel, String uuid, byte[] payload, LocalDateTime updatedAt);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM aspect_payload WHERE submodel = ?1 AND uuid = ?2", nativeQuery = true)
+    void deletePayload(String submodel, String uuid);
+}
@@ -0,0 +1,113 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.sde.core.bpndiscovery;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.eclipse.tractusx.sde.bpndiscovery.handler.BpnDiscoveryKeyRegistry;
+import org.eclipse.tractusx.sde.bpndiscovery.model.request.BpnDiscoveryRequest;
+import org.eclipse.tractusx.sde.core.bpndiscovery.repository.BpnDiscoveryKeyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Registered BPN discovery keys in the bpn_discovery_key table. All keys are
+ * loaded into memory at startup, keys registered by other instances since then
+ * are found by one query per batch. Keys older than
+ * bpndiscovery.key-registry.ttl are registered again and purged periodically.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PersistedBpnDiscoveryKeyRegistry implements BpnDiscoveryKeyRegistry {
+
+	private final BpnDiscoveryKeyRepository bpnDiscoveryKeyRepository;
+
+	@Value(value = "${bpndiscovery.key-registry.ttl:604800000}")
+	private long ttl;
+
+	private final Map<BpnDiscoveryRequest, LocalDateTime> registeredKeys = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	public void load() {
+		bpnDiscoveryKeyRepository.findRegisteredAfter(expiredBefore()).forEach(entity -> registeredKeys
+				.put(new BpnDiscoveryRequest(entity.getKeyType(), entity.getKeyValue()), entity.getRegisteredAt()));
+		log.info(String.format("Loaded %s registered BPN discovery keys", registeredKeys.size()));
+	}
+
+	@Override
+	public boolean isRegistered(BpnDiscoveryRequest bpnDiscoveryKey) {
+		LocalDateTime registeredAt = registeredKeys.get(bpnDiscoveryKey);
+		return registeredAt != null && registeredAt.isAfter(expiredBefore());
+	}
+
+	@Override
+	public List<BpnDiscoveryRequest> filterUnregistered(List<BpnDiscoveryRequest> bpnDiscoveryKeys) {
+		List<BpnDiscoveryRequest> unknown = bpnDiscoveryKeys.stream().filter(key -> !isRegistered(key)).toList();
+		if (unknown.isEmpty())
+			return unknown;
+
+		Map<String, List<String>> keyValuesByType = unknown.stream().collect(Collectors
+				.groupingBy(BpnDiscoveryRequest::getType, Collectors.mapping(BpnDiscoveryRequest::getKey, Collectors.toList())));
+
+		List<BpnDiscoveryRequest> unregistered = new ArrayList<>(unknown);
+		LocalDateTime expiredBefore = expiredBefore();
+		keyValuesByType.forEach((type, keyValues) -> bpnDiscoveryKeyRepository
+				.findRegisteredKeys(type, keyValues, expiredBefore).forEach(entity -> {
+					BpnDiscoveryRequest key = new BpnDiscoveryRequest(entity.getKeyType(), entity.getKeyValue());
+					if (unregistered.remove(key))
+						registeredKeys.put(key, entity.getRegisteredAt());
+				}));
+		return unregistered;
+	}
+
+	@Override
+	@Transactional
+	public void registered(List<BpnDiscoveryRequest> bpnDiscoveryKeys) {
+		LocalDateTime now = LocalDateTime.now();
+		bpnDiscoveryKeys.forEach(key -> bpnDiscoveryKeyRepository.insertKey(key.getType(), key.getKey(), now));
+		bpnDiscoveryKeys.forEach(key -> registeredKeys.put(key, now));
+	}
+
+	@Scheduled(fixedDelayString = "${bpndiscovery.key-registry.purge-interval:3600000}")
+	public void purgeExpiredKeys() {
+		LocalDateTime expiredBefore = expiredBefore();
+		registeredKeys.values().removeIf(registeredAt -> !registeredAt.isAfter(expiredBefore));
+		int purged = bpnDiscoveryKeyRepository.deleteRegisteredBefore(expiredBefore);
+		if (purged > 0)
+			log.info(String.format("Purged %s BPN discovery keys registered before %s", purged, expiredBefore));
+	}
+
+	private LocalDateTime expiredBefore() {
+		return LocalDateTime.now().minus(Duration.ofMillis(ttl));
+	}
+}
@@ -0,0 +1,54 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.bpndiscovery.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.tractusx.sde.core.bpndiscovery.entity.BpnDiscoveryKeyEntity;
+import org.eclipse.tractusx.sde.core.bpndiscovery.entity.BpnDiscoveryKeyPrimaryKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface BpnDiscoveryKeyRepository extends JpaRepository<BpnDiscoveryKeyEntity, BpnDiscoveryKeyPrimaryKey> {
+
+    @Query("SELECT e FROM BpnDiscoveryKeyEntity e WHERE e.registeredAt > ?1")
+    List<BpnDiscoveryKeyEntity> findRegisteredAfter(LocalDateTime registeredAfter);
+
+    @Query("SELECT e FROM BpnDiscoveryKeyEntity e WHERE e.keyType = ?1 AND e.keyValue IN ?2 AND e.registeredAt > ?3")
+    List<BpnDiscoveryKeyEntity> findRegisteredKeys(String keyType, Collection<String> keyValues,
+            LocalDateTime registeredAfter);
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO bpn_discovery_key (key_type, key_value, registered_at) " +
+            "VALUES (?1, ?2, ?3) " +
+            "ON CONFLICT (key_type, key_value) DO UPDATE SET registered_at = EXCLUDED.registered_at", nativeQuery = true)
+    void insertKey(String keyType, String keyValue, LocalDateTime registeredAt);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM bpn_discovery_key WHERE registered_at <= ?1", nativeQuery = true)
+    int deleteRegisteredBefore(LocalDateTime registeredBefore);
+}
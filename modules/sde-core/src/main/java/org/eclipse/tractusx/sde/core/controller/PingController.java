@@ -24,11 +24,14 @@ package org.eclipse.tractusx.sde.core.controller;
 import static org.springframework.http.ResponseEntity.ok;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
+import org.eclipse.tractusx.sde.portal.utils.ConnectorDiscoveryCacheUtilityService;
 import org.eclipse.tractusx.sde.portal.utils.MemberCompanyBPNCacheUtilityService;
 import org.eclipse.tractusx.sde.submodels.apr.steps.DigitalTwinsAspectRelationShipCsvHandlerUseCase;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
 
 import lombok.RequiredArgsConstructor;
@@ -41,6 +44,8 @@ public class PingController {
 
 	private final MemberCompanyBPNCacheUtilityService memberCompanyBPNCacheUtilityService;
 
+	private final ConnectorDiscoveryCacheUtilityService connectorDiscoveryCacheUtilityService;
+
 	@GetMapping(value = "/ping")
 	public ResponseEntity<String> getProcessReportById() {
 		return ok().body(LocalDateTime.now().toString());
@@ -48,7 +53,7 @@ public class PingController {
 
 	@GetMapping(value = "/cache/clear-memebercompany-bpnnumber")
 	public ResponseEntity<String> clearBpnnumberCache() {
-		memberCompanyBPNCacheUtilityService.removeAllBPNNumberCache();
+		memberCompanyBPNCacheUtilityService.refreshMemberCompanies();
 		return ok().body("Cleared");
 	}
 
@@ -57,4 +62,32 @@ public class PingController {
 		digitalTwinsAspectRelationShipCsvHandlerUseCase.clearDDTRUrlCache();
 		return ok().body("Cleared");
 	}
-}
\ No newline at end of file
+
+	@GetMapping(value = "/cache/refresh-ddtrurl/{bpnNumber}")
+	public ResponseEntity<String> refreshDdtrurlCache(@PathVariable("bpnNumber") String bpnNumber) {
+		digitalTwinsAspectRelationShipCsvHandlerUseCase.refreshDDTRUrlCache(bpnNumber);
+		return ok().body("Refresh triggered");
+	}
+
+	@GetMapping(value = "/cache/ddtrurl-stats")
+	public ResponseEntity<Map<String, Object>> ddtrurlCacheStats() {
+		return ok().body(digitalTwinsAspectRelationShipCsvHandlerUseCase.getDDTRUrlCacheStats());
+	}
+
+	@GetMapping(value = "/cache/clear-connector-discovery")
+	public ResponseEntity<String> clearConnectorDiscoveryCache() {
+		connectorDiscoveryCacheUtilityService.clearAllConnectorInfoCache();
+		return ok().body("Cleared");
+	}
+
+	@GetMapping(value = "/cache/clear-connector-discovery/{bpnNumber}")
+	public ResponseEntity<String> clearConnectorDiscoveryCache(@PathVariable("bpnNumber") String bpnNumber) {
+		connectorDiscoveryCacheUtilityService.removeConnectorInfoCache(bpnNumber);
+		return ok().body("Cleared");
+	}
+
+	@GetMapping(value = "/cache/connector-discovery-stats")
+	public ResponseEntity<Map<String, Object>> connectorDiscoveryCacheStats() {
+		return ok().body(connectorDiscoveryCacheUtilityService.getConnectorInfoCacheStats());
+	}
+}
@@ -22,6 +22,7 @@ package org.eclipse.tractusx.sde.core.controller;
 import static org.springframework.http.ResponseEntity.ok;
 
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.tractusx.sde.portal.handler.PortalProxyService;
 import org.eclipse.tractusx.sde.portal.model.ConnectorInfo;
@@ -72,4 +73,12 @@ public class PortalProxyController {
 		return ok().body(portalProxyService.unifiedBpnValidation(bpn));
 	}
 
+	@PostMapping(value = "/unified-bpn-validation")
+	@PreAuthorize("hasPermission('','unified_bpn_validation')")
+	public ResponseEntity<Map<String, UnifiedBpnValidationResponse>> unifiedBpnValidation(
+			@RequestBody List<String> bpns) throws Exception {
+		log.info("Request received : /api/unified-bpn-validation");
+		return ok().body(portalProxyService.unifiedBpnValidation(bpns));
+	}
+
 }
@@ -25,6 +25,8 @@ import java.util.Map;
 
 import org.eclipse.tractusx.sde.core.registry.UsecaseRegistration;
 import org.eclipse.tractusx.sde.core.service.SubmodelService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -43,20 +45,20 @@ public class SubmodelController {
 	private final UsecaseRegistration usecaseRegistry;
 
 	@GetMapping("/submodels")
-	public List<Map<String, String>> getAllSubmodels(
+	public ResponseEntity<byte[]> getAllSubmodels(
 			@RequestParam(name = "usecases", required = false) List<String> selectedUsecase) {
-		return submodelService.findAllSubmodels(selectedUsecase == null ? List.of() : selectedUsecase);
+		return json(submodelService.findAllSubmodels(selectedUsecase == null ? List.of() : selectedUsecase));
 	}
 
 	@GetMapping("/submodels/schema-details")
-	public List<Map<Object, Object>> getAllSubmodelswithDetails(
+	public ResponseEntity<byte[]> getAllSubmodelswithDetails(
 			@RequestParam(name = "usecases", required = false) List<String> selectedUsecase) {
-		return submodelService.getAllSubmodelswithDetails(selectedUsecase == null ? List.of() : selectedUsecase);
+		return json(submodelService.getAllSubmodelswithDetails(selectedUsecase == null ? List.of() : selectedUsecase));
 	}
 
 	@GetMapping("/submodels/{submodelName}")
-	public Map<Object, Object> getSubmodelByName(@PathVariable String submodelName) {
-		return submodelService.findSubmodelByName(submodelName);
+	public ResponseEntity<byte[]> getSubmodelByName(@PathVariable String submodelName) {
+		return json(submodelService.findSubmodelByName(submodelName));
 	}
 
 	@GetMapping("/usecases")
@@ -64,4 +66,8 @@ public class SubmodelController {
 		return usecaseRegistry.getUsecases();
 	}
 
+	private static ResponseEntity<byte[]> json(byte[] body) {
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+	}
+
 }
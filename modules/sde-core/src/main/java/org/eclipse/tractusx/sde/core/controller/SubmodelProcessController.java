@@ -22,6 +22,7 @@ package org.eclipse.tractusx.sde.core.controller;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.http.ResponseEntity.ok;
+import static org.springframework.http.ResponseEntity.status;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -29,9 +30,15 @@ import java.util.UUID;
 
 import org.eclipse.tractusx.sde.common.entities.SubmodelFileRequest;
 import org.eclipse.tractusx.sde.common.entities.SubmodelJsonRequest;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.eclipse.tractusx.sde.common.validators.UsagePolicyValidation;
 import org.eclipse.tractusx.sde.core.csv.service.CsvHandlerService;
+import org.eclipse.tractusx.sde.core.service.PublicAspectResponseCache.CachedResponse;
 import org.eclipse.tractusx.sde.core.service.SubmodelOrchestartorService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
@@ -40,6 +47,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
@@ -60,7 +68,7 @@ public class SubmodelProcessController {
 
 	private final CsvHandlerService csvHandlerService;
 	
-	private ObjectMapper objectMapper = new ObjectMapper();
+	private ObjectMapper objectMapper = JsonMappers.objectMapper();
 
 	@PostMapping(value = "/{submodel}/upload")
 	@PreAuthorize("hasPermission(#submodel,'provider_create_contract_offer@provider_update_contract_offer')")
@@ -90,9 +98,17 @@ public class SubmodelProcessController {
 	}
 
 	@GetMapping(value = "/{submodel}/public/{uuid}")
-	public ResponseEntity<Map<Object, Object>> readCreatedTwinsDetails(@PathVariable("submodel") String submodel,
-			@PathVariable("uuid") String uuid) {
-		return ok().body(submodelOrchestartorService.readCreatedTwinsDetails(submodel, uuid));
+	public ResponseEntity<byte[]> readCreatedTwinsDetails(@PathVariable("submodel") String submodel,
+			@PathVariable("uuid") String uuid,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+		CachedResponse response = submodelOrchestartorService.readCreatedTwinsResponse(submodel, uuid);
+
+		if (response.matches(ifNoneMatch))
+			return status(HttpStatus.NOT_MODIFIED).eTag(response.etag()).build();
+
+		return ok().eTag(response.etag()).cacheControl(CacheControl.noCache()).contentType(MediaType.APPLICATION_JSON)
+				.body(response.body());
 	}
 
 	@DeleteMapping(value = "/{submodel}/delete/{processId}", produces = APPLICATION_JSON_VALUE)
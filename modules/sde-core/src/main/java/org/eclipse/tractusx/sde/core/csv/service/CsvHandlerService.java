@@ -131,10 +131,6 @@ public class CsvHandlerService {
         scanner.close();
         csvContent.setRows(rows);
 
-        if (deleteFile(fileName)) {
-            log.debug(String.format("File %s deleted", fileName));
-        }
-
         log.debug(String.format("File '%s.csv' is fully processed. Total of lines: %s", fileName, numberOfRows));
         return csvContent;
     }
@@ -145,6 +141,20 @@ public class CsvHandlerService {
         return true;
     }
 
+    public boolean fileExists(String fileName) {
+        return new File(getFilePath(fileName)).exists();
+    }
+
+    public void deleteProcessedFile(String fileName) {
+        try {
+            if (Files.deleteIfExists(Paths.get(getFilePath(fileName)))) {
+                log.debug(String.format("File %s deleted", fileName));
+            }
+        } catch (IOException ex) {
+            log.warn(String.format("Unable to delete processed file %s: %s", fileName, ex.getMessage()));
+        }
+    }
+
     public String getFilePath(String fileName) {
         String fileNameWithExtension = fileName + CSV_FILE_EXTENSION;
         Path targetLocation = this.fileStorageLocation.resolve(fileNameWithExtension);
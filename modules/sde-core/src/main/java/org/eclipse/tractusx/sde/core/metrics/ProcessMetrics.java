@@ -0,0 +1,100 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.metrics;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.tractusx.sde.core.processqueue.ProcessChunkQueue;
+import org.eclipse.tractusx.sde.core.processreport.ProcessReportUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ProcessMetrics {
+
+	private final MeterRegistry meterRegistry;
+
+	private final ProcessReportUseCase processReportUseCase;
+
+	private final ProcessChunkQueue processChunkQueue;
+
+	private final AtomicLong queuedRows = new AtomicLong();
+
+	@Value(value = "${process.queue.pending-count-ttl:15000}")
+	private long pendingCountTtl;
+
+	private final AtomicLong pendingChunks = new AtomicLong();
+
+	private final AtomicLong pendingChunksCountedAt = new AtomicLong();
+
+	@PostConstruct
+	public void init() {
+		pendingChunksCountedAt.set(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(pendingCountTtl));
+
+		Gauge.builder("sde.process.active", processReportUseCase, ProcessReportUseCase::getActiveProcessCount)
+				.description("Csv processes running on this instance").register(meterRegistry);
+
+		Gauge.builder("sde.rows.queued", queuedRows, AtomicLong::get)
+				.description("Csv rows taken up by this instance and not processed yet").register(meterRegistry);
+
+		Gauge.builder("sde.queue.chunks", this, ProcessMetrics::pendingChunks)
+				.description("Chunks waiting in the process chunk queue").register(meterRegistry);
+
+		// rows of a process are processed in parallel on the common pool
+		new ExecutorServiceMetrics(ForkJoinPool.commonPool(), "row-pool", Tags.empty()).bindTo(meterRegistry);
+	}
+
+	/**
+	 * The pending chunks are counted in the database at most once per
+	 * pending-count-ttl, scrapes in between get the last count.
+	 */
+	private long pendingChunks() {
+		long now = System.nanoTime();
+		long countedAt = pendingChunksCountedAt.get();
+		if (now - countedAt >= TimeUnit.MILLISECONDS.toNanos(pendingCountTtl)
+				&& pendingChunksCountedAt.compareAndSet(countedAt, now))
+			pendingChunks.set(processChunkQueue.countPendingChunks());
+		return pendingChunks.get();
+	}
+
+	public void rowsQueued(int rows) {
+		queuedRows.addAndGet(rows);
+	}
+
+	public void rowsDone(int rows) {
+		queuedRows.addAndGet(-rows);
+	}
+
+	public void rowProcessed(String submodel, boolean success) {
+		meterRegistry.counter("sde.rows", "submodel", submodel, "outcome", success ? "success" : "failure")
+				.increment();
+	}
+}
@@ -0,0 +1,77 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.metrics;
+
+import org.eclipse.tractusx.sde.common.submodel.executor.ProcessTraceRecorder;
+import org.eclipse.tractusx.sde.common.submodel.executor.StepExecutionContext;
+import org.springframework.stereotype.Component;
+
+import feign.Capability;
+import feign.Client;
+import feign.RetryableException;
+import feign.Retryer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Counts remote calls and retries of all Feign clients against the process
+ * whose row is being processed on the calling thread.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProcessTraceCapability implements Capability {
+
+	private final ProcessTraceRecorder processTraceRecorder;
+
+	@Override
+	public Client enrich(Client client) {
+		return (request, options) -> {
+			StepExecutionContext.current()
+					.ifPresent(context -> processTraceRecorder.recordRemoteCall(context.getProcessId()));
+			return client.execute(request, options);
+		};
+	}
+
+	@Override
+	public Retryer enrich(Retryer retryer) {
+		return new CountingRetryer(retryer);
+	}
+
+	private class CountingRetryer implements Retryer {
+
+		private final Retryer delegate;
+
+		CountingRetryer(Retryer delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void continueOrPropagate(RetryableException e) {
+			delegate.continueOrPropagate(e);
+			StepExecutionContext.current()
+					.ifPresent(context -> processTraceRecorder.recordRetry(context.getProcessId()));
+		}
+
+		@Override
+		public Retryer clone() {
+			return new CountingRetryer(delegate.clone());
+		}
+	}
+}
@@ -0,0 +1,107 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.processqueue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.tractusx.sde.common.entities.csv.RowData;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
+import org.eclipse.tractusx.sde.core.processqueue.entity.ProcessChunkEntity;
+import org.eclipse.tractusx.sde.core.processqueue.repository.ProcessChunkRepository;
+import org.eclipse.tractusx.sde.core.processreport.ProcessReportUseCase;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+@Service
+@RequiredArgsConstructor
+public class ProcessChunkQueue {
+
+	private static final String PENDING = "PENDING";
+
+	private final ProcessChunkRepository repository;
+
+	private final ProcessReportUseCase processReportUseCase;
+
+	private static final ObjectReader ROWS_READER = JsonMappers.readerFor(new TypeReference<List<RowData>>() {
+	});
+
+	private static final ObjectWriter ROWS_WRITER = JsonMappers.objectMapper().writerFor(new TypeReference<List<RowData>>() {
+	});
+
+	@SneakyThrows
+	@Transactional
+	public int enqueue(String processId, String submodel, List<RowData> rows, int chunkSize) {
+		LocalDateTime now = LocalDateTime.now();
+		List<ProcessChunkEntity> chunks = new ArrayList<>();
+
+		for (int from = 0; from < rows.size(); from += chunkSize) {
+			List<RowData> chunkRows = rows.subList(from, Math.min(from + chunkSize, rows.size()));
+			chunks.add(ProcessChunkEntity.builder()
+					.chunkId(UUID.randomUUID().toString())
+					.processId(processId)
+					.submodel(submodel)
+					.chunkIndex(chunks.size())
+					.rowData(ROWS_WRITER.writeValueAsString(chunkRows))
+					.status(PENDING)
+					.createdAt(now)
+					.build());
+		}
+		repository.saveAll(chunks);
+		return chunks.size();
+	}
+
+	@Transactional
+	public Optional<ProcessChunkEntity> claimNext(String workerId, LocalDateTime staleClaimBefore) {
+		Optional<ProcessChunkEntity> chunk = repository.lockNextAvailableChunk(staleClaimBefore).stream().findFirst();
+		chunk.ifPresent(obj -> repository.claimChunk(obj.getChunkId(), workerId, LocalDateTime.now()));
+		return chunk;
+	}
+
+	@Transactional
+	public void completeChunk(ProcessChunkEntity chunk, int processedRows, int successCount, int failedCount) {
+		repository.deleteChunk(chunk.getChunkId());
+		processReportUseCase.addChunkProgress(chunk.getProcessId(), processedRows, successCount, failedCount);
+	}
+
+	public boolean hasQueuedChunks(String processId) {
+		return repository.countByProcessId(processId) > 0;
+	}
+
+	public long countPendingChunks() {
+		return repository.countByStatus(PENDING);
+	}
+
+	@SneakyThrows
+	public List<RowData> readRows(ProcessChunkEntity chunk) {
+		return ROWS_READER.readValue(chunk.getRowData());
+	}
+}
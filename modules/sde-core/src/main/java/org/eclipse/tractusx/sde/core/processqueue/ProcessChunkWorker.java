@@ -0,0 +1,149 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.processqueue;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import org.eclipse.tractusx.sde.core.processqueue.entity.ProcessChunkEntity;
+import org.eclipse.tractusx.sde.core.service.SubmodelOrchestartorService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProcessChunkWorker {
+
+	private final ProcessChunkQueue processChunkQueue;
+
+	private final SubmodelOrchestartorService submodelOrchestartorService;
+
+	private final MeterRegistry meterRegistry;
+
+	private final String workerId = UUID.randomUUID().toString();
+
+	@Value(value = "${process.distribution.mode:local}")
+	private String distributionMode;
+
+	@Value(value = "${process.queue.worker-threads:4}")
+	private int workerThreads;
+
+	@Value(value = "${process.queue.claim-timeout:600000}")
+	private long claimTimeout;
+
+	@Value(value = "${process.queue.max-attempts:3}")
+	private int maxAttempts;
+
+	private ExecutorService workerPool;
+
+	private Semaphore availableWorkers;
+
+	@PostConstruct
+	public void init() {
+		workerPool = ExecutorServiceMetrics.monitor(meterRegistry, Executors.newFixedThreadPool(workerThreads),
+				"queue-worker");
+		availableWorkers = new Semaphore(workerThreads);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		workerPool.shutdown();
+	}
+
+	@Scheduled(fixedDelayString = "${process.queue.poll-interval:1000}")
+	public void pollChunks() {
+		if (!"queue".equalsIgnoreCase(distributionMode))
+			return;
+
+		while (availableWorkers.tryAcquire()) {
+			Optional<ProcessChunkEntity> chunk = claimNext();
+			if (chunk.isEmpty()) {
+				availableWorkers.release();
+				break;
+			}
+			workerPool.execute(() -> {
+				try {
+					processChunk(chunk.get());
+				} finally {
+					availableWorkers.release();
+				}
+			});
+		}
+	}
+
+	/**
+	 * A chunk is claimed again after the claim timeout when its worker failed or
+	 * died, until max attempts is reached. Its rows are then counted as failed so
+	 * the process can still finish.
+	 */
+	private void processChunk(ProcessChunkEntity chunk) {
+		int attempt = chunk.getAttempts() + 1;
+		if (attempt > maxAttempts) {
+			failChunk(chunk, "no result within " + maxAttempts + " attempts");
+			return;
+		}
+		try {
+			submodelOrchestartorService.processQueuedChunk(chunk);
+		} catch (Exception e) {
+			if (attempt >= maxAttempts) {
+				failChunk(chunk, e.getMessage());
+			} else {
+				log.error(String.format("Chunk %s of process %s failed, it will be claimed again: %s",
+						chunk.getChunkIndex(), chunk.getProcessId(), e.getMessage()));
+			}
+		}
+	}
+
+	private void failChunk(ProcessChunkEntity chunk, String error) {
+		log.error(String.format("Chunk %s of process %s failed after %s attempts: %s", chunk.getChunkIndex(),
+				chunk.getProcessId(), maxAttempts, error));
+		try {
+			submodelOrchestartorService.failQueuedChunk(chunk, error);
+		} catch (Exception e) {
+			log.error(String.format("Unable to mark chunk %s of process %s failed: %s", chunk.getChunkIndex(),
+					chunk.getProcessId(), e.getMessage()));
+		}
+	}
+
+	private Optional<ProcessChunkEntity> claimNext() {
+		try {
+			return processChunkQueue.claimNext(workerId,
+					LocalDateTime.now().minus(claimTimeout, ChronoUnit.MILLIS));
+		} catch (Exception e) {
+			log.error("Unable to claim process chunk: " + e.getMessage());
+			return Optional.empty();
+		}
+	}
+}
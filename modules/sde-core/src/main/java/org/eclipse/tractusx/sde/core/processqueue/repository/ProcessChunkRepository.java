@@ -0,0 +1,55 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.processqueue.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.eclipse.tractusx.sde.core.processqueue.entity.ProcessChunkEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface ProcessChunkRepository extends JpaRepository<ProcessChunkEntity, String> {
+
+    @Query(value = "SELECT * FROM process_chunk " +
+            "WHERE status = 'PENDING' OR (status = 'CLAIMED' AND claimed_at < ?1) " +
+            "ORDER BY created_at, chunk_index " +
+            "LIMIT 1 FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<ProcessChunkEntity> lockNextAvailableChunk(LocalDateTime staleClaimBefore);
+
+    @Modifying
+    @Query(value = "UPDATE process_chunk " +
+            "SET status = 'CLAIMED', " +
+            "claimed_by = ?2, " +
+            "claimed_at = ?3, " +
+            "attempts = attempts + 1 " +
+            "WHERE chunk_id = ?1", nativeQuery = true)
+    void claimChunk(String chunkId, String claimedBy, LocalDateTime claimedAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM process_chunk WHERE chunk_id = ?1", nativeQuery = true)
+    void deleteChunk(String chunkId);
+
+    long countByProcessId(String processId);
+
+    long countByStatus(String status);
+}
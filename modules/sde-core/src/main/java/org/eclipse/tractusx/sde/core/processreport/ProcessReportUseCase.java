@@ -23,11 +23,20 @@
 package org.eclipse.tractusx.sde.core.processreport;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.tractusx.sde.common.entities.UsagePolicies;
 import org.eclipse.tractusx.sde.common.enums.ProgressStatusEnum;
+import org.eclipse.tractusx.sde.common.submodel.executor.ProcessTraceRecorder;
+import org.eclipse.tractusx.sde.common.submodel.executor.StepTiming;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.eclipse.tractusx.sde.core.failurelog.mapper.FailureLogMapper;
 import org.eclipse.tractusx.sde.core.failurelog.repository.FailureLogRepository;
 import org.eclipse.tractusx.sde.core.processreport.entity.ProcessReportEntity;
@@ -35,14 +44,15 @@ import org.eclipse.tractusx.sde.core.processreport.mapper.ProcessReportMapper;
 import org.eclipse.tractusx.sde.core.processreport.model.ProcessFailureDetails;
 import org.eclipse.tractusx.sde.core.processreport.model.ProcessReport;
 import org.eclipse.tractusx.sde.core.processreport.model.ProcessReportPageResponse;
+import org.eclipse.tractusx.sde.core.processreport.model.ProcessStepTiming;
 import org.eclipse.tractusx.sde.core.processreport.repository.ProcessReportRepository;
+import org.eclipse.tractusx.sde.core.processreport.repository.ProcessStepTimingRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
 
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
@@ -53,19 +63,20 @@ public class ProcessReportUseCase {
 
 	private static final String UNKNOWN = "UNKNOWN";
 	private final ProcessReportRepository repository;
+	private final ProcessStepTimingRepository stepTimingRepository;
+	private final ProcessTraceRecorder processTraceRecorder;
 	private final FailureLogRepository failureRepository;
 	private final ProcessReportMapper mapper;
 	private final FailureLogMapper logMapper;
-
+	private final Set<String> activeProcesses = ConcurrentHashMap.newKeySet();
 
 	@SneakyThrows
 	public void startBuildProcessReport(String processId, String type, int size, List<String> bpnNumbers,
 			String typeOfAccess, List<UsagePolicies> usagePolicies) {
-		ObjectMapper objectMapper = new ObjectMapper();
-		objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
-		String usageList = objectMapper.writeValueAsString(usagePolicies);
+		String usageList = JsonMappers.prettyWriter().writeValueAsString(usagePolicies);
+		LocalDateTime now = LocalDateTime.now();
 		saveProcessReport(ProcessReport.builder().processId(processId).csvType(type.toUpperCase())
-				.status(ProgressStatusEnum.IN_PROGRESS).numberOfItems(size).startDate(LocalDateTime.now())
+				.status(ProgressStatusEnum.IN_PROGRESS).numberOfItems(size).startDate(now).heartbeatTime(now)
 				.bpnNumbers(bpnNumbers).typeOfAccess(typeOfAccess).usagePolicies(usageList).build());
 	}
 
@@ -83,6 +94,10 @@ public class ProcessReportUseCase {
 		oldProcessReport.setNumberOfUpdatedItems(0);
 		oldProcessReport.setNumberOfSucceededItems(0);
 		oldProcessReport.setNumberOfFailedItems(0);
+		oldProcessReport.setProcessedRows(0);
+		oldProcessReport.setRemoteCalls(0);
+		oldProcessReport.setRemoteCallRetries(0);
+		oldProcessReport.setHeartbeatTime(LocalDateTime.now());
 
 		saveProcessReport(oldProcessReport);
 	}
@@ -108,13 +123,118 @@ public class ProcessReportUseCase {
 
 	public ProcessReport getProcessReportById(String id) {
 		Optional<ProcessReportEntity> result = repository.findByProcessId(id);
-		return result.map(mapper::mapFrom).orElse(null);
+		ProcessReport processReport = result.map(mapper::mapFrom).orElse(null);
+		if (processReport != null)
+			processReport.setStepTimings(getProcessStepTimings(id));
+		return processReport;
+	}
+
+	public List<ProcessStepTiming> getProcessStepTimings(String processId) {
+		Map<String, StepTiming> steps = new HashMap<>();
+		stepTimingRepository.findByProcessId(processId)
+				.forEach(entity -> steps.computeIfAbsent(entity.getStep(), step -> new StepTiming()).merge(
+						entity.getInvocations(), entity.getFailures(), entity.getTotalTimeMicros(),
+						entity.getMaxTimeMicros(), entity.getHistogram()));
+
+		return steps.entrySet().stream().sorted(Comparator.comparingLong(
+				(Map.Entry<String, StepTiming> entry) -> entry.getValue().getTotalMicros()).reversed())
+				.map(entry -> toProcessStepTiming(entry.getKey(), entry.getValue())).toList();
+	}
+
+	private ProcessStepTiming toProcessStepTiming(String step, StepTiming timing) {
+		long invocations = timing.getInvocations();
+		return ProcessStepTiming.builder().step(step).invocations(invocations).failures(timing.getFailures())
+				.totalTimeMs(toMillis(timing.getTotalMicros()))
+				.averageTimeMs(invocations == 0 ? 0 : toMillis(timing.getTotalMicros() / (double) invocations))
+				.p95TimeMs(toMillis(timing.percentileMicros(0.95))).maxTimeMs(toMillis(timing.getMaxMicros()))
+				.build();
+	}
+
+	private static double toMillis(double micros) {
+		return Math.round(micros) / 1000d;
 	}
 
-	public void finishBuildProgressReport(String processId, int successCount, int failedCount, int updatedcount) {
+	/**
+	 * Adds the step timings, remote calls and retries recorded for the process
+	 * on this instance since the last checkpoint to the persisted ones.
+	 */
+	public void flushProcessTrace(String processId) {
+		processTraceRecorder.drain(processId).ifPresent(trace -> {
+			LocalDateTime now = LocalDateTime.now();
+			trace.getSteps().forEach((step, timing) -> stepTimingRepository.addStepTiming(
+					UUID.randomUUID().toString(), processId, step, timing.getInvocations(), timing.getFailures(),
+					timing.getTotalMicros(), timing.getMaxMicros(), timing.encodeHistogram(), now));
+			long remoteCalls = trace.getRemoteCalls().sum();
+			long retries = trace.getRetries().sum();
+			if (remoteCalls > 0 || retries > 0)
+				repository.addRemoteCalls(processId, remoteCalls, retries);
+		});
+	}
+
+	/**
+	 * Drops what was recorded for a process whose thread ended without a
+	 * checkpoint, so the recorder does not keep it.
+	 */
+	public void discardProcessTrace(String processId) {
+		processTraceRecorder.drain(processId);
+	}
+
+	public void finishBuildProgressReport(String processId, int successCount, int failedCount, int updatedcount,
+			int unchangedCount) {
+		flushProcessTrace(processId);
 		repository.finalizeProgressReport(processId, LocalDateTime.now(), ProgressStatusEnum.COMPLETED.toString(),
-				successCount, failedCount,updatedcount);
+				successCount, failedCount,updatedcount, unchangedCount);
+
+	}
+
+	public void checkpointProgressReport(String processId, int processedRows, int successCount, int failedCount) {
+		flushProcessTrace(processId);
+		repository.checkpointProgressReport(processId, processedRows, successCount, failedCount, LocalDateTime.now());
+	}
+
+	public void addChunkProgress(String processId, int processedRows, int successCount, int failedCount) {
+		flushProcessTrace(processId);
+		repository.addChunkProgress(processId, processedRows, successCount, failedCount, LocalDateTime.now());
+	}
+
+	public boolean finishQueuedProgressReport(String processId, int updatedcount, int unchangedCount) {
+		return repository.finalizeQueuedProgressReport(processId, LocalDateTime.now(),
+				ProgressStatusEnum.COMPLETED.toString(), updatedcount, unchangedCount) > 0;
+	}
+
+	public void registerActiveProcess(String processId) {
+		activeProcesses.add(processId);
+	}
+
+	public void unregisterActiveProcess(String processId) {
+		activeProcesses.remove(processId);
+	}
+
+	public boolean isActiveProcess(String processId) {
+		return activeProcesses.contains(processId);
+	}
+
+	public int getActiveProcessCount() {
+		return activeProcesses.size();
+	}
+
+	@Scheduled(fixedDelayString = "${process.recovery.heartbeat-interval:60000}")
+	public void heartbeatActiveProcesses() {
+		LocalDateTime now = LocalDateTime.now();
+		activeProcesses.forEach(processId -> repository.updateHeartbeat(processId, now));
+	}
+
+	public List<ProcessReport> findStaleInProgressReports(LocalDateTime staleBefore) {
+		return repository.findStaleInProgressReports(staleBefore).stream().map(mapper::mapFrom).toList();
+	}
+
+	public boolean claimStaleProgressReport(String processId, LocalDateTime staleBefore) {
+		return repository.claimStaleProgressReport(processId, LocalDateTime.now(), staleBefore) > 0;
+	}
 
+	public void failProgressReport(String processId) {
+		flushProcessTrace(processId);
+		repository.updateProgressReportStatus(processId, LocalDateTime.now(), ProgressStatusEnum.FAILED.toString());
 	}
 
 	public void finishBuildDeleteProgressReport(String processId, int deletedCount, int failedCount) {
@@ -77,9 +77,24 @@ public class ProcessReportEntity implements Serializable {
     @Column(name = "number_of_updated_items")
     private int numberOfUpdatedItems;
     
+    @Column(name = "number_of_unchanged_items")
+    private int numberOfUnchangedItems;
+    
     @Column(name = "number_of_deleted_items")
    	private int numberOfDeletedItems;
     
     @Column(name = "reference_process_id")
    	private String referenceProcessId;
+    
+    @Column(name = "processed_rows")
+   	private int processedRows;
+    
+    @Column(name = "heartbeat_time")
+   	private LocalDateTime heartbeatTime;
+    
+    @Column(name = "remote_calls")
+   	private long remoteCalls;
+    
+    @Column(name = "remote_call_retries")
+   	private long remoteCallRetries;
 }
@@ -0,0 +1,66 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.processreport.entity;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Cacheable(value = false)
+@Table(name = "process_step_timing", indexes = {
+        @Index(name = "process_step_timing_process_step_idx", columnList = "process_id, step", unique = true) })
+public class ProcessStepTimingEntity implements Serializable {
+
+    @Id
+    @Column(name = "uuid")
+    private String uuid;
+    @Column(name = "process_id")
+    private String processId;
+    @Column(name = "step")
+    private String step;
+    @Column(name = "invocations")
+    private long invocations;
+    @Column(name = "failures")
+    private long failures;
+    @Column(name = "total_time_micros")
+    private long totalTimeMicros;
+    @Column(name = "max_time_micros")
+    private long maxTimeMicros;
+    @Column(name = "histogram")
+    private String histogram;
+    @Column(name = "recorded_at")
+    private LocalDateTime recordedAt;
+}
@@ -23,6 +23,7 @@ package org.eclipse.tractusx.sde.core.processreport.mapper;
 import java.util.List;
 
 import org.eclipse.tractusx.sde.common.entities.UsagePolicies;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.eclipse.tractusx.sde.core.processreport.entity.ConsumerDownloadHistoryEntity;
 import org.eclipse.tractusx.sde.core.processreport.model.ConsumerDownloadHistory;
 import org.eclipse.tractusx.sde.edc.model.request.Offer;
@@ -36,7 +37,7 @@ import lombok.SneakyThrows;
 @Mapper(componentModel = "spring")
 public interface ConsumerDownloadHistoryMapper {
 
-	ObjectMapper mapper = new ObjectMapper();
+	ObjectMapper mapper = JsonMappers.objectMapper();
 
 	ConsumerDownloadHistory mapFrom(ConsumerDownloadHistoryEntity entity);
 
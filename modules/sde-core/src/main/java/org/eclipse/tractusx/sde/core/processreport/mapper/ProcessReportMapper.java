@@ -25,11 +25,13 @@ package org.eclipse.tractusx.sde.core.processreport.mapper;
 import org.eclipse.tractusx.sde.core.processreport.entity.ProcessReportEntity;
 import org.eclipse.tractusx.sde.core.processreport.model.ProcessReport;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface ProcessReportMapper {
 
     ProcessReportEntity mapFrom(ProcessReport processReport);
 
+    @Mapping(target = "stepTimings", ignore = true)
     ProcessReport mapFrom(ProcessReportEntity processReportEntity);
 }
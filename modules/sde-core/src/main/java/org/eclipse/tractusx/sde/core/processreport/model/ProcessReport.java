@@ -27,6 +27,9 @@ import java.util.List;
 
 import org.eclipse.tractusx.sde.common.enums.ProgressStatusEnum;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -50,7 +53,14 @@ public class ProcessReport {
     private String typeOfAccess;
     private String usagePolicies;
     private int numberOfUpdatedItems;
+    private int numberOfUnchangedItems;
 	private int numberOfDeletedItems;
 	private String referenceProcessId;
+	private int processedRows;
+	private LocalDateTime heartbeatTime;
+	private long remoteCalls;
+	private long remoteCallRetries;
+	@JsonInclude(Include.NON_NULL)
+	private List<ProcessStepTiming> stepTimings;
 
 }
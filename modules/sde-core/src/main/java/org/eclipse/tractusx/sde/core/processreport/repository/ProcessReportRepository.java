@@ -23,6 +23,7 @@
 package org.eclipse.tractusx.sde.core.processreport.repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.eclipse.tractusx.sde.core.processreport.entity.ProcessReportEntity;
@@ -44,7 +45,7 @@ public interface ProcessReportRepository extends JpaRepository<ProcessReportEnti
             "status = ?3, " +
             "number_of_deleted_items =?4, " +
             "number_of_failed_items = ?5 " +
-            "WHERE process_id = ?1", nativeQuery = true)
+            "WHERE process_id = ?1 AND status = 'IN_PROGRESS'", nativeQuery = true)
 	void finalizeProgressDeleteReport(String processId, LocalDateTime endDate, String status, int deletedCount,
 			int noOfFailed);
     
@@ -56,11 +57,82 @@ public interface ProcessReportRepository extends JpaRepository<ProcessReportEnti
             "status = ?3, " +
             "number_of_succeeded_items =?4, " +
             "number_of_failed_items = ?5, " +
-            "number_of_updated_items = ?6 " +            
-            "WHERE process_id = ?1", nativeQuery = true)
+            "number_of_updated_items = ?6, " +
+            "number_of_unchanged_items = ?7 " +
+            "WHERE process_id = ?1 AND status = 'IN_PROGRESS'", nativeQuery = true)
 	void finalizeProgressReport(String processId, LocalDateTime endDate, String status, int successCount,
-			int noOfFailed,long noOfUpdated);
+			int noOfFailed,long noOfUpdated, long noOfUnchanged);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE process_report " +
+            "SET processed_rows = ?2, " +
+            "number_of_succeeded_items = ?3, " +
+            "number_of_failed_items = ?4, " +
+            "heartbeat_time = ?5 " +
+            "WHERE process_id = ?1", nativeQuery = true)
+	void checkpointProgressReport(String processId, int processedRows, int successCount, int noOfFailed,
+			LocalDateTime heartbeatTime);
 
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE process_report " +
+            "SET processed_rows = processed_rows + ?2, " +
+            "number_of_succeeded_items = number_of_succeeded_items + ?3, " +
+            "number_of_failed_items = number_of_failed_items + ?4, " +
+            "heartbeat_time = ?5 " +
+            "WHERE process_id = ?1", nativeQuery = true)
+	void addChunkProgress(String processId, int processedRows, int successCount, int noOfFailed,
+			LocalDateTime heartbeatTime);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE process_report " +
+            "SET end_date = ?2, " +
+            "status = ?3, " +
+            "number_of_succeeded_items = number_of_succeeded_items - ?4 - ?5, " +
+            "number_of_updated_items = ?4, " +
+            "number_of_unchanged_items = ?5 " +
+            "WHERE process_id = ?1 AND status = 'IN_PROGRESS'", nativeQuery = true)
+	int finalizeQueuedProgressReport(String processId, LocalDateTime endDate, String status, int noOfUpdated,
+			int noOfUnchanged);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE process_report " +
+            "SET remote_calls = COALESCE(remote_calls, 0) + ?2, " +
+            "remote_call_retries = COALESCE(remote_call_retries, 0) + ?3 " +
+            "WHERE process_id = ?1", nativeQuery = true)
+	void addRemoteCalls(String processId, long remoteCalls, long retries);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE process_report " +
+            "SET heartbeat_time = ?2 " +
+            "WHERE process_id = ?1 AND status = 'IN_PROGRESS'", nativeQuery = true)
+	void updateHeartbeat(String processId, LocalDateTime heartbeatTime);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE process_report " +
+            "SET heartbeat_time = ?2 " +
+            "WHERE process_id = ?1 AND status = 'IN_PROGRESS' " +
+            "AND heartbeat_time < ?3", nativeQuery = true)
+	int claimStaleProgressReport(String processId, LocalDateTime heartbeatTime, LocalDateTime staleBefore);
+
+    @Query(value = "SELECT * FROM process_report " +
+            "WHERE status = 'IN_PROGRESS' " +
+            "AND heartbeat_time < ?1 " +
+            "ORDER BY start_date", nativeQuery = true)
+	List<ProcessReportEntity> findStaleInProgressReports(LocalDateTime staleBefore);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE process_report " +
+            "SET end_date = ?2, " +
+            "status = ?3 " +
+            "WHERE process_id = ?1", nativeQuery = true)
+	void updateProgressReportStatus(String processId, LocalDateTime endDate, String status);
     
     @Query("SELECT p FROM ProcessReportEntity p ORDER BY p.startDate DESC")
     Page<ProcessReportEntity> findAll(PageRequest pageRequest);
@@ -0,0 +1,56 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.processreport.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.eclipse.tractusx.sde.core.processreport.entity.ProcessStepTimingEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ProcessStepTimingRepository extends JpaRepository<ProcessStepTimingEntity, String> {
+
+	List<ProcessStepTimingEntity> findByProcessId(String processId);
+
+	/**
+	 * Adds the timings of a checkpoint to the one row of the step, the
+	 * histograms are merged by summing the counts of each bucket.
+	 */
+	@Modifying
+	@Transactional
+	@Query(value = "INSERT INTO process_step_timing (uuid, process_id, step, invocations, failures, "
+			+ "total_time_micros, max_time_micros, histogram, recorded_at) VALUES (?1, ?2, ?3, ?4, ?5, ?6, ?7, ?8, ?9) "
+			+ "ON CONFLICT (process_id, step) DO UPDATE SET "
+			+ "invocations = process_step_timing.invocations + EXCLUDED.invocations, "
+			+ "failures = process_step_timing.failures + EXCLUDED.failures, "
+			+ "total_time_micros = process_step_timing.total_time_micros + EXCLUDED.total_time_micros, "
+			+ "max_time_micros = GREATEST(process_step_timing.max_time_micros, EXCLUDED.max_time_micros), "
+			+ "histogram = (SELECT string_agg(bucket.idx || ':' || bucket.hits, ',' ORDER BY bucket.idx) "
+			+ "FROM (SELECT CAST(split_part(pair, ':', 1) AS INT) AS idx, SUM(CAST(split_part(pair, ':', 2) AS BIGINT)) AS hits "
+			+ "FROM unnest(string_to_array(concat_ws(',', NULLIF(process_step_timing.histogram, ''), "
+			+ "NULLIF(EXCLUDED.histogram, '')), ',')) AS pair GROUP BY 1) AS bucket), "
+			+ "recorded_at = EXCLUDED.recorded_at", nativeQuery = true)
+	void addStepTiming(String uuid, String processId, String step, long invocations, long failures,
+			long totalTimeMicros, long maxTimeMicros, String histogram, LocalDateTime recordedAt);
+}
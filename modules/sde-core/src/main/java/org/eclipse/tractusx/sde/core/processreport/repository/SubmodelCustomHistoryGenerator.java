@@ -23,6 +23,7 @@ import java.util.LinkedList;
 import java.util.List;
 
 import org.eclipse.tractusx.sde.common.exception.ServiceException;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.stereotype.Component;
@@ -40,7 +41,7 @@ public class SubmodelCustomHistoryGenerator {
 	@Autowired
 	private EntityManager entityManager;
 
-	ObjectMapper objMapper = new ObjectMapper();
+	ObjectMapper objMapper = JsonMappers.objectMapper();
 
 	@SuppressWarnings("unchecked")
 	@Modifying
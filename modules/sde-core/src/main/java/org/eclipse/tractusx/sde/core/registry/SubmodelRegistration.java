@@ -20,8 +20,13 @@
 
 package org.eclipse.tractusx.sde.core.registry;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.tractusx.sde.common.extensions.SubmodelExtension;
 import org.eclipse.tractusx.sde.common.model.Submodel;
@@ -29,25 +34,51 @@ import org.springframework.stereotype.Component;
 
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Submodels found by discovery. The list, the index by lower cased id and the
+ * index by csv header (the set of schema properties) are immutable and
+ * replaced as a whole on registration, so lookups need no locking or scan.
+ */
 @Component
 @Slf4j
 public class SubmodelRegistration {
 
-	private final List<Submodel> submodelList;
+	private volatile List<Submodel> submodelList = List.of();
 
+	private volatile Map<String, Submodel> submodelIndex = Map.of();
 
-	public SubmodelRegistration() {
-		submodelList = new LinkedList<>();
-	}
+	private volatile Map<Set<String>, Submodel> headerIndex = Map.of();
 
-	public void register(SubmodelExtension subomdelService) {
+	public synchronized void register(SubmodelExtension subomdelService) {
 		Submodel submodel = subomdelService.submodel();
 		log.info(submodel.toString());
-		submodelList.add(submodel);
+
+		List<Submodel> models = new ArrayList<>(submodelList);
+		models.add(submodel);
+		Map<String, Submodel> index = new HashMap<>(submodelIndex);
+		index.put(submodel.getId().toLowerCase(), submodel);
+		Map<Set<String>, Submodel> headers = new HashMap<>(headerIndex);
+		headers.putIfAbsent(headerOf(submodel), submodel);
+
+		submodelList = List.copyOf(models);
+		submodelIndex = Map.copyOf(index);
+		headerIndex = Map.copyOf(headers);
 	}
 
 	public List<Submodel> getModels() {
 		return this.submodelList;
 	}
 
+	public Submodel findById(String submodelId) {
+		return submodelId == null ? null : submodelIndex.get(submodelId.toLowerCase());
+	}
+
+	public Submodel findByHeader(Collection<String> columns) {
+		return headerIndex.get(new HashSet<>(columns));
+	}
+
+	public static Set<String> headerOf(Submodel submodel) {
+		return Set.copyOf(submodel.getSchema().getAsJsonObject("items").getAsJsonObject("properties").keySet());
+	}
+
 }
@@ -45,6 +45,7 @@ import org.eclipse.tractusx.sde.common.exception.NoDataFoundException;
 import org.eclipse.tractusx.sde.common.model.Acknowledgement;
 import org.eclipse.tractusx.sde.common.model.PagingResponse;
 import org.eclipse.tractusx.sde.common.model.Submodel;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.eclipse.tractusx.sde.core.failurelog.repository.ConsumerDownloadHistoryRepository;
 import org.eclipse.tractusx.sde.core.processreport.entity.ConsumerDownloadHistoryEntity;
 import org.eclipse.tractusx.sde.core.processreport.mapper.ConsumerDownloadHistoryMapper;
@@ -60,7 +61,6 @@ import org.springframework.stereotype.Service;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.gson.Gson;
 import com.opencsv.CSVWriter;
 
 import jakarta.servlet.http.HttpServletResponse;
@@ -79,7 +79,7 @@ public class ConsumerService {
 
 	private final ConsumerDownloadHistoryMapper consumerDownloadHistoryMapper;
 
-	ObjectMapper mapper = new ObjectMapper();
+	ObjectMapper mapper = JsonMappers.objectMapper();
 
 	public Acknowledgement subscribeAndDownloadDataOffersAsync(ConsumerRequest consumerRequest) {
 		String processId = UUID.randomUUID().toString();
@@ -279,7 +279,7 @@ public class ConsumerService {
 		response.setContentType("application/json");
 		response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
 		response.setCharacterEncoding("UTF-8");
-		String jsonData = new Gson().toJson(errorResponse);
+		String jsonData = JsonMappers.gson().toJson(errorResponse);
 		PrintWriter out = response.getWriter();
 		try {
 			out.print(jsonData);
@@ -0,0 +1,88 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.sde.core.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.eclipse.tractusx.sde.core.csv.service.CsvHandlerService;
+import org.eclipse.tractusx.sde.core.failurelog.FailureLogs;
+import org.eclipse.tractusx.sde.core.processqueue.ProcessChunkQueue;
+import org.eclipse.tractusx.sde.core.processreport.ProcessReportUseCase;
+import org.eclipse.tractusx.sde.core.processreport.model.ProcessReport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProcessRecoveryService {
+
+	private final ProcessReportUseCase processReportUseCase;
+
+	private final SubmodelOrchestartorService submodelOrchestartorService;
+
+	private final CsvHandlerService csvHandlerService;
+
+	private final FailureLogs failureLogs;
+
+	private final ProcessChunkQueue processChunkQueue;
+
+	@Value(value = "${process.recovery.stale-after:300000}")
+	private long staleAfter;
+
+	@Scheduled(initialDelayString = "${process.recovery.initial-delay:30000}", fixedDelayString = "${process.recovery.interval:300000}")
+	public void recoverInterruptedProcesses() {
+
+		LocalDateTime staleBefore = LocalDateTime.now().minus(staleAfter, ChronoUnit.MILLIS);
+		List<ProcessReport> staleReports = processReportUseCase.findStaleInProgressReports(staleBefore);
+
+		for (ProcessReport processReport : staleReports) {
+			String processId = processReport.getProcessId();
+
+			if (processReportUseCase.isActiveProcess(processId) || processChunkQueue.hasQueuedChunks(processId)
+					|| !processReportUseCase.claimStaleProgressReport(processId, staleBefore))
+				continue;
+
+			try {
+				if (processReport.getReferenceProcessId() == null && csvHandlerService.fileExists(processId)) {
+					log.info(String.format("Recovering interrupted process %s from checkpoint row %s", processId,
+							processReport.getProcessedRows()));
+					submodelOrchestartorService.resumeSubmodelCsv(processReport);
+				} else {
+					failInterruptedProcess(processId, "Process was interrupted and can not be resumed");
+				}
+			} catch (Exception e) {
+				failInterruptedProcess(processId, "Unable to resume interrupted process: " + e.getMessage());
+			}
+		}
+	}
+
+	private void failInterruptedProcess(String processId, String error) {
+		failureLogs.saveLog(processId, error);
+		processReportUseCase.failProgressReport(processId);
+		csvHandlerService.deleteProcessedFile(processId);
+	}
+}
@@ -0,0 +1,76 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+package org.eclipse.tractusx.sde.core.service;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+/**
+ * Serialized responses of the public aspect endpoint per submodel and uuid.
+ * Concurrent misses of a key share one load. The AspectPayloadService
+ * evicts the uuid an upsert or delete changed, for relationship aspects that is
+ * the parent uuid the endpoint is read by.
+ */
+@Component
+public class PublicAspectResponseCache {
+
+	@Value(value = "${submodel.public-cache.ttl:30000}")
+	private long ttl;
+
+	@Value(value = "${submodel.public-cache.max-size:10000}")
+	private long maxSize;
+
+	private Cache<ResponseKey, CachedResponse> responses;
+
+	@PostConstruct
+	public void init() {
+		responses = Caffeine.newBuilder().expireAfterWrite(Duration.ofMillis(ttl)).maximumSize(maxSize).build();
+	}
+
+	public CachedResponse get(String submodel, String uuid, Supplier<byte[]> loader) {
+		return responses.get(new ResponseKey(submodel.toLowerCase(), uuid), key -> toCachedResponse(loader.get()));
+	}
+
+	public void invalidate(String submodel, String uuid) {
+		responses.invalidate(new ResponseKey(submodel.toLowerCase(), uuid));
+	}
+
+	private static CachedResponse toCachedResponse(byte[] body) {
+		return new CachedResponse(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+	}
+
+	record ResponseKey(String submodel, String uuid) {
+	}
+
+	public record CachedResponse(byte[] body, String etag) {
+
+		public boolean matches(String ifNoneMatch) {
+			return ifNoneMatch != null && (ifNoneMatch.trim().equals("*") || ifNoneMatch.contains(etag));
+		}
+	}
+}
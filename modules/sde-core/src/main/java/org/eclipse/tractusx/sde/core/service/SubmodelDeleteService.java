@@ -0,0 +1,124 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.tractusx.sde.common.submodel.executor.SubmodelExecutor;
+import org.eclipse.tractusx.sde.core.failurelog.FailureLogs;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.google.gson.JsonObject;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Deletes the records of a process in batches. The EDC and digital twin
+ * deletes of a batch run concurrently on a dedicated pool, the records deleted
+ * successfully are then marked deleted with one update per batch, which also
+ * refreshes their public aspect.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SubmodelDeleteService {
+
+	private final FailureLogs failureLogs;
+
+	private final MeterRegistry meterRegistry;
+
+	@Value(value = "${process.delete.threads:16}")
+	private int deleteThreads;
+
+	@Value(value = "${process.delete.batch-size:500}")
+	private int batchSize;
+
+	private ExecutorService deletePool;
+
+	@PostConstruct
+	public void init() {
+		deletePool = ExecutorServiceMetrics.monitor(meterRegistry, Executors.newFixedThreadPool(deleteThreads),
+				"delete-pool");
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		deletePool.shutdown();
+	}
+
+	/**
+	 * Reads the records not deleted yet page by page, so only one batch is held
+	 * in memory at a time.
+	 * 
+	 * @return the number of records deleted, the failures are written to the
+	 *         failure log of the delete process
+	 */
+	public int deleteRecords(SubmodelExecutor executor, String delProcessId, String refProcessId) {
+
+		int deletedCount = 0;
+		JsonObject after = null;
+		List<JsonObject> batch;
+		while (!(batch = executor.readCreatedTwinsforDelete(refProcessId, after, batchSize)).isEmpty()) {
+			deletedCount += deleteBatch(executor, batch, delProcessId, refProcessId);
+			after = batch.get(batch.size() - 1);
+		}
+		return deletedCount;
+	}
+
+	private int deleteBatch(SubmodelExecutor executor, List<JsonObject> batch, String delProcessId,
+			String refProcessId) {
+
+		List<CompletableFuture<JsonObject>> deletes = batch.stream()
+				.map(rowjObj -> CompletableFuture.supplyAsync(() -> {
+					executor.executeDeleteRecord(rowjObj, delProcessId, refProcessId);
+					return rowjObj;
+				}, deletePool).exceptionally(e -> {
+					Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+					failureLogs.saveLog(delProcessId, cause.getMessage());
+					return null;
+				})).toList();
+
+		List<JsonObject> deleted = deletes.stream().map(CompletableFuture::join).filter(Objects::nonNull).toList();
+		if (deleted.isEmpty())
+			return 0;
+
+		try {
+			executor.markDeleted(refProcessId, deleted);
+			return deleted.size();
+		} catch (Exception e) {
+			log.error(String.format("Unable to mark %s records of process %s deleted: %s", deleted.size(),
+					refProcessId, e.getMessage()));
+			failureLogs.saveLog(delProcessId, "Unable to mark records deleted: " + e.getMessage());
+			return 0;
+		}
+	}
+}
@@ -20,32 +20,52 @@
 
 package org.eclipse.tractusx.sde.core.service;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.eclipse.tractusx.sde.bpndiscovery.handler.BPNDiscoveryUseCaseHandler;
+import org.eclipse.tractusx.sde.bpndiscovery.handler.BpnDiscoveryFlushException;
 import org.eclipse.tractusx.sde.common.entities.SubmodelFileRequest;
 import org.eclipse.tractusx.sde.common.entities.SubmodelJsonRequest;
+import org.eclipse.tractusx.sde.common.entities.UsagePolicies;
 import org.eclipse.tractusx.sde.common.entities.csv.CsvContent;
+import org.eclipse.tractusx.sde.common.entities.csv.RowData;
+import org.eclipse.tractusx.sde.common.exception.CsvHandlerUseCaseException;
 import org.eclipse.tractusx.sde.common.exception.ValidationException;
 import org.eclipse.tractusx.sde.common.mapper.JsonObjectMapper;
-import org.eclipse.tractusx.sde.common.mapper.SubmodelMapper;
 import org.eclipse.tractusx.sde.common.model.Submodel;
+import org.eclipse.tractusx.sde.common.submodel.executor.StepExecutionContext;
 import org.eclipse.tractusx.sde.common.submodel.executor.SubmodelExecutor;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.eclipse.tractusx.sde.common.validators.SubmodelCSVValidator;
+import org.eclipse.tractusx.sde.core.aspectpayload.AspectPayloadService;
 import org.eclipse.tractusx.sde.core.csv.service.CsvHandlerService;
 import org.eclipse.tractusx.sde.core.failurelog.FailureLogs;
+import org.eclipse.tractusx.sde.core.metrics.ProcessMetrics;
+import org.eclipse.tractusx.sde.core.processqueue.ProcessChunkQueue;
+import org.eclipse.tractusx.sde.core.processqueue.entity.ProcessChunkEntity;
 import org.eclipse.tractusx.sde.core.processreport.ProcessReportUseCase;
 import org.eclipse.tractusx.sde.core.processreport.model.ProcessReport;
+import org.eclipse.tractusx.sde.core.service.PublicAspectResponseCache.CachedResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.gson.JsonObject;
 
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class SubmodelOrchestartorService {
@@ -54,12 +74,12 @@ public class SubmodelOrchestartorService {
 
 	private static final String ROW_NUMBER = "row_number";
 
+	private static final String QUEUE_MODE = "queue";
+
 	private final SubmodelCSVValidator sumodelcsvValidator;
 
 	private final SubmodelService submodelService;
 
-	private final SubmodelMapper submodelMapper;
-
 	private final JsonObjectMapper jsonObjectMapper;
 
 	private final ProcessReportUseCase processReportUseCase;
@@ -68,9 +88,25 @@ public class SubmodelOrchestartorService {
 
 	private final CsvHandlerService csvHandlerService;
 	
-	private final SubmodelCsvService submodelCsvService;
+	private final ProcessChunkQueue processChunkQueue;
+
+	private final ProcessMetrics processMetrics;
+
+	private final PublicAspectResponseCache publicAspectResponseCache;
+
+	private final AspectPayloadService aspectPayloadService;
+
+	private final BPNDiscoveryUseCaseHandler bpnDiscoveryUseCaseHandler;
+
+	private final SubmodelDeleteService submodelDeleteService;
 	
-	ObjectMapper mapper = new ObjectMapper();
+	ObjectMapper mapper = JsonMappers.objectMapper();
+
+	@Value(value = "${process.chunk-size:500}")
+	private int chunkSize;
+
+	@Value(value = "${process.distribution.mode:local}")
+	private String distributionMode;
 
 	public void processSubmodelCsv(SubmodelFileRequest submodelFileRequest, String processId, String submodel) {
 
@@ -80,50 +116,212 @@ public class SubmodelOrchestartorService {
 		List<String> columns = csvContent.getColumns();
 		
 		if(!sumodelcsvValidator.validate(submodelSchemaObject, columns)) {
+			csvHandlerService.deleteProcessedFile(processId);
 			throw new ValidationException(String.format("Csv column header is not matching %s submodel", submodel));
 		}
 
-		processCsv(submodelFileRequest, processId, submodelSchemaObject, csvContent);
+		processCsv(submodelFileRequest, processId, submodelSchemaObject, csvContent, null);
+
+	}
+
+	public void resumeSubmodelCsv(ProcessReport processReport) {
+
+		String processId = processReport.getProcessId();
+		Submodel submodelSchemaObject = submodelService.findSubmodelByNameAsSubmdelObject(processReport.getCsvType());
+		CsvContent csvContent = csvHandlerService.processFile(processId);
+
+		processCsv(toSubmodelFileRequest(processReport), processId, submodelSchemaObject, csvContent, processReport);
+	}
+
+	public void processQueuedChunk(ProcessChunkEntity chunk) {
+
+		String processId = chunk.getProcessId();
+		ProcessReport processReport = processReportUseCase.getProcessReportById(processId);
+		Submodel submodelSchemaObject = submodelService.findSubmodelByNameAsSubmdelObject(chunk.getSubmodel());
+		List<RowData> rows = processChunkQueue.readRows(chunk);
+
+		AtomicInteger successCount = new AtomicInteger();
+		AtomicInteger failureCount = new AtomicInteger();
+
+		SubmodelExecutor executor = submodelSchemaObject.getExecutor();
+		executor.init(submodelSchemaObject.getSchema());
+
+		processMetrics.rowsQueued(rows.size());
+		try {
+			processCsvRows(rows, toSubmodelFileRequest(processReport), processId, executor, successCount,
+					failureCount);
+			processChunkQueue.completeChunk(chunk, rows.size(), successCount.get(), failureCount.get());
+		} catch (RuntimeException e) {
+			// the chunk is claimed again, possibly by another instance
+			processReportUseCase.discardProcessTrace(processId);
+			throw e;
+		} finally {
+			processMetrics.rowsDone(rows.size());
+		}
+
+		finishQueuedProcess(processId, executor);
+	}
+
+	public void failQueuedChunk(ProcessChunkEntity chunk, String error) {
+
+		String processId = chunk.getProcessId();
+		int rowCount = processChunkQueue.readRows(chunk).size();
+
+		failureLogs.saveLog(processId, String.format("Chunk %s with %s rows failed: %s", chunk.getChunkIndex(),
+				rowCount, error));
+		processChunkQueue.completeChunk(chunk, rowCount, 0, rowCount);
+
+		Submodel submodelSchemaObject = submodelService.findSubmodelByNameAsSubmdelObject(chunk.getSubmodel());
+		SubmodelExecutor executor = submodelSchemaObject.getExecutor();
+		executor.init(submodelSchemaObject.getSchema());
+		finishQueuedProcess(processId, executor);
+	}
 
+	private void finishQueuedProcess(String processId, SubmodelExecutor executor) {
+		if (!processChunkQueue.hasQueuedChunks(processId)
+				&& processReportUseCase.finishQueuedProgressReport(processId, executor.getUpdatedRecordCount(processId),
+						executor.getUnchangedRecordCount(processId)))
+			log.info(String.format("Process %s completed by queue worker", processId));
 	}
 
-	private void processCsv(SubmodelFileRequest submodelFileRequest, String processId, Submodel submodelSchemaObject, CsvContent csvContent) {
+	private SubmodelFileRequest toSubmodelFileRequest(ProcessReport processReport) {
+		return new SubmodelFileRequest(processReport.getTypeOfAccess(), processReport.getBpnNumbers(),
+				readUsagePolicies(processReport.getUsagePolicies()));
+	}
+
+	@SneakyThrows
+	private List<UsagePolicies> readUsagePolicies(String usagePolicies) {
+		if (usagePolicies == null || usagePolicies.isBlank())
+			return new ArrayList<>();
+		return mapper.readValue(usagePolicies, new TypeReference<List<UsagePolicies>>() {
+		});
+	}
+
+	private void processCsv(SubmodelFileRequest submodelFileRequest, String processId, Submodel submodelSchemaObject,
+			CsvContent csvContent, ProcessReport checkpoint) {
 		
 		Runnable runnable = () -> {
-			processReportUseCase.startBuildProcessReport(processId, submodelSchemaObject.getId(),
-					csvContent.getRows().size(), submodelFileRequest.getBpnNumbers(),
-					submodelFileRequest.getTypeOfAccess(), submodelFileRequest.getUsagePolicies());
-
+			List<RowData> rows = csvContent.getRows();
 			AtomicInteger successCount = new AtomicInteger();
 			AtomicInteger failureCount = new AtomicInteger();
+			int processedRows = 0;
+
+			if (checkpoint == null) {
+				processReportUseCase.startBuildProcessReport(processId, submodelSchemaObject.getId(), rows.size(),
+						submodelFileRequest.getBpnNumbers(), submodelFileRequest.getTypeOfAccess(),
+						submodelFileRequest.getUsagePolicies());
+			} else {
+				processedRows = Math.min(checkpoint.getProcessedRows(), rows.size());
+				successCount.set(checkpoint.getNumberOfSucceededItems());
+				failureCount.set(checkpoint.getNumberOfFailedItems());
+				log.info(String.format("Resuming process %s from row %s of %s", processId, processedRows,
+						rows.size()));
+			}
 
-			SubmodelExecutor executor = submodelSchemaObject.getExecutor();
-			executor.init(submodelSchemaObject.getSchema());
-
-			csvContent.getRows().parallelStream().forEach(rowjObj -> {
-				try {
-					ObjectNode newjObject = jsonObjectMapper.submodelFileRequestToJsonNodePojo(submodelFileRequest);
-					newjObject.put(ROW_NUMBER, rowjObj.position());
-					newjObject.put(PROCESS_ID, processId);
-					executor.executeCsvRecord(rowjObj, newjObject, processId);
-					// fetch by ID and check it if it is success then its updated.
-					successCount.incrementAndGet();
-
-				} catch (Exception e) {
-					failureLogs.saveLog(processId, e.getMessage());
-					failureCount.incrementAndGet();
+			if (QUEUE_MODE.equalsIgnoreCase(distributionMode)) {
+				int chunks = processChunkQueue.enqueue(processId, submodelSchemaObject.getId(),
+						rows.subList(processedRows, rows.size()), chunkSize);
+				log.info(String.format("Process %s split into %s queued chunks", processId, chunks));
+				if (chunks == 0)
+					processReportUseCase.finishQueuedProgressReport(processId, 0, 0);
+				csvHandlerService.deleteProcessedFile(processId);
+				return;
+			}
+
+			processReportUseCase.registerActiveProcess(processId);
+			processMetrics.rowsQueued(rows.size() - processedRows);
+			try {
+				SubmodelExecutor executor = submodelSchemaObject.getExecutor();
+				executor.init(submodelSchemaObject.getSchema());
+
+				while (processedRows < rows.size()) {
+					int chunkEnd = Math.min(processedRows + chunkSize, rows.size());
+
+					processCsvRows(rows.subList(processedRows, chunkEnd), submodelFileRequest, processId, executor,
+							successCount, failureCount);
+
+					processMetrics.rowsDone(chunkEnd - processedRows);
+					processedRows = chunkEnd;
+					processReportUseCase.checkpointProgressReport(processId, processedRows, successCount.get(),
+							failureCount.get());
 				}
-			});
 
-			int updatedcount = executor.getUpdatedRecordCount(processId);
-			successCount.set(successCount.get() - updatedcount);
-			processReportUseCase.finishBuildProgressReport(processId, successCount.get(), failureCount.get(),
-					updatedcount);
+				int updatedcount = executor.getUpdatedRecordCount(processId);
+				int unchangedCount = executor.getUnchangedRecordCount(processId);
+				successCount.set(successCount.get() - updatedcount - unchangedCount);
+				processReportUseCase.finishBuildProgressReport(processId, successCount.get(), failureCount.get(),
+						updatedcount, unchangedCount);
+				csvHandlerService.deleteProcessedFile(processId);
+			} finally {
+				processMetrics.rowsDone(rows.size() - processedRows);
+				processReportUseCase.unregisterActiveProcess(processId);
+				processReportUseCase.discardProcessTrace(processId);
+			}
 		};
 
 		new Thread(runnable).start();
 	}
 
+	private void processCsvRows(List<RowData> rows, SubmodelFileRequest submodelFileRequest, String processId,
+			SubmodelExecutor executor, AtomicInteger successCount, AtomicInteger failureCount) {
+
+		String nameOfModel = executor.getNameOfModel();
+		String chunk = processId + "/" + UUID.randomUUID();
+		Set<Integer> failedRows = ConcurrentHashMap.newKeySet();
+		rows.parallelStream().forEach(rowjObj -> {
+			try (StepExecutionContext context = StepExecutionContext.open(nameOfModel, processId, chunk,
+					rowjObj.position())) {
+				ObjectNode newjObject = jsonObjectMapper.submodelFileRequestToJsonNodePojo(submodelFileRequest);
+				newjObject.put(ROW_NUMBER, rowjObj.position());
+				newjObject.put(PROCESS_ID, processId);
+				executor.executeCsvRecord(rowjObj, newjObject, processId);
+				// fetch by ID and check it if it is success then its updated.
+				successCount.incrementAndGet();
+				processMetrics.rowProcessed(nameOfModel, true);
+
+			} catch (Exception e) {
+				failureLogs.saveLog(processId, e.getMessage());
+				failedRows.add(rowjObj.position());
+				failureCount.incrementAndGet();
+				processMetrics.rowProcessed(nameOfModel, false);
+			}
+		});
+		flushChunk(nameOfModel, processId, chunk, failedRows, successCount, failureCount);
+	}
+
+	private void flushChunk(String nameOfModel, String processId, String chunk, Set<Integer> failedRows,
+			AtomicInteger successCount, AtomicInteger failureCount) {
+		try (StepExecutionContext context = StepExecutionContext.open(nameOfModel, processId)) {
+			bpnDiscoveryUseCaseHandler.flush(chunk);
+		} catch (BpnDiscoveryFlushException e) {
+			failBpnDiscoveryRows(processId, e, failedRows, successCount, failureCount);
+		} catch (Exception e) {
+			failureLogs.saveLog(processId, e.getMessage());
+		}
+		try {
+			aspectPayloadService.flush(processId);
+		} catch (Exception e) {
+			log.warn(String.format("Unable to refresh the aspects changed by process %s, %s", processId,
+					e.getMessage()));
+		}
+	}
+
+	private void failBpnDiscoveryRows(String processId, BpnDiscoveryFlushException e, Set<Integer> failedRows,
+			AtomicInteger successCount, AtomicInteger failureCount) {
+		if (e.getFailedRows().isEmpty()) {
+			failureLogs.saveLog(processId, e.getMessage());
+			return;
+		}
+		for (Integer row : e.getFailedRows()) {
+			if (!failedRows.add(row))
+				continue;
+			failureLogs.saveLog(processId,
+					new CsvHandlerUseCaseException(row, "BPN Discovery: " + e.getMessage()).getMessage());
+			successCount.decrementAndGet();
+			failureCount.incrementAndGet();
+		}
+	}
+
 	public void processSubmodel(SubmodelJsonRequest<ObjectNode> submodelJsonRequest, String processId,
 			String submodel) {
 		Submodel submodelSchemaObject = submodelService.findSubmodelByNameAsSubmdelObject(submodel);
@@ -138,6 +336,7 @@ public class SubmodelOrchestartorService {
 			AtomicInteger failureCount = new AtomicInteger();
 			SubmodelExecutor executor = submodelSchemaObject.getExecutor();
 			executor.init(submodelSchema);
+			String nameOfModel = executor.getNameOfModel();
 
 			Map<String, Object> mps = new HashMap<>();
 			mps.put("type_of_access", submodelJsonRequest.getTypeOfAccess());
@@ -154,21 +353,36 @@ public class SubmodelOrchestartorService {
 				obj.put(PROCESS_ID, processId);
 			});
 
-			rowData.parallelStream().forEachOrdered(rowjObj -> {
-				try {
-					ObjectNode submodelJsonPojo = jsonObjectMapper.submodelJsonRequestToJsonPojo(rowjObj, mps);
-					executor.executeJsonRecord(submodelJsonPojo.get(ROW_NUMBER).asInt(), submodelJsonPojo, processId);
-					successCount.incrementAndGet();
-				} catch (Exception e) {
-					failureLogs.saveLog(processId, e.getMessage());
-					failureCount.incrementAndGet();
-				}
-			});
-
-			int updatedcount = executor.getUpdatedRecordCount(processId);
-			successCount.set(successCount.get() - updatedcount);
-			processReportUseCase.finishBuildProgressReport(processId, successCount.get(), failureCount.get(),
-					updatedcount);
+			String chunk = processId + "/" + UUID.randomUUID();
+			Set<Integer> failedRows = ConcurrentHashMap.newKeySet();
+			processReportUseCase.registerActiveProcess(processId);
+			try {
+				rowData.parallelStream().forEachOrdered(rowjObj -> {
+					int row = rowjObj.get(ROW_NUMBER).asInt();
+					try (StepExecutionContext context = StepExecutionContext.open(nameOfModel, processId, chunk,
+							row)) {
+						ObjectNode submodelJsonPojo = jsonObjectMapper.submodelJsonRequestToJsonPojo(rowjObj, mps);
+						executor.executeJsonRecord(row, submodelJsonPojo, processId);
+						successCount.incrementAndGet();
+						processMetrics.rowProcessed(nameOfModel, true);
+					} catch (Exception e) {
+						failureLogs.saveLog(processId, e.getMessage());
+						failedRows.add(row);
+						failureCount.incrementAndGet();
+						processMetrics.rowProcessed(nameOfModel, false);
+					}
+				});
+				flushChunk(nameOfModel, processId, chunk, failedRows, successCount, failureCount);
+
+				int updatedcount = executor.getUpdatedRecordCount(processId);
+				int unchangedCount = executor.getUnchangedRecordCount(processId);
+				successCount.set(successCount.get() - updatedcount - unchangedCount);
+				processReportUseCase.finishBuildProgressReport(processId, successCount.get(), failureCount.get(),
+						updatedcount, unchangedCount);
+			} finally {
+				processReportUseCase.unregisterActiveProcess(processId);
+				processReportUseCase.discardProcessTrace(processId);
+			}
 		};
 		new Thread(runnable).start();
 	}
@@ -176,75 +390,54 @@ public class SubmodelOrchestartorService {
 	public void deleteSubmodelDigitalTwinsAndEDC(String refProcessId, String delProcessId, String submodel) {
 
 		Submodel submodelSchema = submodelService.findSubmodelByNameAsSubmdelObject(submodel);
-		AtomicInteger deletedCount = new AtomicInteger();
-		AtomicInteger failureCount = new AtomicInteger();
-
 		SubmodelExecutor executor = submodelSchema.getExecutor();
+		executor.init(submodelSchema.getSchema());
 
 		ProcessReport oldProcessReport = processReportUseCase.getProcessReportById(refProcessId);
 
-		List<JsonObject> readCreatedTwinsforDelete = executor.readCreatedTwinsforDelete(refProcessId);
+		int recordCount = executor.countCreatedTwinsforDelete(refProcessId);
 
 		Runnable runnable = () -> {
 
-			processReportUseCase.startDeleteProcess(oldProcessReport, refProcessId, submodel,
-					readCreatedTwinsforDelete.size(), delProcessId);
-
-			readCreatedTwinsforDelete.parallelStream().forEach(rowjObj -> {
-				try {
-					executor.executeDeleteRecord(rowjObj, delProcessId, refProcessId);
-					deletedCount.incrementAndGet();
-				} catch (Exception e) {
-					failureLogs.saveLog(delProcessId, e.getMessage());
-					failureCount.incrementAndGet();
-				}
-			});
-			processReportUseCase.finishBuildDeleteProgressReport(delProcessId, deletedCount.get(), failureCount.get());
+			processReportUseCase.startDeleteProcess(oldProcessReport, refProcessId, submodel, recordCount,
+					delProcessId);
+
+			processReportUseCase.registerActiveProcess(delProcessId);
+			try {
+				int deletedCount = submodelDeleteService.deleteRecords(executor, delProcessId, refProcessId);
+				processReportUseCase.finishBuildDeleteProgressReport(delProcessId, deletedCount,
+						recordCount - deletedCount);
+			} finally {
+				processReportUseCase.unregisterActiveProcess(delProcessId);
+				processReportUseCase.discardProcessTrace(delProcessId);
+			}
 		};
 		new Thread(runnable).start();
 
 	}
 
-	public Map<Object, Object> readCreatedTwinsDetails(String submodel, String uuid) {
-		Submodel submodelSchema = submodelService.findSubmodelByNameAsSubmdelObject(submodel);
-		SubmodelExecutor executor = submodelSchema.getExecutor();
-		JsonObject readCreatedTwinsDetails = executor.readCreatedTwinsDetails(uuid);
-		List<String> csvHeader = submodelCsvService.getCSVHeader(submodelSchema);
-		JsonObject jElement = readCreatedTwinsDetails.get("csv").getAsJsonObject();
-		JsonObject jObject=new JsonObject();
-		for (String field : csvHeader) {
-			jObject.add(field, jElement.get(field));
-		}
-		readCreatedTwinsDetails.add("csv", jObject);
-		return submodelMapper.jsonPojoToMap(readCreatedTwinsDetails);
+	public CachedResponse readCreatedTwinsResponse(String submodel, String uuid) {
+		return publicAspectResponseCache.get(submodel, uuid, () -> aspectPayloadService.read(submodel, uuid));
 	}
-	
+
 	//New method of CSV process for Automation
 	public void processSubmodelAutomationCsv(SubmodelFileRequest submodelFileRequest, String processId) {
 		
 		CsvContent csvContent = csvHandlerService.processFile(processId);
 		List<String> columns = csvContent.getColumns();
-		Submodel foundSubmodelSchemaObject = findSubmodel(columns);
+		Submodel foundSubmodelSchemaObject;
+		try {
+			foundSubmodelSchemaObject = findSubmodel(columns);
+		} catch (ValidationException e) {
+			csvHandlerService.deleteProcessedFile(processId);
+			throw e;
+		}
 		
-		processCsv(submodelFileRequest, processId, foundSubmodelSchemaObject, csvContent);
+		processCsv(submodelFileRequest, processId, foundSubmodelSchemaObject, csvContent, null);
 	}
 
 	public Submodel findSubmodel(List<String> columns) {
-		
-		Submodel foundSubmodelSchemaObject = null;
-		List<Submodel> submodelDetails = submodelService.getAllSubmodels();
-		for (Submodel submodel : submodelDetails) {
-			
-			if(sumodelcsvValidator.validate(submodel, columns)){
-				foundSubmodelSchemaObject = submodel;
-				break;
-			}
-		}
-
-		if(foundSubmodelSchemaObject == null) {
-			throw new ValidationException("Csv column header is not matching with any supported submodels");
-		}
-		return foundSubmodelSchemaObject;
+		return submodelService.findSubmodelByHeader(columns);
 	}
 	
 }
@@ -20,25 +20,34 @@
 
 package org.eclipse.tractusx.sde.core.service;
 
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import org.eclipse.tractusx.sde.common.exception.NoDataFoundException;
 import org.eclipse.tractusx.sde.common.exception.ValidationException;
 import org.eclipse.tractusx.sde.common.mapper.SubmodelMapper;
 import org.eclipse.tractusx.sde.common.model.Submodel;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.eclipse.tractusx.sde.core.registry.SubmodelRegistration;
 import org.eclipse.tractusx.sde.core.registry.UsecaseRegistration;
 import org.springframework.stereotype.Service;
 
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 
+/**
+ * Submodel lookups and the serialized listing and schema responses. The
+ * registry does not change after discovery, so each response is built once
+ * per selection of submodels and served as bytes afterwards.
+ */
 @Service
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class SubmodelService {
 
 	private final SubmodelRegistration submodelRegistration;
@@ -47,48 +56,55 @@ public class SubmodelService {
 
 	private final SubmodelMapper submodelMapper;
 
-	public List<Map<String, String>> findAllSubmodels(List<String> usecases) {
+	private final Map<Set<String>, byte[]> submodelListings = new ConcurrentHashMap<>();
 
-		Set<String> neededSubmodelList = usecaseRegistry.neededSubmodelList(usecases);
+	private final Map<Set<String>, byte[]> schemaDetails = new ConcurrentHashMap<>();
 
-		List<Map<String, String>> ls = new ArrayList<>();
+	private final Map<String, byte[]> schemas = new ConcurrentHashMap<>();
 
-		submodelRegistration.getModels().forEach(obj -> {
-			if (neededSubmodelList.contains(obj.getId()) || usecases == null || usecases.isEmpty()) {
-				Map<String, String> sbBuild = new LinkedHashMap<>();
-				sbBuild.put("id", obj.getId());
-				sbBuild.put("name", obj.getName());
-				sbBuild.put("version", obj.getVersion());
-				sbBuild.put("semanticId", obj.getSemanticId());
-				ls.add(sbBuild);
-			}
-		});
-		return ls;
+	public byte[] findAllSubmodels(List<String> usecases) {
+		return submodelListings.computeIfAbsent(selectedSubmodels(usecases), selected -> serialize(
+				submodelRegistration.getModels().stream().filter(obj -> selected.contains(obj.getId())).map(obj -> {
+					Map<String, String> sbBuild = new LinkedHashMap<>();
+					sbBuild.put("id", obj.getId());
+					sbBuild.put("name", obj.getName());
+					sbBuild.put("version", obj.getVersion());
+					sbBuild.put("semanticId", obj.getSemanticId());
+					return sbBuild;
+				}).toList()));
 	}
 
-	public List<Map<Object, Object>> getAllSubmodelswithDetails(List<String> usecases) {
+	public byte[] getAllSubmodelswithDetails(List<String> usecases) {
+		return schemaDetails.computeIfAbsent(selectedSubmodels(usecases),
+				selected -> serialize(submodelRegistration.getModels().stream()
+						.filter(obj -> selected.contains(obj.getId()))
+						.map(obj -> submodelMapper.jsonPojoToMap(obj.getSchema())).toList()));
+	}
 
-		Set<String> neededSubmodelList = usecaseRegistry.neededSubmodelList(usecases);
+	public byte[] findSubmodelByName(String submodelName) {
+		Submodel submodel = readValue(submodelName)
+				.orElseThrow(() -> new NoDataFoundException("No data found for " + submodelName));
+		return schemas.computeIfAbsent(submodel.getId(),
+				id -> serialize(submodelMapper.jsonPojoToMap(submodel.getSchema())));
+	}
 
-		List<Map<Object, Object>> ls = new ArrayList<>();
+	private Set<String> selectedSubmodels(List<String> usecases) {
+		if (usecases == null || usecases.isEmpty())
+			return submodelRegistration.getModels().stream().map(Submodel::getId)
+					.collect(Collectors.toUnmodifiableSet());
 
-		submodelRegistration.getModels().forEach(obj -> {
-			if (neededSubmodelList.contains(obj.getId()) || usecases == null || usecases.isEmpty()) {
-				ls.add(submodelMapper.jsonPojoToMap(obj.getSchema()));
-			}
-		});
-		return ls;
+		Set<String> neededSubmodelList = usecaseRegistry.neededSubmodelList(usecases);
+		return submodelRegistration.getModels().stream().map(Submodel::getId)
+				.filter(neededSubmodelList::contains).collect(Collectors.toUnmodifiableSet());
 	}
 
-	public Map<Object, Object> findSubmodelByName(String submodelName) {
-		return readValue(submodelName).map(e -> submodelMapper.jsonPojoToMap(e.getSchema()))
-				.orElseThrow(() -> new NoDataFoundException("No data found for " + submodelName));
+	@SneakyThrows
+	private static byte[] serialize(Object response) {
+		return JsonMappers.objectMapper().writeValueAsBytes(response);
 	}
 
 	private Optional<Submodel> readValue(String submodelName) {
-		return submodelRegistration.getModels().stream()
-				.filter(obj -> obj.getId().equalsIgnoreCase(submodelName.toLowerCase())).findFirst();
-
+		return Optional.ofNullable(submodelRegistration.findById(submodelName));
 	}
 
 	public Submodel findSubmodelByNameAsSubmdelObject(String submodelName) {
@@ -96,6 +112,37 @@ public class SubmodelService {
 				.orElseThrow(() -> new ValidationException(submodelName + " submodel is not supported"));
 	}
 	
+	public Submodel findSubmodelByHeader(List<String> columns) {
+		Submodel submodel = submodelRegistration.findByHeader(columns);
+		if (submodel == null)
+			throw new ValidationException("Csv column header is not matching with any supported submodels"
+					+ describeClosestSubmodel(columns));
+		return submodel;
+	}
+
+	private String describeClosestSubmodel(List<String> columns) {
+		Set<String> header = new HashSet<>(columns);
+		Submodel closest = null;
+		int closestDistance = Integer.MAX_VALUE;
+		for (Submodel submodel : submodelRegistration.getModels()) {
+			Set<String> expected = SubmodelRegistration.headerOf(submodel);
+			int distance = (int) (expected.stream().filter(column -> !header.contains(column)).count()
+					+ header.stream().filter(column -> !expected.contains(column)).count());
+			if (distance < closestDistance) {
+				closest = submodel;
+				closestDistance = distance;
+			}
+		}
+		if (closest == null)
+			return "";
+
+		Set<String> expected = SubmodelRegistration.headerOf(closest);
+		List<String> missing = expected.stream().filter(column -> !header.contains(column)).sorted().toList();
+		List<String> unexpected = columns.stream().filter(column -> !expected.contains(column)).toList();
+		return String.format(", closest submodel is %s with missing columns %s and unexpected columns %s",
+				closest.getId(), missing, unexpected);
+	}
+
 	public List<Submodel> getAllSubmodels(){
 		return submodelRegistration.getModels();
 	}
@@ -0,0 +1,37 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+CREATE TABLE IF NOT EXISTS process_chunk
+(
+    chunk_id                 TEXT NOT NULL,
+    process_id               TEXT NOT NULL,
+    submodel                 TEXT NOT NULL,
+    chunk_index              INTEGER NOT NULL,
+    row_data                 TEXT NOT NULL,
+    status                   TEXT NOT NULL,
+    claimed_by               TEXT NULL,
+    claimed_at               TIMESTAMP NULL,
+    attempts                 INTEGER DEFAULT 0,
+    created_at               TIMESTAMP NOT NULL,
+    CONSTRAINT process_chunk_pkey PRIMARY KEY (chunk_id)
+);
+
+CREATE INDEX IF NOT EXISTS process_chunk_status_idx ON process_chunk (status, created_at, chunk_index);
+CREATE INDEX IF NOT EXISTS process_chunk_process_idx ON process_chunk (process_id);
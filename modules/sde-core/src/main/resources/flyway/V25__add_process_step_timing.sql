@@ -0,0 +1,38 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+ALTER TABLE process_report ADD COLUMN IF NOT EXISTS remote_calls BIGINT DEFAULT 0;
+ALTER TABLE process_report ADD COLUMN IF NOT EXISTS remote_call_retries BIGINT DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS process_step_timing
+(
+    uuid                     TEXT NOT NULL,
+    process_id               TEXT NOT NULL,
+    step                     TEXT NOT NULL,
+    invocations              BIGINT NOT NULL,
+    failures                 BIGINT NOT NULL,
+    total_time_micros        BIGINT NOT NULL,
+    max_time_micros          BIGINT NOT NULL,
+    histogram                TEXT NULL,
+    recorded_at              TIMESTAMP NOT NULL,
+    CONSTRAINT process_step_timing_pkey PRIMARY KEY (uuid)
+);
+
+CREATE INDEX IF NOT EXISTS process_step_timing_process_idx ON process_step_timing (process_id);
@@ -0,0 +1,40 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+-- keyset reads of the records of a process for delete, some tables are created by the JPA schema update
+DO $$
+DECLARE
+    t TEXT;
+BEGIN
+    FOREACH t IN ARRAY ARRAY['aspect', 'batch', 'part_as_planned', 'part_site_information_as_planned', 'pcf_aspect']
+    LOOP
+        IF to_regclass(t) IS NOT NULL THEN
+            EXECUTE format('CREATE INDEX IF NOT EXISTS %I ON %I (process_id, %I)', t || '_process_key_idx', t,
+                CASE WHEN t = 'pcf_aspect' THEN 'id' ELSE 'uuid' END);
+        END IF;
+    END LOOP;
+    FOREACH t IN ARRAY ARRAY['aspect_relationship', 'single_level_bom_as_planned', 'single_level_usage_as_built']
+    LOOP
+        IF to_regclass(t) IS NOT NULL THEN
+            EXECUTE format('CREATE INDEX IF NOT EXISTS %I ON %I (process_id, parent_uuid, uuid)',
+                t || '_process_key_idx', t);
+        END IF;
+    END LOOP;
+END $$;
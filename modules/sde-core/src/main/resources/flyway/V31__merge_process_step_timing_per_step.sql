@@ -0,0 +1,56 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+CREATE TEMPORARY TABLE process_step_timing_merged AS
+SELECT timing.process_id,
+       timing.step,
+       MIN(timing.uuid)              AS uuid,
+       SUM(timing.invocations)       AS invocations,
+       SUM(timing.failures)          AS failures,
+       SUM(timing.total_time_micros) AS total_time_micros,
+       MAX(timing.max_time_micros)   AS max_time_micros,
+       MAX(timing.recorded_at)       AS recorded_at,
+       (SELECT string_agg(bucket.idx || ':' || bucket.hits, ',' ORDER BY bucket.idx)
+        FROM (SELECT CAST(split_part(pair, ':', 1) AS INT)           AS idx,
+                     SUM(CAST(split_part(pair, ':', 2) AS BIGINT)) AS hits
+              FROM process_step_timing part,
+                   unnest(string_to_array(NULLIF(part.histogram, ''), ',')) AS pair
+              WHERE part.process_id = timing.process_id
+                AND part.step = timing.step
+              GROUP BY 1) AS bucket) AS histogram
+FROM process_step_timing timing
+GROUP BY timing.process_id, timing.step
+HAVING COUNT(*) > 1;
+
+DELETE FROM process_step_timing timing
+USING process_step_timing_merged merged
+WHERE timing.process_id = merged.process_id
+  AND timing.step = merged.step;
+
+INSERT INTO process_step_timing (uuid, process_id, step, invocations, failures, total_time_micros, max_time_micros,
+                                 histogram, recorded_at)
+SELECT uuid, process_id, step, invocations, failures, total_time_micros, max_time_micros, histogram, recorded_at
+FROM process_step_timing_merged;
+
+DROP TABLE process_step_timing_merged;
+
+DROP INDEX IF EXISTS process_step_timing_process_idx;
+
+CREATE UNIQUE INDEX IF NOT EXISTS process_step_timing_process_step_idx ON process_step_timing (process_id, step);
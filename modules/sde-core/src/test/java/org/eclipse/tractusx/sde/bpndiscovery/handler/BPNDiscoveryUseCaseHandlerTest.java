@@ -0,0 +1,141 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.bpndiscovery.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.tractusx.sde.bpndiscovery.model.request.BpnDiscoveryRequest;
+import org.eclipse.tractusx.sde.common.exception.ServiceException;
+import org.eclipse.tractusx.sde.common.submodel.executor.StepExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ContextConfiguration(classes = { BPNDiscoveryUseCaseHandler.class })
+@TestPropertySource(properties = { "bpndiscovery.batch-size=2" })
+@ExtendWith(SpringExtension.class)
+class BPNDiscoveryUseCaseHandlerTest {
+
+	private static final String TYPE = "manufacturerPartId";
+
+	@Autowired
+	private BPNDiscoveryUseCaseHandler bpnDiscoveryUseCaseHandler;
+
+	@MockBean
+	private BpnDiscoveryProxyService bpnDiscoveryProxyService;
+
+	@MockBean
+	private BpnDiscoveryKeyRegistry bpnDiscoveryKeyRegistry;
+
+	@BeforeEach
+	void setUp() {
+		when(bpnDiscoveryKeyRegistry.filterUnregistered(anyList()))
+				.thenAnswer(invocation -> invocation.getArgument(0));
+	}
+
+	@Test
+	void testKeysAreSentInBatches() throws ServiceException {
+		bpnDiscoveryUseCaseHandler.run("process-1", Map.of(TYPE, "part-1"));
+		bpnDiscoveryUseCaseHandler.run("process-1", Map.of(TYPE, "part-2"));
+		verify(bpnDiscoveryProxyService, times(1)).bpnDiscoveryBatchData(anyList());
+
+		bpnDiscoveryUseCaseHandler.run("process-1", Map.of(TYPE, "part-3"));
+		bpnDiscoveryUseCaseHandler.run("process-1", Map.of(TYPE, "part-3"));
+
+		assertEquals(1, bpnDiscoveryUseCaseHandler.flush("process-1"));
+		verify(bpnDiscoveryProxyService, times(2)).bpnDiscoveryBatchData(anyList());
+		verify(bpnDiscoveryProxyService).bpnDiscoveryBatchData(List.of(new BpnDiscoveryRequest(TYPE, "part-3")));
+		assertEquals(0, bpnDiscoveryUseCaseHandler.flush("process-1"));
+	}
+
+	@Test
+	void testRegisteredKeysAreNotSent() throws ServiceException {
+		when(bpnDiscoveryKeyRegistry.isRegistered(new BpnDiscoveryRequest(TYPE, "part-4"))).thenReturn(true);
+
+		bpnDiscoveryUseCaseHandler.run("process-2", Map.of(TYPE, "part-4"));
+
+		assertEquals(0, bpnDiscoveryUseCaseHandler.flush("process-2"));
+		verify(bpnDiscoveryProxyService, never()).bpnDiscoveryBatchData(anyList());
+	}
+
+	@Test
+	void testFailedBatchIsRetriedAndReportedByFlush() {
+		when(bpnDiscoveryProxyService.bpnDiscoveryBatchData(anyList())).thenThrow(new RuntimeException("down"));
+
+		bpnDiscoveryUseCaseHandler.run("process-3", Map.of(TYPE, "part-5"));
+		bpnDiscoveryUseCaseHandler.run("process-3", Map.of(TYPE, "part-6"));
+
+		assertThrows(ServiceException.class, () -> bpnDiscoveryUseCaseHandler.flush("process-3"));
+		verify(bpnDiscoveryProxyService, times(2)).bpnDiscoveryBatchData(anyList());
+		verify(bpnDiscoveryKeyRegistry, never()).registered(anyList());
+	}
+
+	@Test
+	void testChunksOfOneProcessKeepSeparateBuffers() throws ServiceException {
+		runInChunk("process-4/a", 1, "part-7");
+		runInChunk("process-4/b", 2, "part-8");
+
+		assertEquals(1, bpnDiscoveryUseCaseHandler.flush("process-4/a"));
+		verify(bpnDiscoveryProxyService).bpnDiscoveryBatchData(List.of(new BpnDiscoveryRequest(TYPE, "part-7")));
+
+		runInChunk("process-4/b", 3, "part-9");
+
+		verify(bpnDiscoveryProxyService, times(2)).bpnDiscoveryBatchData(anyList());
+		assertEquals(0, bpnDiscoveryUseCaseHandler.flush("process-4/b"));
+	}
+
+	@Test
+	void testFailedFlushReportsRowsOfTheChunk() {
+		when(bpnDiscoveryProxyService.bpnDiscoveryBatchData(anyList())).thenThrow(new RuntimeException("down"));
+
+		runInChunk("process-5/a", 4, "part-10");
+		runInChunk("process-5/a", 5, "part-10");
+		runInChunk("process-5/a", 6, "part-11");
+		runInChunk("process-5/b", 7, "part-12");
+
+		BpnDiscoveryFlushException exception = assertThrows(BpnDiscoveryFlushException.class,
+				() -> bpnDiscoveryUseCaseHandler.flush("process-5/a"));
+
+		assertEquals(Set.of(4, 5, 6), exception.getFailedRows());
+		verify(bpnDiscoveryKeyRegistry, never()).registered(anyList());
+	}
+
+	private void runInChunk(String chunk, int row, String key) {
+		try (StepExecutionContext context = StepExecutionContext.open("batch", "process", chunk, row)) {
+			bpnDiscoveryUseCaseHandler.run("process", Map.of(TYPE, key));
+		}
+	}
+}
@@ -0,0 +1,65 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.common.submodel.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.stream.IntStream;
+
+import org.eclipse.tractusx.sde.common.submodel.executor.ProcessTraceRecorder.ProcessTrace;
+import org.junit.jupiter.api.Test;
+
+class ProcessTraceRecorderTest {
+
+	private static final String PROCESS_ID = "3f2b7c1e-5a4d-4e8f-9b6a-1c0d2e3f4a5b";
+
+	@Test
+	void testConcurrentRecordsDrainedOnce() {
+		ProcessTraceRecorder recorder = new ProcessTraceRecorder();
+
+		IntStream.range(0, 10_000).parallel().forEach(i -> {
+			recorder.recordStep(PROCESS_ID, i % 2 == 0 ? "CsvParse" : "DigitalTwinsCsvHandlerUseCase", 2_000,
+					i % 100 != 0);
+			recorder.recordRemoteCall(PROCESS_ID);
+			if (i % 10 == 0)
+				recorder.recordRetry(PROCESS_ID);
+		});
+
+		ProcessTrace trace = recorder.drain(PROCESS_ID).orElseThrow();
+		assertEquals(5_000, trace.getSteps().get("CsvParse").getInvocations());
+		assertEquals(5_000, trace.getSteps().get("DigitalTwinsCsvHandlerUseCase").getInvocations());
+		assertEquals(100, trace.getSteps().get("CsvParse").getFailures());
+		assertEquals(10_000, trace.getRemoteCalls().sum());
+		assertEquals(1_000, trace.getRetries().sum());
+		assertTrue(recorder.drain(PROCESS_ID).isEmpty());
+	}
+
+	@Test
+	void testProcessesRecordedSeparately() {
+		ProcessTraceRecorder recorder = new ProcessTraceRecorder();
+		recorder.recordRemoteCall(PROCESS_ID);
+		recorder.recordRemoteCall("other-process");
+
+		assertEquals(1, recorder.drain(PROCESS_ID).orElseThrow().getRemoteCalls().sum());
+		assertEquals(1, recorder.drain("other-process").orElseThrow().getRemoteCalls().sum());
+	}
+}
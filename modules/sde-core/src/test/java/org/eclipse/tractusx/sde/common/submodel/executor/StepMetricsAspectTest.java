@@ -0,0 +1,105 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.common.submodel.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.eclipse.tractusx.sde.common.submodel.executor.ProcessTraceRecorder.ProcessTrace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+
+class StepMetricsAspectTest {
+
+	private static final String PROCESS_ID = "7c9e6679-7425-40de-944b-e07fc1f90ae7";
+
+	private final TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+
+	private final ProcessTraceRecorder processTraceRecorder = new ProcessTraceRecorder();
+
+	private EDCTestStep step;
+
+	@BeforeEach
+	void setUp() {
+		AspectJProxyFactory factory = new AspectJProxyFactory(new EDCTestStep());
+		factory.addAspect(new StepMetricsAspect(observationRegistry, processTraceRecorder));
+		step = factory.getProxy();
+	}
+
+	@Test
+	void testStepObservedWithLowCardinalityTags() {
+		try (StepExecutionContext context = StepExecutionContext.open("serialpart", PROCESS_ID)) {
+			assertEquals("done", step.run(false));
+		}
+
+		TestObservationRegistryAssert.assertThat(observationRegistry)
+				.hasNumberOfObservationsWithNameEqualTo(StepMetricsAspect.STEP_TIMER, 1)
+				.hasObservationWithNameEqualTo(StepMetricsAspect.STEP_TIMER).that()
+				.hasContextualNameEqualTo("step edc")
+				.hasLowCardinalityKeyValue("step", "edc")
+				.hasLowCardinalityKeyValue("submodel", "serialpart")
+				.hasLowCardinalityKeyValue("outcome", "success")
+				.doesNotHaveError()
+				.hasBeenStarted()
+				.hasBeenStopped();
+
+		ProcessTrace trace = processTraceRecorder.drain(PROCESS_ID).orElseThrow();
+		assertEquals(1, trace.getSteps().get("edc").getInvocations());
+		assertEquals(0, trace.getSteps().get("edc").getFailures());
+	}
+
+	@Test
+	void testFailedStepObservedWithError() {
+		try (StepExecutionContext context = StepExecutionContext.open("serialpart", PROCESS_ID)) {
+			assertThrows(IllegalStateException.class, () -> step.run(true));
+		}
+
+		TestObservationRegistryAssert.assertThat(observationRegistry)
+				.hasObservationWithNameEqualTo(StepMetricsAspect.STEP_TIMER).that()
+				.hasLowCardinalityKeyValue("outcome", "failure")
+				.hasError()
+				.hasBeenStopped();
+
+		assertEquals(1, processTraceRecorder.drain(PROCESS_ID).orElseThrow().getSteps().get("edc").getFailures());
+	}
+
+	@Test
+	void testStepOutsideProcessTaggedNone() {
+		step.run(false);
+
+		TestObservationRegistryAssert.assertThat(observationRegistry)
+				.hasObservationWithNameEqualTo(StepMetricsAspect.STEP_TIMER).that()
+				.hasLowCardinalityKeyValue("submodel", "none");
+	}
+
+	static class EDCTestStep extends Step {
+
+		public String run(boolean fail) {
+			if (fail)
+				throw new IllegalStateException("EDC unavailable");
+			return "done";
+		}
+	}
+}
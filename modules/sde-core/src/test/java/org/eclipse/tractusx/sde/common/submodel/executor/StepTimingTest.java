@@ -0,0 +1,69 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.common.submodel.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class StepTimingTest {
+
+	@Test
+	void testRecordCountsAndPercentiles() {
+		StepTiming timing = new StepTiming();
+		for (int i = 1; i <= 100; i++)
+			timing.record(i * 1_000_000L, i != 100);
+
+		assertEquals(100, timing.getInvocations());
+		assertEquals(1, timing.getFailures());
+		assertEquals(5_050_000, timing.getTotalMicros());
+		assertEquals(100_000, timing.getMaxMicros());
+
+		long p95 = timing.percentileMicros(0.95);
+		assertTrue(p95 >= 95_000 && p95 <= 95_000 * 1.19, "p95 was " + p95);
+		assertEquals(100_000, timing.percentileMicros(1.0));
+	}
+
+	@Test
+	void testEncodedHistogramMergesToSamePercentiles() {
+		StepTiming timing = new StepTiming();
+		for (int i = 1; i <= 1000; i++)
+			timing.record(i * 1000L, true);
+
+		StepTiming merged = new StepTiming();
+		merged.merge(timing.getInvocations(), timing.getFailures(), timing.getTotalMicros(), timing.getMaxMicros(),
+				timing.encodeHistogram());
+		merged.merge(0, 0, 0, 0, null);
+
+		assertEquals(timing.getInvocations(), merged.getInvocations());
+		assertEquals(timing.getTotalMicros(), merged.getTotalMicros());
+		assertEquals(timing.percentileMicros(0.5), merged.percentileMicros(0.5));
+		assertEquals(timing.percentileMicros(0.95), merged.percentileMicros(0.95));
+	}
+
+	@Test
+	void testEmptyTiming() {
+		StepTiming timing = new StepTiming();
+		assertEquals(0, timing.percentileMicros(0.95));
+		assertEquals("", timing.encodeHistogram());
+	}
+}
@@ -0,0 +1,83 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.tractusx.sde.common.exception.ValidationException;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+@ContextConfiguration(classes = { JsonRecordValidate.class })
+@ExtendWith(SpringExtension.class)
+class JsonRecordValidateTest {
+
+	@Autowired
+	private JsonRecordValidate jsonRecordValidate;
+
+	@Test
+	void testSchemaCompiledPerSubmodel() {
+		ObjectNode partRow = row().put("part_id", "P-1");
+		ObjectNode batchRow = row().put("batch_id", "B-1");
+
+		jsonRecordValidate.init(schema("part", "part_id"));
+		assertTrue(jsonRecordValidate.run(1, partRow));
+		assertThrows(ValidationException.class, () -> jsonRecordValidate.run(2, batchRow));
+
+		jsonRecordValidate.init(schema("batch", "batch_id"));
+		assertTrue(jsonRecordValidate.run(3, batchRow));
+		assertThrows(ValidationException.class, () -> jsonRecordValidate.run(4, partRow));
+
+		jsonRecordValidate.init(schema("part", "part_id"));
+		assertTrue(jsonRecordValidate.run(5, partRow));
+	}
+
+	@Test
+	void testDependentFieldsOfCurrentSchema() {
+		JsonObject schema = schema("dependent", "part_id");
+		schema.getAsJsonObject("items").add("dependentRequired",
+				JsonParser.parseString("{\"part_id\": [\"part_name\"]}"));
+		jsonRecordValidate.init(schema);
+
+		assertThrows(ValidationException.class,
+				() -> jsonRecordValidate.run(1, row().put("part_id", "P-1").putNull("part_name")));
+		assertTrue(jsonRecordValidate.run(2, row().put("part_id", "P-1").put("part_name", "Part")));
+	}
+
+	private static ObjectNode row() {
+		return JsonMappers.objectMapper().createObjectNode();
+	}
+
+	private static JsonObject schema(String id, String requiredField) {
+		return JsonParser.parseString("{\"id\": \"" + id + "\", \"items\": {\"type\": \"object\", \"required\": [\""
+				+ requiredField + "\"], \"properties\": {\"" + requiredField
+				+ "\": {\"type\": \"string\"}}, \"dependentRequired\": {}}}").getAsJsonObject();
+	}
+}
@@ -0,0 +1,75 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+@ContextConfiguration(classes = { RowContentHash.class })
+@ExtendWith(SpringExtension.class)
+class RowContentHashTest {
+
+	@Autowired
+	private RowContentHash rowContentHash;
+
+	@Test
+	void testHashIgnoresKeyOrderProcessAndRowNumber() {
+		ObjectNode first = row("process-1", 1);
+		first.put("manufacturer_part_id", "MPI-1");
+		first.putObject("site").put("bpn", "BPNS000000000001").put("function", "production");
+
+		ObjectNode second = row("process-2", 7);
+		second.putObject("site").put("function", "production").put("bpn", "BPNS000000000001");
+		second.put("manufacturer_part_id", "MPI-1");
+
+		assertEquals(rowContentHash.hash(first), rowContentHash.hash(second));
+	}
+
+	@Test
+	void testHashChangesWithContent() {
+		ObjectNode first = row("process-1", 1);
+		first.put("manufacturer_part_id", "MPI-1");
+		ObjectNode second = row("process-1", 1);
+		second.put("manufacturer_part_id", "MPI-2");
+		ObjectNode third = row("process-1", 1);
+		third.put("manufacturer_part_id", "MPI-1");
+		third.putNull("name_at_manufacturer");
+
+		assertNotEquals(rowContentHash.hash(first), rowContentHash.hash(second));
+		assertNotEquals(rowContentHash.hash(first), rowContentHash.hash(third));
+	}
+
+	private static ObjectNode row(String processId, int rowNumber) {
+		ObjectNode row = JsonMappers.objectMapper().createObjectNode();
+		row.put("process_id", processId);
+		row.put("row_number", rowNumber);
+		return row;
+	}
+}
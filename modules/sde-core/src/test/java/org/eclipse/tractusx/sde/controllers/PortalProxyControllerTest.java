@@ -23,6 +23,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.tractusx.sde.core.controller.PortalProxyController;
 import org.eclipse.tractusx.sde.portal.handler.PortalProxyService;
@@ -99,4 +100,23 @@ class PortalProxyControllerTest {
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andExpect(MockMvcResultMatchers.content().json(mapper.writeValueAsString(response)));
     }
+
+    @Test
+    void testGetUnifiedBPNValidateListSuccess() throws Exception {
+    	ObjectMapper mapper = new ObjectMapper();
+    	Map<String, UnifiedBpnValidationResponse> response = Map.of("BPNL001000TS0100",
+    			UnifiedBpnValidationResponse.builder()
+				.msg("BPNL001000TS0100 BPN number is not part of partner network")
+				.bpnStatus(UnifiedBPNValidationStatusEnum.NOT_PARTNER).build());
+        when(portalProxyService.unifiedBpnValidation(List.of("BPNL001000TS0100")))
+                .thenReturn(response);
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.post("/unified-bpn-validation")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(List.of("BPNL001000TS0100")));
+        MockMvcBuilders.standaloneSetup(consumerController)
+                .build()
+                .perform(requestBuilder)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().json(mapper.writeValueAsString(response)));
+    }
 }
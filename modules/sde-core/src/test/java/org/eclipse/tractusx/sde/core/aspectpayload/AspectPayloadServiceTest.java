@@ -0,0 +1,138 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.aspectpayload;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.eclipse.tractusx.sde.common.exception.NoDataFoundException;
+import org.eclipse.tractusx.sde.common.model.Submodel;
+import org.eclipse.tractusx.sde.common.submodel.executor.SubmodelExecutor;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
+import org.eclipse.tractusx.sde.core.aspectpayload.repository.AspectPayloadRepository;
+import org.eclipse.tractusx.sde.core.service.PublicAspectResponseCache;
+import org.eclipse.tractusx.sde.core.service.SubmodelCsvService;
+import org.eclipse.tractusx.sde.core.service.SubmodelService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+@ContextConfiguration(classes = { AspectPayloadService.class })
+@TestPropertySource(properties = { "submodel.materialised-payload.enabled=true" })
+@ExtendWith(SpringExtension.class)
+class AspectPayloadServiceTest {
+
+	private static final String SUBMODEL = "assemblyPartRelationship";
+
+	@Autowired
+	private AspectPayloadService aspectPayloadService;
+
+	@MockBean
+	private SubmodelService submodelService;
+
+	@MockBean
+	private SubmodelCsvService submodelCsvService;
+
+	@MockBean
+	private AspectPayloadRepository aspectPayloadRepository;
+
+	@MockBean
+	private PublicAspectResponseCache publicAspectResponseCache;
+
+	private final SubmodelExecutor executor = mock(SubmodelExecutor.class);
+
+	@BeforeEach
+	void setUp() {
+		Submodel submodel = Submodel.builder().id(SUBMODEL).executor(executor).build();
+		when(submodelService.findSubmodelByNameAsSubmdelObject(SUBMODEL)).thenReturn(submodel);
+		when(submodelCsvService.getCSVHeader(submodel)).thenReturn(List.of("parent_uuid"));
+		when(executor.readCreatedTwinsDetails(anyString())).thenAnswer(invocation -> {
+			ObjectNode details = JsonMappers.objectMapper().createObjectNode();
+			details.putObject("csv").put("parent_uuid", invocation.getArgument(0, String.class));
+			return details;
+		});
+	}
+
+	@Test
+	void testFlushRefreshesEachParentOnce() {
+		aspectPayloadService.changed("process-1", SUBMODEL, "urn:uuid:parent-1");
+		aspectPayloadService.changed("process-1", SUBMODEL, "urn:uuid:parent-1");
+		aspectPayloadService.changed("process-1", SUBMODEL, "urn:uuid:parent-1");
+		aspectPayloadService.changed("process-1", SUBMODEL, "urn:uuid:parent-2");
+		aspectPayloadService.changed("process-1", SUBMODEL, null);
+
+		aspectPayloadService.flush("process-1");
+
+		verify(executor, times(1)).readCreatedTwinsDetails("urn:uuid:parent-1");
+		verify(executor, times(1)).readCreatedTwinsDetails("urn:uuid:parent-2");
+		verify(aspectPayloadRepository, times(2)).upsertPayload(eq(SUBMODEL.toLowerCase()), anyString(), any(),
+				any());
+		verify(publicAspectResponseCache, times(4)).invalidate(SUBMODEL, "urn:uuid:parent-1");
+		verify(publicAspectResponseCache, times(2)).invalidate(SUBMODEL, "urn:uuid:parent-2");
+	}
+
+	@Test
+	void testChangeEvictsBeforeFlush() {
+		aspectPayloadService.changed("process-4", SUBMODEL, "urn:uuid:parent-5");
+
+		verify(publicAspectResponseCache).invalidate(SUBMODEL, "urn:uuid:parent-5");
+		verify(aspectPayloadRepository).deletePayload(SUBMODEL.toLowerCase(), "urn:uuid:parent-5");
+		verify(executor, never()).readCreatedTwinsDetails(anyString());
+	}
+
+	@Test
+	void testFlushOnlyRefreshesItsOwnProcessOnce() {
+		aspectPayloadService.changed("process-2", SUBMODEL, "urn:uuid:parent-3");
+
+		aspectPayloadService.flush("process-3");
+		verify(executor, never()).readCreatedTwinsDetails(anyString());
+
+		aspectPayloadService.flush("process-2");
+		aspectPayloadService.flush("process-2");
+		verify(executor, times(1)).readCreatedTwinsDetails("urn:uuid:parent-3");
+	}
+
+	@Test
+	void testRefreshOfDeletedRecordDropsPayload() {
+		when(executor.readCreatedTwinsDetails("urn:uuid:parent-4")).thenThrow(new NoDataFoundException("deleted"));
+
+		aspectPayloadService.refresh(SUBMODEL, "urn:uuid:parent-4");
+
+		verify(aspectPayloadRepository).deletePayload(SUBMODEL.toLowerCase(), "urn:uuid:parent-4");
+		verify(aspectPayloadRepository, never()).upsertPayload(anyString(), anyString(), any(), any());
+		verify(publicAspectResponseCache).invalidate(SUBMODEL, "urn:uuid:parent-4");
+	}
+}
@@ -0,0 +1,109 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.bpndiscovery;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.eclipse.tractusx.sde.bpndiscovery.model.request.BpnDiscoveryRequest;
+import org.eclipse.tractusx.sde.core.bpndiscovery.entity.BpnDiscoveryKeyEntity;
+import org.eclipse.tractusx.sde.core.bpndiscovery.repository.BpnDiscoveryKeyRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ContextConfiguration(classes = { PersistedBpnDiscoveryKeyRegistry.class })
+@TestPropertySource(properties = { "bpndiscovery.key-registry.ttl=3600000" })
+@ExtendWith(SpringExtension.class)
+class PersistedBpnDiscoveryKeyRegistryTest {
+
+	private static final String TYPE = "manufacturerPartId";
+
+	@Autowired
+	private PersistedBpnDiscoveryKeyRegistry persistedBpnDiscoveryKeyRegistry;
+
+	@MockBean
+	private BpnDiscoveryKeyRepository bpnDiscoveryKeyRepository;
+
+	@Test
+	void testFilterUnregisteredSkipsKeysRegisteredHereOrByOthers() {
+		persistedBpnDiscoveryKeyRegistry.registered(List.of(key("part-1")));
+		when(bpnDiscoveryKeyRepository.findRegisteredKeys(eq(TYPE), anyCollection(), any()))
+				.thenReturn(List.of(entity("part-2", LocalDateTime.now())));
+
+		List<BpnDiscoveryRequest> unregistered = persistedBpnDiscoveryKeyRegistry
+				.filterUnregistered(List.of(key("part-1"), key("part-2"), key("part-3")));
+
+		assertEquals(List.of(key("part-3")), unregistered);
+		verify(bpnDiscoveryKeyRepository).findRegisteredKeys(eq(TYPE), eq(List.of("part-2", "part-3")), any());
+		assertTrue(persistedBpnDiscoveryKeyRegistry.isRegistered(key("part-2")));
+		assertFalse(persistedBpnDiscoveryKeyRegistry.isRegistered(key("part-3")));
+	}
+
+	@Test
+	void testFilterUnregisteredWithoutUnknownKeysSkipsQuery() {
+		persistedBpnDiscoveryKeyRegistry.registered(List.of(key("part-4")));
+
+		assertEquals(List.of(), persistedBpnDiscoveryKeyRegistry.filterUnregistered(List.of(key("part-4"))));
+		verify(bpnDiscoveryKeyRepository, never()).findRegisteredKeys(anyString(), anyCollection(), any());
+	}
+
+	@Test
+	void testExpiredKeysAreRegisteredAgainAndPurged() {
+		BpnDiscoveryKeyEntity expired = entity("part-5", LocalDateTime.now().minusHours(2));
+		when(bpnDiscoveryKeyRepository.findRegisteredKeys(eq(TYPE), anyCollection(), any()))
+				.thenAnswer(invocation -> expired.getRegisteredAt()
+						.isAfter(invocation.getArgument(2, LocalDateTime.class)) ? List.of(expired) : List.of());
+
+		assertEquals(List.of(key("part-5")), persistedBpnDiscoveryKeyRegistry.filterUnregistered(List.of(key("part-5"))));
+		assertFalse(persistedBpnDiscoveryKeyRegistry.isRegistered(key("part-5")));
+
+		persistedBpnDiscoveryKeyRegistry.purgeExpiredKeys();
+		verify(bpnDiscoveryKeyRepository).deleteRegisteredBefore(any());
+	}
+
+	private static BpnDiscoveryRequest key(String value) {
+		return new BpnDiscoveryRequest(TYPE, value);
+	}
+
+	private static BpnDiscoveryKeyEntity entity(String value, LocalDateTime registeredAt) {
+		BpnDiscoveryKeyEntity entity = new BpnDiscoveryKeyEntity();
+		entity.setKeyType(TYPE);
+		entity.setKeyValue(value);
+		entity.setRegisteredAt(registeredAt);
+		return entity;
+	}
+}
@@ -20,8 +20,13 @@
 
 package org.eclipse.tractusx.sde.core.controller;
 
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import org.eclipse.tractusx.sde.common.exception.GlobalDefaultExceptionHandler;
+import org.eclipse.tractusx.sde.common.exception.NoDataFoundException;
 import org.eclipse.tractusx.sde.core.registry.UsecaseRegistration;
 import org.eclipse.tractusx.sde.core.service.SubmodelService;
 import org.junit.jupiter.api.Test;
@@ -87,4 +92,33 @@ class SubmodelControllerTest {
 		}
 	}
 
+	@Test
+	void testGetSubmodelsBodyForUsecases() throws Exception {
+		byte[] body = "[{\"id\":\"batch\"}]".getBytes(StandardCharsets.UTF_8);
+		when(submodelService.findAllSubmodels(List.of("traceability"))).thenReturn(body);
+		when(submodelService.findAllSubmodels(List.of())).thenReturn("[]".getBytes(StandardCharsets.UTF_8));
+
+		MockMvcBuilders.standaloneSetup(submodelController).build()
+				.perform(MockMvcRequestBuilders.get("/submodels").param("usecases", "traceability"))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON))
+				.andExpect(MockMvcResultMatchers.content().bytes(body));
+
+		MockMvcBuilders.standaloneSetup(submodelController).build()
+				.perform(MockMvcRequestBuilders.get("/submodels"))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.content().json("[]"));
+	}
+
+	@Test
+	void testGetSubmodelByUnknownName() throws Exception {
+		when(submodelService.findSubmodelByName("unknown"))
+				.thenThrow(new NoDataFoundException("No data found for unknown"));
+
+		MockMvcBuilders.standaloneSetup(submodelController).setControllerAdvice(new GlobalDefaultExceptionHandler())
+				.build().perform(MockMvcRequestBuilders.get("/submodels/unknown"))
+				.andExpect(MockMvcResultMatchers.status().isNotFound())
+				.andExpect(MockMvcResultMatchers.jsonPath("$.msg").value("No data found for unknown"));
+	}
+
 }
@@ -0,0 +1,61 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.tractusx.sde.core.processqueue.ProcessChunkQueue;
+import org.eclipse.tractusx.sde.core.processreport.ProcessReportUseCase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ContextConfiguration(classes = { ProcessMetrics.class, SimpleMeterRegistry.class })
+@ExtendWith(SpringExtension.class)
+class ProcessMetricsTest {
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@MockBean
+	private ProcessReportUseCase processReportUseCase;
+
+	@MockBean
+	private ProcessChunkQueue processChunkQueue;
+
+	@Test
+	void testPendingChunksCountedOncePerTtl() {
+		when(processChunkQueue.countPendingChunks()).thenReturn(7L, 3L);
+
+		assertEquals(7, meterRegistry.get("sde.queue.chunks").gauge().value());
+		assertEquals(7, meterRegistry.get("sde.queue.chunks").gauge().value());
+		verify(processChunkQueue, times(1)).countPendingChunks();
+	}
+}
@@ -0,0 +1,81 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.processqueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.eclipse.tractusx.sde.common.entities.csv.RowData;
+import org.eclipse.tractusx.sde.core.processqueue.entity.ProcessChunkEntity;
+import org.eclipse.tractusx.sde.core.processqueue.repository.ProcessChunkRepository;
+import org.eclipse.tractusx.sde.core.processreport.ProcessReportUseCase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ContextConfiguration(classes = { ProcessChunkQueue.class })
+@ExtendWith(SpringExtension.class)
+class ProcessChunkQueueTest {
+
+	private static final String PROCESS_ID = "3f2b7c1e-5a4d-4e8f-9b6a-1c0d2e3f4a5b";
+
+	@Autowired
+	private ProcessChunkQueue processChunkQueue;
+
+	@MockBean
+	private ProcessChunkRepository repository;
+
+	@MockBean
+	private ProcessReportUseCase processReportUseCase;
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void testEnqueueSplitsRowsIntoChunks() {
+		List<RowData> rows = IntStream.rangeClosed(1, 5).mapToObj(i -> new RowData(i, "uuid-" + i + ",batch"))
+				.toList();
+
+		assertEquals(3, processChunkQueue.enqueue(PROCESS_ID, "batch", rows, 2));
+
+		ArgumentCaptor<List<ProcessChunkEntity>> chunks = ArgumentCaptor.forClass(List.class);
+		verify(repository).saveAll(chunks.capture());
+		assertEquals(3, chunks.getValue().size());
+		assertEquals(2, chunks.getValue().get(2).getChunkIndex());
+		assertEquals(rows.subList(0, 2), processChunkQueue.readRows(chunks.getValue().get(0)));
+		assertEquals(rows.subList(4, 5), processChunkQueue.readRows(chunks.getValue().get(2)));
+	}
+
+	@Test
+	void testCompleteChunkAddsProgress() {
+		ProcessChunkEntity chunk = ProcessChunkEntity.builder().chunkId("chunk-1").processId(PROCESS_ID).build();
+
+		processChunkQueue.completeChunk(chunk, 500, 480, 20);
+
+		verify(repository).deleteChunk("chunk-1");
+		verify(processReportUseCase).addChunkProgress(PROCESS_ID, 500, 480, 20);
+	}
+}
@@ -0,0 +1,102 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.processqueue;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.eclipse.tractusx.sde.core.processqueue.entity.ProcessChunkEntity;
+import org.eclipse.tractusx.sde.core.service.SubmodelOrchestartorService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ContextConfiguration(classes = { ProcessChunkWorker.class, SimpleMeterRegistry.class })
+@TestPropertySource(properties = { "process.distribution.mode=queue", "process.queue.worker-threads=1",
+		"process.queue.max-attempts=3" })
+@ExtendWith(SpringExtension.class)
+class ProcessChunkWorkerTest {
+
+	@Autowired
+	private ProcessChunkWorker processChunkWorker;
+
+	@MockBean
+	private ProcessChunkQueue processChunkQueue;
+
+	@MockBean
+	private SubmodelOrchestartorService submodelOrchestartorService;
+
+	@Test
+	void testFailedChunkIsClaimedAgainBeforeMaxAttempts() {
+		ProcessChunkEntity chunk = claimableChunk(0);
+		doThrow(new IllegalStateException("Process report not found")).when(submodelOrchestartorService)
+				.processQueuedChunk(chunk);
+
+		processChunkWorker.pollChunks();
+
+		verify(submodelOrchestartorService, timeout(1000)).processQueuedChunk(chunk);
+		verify(submodelOrchestartorService, after(300).never()).failQueuedChunk(any(), anyString());
+	}
+
+	@Test
+	void testChunkRowsFailedOnLastAttempt() {
+		ProcessChunkEntity chunk = claimableChunk(2);
+		doThrow(new IllegalStateException("Process report not found")).when(submodelOrchestartorService)
+				.processQueuedChunk(chunk);
+
+		processChunkWorker.pollChunks();
+
+		verify(submodelOrchestartorService, timeout(1000)).failQueuedChunk(chunk, "Process report not found");
+	}
+
+	@Test
+	void testChunkOverMaxAttemptsNotProcessedAgain() {
+		ProcessChunkEntity chunk = claimableChunk(3);
+
+		processChunkWorker.pollChunks();
+
+		verify(submodelOrchestartorService, timeout(1000)).failQueuedChunk(eq(chunk), anyString());
+		verify(submodelOrchestartorService, never()).processQueuedChunk(any());
+	}
+
+	private ProcessChunkEntity claimableChunk(int attempts) {
+		ProcessChunkEntity chunk = ProcessChunkEntity.builder().chunkId("chunk-" + attempts)
+				.processId("3f2b7c1e-5a4d-4e8f-9b6a-1c0d2e3f4a5b").submodel("batch").chunkIndex(0)
+				.attempts(attempts).status("PENDING").build();
+		when(processChunkQueue.claimNext(anyString(), any())).thenReturn(Optional.of(chunk), Optional.empty());
+		return chunk;
+	}
+}
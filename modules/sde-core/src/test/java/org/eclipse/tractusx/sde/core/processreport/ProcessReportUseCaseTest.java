@@ -0,0 +1,96 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.processreport;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.eclipse.tractusx.sde.common.submodel.executor.ProcessTraceRecorder;
+import org.eclipse.tractusx.sde.core.failurelog.mapper.FailureLogMapper;
+import org.eclipse.tractusx.sde.core.failurelog.repository.FailureLogRepository;
+import org.eclipse.tractusx.sde.core.processreport.mapper.ProcessReportMapper;
+import org.eclipse.tractusx.sde.core.processreport.repository.ProcessReportRepository;
+import org.eclipse.tractusx.sde.core.processreport.repository.ProcessStepTimingRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ContextConfiguration(classes = { ProcessReportUseCase.class, ProcessTraceRecorder.class })
+@ExtendWith(SpringExtension.class)
+class ProcessReportUseCaseTest {
+
+	@Autowired
+	private ProcessReportUseCase processReportUseCase;
+
+	@Autowired
+	private ProcessTraceRecorder processTraceRecorder;
+
+	@MockBean
+	private ProcessReportRepository repository;
+
+	@MockBean
+	private ProcessStepTimingRepository stepTimingRepository;
+
+	@MockBean
+	private FailureLogRepository failureRepository;
+
+	@MockBean
+	private ProcessReportMapper mapper;
+
+	@MockBean
+	private FailureLogMapper logMapper;
+
+	@Test
+	void testCheckpointAddsOneRowPerStep() {
+		String processId = "checkpoint-process";
+		for (int i = 0; i < 3; i++)
+			processTraceRecorder.recordStep(processId, "CsvParse", 2_000_000, true);
+		processTraceRecorder.recordStep(processId, "EDCUseCaseHandler", 4_000_000, false);
+
+		processReportUseCase.checkpointProgressReport(processId, 4, 3, 1);
+
+		verify(stepTimingRepository).addStepTiming(anyString(), eq(processId), eq("CsvParse"), eq(3L), eq(0L),
+				eq(6_000L), eq(2_000L), anyString(), any());
+		verify(stepTimingRepository).addStepTiming(anyString(), eq(processId), eq("EDCUseCaseHandler"), eq(1L),
+				eq(1L), eq(4_000L), eq(4_000L), anyString(), any());
+	}
+
+	@Test
+	void testDiscardedTraceNotPersisted() {
+		String processId = "discarded-process";
+		processTraceRecorder.recordStep(processId, "CsvParse", 2_000_000, true);
+		processTraceRecorder.recordRemoteCall(processId);
+
+		processReportUseCase.discardProcessTrace(processId);
+		processReportUseCase.checkpointProgressReport(processId, 1, 1, 0);
+
+		verify(stepTimingRepository, never()).addStepTiming(anyString(), anyString(), anyString(), anyLong(),
+				anyLong(), anyLong(), anyLong(), anyString(), any());
+		verify(repository, never()).addRemoteCalls(anyString(), anyLong(), anyLong());
+	}
+}
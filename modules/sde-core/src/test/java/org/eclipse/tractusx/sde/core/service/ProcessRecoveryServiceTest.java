@@ -0,0 +1,123 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.eclipse.tractusx.sde.core.csv.service.CsvHandlerService;
+import org.eclipse.tractusx.sde.core.failurelog.FailureLogs;
+import org.eclipse.tractusx.sde.core.processqueue.ProcessChunkQueue;
+import org.eclipse.tractusx.sde.core.processreport.ProcessReportUseCase;
+import org.eclipse.tractusx.sde.core.processreport.model.ProcessReport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ContextConfiguration(classes = { ProcessRecoveryService.class })
+@ExtendWith(SpringExtension.class)
+class ProcessRecoveryServiceTest {
+
+	private static final String PROCESS_ID = "8a4e6b2c-2d0b-4c6f-9a2e-5e0c1f4b7d11";
+
+	@Autowired
+	private ProcessRecoveryService processRecoveryService;
+
+	@MockBean
+	private ProcessReportUseCase processReportUseCase;
+
+	@MockBean
+	private SubmodelOrchestartorService submodelOrchestartorService;
+
+	@MockBean
+	private CsvHandlerService csvHandlerService;
+
+	@MockBean
+	private FailureLogs failureLogs;
+
+	@MockBean
+	private ProcessChunkQueue processChunkQueue;
+
+	@Test
+	void testResumeInterruptedCsvProcess() {
+		ProcessReport processReport = staleReport(null);
+		when(processReportUseCase.claimStaleProgressReport(eq(PROCESS_ID), any())).thenReturn(true);
+		when(csvHandlerService.fileExists(PROCESS_ID)).thenReturn(true);
+
+		processRecoveryService.recoverInterruptedProcesses();
+
+		verify(submodelOrchestartorService).resumeSubmodelCsv(processReport);
+		verify(processReportUseCase, never()).failProgressReport(anyString());
+	}
+
+	@Test
+	void testFailNonResumableProcess() {
+		staleReport("5c1f8e0a-7b3d-4e2a-8f6c-0d9b2a4e6c13");
+		when(processReportUseCase.claimStaleProgressReport(eq(PROCESS_ID), any())).thenReturn(true);
+		when(csvHandlerService.fileExists(PROCESS_ID)).thenReturn(true);
+
+		processRecoveryService.recoverInterruptedProcesses();
+
+		verify(submodelOrchestartorService, never()).resumeSubmodelCsv(any());
+		verify(failureLogs).saveLog(eq(PROCESS_ID), anyString());
+		verify(processReportUseCase).failProgressReport(PROCESS_ID);
+	}
+
+	@Test
+	void testSkipProcessActiveOnThisInstance() {
+		staleReport(null);
+		when(processReportUseCase.isActiveProcess(PROCESS_ID)).thenReturn(true);
+		when(processReportUseCase.claimStaleProgressReport(eq(PROCESS_ID), any())).thenReturn(true);
+
+		processRecoveryService.recoverInterruptedProcesses();
+
+		verify(processReportUseCase, never()).claimStaleProgressReport(anyString(), any());
+		verify(submodelOrchestartorService, never()).resumeSubmodelCsv(any());
+		verify(processReportUseCase, never()).failProgressReport(anyString());
+	}
+
+	@Test
+	void testSkipProcessClaimedByOtherInstance() {
+		staleReport(null);
+		when(processReportUseCase.claimStaleProgressReport(eq(PROCESS_ID), any())).thenReturn(false);
+
+		processRecoveryService.recoverInterruptedProcesses();
+
+		verify(submodelOrchestartorService, never()).resumeSubmodelCsv(any());
+		verify(processReportUseCase, never()).failProgressReport(anyString());
+	}
+
+	private ProcessReport staleReport(String referenceProcessId) {
+		ProcessReport processReport = ProcessReport.builder().processId(PROCESS_ID).csvType("BATCH")
+				.processedRows(500).referenceProcessId(referenceProcessId).build();
+		when(processReportUseCase.findStaleInProgressReports(any())).thenReturn(List.of(processReport));
+		return processReport;
+	}
+}
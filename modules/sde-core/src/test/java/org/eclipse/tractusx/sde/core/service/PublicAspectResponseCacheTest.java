@@ -0,0 +1,113 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.tractusx.sde.core.service.PublicAspectResponseCache.CachedResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ContextConfiguration(classes = { PublicAspectResponseCache.class })
+@ExtendWith(SpringExtension.class)
+class PublicAspectResponseCacheTest {
+
+	@Autowired
+	private PublicAspectResponseCache publicAspectResponseCache;
+
+	@Test
+	void testConcurrentMissesShareOneLoad() throws Exception {
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch loading = new CountDownLatch(1);
+		ExecutorService pool = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<CachedResponse>> responses = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				responses.add(pool.submit(() -> publicAspectResponseCache.get("Batch", "urn:uuid:1", () -> {
+					loads.incrementAndGet();
+					awaitQuietly(loading);
+					return body("batch");
+				})));
+			}
+			TimeUnit.MILLISECONDS.sleep(200);
+			loading.countDown();
+
+			for (Future<CachedResponse> response : responses)
+				assertArrayEquals(body("batch"), response.get(5, TimeUnit.SECONDS).body());
+			assertEquals(1, loads.get());
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	@Test
+	void testInvalidateEvictsOnlyTheChangedUuid() {
+		AtomicInteger loads = new AtomicInteger();
+
+		publicAspectResponseCache.get("batch", "urn:uuid:2", () -> body("v" + loads.incrementAndGet()));
+		publicAspectResponseCache.get("batch", "urn:uuid:3", () -> body("v" + loads.incrementAndGet()));
+		publicAspectResponseCache.invalidate("Batch", "urn:uuid:2");
+
+		CachedResponse reloaded = publicAspectResponseCache.get("batch", "urn:uuid:2",
+				() -> body("v" + loads.incrementAndGet()));
+		publicAspectResponseCache.get("batch", "urn:uuid:3", () -> body("v" + loads.incrementAndGet()));
+
+		assertArrayEquals(body("v3"), reloaded.body());
+		assertEquals(3, loads.get());
+	}
+
+	@Test
+	void testEtagMatchesIfNoneMatch() {
+		CachedResponse response = publicAspectResponseCache.get("batch", "urn:uuid:4", () -> body("batch"));
+
+		assertTrue(response.matches(response.etag()));
+		assertTrue(response.matches("*"));
+		assertFalse(response.matches("\"other\""));
+	}
+
+	private static byte[] body(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
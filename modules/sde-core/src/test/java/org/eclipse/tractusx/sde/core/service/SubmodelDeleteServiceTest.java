@@ -0,0 +1,99 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.eclipse.tractusx.sde.common.submodel.executor.SubmodelExecutor;
+import org.eclipse.tractusx.sde.core.failurelog.FailureLogs;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.google.gson.JsonObject;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ContextConfiguration(classes = { SubmodelDeleteService.class, SimpleMeterRegistry.class })
+@TestPropertySource(properties = { "process.delete.threads=2", "process.delete.batch-size=2" })
+@ExtendWith(SpringExtension.class)
+class SubmodelDeleteServiceTest {
+
+	@Autowired
+	private SubmodelDeleteService submodelDeleteService;
+
+	@MockBean
+	private FailureLogs failureLogs;
+
+	@Test
+	void testRecordsAreDeletedPageByPage() {
+		SubmodelExecutor executor = mock(SubmodelExecutor.class);
+		JsonObject first = record("urn:uuid:1");
+		JsonObject second = record("urn:uuid:2");
+		JsonObject third = record("urn:uuid:3");
+		when(executor.readCreatedTwinsforDelete(eq("ref-1"), isNull(), eq(2))).thenReturn(List.of(first, second));
+		when(executor.readCreatedTwinsforDelete("ref-1", second, 2)).thenReturn(List.of(third));
+		when(executor.readCreatedTwinsforDelete("ref-1", third, 2)).thenReturn(List.of());
+		doThrow(new RuntimeException("EDC asset not deleted")).when(executor).executeDeleteRecord(second, "del-1",
+				"ref-1");
+
+		assertEquals(2, submodelDeleteService.deleteRecords(executor, "del-1", "ref-1"));
+
+		verify(executor).markDeleted("ref-1", List.of(first));
+		verify(executor).markDeleted("ref-1", List.of(third));
+		verify(failureLogs).saveLog("del-1", "EDC asset not deleted");
+	}
+
+	@Test
+	void testFailedMarkDeletedCountsNoRecords() {
+		SubmodelExecutor executor = mock(SubmodelExecutor.class);
+		JsonObject first = record("urn:uuid:4");
+		when(executor.readCreatedTwinsforDelete(eq("ref-2"), isNull(), eq(2))).thenReturn(List.of(first));
+		when(executor.readCreatedTwinsforDelete("ref-2", first, 2)).thenReturn(List.of());
+		doThrow(new RuntimeException("database down")).when(executor).markDeleted(eq("ref-2"), anyList());
+
+		assertEquals(0, submodelDeleteService.deleteRecords(executor, "del-2", "ref-2"));
+
+		verify(executor, times(1)).executeDeleteRecord(first, "del-2", "ref-2");
+		verify(failureLogs).saveLog(eq("del-2"), anyString());
+	}
+
+	private static JsonObject record(String uuid) {
+		JsonObject jsonObject = new JsonObject();
+		jsonObject.addProperty("uuid", uuid);
+		return jsonObject;
+	}
+}
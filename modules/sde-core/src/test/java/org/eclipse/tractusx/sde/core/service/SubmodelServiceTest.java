@@ -0,0 +1,203 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.tractusx.sde.common.exception.NoDataFoundException;
+import org.eclipse.tractusx.sde.common.exception.ValidationException;
+import org.eclipse.tractusx.sde.common.extensions.SubmodelExtension;
+import org.eclipse.tractusx.sde.common.mapper.SubmodelMapperImpl;
+import org.eclipse.tractusx.sde.common.model.Submodel;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
+import org.eclipse.tractusx.sde.core.registry.SubmodelRegistration;
+import org.eclipse.tractusx.sde.core.registry.UsecaseRegistration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+@ContextConfiguration(classes = { SubmodelService.class, SubmodelRegistration.class, SubmodelMapperImpl.class })
+@ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = ClassMode.AFTER_EACH_TEST_METHOD)
+class SubmodelServiceTest {
+
+	private static final String BATCH_LISTING = """
+			{"id":"batch","name":"Batch","version":"3.0.0","semanticId":"urn:samm:batch"}""";
+
+	private static final String PCF_LISTING = """
+			{"id":"pcf","name":"PCF","version":"7.0.0","semanticId":"urn:samm:pcf"}""";
+
+	@MockBean
+	private UsecaseRegistration usecaseRegistry;
+
+	@Autowired
+	private SubmodelRegistration submodelRegistration;
+
+	@Autowired
+	private SubmodelService submodelService;
+
+	@BeforeEach
+	void registerSubmodels() {
+		submodelRegistration
+				.register(extension(submodel("batch", "Batch", "3.0.0", "urn:samm:batch", "uuid", "batch_id")));
+		submodelRegistration.register(extension(submodel("pcf", "PCF", "7.0.0", "urn:samm:pcf", "uuid", "pcf_id")));
+	}
+
+	@Test
+	void testFindAllSubmodelsWithoutUsecases() throws Exception {
+		assertJson("[" + BATCH_LISTING + "," + PCF_LISTING + "]", submodelService.findAllSubmodels(List.of()));
+		assertJson("[" + BATCH_LISTING + "," + PCF_LISTING + "]", submodelService.findAllSubmodels(null));
+	}
+
+	@Test
+	void testFindAllSubmodelsWithUnknownUsecase() throws Exception {
+		when(usecaseRegistry.neededSubmodelList(List.of("unknown"))).thenReturn(Set.of());
+
+		assertJson("[]", submodelService.findAllSubmodels(List.of("unknown")));
+	}
+
+	@Test
+	void testFindAllSubmodelsWithUsecase() throws Exception {
+		when(usecaseRegistry.neededSubmodelList(List.of("traceability"))).thenReturn(Set.of("batch", "serialpart"));
+
+		assertJson("[" + BATCH_LISTING + "]", submodelService.findAllSubmodels(List.of("traceability")));
+	}
+
+	@Test
+	void testSameSelectionServedFromCache() {
+		when(usecaseRegistry.neededSubmodelList(List.of("traceability"))).thenReturn(Set.of("batch"));
+
+		byte[] all = submodelService.findAllSubmodels(List.of());
+		byte[] traceability = submodelService.findAllSubmodels(List.of("traceability"));
+
+		assertSame(all, submodelService.findAllSubmodels(null));
+		assertSame(traceability, submodelService.findAllSubmodels(List.of("traceability")));
+	}
+
+	@Test
+	void testSchemaDetailsForSelection() throws Exception {
+		when(usecaseRegistry.neededSubmodelList(List.of("unknown"))).thenReturn(Set.of());
+		when(usecaseRegistry.neededSubmodelList(List.of("sustainability"))).thenReturn(Set.of("pcf"));
+
+		assertJson("[" + schemaJson("batch", "Batch", "3.0.0", "urn:samm:batch", "uuid", "batch_id") + ","
+				+ schemaJson("pcf", "PCF", "7.0.0", "urn:samm:pcf", "uuid", "pcf_id") + "]",
+				submodelService.getAllSubmodelswithDetails(List.of()));
+		assertJson("[]", submodelService.getAllSubmodelswithDetails(List.of("unknown")));
+		assertJson("[" + schemaJson("pcf", "PCF", "7.0.0", "urn:samm:pcf", "uuid", "pcf_id") + "]",
+				submodelService.getAllSubmodelswithDetails(List.of("sustainability")));
+	}
+
+	@Test
+	void testFindSubmodelByName() throws Exception {
+		assertJson(schemaJson("pcf", "PCF", "7.0.0", "urn:samm:pcf", "uuid", "pcf_id"),
+				submodelService.findSubmodelByName("PCF"));
+	}
+
+	@Test
+	void testFindSubmodelByUnknownName() {
+		NoDataFoundException exception = assertThrows(NoDataFoundException.class,
+				() -> submodelService.findSubmodelByName("unknown"));
+
+		assertEquals("No data found for unknown", exception.getMessage());
+	}
+
+	@Test
+	void testFindSubmodelByHeaderIgnoresColumnOrder() {
+		assertEquals("pcf", submodelService.findSubmodelByHeader(List.of("pcf_id", "uuid")).getId());
+		assertEquals("batch", submodelService.findSubmodelByHeader(List.of("uuid", "batch_id")).getId());
+	}
+
+	@Test
+	void testFindSubmodelByHeaderFirstRegisteredWins() {
+		submodelRegistration.register(
+				extension(submodel("batchcopy", "Batch copy", "1.0.0", "urn:samm:batchcopy", "batch_id", "uuid")));
+
+		assertEquals("batch", submodelService.findSubmodelByHeader(List.of("batch_id", "uuid")).getId());
+		assertEquals("batchcopy", submodelService.findSubmodelByNameAsSubmdelObject("batchcopy").getId());
+	}
+
+	@Test
+	void testFindSubmodelByHeaderDescribesClosestSubmodel() {
+		ValidationException exception = assertThrows(ValidationException.class,
+				() -> submodelService.findSubmodelByHeader(List.of("pcf_id", "extra")));
+
+		assertEquals("Csv column header is not matching with any supported submodels, closest submodel is pcf"
+				+ " with missing columns [uuid] and unexpected columns [extra]", exception.getMessage());
+	}
+
+	@Test
+	void testFindSubmodelByHeaderWithoutSubmodels() {
+		SubmodelService emptyService = new SubmodelService(new SubmodelRegistration(), usecaseRegistry,
+				new SubmodelMapperImpl());
+
+		ValidationException exception = assertThrows(ValidationException.class,
+				() -> emptyService.findSubmodelByHeader(List.of("uuid")));
+
+		assertEquals("Csv column header is not matching with any supported submodels", exception.getMessage());
+	}
+
+	private static void assertJson(String expected, byte[] actual) throws Exception {
+		assertEquals(JsonMappers.objectMapper().readTree(expected), JsonMappers.objectMapper().readTree(actual));
+	}
+
+	static SubmodelExtension extension(Submodel submodel) {
+		return new SubmodelExtension() {
+			@Override
+			public Submodel submodel() {
+				return submodel;
+			}
+		};
+	}
+
+	static Submodel submodel(String id, String name, String version, String semanticId, String... columns) {
+		JsonObject schema = JsonParser.parseString(schemaJson(id, name, version, semanticId, columns))
+				.getAsJsonObject();
+		return Submodel.builder().id(id).name(name).version(version).semanticId(semanticId).schema(schema).build();
+	}
+
+	private static String schemaJson(String id, String name, String version, String semanticId, String... columns) {
+		StringBuilder properties = new StringBuilder();
+		for (String column : columns) {
+			if (properties.length() > 0)
+				properties.append(',');
+			properties.append('"').append(column).append("\":{\"type\":\"string\"}");
+		}
+		return String.format("""
+				{"id":"%s","title":"%s","version":"%s","semantic_id":"%s","items":{"properties":{%s}}}""", id,
+				name, version, semanticId, properties);
+	}
+
+}
@@ -0,0 +1,142 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.digitaltwins.facilitator;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.util.Base64;
+import java.util.List;
+
+import org.eclipse.tractusx.sde.digitaltwins.entities.common.KeyValuePair;
+import org.eclipse.tractusx.sde.digitaltwins.entities.response.ShellDescriptorResponse;
+import org.eclipse.tractusx.sde.digitaltwins.gateways.external.DigitalTwinsFeignClient;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ContextConfiguration(classes = { DigitalTwinsFacilitator.class, DigitalTwinsLookupCache.class })
+@TestPropertySource(properties = { "manufacturerId=BPNL000000000001", "digital-twins.hostname=https://example.org" })
+@ExtendWith(SpringExtension.class)
+class DigitalTwinsFacilitatorTest {
+
+	@Autowired
+	private DigitalTwinsFacilitator digitalTwinsFacilitator;
+
+	@MockBean
+	private DigitalTwinsFeignClient digitalTwinsFeignClient;
+
+	@Test
+	void testUnchangedSpecificAssetIdsAreNotWritten() {
+		String shellId = "urn:uuid:shell-1";
+		registryHas(shellId, List.of(pair("manufacturerPartId", "MPI-1"), pair("partInstanceId", "PI-1")));
+
+		digitalTwinsFacilitator.updateShellSpecificAssetIdentifiers(shellId,
+				List.of(pair("partInstanceId", "PI-1"), pair("manufacturerPartId", "MPI-1")));
+		digitalTwinsFacilitator.updateShellSpecificAssetIdentifiers(shellId,
+				List.of(pair("manufacturerPartId", "MPI-1"), pair("partInstanceId", "PI-1")));
+
+		verify(digitalTwinsFeignClient, times(2)).getShellDescriptorByShellId(any(), eq(encode(shellId)), anyString());
+		verify(digitalTwinsFeignClient, never()).deleteShellSpecificAttributes(any(), anyString(), anyString());
+		verify(digitalTwinsFeignClient, never()).createShellSpecificAttributes(any(), anyString(), anyString(),
+				anyList());
+	}
+
+	@Test
+	void testChangedSpecificAssetIdsAreReplacedOnce() {
+		String shellId = "urn:uuid:shell-2";
+		registryHas(shellId, List.of(pair("manufacturerPartId", "MPI-2")));
+		when(digitalTwinsFeignClient.createShellSpecificAttributes(any(), eq(encode(shellId)), anyString(), anyList()))
+				.thenReturn(new ResponseEntity<>(List.of(), HttpStatus.CREATED));
+
+		List<Object> changed = List.of(pair("manufacturerPartId", "MPI-2"), pair("partInstanceId", "PI-2"));
+		digitalTwinsFacilitator.updateShellSpecificAssetIdentifiers(shellId, changed);
+		registryHas(shellId, List.of(pair("manufacturerPartId", "MPI-2"), pair("partInstanceId", "PI-2")));
+		digitalTwinsFacilitator.updateShellSpecificAssetIdentifiers(shellId, changed);
+
+		verify(digitalTwinsFeignClient, times(1)).deleteShellSpecificAttributes(any(URI.class), eq(encode(shellId)),
+				eq("BPNL000000000001"));
+		verify(digitalTwinsFeignClient, times(1)).createShellSpecificAttributes(any(URI.class), eq(encode(shellId)),
+				eq("BPNL000000000001"), eq(changed));
+	}
+
+	@Test
+	void testShellEditedInRegistryIsUpdatedAgain() {
+		String shellId = "urn:uuid:shell-4";
+		registryHas(shellId, List.of(pair("manufacturerPartId", "MPI-4")));
+		when(digitalTwinsFeignClient.createShellSpecificAttributes(any(), eq(encode(shellId)), anyString(), anyList()))
+				.thenReturn(new ResponseEntity<>(List.of(), HttpStatus.CREATED));
+
+		List<Object> desired = List.of(pair("manufacturerPartId", "MPI-4"), pair("partInstanceId", "PI-4"));
+		digitalTwinsFacilitator.updateShellSpecificAssetIdentifiers(shellId, desired);
+		registryHas(shellId, List.of(pair("manufacturerPartId", "MPI-4"), pair("partInstanceId", "PI-other")));
+		digitalTwinsFacilitator.updateShellSpecificAssetIdentifiers(shellId, desired);
+
+		verify(digitalTwinsFeignClient, times(2)).deleteShellSpecificAttributes(any(URI.class), eq(encode(shellId)),
+				eq("BPNL000000000001"));
+		verify(digitalTwinsFeignClient, times(2)).createShellSpecificAttributes(any(URI.class), eq(encode(shellId)),
+				eq("BPNL000000000001"), eq(desired));
+	}
+
+	@Test
+	void testUnreadableShellIsUpdated() {
+		String shellId = "urn:uuid:shell-3";
+		when(digitalTwinsFeignClient.getShellDescriptorByShellId(any(), eq(encode(shellId)), anyString()))
+				.thenThrow(new RuntimeException("registry unavailable"));
+		when(digitalTwinsFeignClient.createShellSpecificAttributes(any(), eq(encode(shellId)), anyString(), anyList()))
+				.thenReturn(new ResponseEntity<>(List.of(), HttpStatus.CREATED));
+
+		digitalTwinsFacilitator.updateShellSpecificAssetIdentifiers(shellId, List.of(pair("partInstanceId", "PI-3")));
+
+		verify(digitalTwinsFeignClient, times(1)).deleteShellSpecificAttributes(any(), eq(encode(shellId)),
+				anyString());
+		verify(digitalTwinsFeignClient, times(1)).createShellSpecificAttributes(any(), eq(encode(shellId)),
+				anyString(), anyList());
+	}
+
+	private void registryHas(String shellId, List<KeyValuePair> specificAssetIds) {
+		ShellDescriptorResponse shell = new ShellDescriptorResponse();
+		shell.setSpecificAssetIds(specificAssetIds);
+		when(digitalTwinsFeignClient.getShellDescriptorByShellId(any(), eq(encode(shellId)), anyString()))
+				.thenReturn(ResponseEntity.ok(shell));
+	}
+
+	private static KeyValuePair pair(String name, String value) {
+		return KeyValuePair.builder().name(name).value(value).build();
+	}
+
+	private static String encode(String shellId) {
+		return Base64.getUrlEncoder().encodeToString(shellId.getBytes());
+	}
+}
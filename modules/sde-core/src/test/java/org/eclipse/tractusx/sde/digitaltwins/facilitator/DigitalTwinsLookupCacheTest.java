@@ -0,0 +1,194 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.digitaltwins.facilitator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.tractusx.sde.digitaltwins.entities.common.KeyValuePair;
+import org.eclipse.tractusx.sde.digitaltwins.entities.response.ShellDescriptorResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ContextConfiguration(classes = { DigitalTwinsLookupCache.class })
+@ExtendWith(SpringExtension.class)
+class DigitalTwinsLookupCacheTest {
+
+	private static final String DT_URL = "https://example.org/api/v3.0";
+
+	private static final String BPN = "BPNL000000000001";
+
+	private static final Set<String> ASSET_IDS = Set.of("manufacturerPartId=MPI-1", "partInstanceId=PI-1");
+
+	@Autowired
+	private DigitalTwinsLookupCache digitalTwinsLookupCache;
+
+	@Test
+	void testEmptyLookupResultNotCached() {
+		AtomicInteger loads = new AtomicInteger();
+
+		for (int i = 0; i < 2; i++) {
+			assertEquals(List.of(), digitalTwinsLookupCache.getShellLookup(DT_URL, BPN, Set.of("partInstanceId=NULL"),
+					() -> {
+						loads.incrementAndGet();
+						return null;
+					}));
+		}
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	void testFoundShellCached() {
+		AtomicInteger loads = new AtomicInteger();
+
+		for (int i = 0; i < 2; i++) {
+			assertEquals(List.of("urn:uuid:1"), digitalTwinsLookupCache.getShellLookup(DT_URL, BPN,
+					Set.of("partInstanceId=FOUND"), () -> countedLoad(loads)));
+		}
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void testConcurrentLookupsShareOneLoad() throws Exception {
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch loadStarted = new CountDownLatch(1);
+		CountDownLatch releaseLoad = new CountDownLatch(1);
+		Set<String> assetIds = Set.of("partInstanceId=SHARED");
+
+		CompletableFuture<List<String>> first = CompletableFuture
+				.supplyAsync(() -> digitalTwinsLookupCache.getShellLookup(DT_URL, BPN, assetIds, () -> {
+					loads.incrementAndGet();
+					loadStarted.countDown();
+					await(releaseLoad);
+					return List.of("urn:uuid:shared");
+				}));
+		assertTrue(loadStarted.await(1, TimeUnit.SECONDS));
+		CompletableFuture<List<String>> second = CompletableFuture
+				.supplyAsync(() -> digitalTwinsLookupCache.getShellLookup(DT_URL, BPN, assetIds, () -> {
+					loads.incrementAndGet();
+					return List.of("urn:uuid:other");
+				}));
+		releaseLoad.countDown();
+
+		assertEquals(List.of("urn:uuid:shared"), first.get(1, TimeUnit.SECONDS));
+		assertEquals(List.of("urn:uuid:shared"), second.get(1, TimeUnit.SECONDS));
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void testShellCreationInvalidatesMatchingLookupsOnly() {
+		AtomicInteger loads = new AtomicInteger();
+		Set<String> otherAssetIds = Set.of("manufacturerPartId=MPI-2", "partInstanceId=PI-2");
+		digitalTwinsLookupCache.getShellLookup(DT_URL, BPN, ASSET_IDS, () -> countedLoad(loads));
+		digitalTwinsLookupCache.getShellLookup(DT_URL, BPN, otherAssetIds, () -> countedLoad(loads));
+
+		digitalTwinsLookupCache.invalidateLookupsMatching(List.of(pair("manufacturerPartId", "MPI-1"),
+				pair("partInstanceId", "PI-1"), pair("customerPartId", "CPI-1")));
+
+		digitalTwinsLookupCache.getShellLookup(DT_URL, BPN, ASSET_IDS, () -> countedLoad(loads));
+		digitalTwinsLookupCache.getShellLookup(DT_URL, BPN, otherAssetIds, () -> countedLoad(loads));
+		assertEquals(3, loads.get());
+	}
+
+	@Test
+	void testShellDeletionInvalidatesLookupsReturningIt() {
+		AtomicInteger loads = new AtomicInteger();
+		Set<String> assetIds = Set.of("partInstanceId=DELETED");
+		digitalTwinsLookupCache.getShellLookup(DT_URL, BPN, assetIds, () -> {
+			loads.incrementAndGet();
+			return List.of("urn:uuid:deleted");
+		});
+		digitalTwinsLookupCache.getShellLookup(DT_URL, BPN, assetIds, () -> countedLoad(loads));
+
+		digitalTwinsLookupCache.invalidateShell("urn:uuid:deleted");
+
+		assertEquals(List.of(), digitalTwinsLookupCache.getShellLookup(DT_URL, BPN, assetIds, () -> {
+			loads.incrementAndGet();
+			return List.of();
+		}));
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	void testLookupInFlightDuringShellCreationNotCached() throws Exception {
+		CountDownLatch loadStarted = new CountDownLatch(1);
+		CountDownLatch releaseLoad = new CountDownLatch(1);
+		Set<String> assetIds = Set.of("partInstanceId=IN-FLIGHT");
+
+		CompletableFuture<List<String>> staleLookup = CompletableFuture
+				.supplyAsync(() -> digitalTwinsLookupCache.getShellLookup(DT_URL, BPN, assetIds, () -> {
+					loadStarted.countDown();
+					await(releaseLoad);
+					return List.of();
+				}));
+		assertTrue(loadStarted.await(1, TimeUnit.SECONDS));
+		digitalTwinsLookupCache.invalidateLookupsMatching(List.of(pair("partInstanceId", "IN-FLIGHT")));
+		releaseLoad.countDown();
+		assertEquals(List.of(), staleLookup.get(1, TimeUnit.SECONDS));
+
+		assertEquals(List.of("urn:uuid:created"), digitalTwinsLookupCache.getShellLookup(DT_URL, BPN, assetIds,
+				() -> List.of("urn:uuid:created")));
+	}
+
+	@Test
+	void testShellDescriptorInvalidatedByShellId() {
+		AtomicInteger loads = new AtomicInteger();
+		digitalTwinsLookupCache.getShellDescriptor(DT_URL, BPN, "urn:uuid:descriptor", () -> descriptor(loads));
+		digitalTwinsLookupCache.getShellDescriptor(DT_URL, BPN, "urn:uuid:descriptor", () -> descriptor(loads));
+		assertEquals(1, loads.get());
+
+		digitalTwinsLookupCache.invalidateShellDescriptor("urn:uuid:descriptor");
+
+		digitalTwinsLookupCache.getShellDescriptor(DT_URL, BPN, "urn:uuid:descriptor", () -> descriptor(loads));
+		assertEquals(2, loads.get());
+	}
+
+	private static List<String> countedLoad(AtomicInteger loads) {
+		return List.of("urn:uuid:" + loads.incrementAndGet());
+	}
+
+	private static ShellDescriptorResponse descriptor(AtomicInteger loads) {
+		loads.incrementAndGet();
+		return new ShellDescriptorResponse();
+	}
+
+	private static Object pair(String name, String value) {
+		return KeyValuePair.builder().name(name).value(value).build();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(1, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,152 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.edc.facilitator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.tractusx.sde.edc.entities.request.asset.AssetEntryRequest;
+import org.eclipse.tractusx.sde.edc.entities.request.asset.AssetRequest;
+import org.eclipse.tractusx.sde.edc.entities.request.contractdefinition.ContractDefinitionRequest;
+import org.eclipse.tractusx.sde.edc.entities.request.contractdefinition.ContractDefinitionRequestFactory;
+import org.eclipse.tractusx.sde.edc.entities.request.policies.ActionRequest;
+import org.eclipse.tractusx.sde.edc.entities.request.policies.PolicyConstraintBuilderService;
+import org.eclipse.tractusx.sde.edc.entities.request.policies.PolicyDefinitionRequest;
+import org.eclipse.tractusx.sde.edc.entities.request.policies.PolicyRequestFactory;
+import org.eclipse.tractusx.sde.edc.gateways.external.EDCGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ContextConfiguration(classes = { CreateEDCAssetFacilator.class, ContractDefinitionRequestFactory.class })
+@TestPropertySource(properties = { "edc.hostname=https://example.org", "edc.apiKeyHeader=x-api-key",
+		"edc.apiKey=key", "edc.consumer.hostname=https://example.org", "edc.consumer.apikeyheader=x-api-key",
+		"edc.consumer.apikey=key" })
+@ExtendWith(SpringExtension.class)
+class CreateEDCAssetFacilatorTest {
+
+	private static final String ASSET_ID = "urn:uuid:asset-1";
+
+	private final ActionRequest accessAction = ActionRequest.builder().action(Map.of("name", "access")).build();
+
+	private final ActionRequest usageAction = ActionRequest.builder().action(Map.of("name", "usage")).build();
+
+	@Autowired
+	private CreateEDCAssetFacilator createEDCAssetFacilator;
+
+	@MockBean
+	private EDCGateway edcGateway;
+
+	@MockBean
+	private PolicyRequestFactory policyRequestFactory;
+
+	@MockBean
+	private PolicyConstraintBuilderService policyConstraintBuilderService;
+
+	@MockBean
+	private DeleteEDCFacilitator deleteEDCFacilitator;
+
+	@BeforeEach
+	void setUp() {
+		when(policyConstraintBuilderService.getAccessConstraints(any())).thenReturn(accessAction);
+		when(policyConstraintBuilderService.getUsagePolicyConstraints(any())).thenReturn(usageAction);
+		when(policyRequestFactory.getPolicy(eq(ASSET_ID), eq(accessAction), any()))
+				.thenReturn(PolicyDefinitionRequest.builder().id("access-2").build());
+		when(policyRequestFactory.getPolicy(eq(ASSET_ID), eq(usageAction), any()))
+				.thenReturn(PolicyDefinitionRequest.builder().id("usage-1").build());
+	}
+
+	@Test
+	void testUnchangedOfferOnlyUpdatesAsset() {
+		Map<String, String> output = update("access-2", "usage-1", "cd-1");
+
+		verify(edcGateway).updateAsset(any());
+		verify(edcGateway, never()).createPolicyDefinition(any());
+		verify(edcGateway, never()).updateContractDefinition(any());
+		verify(edcGateway, never()).createContractDefinition(any());
+		verify(edcGateway, never()).findContractDefinitions(anyString());
+		assertEquals("cd-1", output.get("contractDefinitionId"));
+	}
+
+	@Test
+	void testChangedPolicyRepointsContractDefinition() {
+		Map<String, String> output = update("access-1", "usage-1", "cd-1");
+
+		ArgumentCaptor<ContractDefinitionRequest> updated = ArgumentCaptor.forClass(ContractDefinitionRequest.class);
+		verify(edcGateway).createPolicyDefinition(any());
+		verify(edcGateway).updateContractDefinition(updated.capture());
+		assertEquals("cd-1", updated.getValue().getId());
+		assertEquals("access-2", updated.getValue().getAccessPolicyId());
+		verify(deleteEDCFacilitator).deleteAccessPolicy("access-1");
+		verify(deleteEDCFacilitator, never()).deleteUsagePolicy(anyString());
+		assertEquals("access-2", output.get("accessPolicyId"));
+	}
+
+	@Test
+	void testOfferWithoutLocalRecordIsAdopted() {
+		when(edcGateway.findContractDefinitions(ASSET_ID)).thenReturn(List.of(
+				ContractDefinitionRequest.builder().id("cd-1").accessPolicyId("access-1").contractPolicyId("usage-1")
+						.build(),
+				ContractDefinitionRequest.builder().id("cd-2").accessPolicyId("access-0").contractPolicyId("usage-1")
+						.build()));
+
+		Map<String, String> output = update(null, null, null);
+
+		verify(edcGateway, never()).createContractDefinition(any());
+		verify(edcGateway).updateContractDefinition(any());
+		verify(deleteEDCFacilitator).deleteContractDefination("cd-2");
+		verify(deleteEDCFacilitator).deleteAccessPolicy("access-0");
+		verify(deleteEDCFacilitator, never()).deleteAccessPolicy("usage-1");
+		verify(deleteEDCFacilitator).deleteAccessPolicy("access-1");
+		assertEquals("cd-1", output.get("contractDefinitionId"));
+	}
+
+	@Test
+	void testAssetWithoutOfferGetsContractDefinition() {
+		when(edcGateway.findContractDefinitions(ASSET_ID)).thenReturn(List.of());
+
+		update(null, null, null);
+
+		verify(edcGateway, never()).updateContractDefinition(any());
+		verify(edcGateway).createContractDefinition(any());
+	}
+
+	private Map<String, String> update(String accessPolicyId, String usagePolicyId, String contractDefinitionId) {
+		AssetEntryRequest assetEntryRequest = AssetEntryRequest.builder()
+				.asset(AssetRequest.builder().id(ASSET_ID).build()).build();
+		return createEDCAssetFacilator.updateEDCAsset(assetEntryRequest, List.of("BPNL000000000001"), List.of(),
+				accessPolicyId, usagePolicyId, contractDefinitionId);
+	}
+}
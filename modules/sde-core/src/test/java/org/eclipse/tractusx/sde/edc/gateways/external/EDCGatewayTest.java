@@ -0,0 +1,115 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.edc.gateways.external;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
+import org.eclipse.tractusx.sde.edc.api.EDCFeignClientApi;
+import org.eclipse.tractusx.sde.edc.entities.request.contractdefinition.ContractDefinitionRequest;
+import org.eclipse.tractusx.sde.edc.entities.request.policies.PolicyDefinitionRequest;
+import org.eclipse.tractusx.sde.edc.exceptions.EDCGatewayException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+
+@ContextConfiguration(classes = { EDCGateway.class })
+@ExtendWith(SpringExtension.class)
+class EDCGatewayTest {
+
+	@Autowired
+	private EDCGateway edcGateway;
+
+	@MockBean
+	private EDCFeignClientApi edcFeignClientApi;
+
+	@Test
+	void testExistingPolicyIsTreatedAsCreated() {
+		PolicyDefinitionRequest request = PolicyDefinitionRequest.builder().id("access-1").build();
+		when(edcFeignClientApi.createPolicy(request)).thenThrow(feignException(409));
+
+		assertNull(edcGateway.createPolicyDefinition(request));
+	}
+
+	@Test
+	void testOtherPolicyFailuresAreRaised() {
+		PolicyDefinitionRequest request = PolicyDefinitionRequest.builder().id("access-2").build();
+		when(edcFeignClientApi.createPolicy(request)).thenThrow(feignException(500));
+
+		assertThrows(EDCGatewayException.class, () -> edcGateway.createPolicyDefinition(request));
+	}
+
+	@Test
+	void testMissingContractDefinitionIsCreatedOnUpdate() {
+		ContractDefinitionRequest request = ContractDefinitionRequest.builder().id("cd-1").build();
+		when(edcFeignClientApi.updateContractDefinition(request)).thenThrow(feignException(404));
+
+		edcGateway.updateContractDefinition(request);
+
+		verify(edcFeignClientApi).createContractDefination(request);
+	}
+
+	@Test
+	void testContractDefinitionsOfAssetAreRead() throws Exception {
+		JsonNode offered = JsonMappers.objectMapper().readTree("""
+				{"@id": "cd-1", "edc:accessPolicyId": "access-1", "edc:contractPolicyId": "usage-1",
+				 "edc:assetsSelector": {"edc:operandLeft": "https://w3id.org/edc/v0.0.1/ns/id",
+				  "edc:operator": "=", "edc:operandRight": "urn:uuid:asset-1"}}""");
+		JsonNode other = JsonMappers.objectMapper().readTree("""
+				{"@id": "cd-2", "accessPolicyId": "access-2", "contractPolicyId": "usage-2",
+				 "assetsSelector": [{"operandLeft": "https://w3id.org/edc/v0.0.1/ns/id",
+				  "operator": "=", "operandRight": "urn:uuid:asset-2"}]}""");
+		when(edcFeignClientApi.queryContractDefinitions(any())).thenReturn(List.of(offered, other));
+
+		List<ContractDefinitionRequest> contractDefinitions = edcGateway.findContractDefinitions("urn:uuid:asset-1");
+
+		assertEquals(1, contractDefinitions.size());
+		assertEquals("cd-1", contractDefinitions.get(0).getId());
+		assertEquals("access-1", contractDefinitions.get(0).getAccessPolicyId());
+		assertEquals("usage-1", contractDefinitions.get(0).getContractPolicyId());
+	}
+
+	private static FeignException feignException(int status) {
+		Request request = Request.create(Request.HttpMethod.POST, "https://example.org", Map.of(), null,
+				StandardCharsets.UTF_8, null);
+		return FeignException.errorStatus("EDCFeignClientApi",
+				Response.builder().status(status).reason("status " + status).request(request).headers(Map.of())
+						.build());
+	}
+}
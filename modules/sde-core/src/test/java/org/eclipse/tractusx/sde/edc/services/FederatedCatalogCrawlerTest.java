@@ -0,0 +1,95 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.edc.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.tractusx.sde.edc.model.response.QueryDataOfferModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ContextConfiguration(classes = { FederatedCatalogCrawler.class })
+@TestPropertySource(properties = { "edc.catalog-crawler.connector-timeout=300",
+		"edc.catalog-crawler.parallelism=1" })
+@ExtendWith(SpringExtension.class)
+class FederatedCatalogCrawlerTest {
+
+	@Autowired
+	private FederatedCatalogCrawler federatedCatalogCrawler;
+
+	@MockBean
+	private ConsumerControlPanelService consumerControlPanelService;
+
+	@Test
+	void testHungConnectorCancelled() throws Exception {
+		CountDownLatch interrupted = new CountDownLatch(1);
+		when(consumerControlPanelService.queryOnDataOffers(eq("https://hung.example.org"), anyInt(), anyInt(),
+				eq(null))).thenAnswer(invocation -> {
+					try {
+						Thread.sleep(60000);
+					} catch (InterruptedException e) {
+						interrupted.countDown();
+					}
+					return List.of();
+				});
+
+		assertEquals(List.of(), federatedCatalogCrawler.crawl(List.of("https://hung.example.org"), null));
+		assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+
+		QueryDataOfferModel offer = QueryDataOfferModel.builder().connectorOfferUrl("https://ok.example.org")
+				.build();
+		when(consumerControlPanelService.queryOnDataOffers(eq("https://ok.example.org"), anyInt(), anyInt(),
+				eq(null))).thenReturn(List.of(offer));
+		assertEquals(List.of(offer), federatedCatalogCrawler.crawl(List.of("https://ok.example.org"), null));
+	}
+
+	@Test
+	void testQueuedConnectorGetsItsOwnTimeout() {
+		QueryDataOfferModel first = slowConnector("https://first.example.org");
+		QueryDataOfferModel second = slowConnector("https://second.example.org");
+
+		assertEquals(List.of(first, second), federatedCatalogCrawler
+				.crawl(List.of("https://first.example.org", "https://second.example.org"), null));
+	}
+
+	private QueryDataOfferModel slowConnector(String connector) {
+		QueryDataOfferModel offer = QueryDataOfferModel.builder().connectorOfferUrl(connector).build();
+		when(consumerControlPanelService.queryOnDataOffers(eq(connector), anyInt(), anyInt(), eq(null)))
+				.thenAnswer(invocation -> {
+					Thread.sleep(200);
+					return List.of(offer);
+				});
+		return offer;
+	}
+}
@@ -0,0 +1,106 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.edc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.eclipse.tractusx.sde.edc.model.response.QueryDataOfferModel;
+import org.eclipse.tractusx.sde.edc.services.FederatedCatalogCrawler;
+import org.eclipse.tractusx.sde.portal.handler.PortalProxyService;
+import org.eclipse.tractusx.sde.portal.model.ConnectorInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ContextConfiguration(classes = { DDTRUrlCacheUtility.class })
+@TestPropertySource(properties = { "digital-twins.ddtr-url-cache.negative-ttl=0" })
+@ExtendWith(SpringExtension.class)
+class DDTRUrlCacheUtilityTest {
+
+	private static final String CONNECTOR = "https://example.org/connector";
+
+	@Autowired
+	private DDTRUrlCacheUtility ddtrUrlCacheUtility;
+
+	@MockBean
+	private PortalProxyService portalProxyService;
+
+	@MockBean
+	private FederatedCatalogCrawler federatedCatalogCrawler;
+
+	@Test
+	void testDDTRUrlCachedPerBpn() {
+		when(portalProxyService.fetchConnectorInfo(List.of("BPNL000000000001")))
+				.thenReturn(List.of(new ConnectorInfo("BPNL000000000001", List.of(CONNECTOR, CONNECTOR))));
+		when(federatedCatalogCrawler.crawl(List.of(CONNECTOR), ddtrFilter()))
+				.thenReturn(List.of(QueryDataOfferModel.builder().publisher("https://example.org/dtr").build()));
+
+		assertEquals(List.of("https://example.org/dtr"), ddtrUrlCacheUtility.getDDTRUrl("BPNL000000000001"));
+		assertEquals(List.of("https://example.org/dtr"), ddtrUrlCacheUtility.getDDTRUrl("BPNL000000000001"));
+
+		verify(portalProxyService, times(1)).fetchConnectorInfo(List.of("BPNL000000000001"));
+		verify(federatedCatalogCrawler, times(1)).crawl(anyCollection(), anyString());
+	}
+
+	@Test
+	void testMissingDDTRUrlUsesNegativeTtl() {
+		when(portalProxyService.fetchConnectorInfo(List.of("BPNL000000000002"))).thenReturn(List.of());
+
+		assertEquals(List.of(), ddtrUrlCacheUtility.getDDTRUrl("BPNL000000000002"));
+		assertEquals(List.of(), ddtrUrlCacheUtility.getDDTRUrl("BPNL000000000002"));
+
+		verify(portalProxyService, times(2)).fetchConnectorInfo(List.of("BPNL000000000002"));
+	}
+
+	@Test
+	void testRemoveDDTRUrlCacheLoadsAgain() {
+		when(portalProxyService.fetchConnectorInfo(List.of("BPNL000000000003")))
+				.thenReturn(List.of(new ConnectorInfo("BPNL000000000003", List.of(CONNECTOR))));
+		when(federatedCatalogCrawler.crawl(List.of(CONNECTOR), ddtrFilter()))
+				.thenReturn(List.of(QueryDataOfferModel.builder().publisher("https://example.org/dtr").build()));
+
+		ddtrUrlCacheUtility.getDDTRUrl("BPNL000000000003");
+		ddtrUrlCacheUtility.removeDDTRUrlCache("BPNL000000000003");
+		ddtrUrlCacheUtility.getDDTRUrl("BPNL000000000003");
+
+		verify(portalProxyService, times(2)).fetchConnectorInfo(List.of("BPNL000000000003"));
+	}
+
+	private static String ddtrFilter() {
+		return String.format("""
+				 "filterExpression": [{
+				    "operandLeft": "https://w3id.org/edc/v0.0.1/ns/type",
+				    "operator": "=",
+				    "operandRight": "data.core.digitalTwinRegistry"
+				}]""");
+	}
+}
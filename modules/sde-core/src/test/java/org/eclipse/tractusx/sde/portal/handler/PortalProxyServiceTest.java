@@ -0,0 +1,104 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.portal.handler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.tractusx.sde.portal.api.IPartnerPoolExternalServiceApi;
+import org.eclipse.tractusx.sde.portal.api.IPortalExternalServiceApi;
+import org.eclipse.tractusx.sde.portal.model.ConnectorInfo;
+import org.eclipse.tractusx.sde.portal.utils.ConnectorDiscoveryCacheUtilityService;
+import org.eclipse.tractusx.sde.portal.utils.MemberCompanyBPNCacheUtilityService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+
+@ContextConfiguration(classes = { PortalProxyService.class, ConnectorDiscoveryCacheUtilityService.class })
+@TestPropertySource(properties = { "portal.connector-discovery-cache.batch-window=1" })
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@ExtendWith(SpringExtension.class)
+class PortalProxyServiceTest {
+
+	private static final String BPN_1 = "BPNL000000000001";
+
+	private static final String BPN_2 = "BPNL000000000002";
+
+	@Autowired
+	private PortalProxyService portalProxyService;
+
+	@MockBean
+	private IPortalExternalServiceApi portalExternalServiceApi;
+
+	@MockBean
+	private MemberCompanyBPNCacheUtilityService memberCompanyBPNCacheUtilityService;
+
+	@MockBean
+	private IPartnerPoolExternalServiceApi partnerPoolExternalServiceApi;
+
+	@Test
+	void testSingleBpnLookupFailureIsUnwrapped() {
+		when(portalExternalServiceApi.fetchConnectorInfo(anyList()))
+				.thenThrow(feignException(503))
+				.thenReturn(List.of(new ConnectorInfo(BPN_1, List.of("https://connector/api/v1/dsp"))));
+
+		FeignException exception = assertThrows(FeignException.class,
+				() -> portalProxyService.fetchConnectorInfo(List.of(BPN_1)));
+
+		assertEquals(503, exception.status());
+		assertEquals(1, portalProxyService.fetchConnectorInfo(List.of(BPN_1)).size());
+		verify(portalExternalServiceApi, times(2)).fetchConnectorInfo(any());
+	}
+
+	@Test
+	void testMultipleBpnLookupFailureIsUnwrapped() {
+		when(portalExternalServiceApi.fetchConnectorInfo(anyList())).thenThrow(feignException(503));
+
+		assertThrows(FeignException.class, () -> portalProxyService.fetchConnectorInfo(List.of(BPN_1, BPN_2)));
+		verify(portalExternalServiceApi, times(1)).fetchConnectorInfo(any());
+	}
+
+	private static FeignException feignException(int status) {
+		Request request = Request.create(Request.HttpMethod.POST, "https://example.org", Map.of(), null,
+				StandardCharsets.UTF_8, null);
+		return FeignException.errorStatus("IPortalExternalServiceApi",
+				Response.builder().status(status).reason("status " + status).request(request).headers(Map.of())
+						.build());
+	}
+}
@@ -0,0 +1,146 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.portal.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.tractusx.sde.portal.api.IPortalExternalServiceApi;
+import org.eclipse.tractusx.sde.portal.model.ConnectorInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ContextConfiguration(classes = { ConnectorDiscoveryCacheUtilityService.class })
+@TestPropertySource(properties = { "portal.connector-discovery-cache.batch-window=200",
+		"portal.connector-discovery-cache.batch-size=3" })
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@ExtendWith(SpringExtension.class)
+class ConnectorDiscoveryCacheUtilityServiceTest {
+
+	private static final String BPN_1 = "BPNL000000000001";
+
+	private static final String BPN_2 = "BPNL000000000002";
+
+	@Autowired
+	private ConnectorDiscoveryCacheUtilityService connectorDiscoveryCacheUtilityService;
+
+	@MockBean
+	private IPortalExternalServiceApi portalExternalServiceApi;
+
+	@BeforeEach
+	void setUp() {
+		when(portalExternalServiceApi.fetchConnectorInfo(anyList())).thenAnswer(invocation -> {
+			List<String> bpns = invocation.getArgument(0);
+			return bpns.stream().filter(bpn -> !bpn.equals(BPN_2))
+					.map(bpn -> new ConnectorInfo(bpn, List.of("https://" + bpn + "/api/v1/dsp"))).toList();
+		});
+	}
+
+	@Test
+	void testConcurrentLookupsInBatchWindowShareOnePortalCall() throws Exception {
+		CompletableFuture<List<ConnectorInfo>> first = lookupAsync(BPN_1);
+		CompletableFuture<List<ConnectorInfo>> second = lookupAsync(BPN_2);
+
+		assertEquals(BPN_1, first.get(5, TimeUnit.SECONDS).get(0).getBpn());
+		assertEquals(List.of(), second.get(5, TimeUnit.SECONDS));
+		verifyPortalCalls(1);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void testFullBatchIsSentWithoutWaitingForTheWindow() throws Exception {
+		ReflectionTestUtils.setField(connectorDiscoveryCacheUtilityService, "batchWindow", 60000L);
+		ReflectionTestUtils.setField(connectorDiscoveryCacheUtilityService, "batchSize", 2);
+
+		CompletableFuture<List<ConnectorInfo>> first = lookupAsync(BPN_1);
+		CompletableFuture<List<ConnectorInfo>> second = lookupAsync(BPN_2);
+
+		first.get(5, TimeUnit.SECONDS);
+		second.get(5, TimeUnit.SECONDS);
+		ArgumentCaptor<List<String>> bpns = ArgumentCaptor.forClass(List.class);
+		verify(portalExternalServiceApi, times(1)).fetchConnectorInfo(bpns.capture());
+		assertEquals(Set.of(BPN_1, BPN_2), Set.copyOf(bpns.getValue()));
+	}
+
+	@Test
+	void testMultipleBpnsAreLookedUpInOnePortalCall() {
+		List<ConnectorInfo> connectorInfos = connectorDiscoveryCacheUtilityService
+				.getConnectorInfo(List.of(BPN_1, BPN_2, BPN_1));
+
+		assertEquals(List.of(BPN_1), connectorInfos.stream().map(ConnectorInfo::getBpn).toList());
+		connectorDiscoveryCacheUtilityService.getConnectorInfo(List.of(BPN_1, BPN_2));
+		verifyPortalCalls(1);
+	}
+
+	@Test
+	void testEmptyResultIsCachedForTheNegativeTtl() {
+		connectorDiscoveryCacheUtilityService.getConnectorInfo(List.of(BPN_2));
+		connectorDiscoveryCacheUtilityService.getConnectorInfo(List.of(BPN_2));
+
+		verifyPortalCalls(1);
+	}
+
+	@Test
+	void testEmptyResultIsLookedUpAgainAfterTheNegativeTtl() {
+		ReflectionTestUtils.setField(connectorDiscoveryCacheUtilityService, "negativeTtl", 0L);
+
+		connectorDiscoveryCacheUtilityService.getConnectorInfo(List.of(BPN_1, BPN_2));
+		connectorDiscoveryCacheUtilityService.getConnectorInfo(List.of(BPN_2));
+		connectorDiscoveryCacheUtilityService.getConnectorInfo(List.of(BPN_1));
+
+		verifyPortalCalls(2);
+	}
+
+	@Test
+	void testRemovedBpnIsLookedUpAgain() {
+		connectorDiscoveryCacheUtilityService.getConnectorInfo(List.of(BPN_1));
+		connectorDiscoveryCacheUtilityService.removeConnectorInfoCache(BPN_1);
+		connectorDiscoveryCacheUtilityService.getConnectorInfo(List.of(BPN_1));
+
+		verifyPortalCalls(2);
+	}
+
+	private CompletableFuture<List<ConnectorInfo>> lookupAsync(String bpn) {
+		return CompletableFuture.supplyAsync(() -> connectorDiscoveryCacheUtilityService.getConnectorInfo(List.of(bpn)));
+	}
+
+	private void verifyPortalCalls(int count) {
+		verify(portalExternalServiceApi, times(count)).fetchConnectorInfo(any());
+	}
+}
@@ -0,0 +1,82 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.portal.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.tractusx.sde.portal.api.IPortalExternalServiceApi;
+import org.hibernate.service.spi.ServiceException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ContextConfiguration(classes = { MemberCompanyBPNCacheUtilityService.class })
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@ExtendWith(SpringExtension.class)
+class MemberCompanyBPNCacheUtilityServiceTest {
+
+	@Autowired
+	private MemberCompanyBPNCacheUtilityService memberCompanyBPNCacheUtilityService;
+
+	@MockBean
+	private IPortalExternalServiceApi portalExternalServiceApi;
+
+	@Test
+	void testEmptyResponseKeepsKnownMembers() {
+		when(portalExternalServiceApi.fetchMemberCompaniesData()).thenReturn(List.of("BPNL000000000001"), null);
+
+		assertTrue(memberCompanyBPNCacheUtilityService.isMember("BPNL000000000001"));
+		memberCompanyBPNCacheUtilityService.refreshMemberCompanies();
+
+		assertEquals(Set.of("BPNL000000000001"), memberCompanyBPNCacheUtilityService.getAllPartners());
+	}
+
+	@Test
+	void testEmptyFirstResponseIsNotCached() {
+		when(portalExternalServiceApi.fetchMemberCompaniesData()).thenReturn(null, List.of("BPNL000000000002"));
+
+		assertThrows(ServiceException.class, () -> memberCompanyBPNCacheUtilityService.getAllPartners());
+		assertTrue(memberCompanyBPNCacheUtilityService.isMember("BPNL000000000002"));
+	}
+
+	@Test
+	void testRefreshReplacesMembers() {
+		when(portalExternalServiceApi.fetchMemberCompaniesData()).thenReturn(List.of("BPNL000000000003"),
+				List.of("BPNL000000000004"));
+
+		assertTrue(memberCompanyBPNCacheUtilityService.isMember("BPNL000000000003"));
+		memberCompanyBPNCacheUtilityService.refreshMemberCompanies();
+
+		assertFalse(memberCompanyBPNCacheUtilityService.isMember("BPNL000000000003"));
+		assertTrue(memberCompanyBPNCacheUtilityService.isMember("BPNL000000000004"));
+	}
+}
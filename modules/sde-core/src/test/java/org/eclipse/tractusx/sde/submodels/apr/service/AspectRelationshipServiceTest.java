@@ -0,0 +1,76 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.submodels.apr.service;
+
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.eclipse.tractusx.sde.common.mapper.AspectResponseFactory;
+import org.eclipse.tractusx.sde.digitaltwins.facilitator.DigitalTwinsFacilitator;
+import org.eclipse.tractusx.sde.edc.facilitator.DeleteEDCFacilitator;
+import org.eclipse.tractusx.sde.submodels.apr.mapper.AspectRelationshipMapperImpl;
+import org.eclipse.tractusx.sde.submodels.apr.repository.AspectRelationshipRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.google.gson.JsonObject;
+
+@ContextConfiguration(classes = { AspectRelationshipService.class, AspectRelationshipMapperImpl.class })
+@ExtendWith(SpringExtension.class)
+class AspectRelationshipServiceTest {
+
+	@Autowired
+	private AspectRelationshipService aspectRelationshipService;
+
+	@MockBean
+	private AspectRelationshipRepository aspectRelationshipRepository;
+
+	@MockBean
+	private AspectResponseFactory aspectResponseFactory;
+
+	@MockBean
+	private DeleteEDCFacilitator deleteEDCFacilitator;
+
+	@MockBean
+	private DigitalTwinsFacilitator digitalTwinsFacilitator;
+
+	@Test
+	void testMarkDeletedMatchesParentAndChild() {
+		aspectRelationshipService.markDeleted("ref-1", List.of(relationship("urn:uuid:p1", "urn:uuid:c1"),
+				relationship("urn:uuid:p2", "urn:uuid:c1"), relationship("urn:uuid:p2", "urn:uuid:c2")));
+
+		verify(aspectRelationshipRepository).markDeleted("ref-1", List.of("urn:uuid:c1", "urn:uuid:c2"),
+				List.of("urn:uuid:p1|urn:uuid:c1", "urn:uuid:p2|urn:uuid:c1", "urn:uuid:p2|urn:uuid:c2"),
+				AspectRelationshipService.DELETED_Y);
+	}
+
+	private static JsonObject relationship(String parentCatenaXId, String childCatenaXId) {
+		JsonObject jsonObject = new JsonObject();
+		jsonObject.addProperty("parentCatenaXId", parentCatenaXId);
+		jsonObject.addProperty("childCatenaXId", childCatenaXId);
+		return jsonObject;
+	}
+}
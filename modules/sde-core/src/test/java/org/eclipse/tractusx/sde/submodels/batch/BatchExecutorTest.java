@@ -0,0 +1,148 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.submodels.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.tractusx.sde.bpndiscovery.handler.BPNDiscoveryUseCaseHandler;
+import org.eclipse.tractusx.sde.common.exception.CsvHandlerDigitalTwinUseCaseException;
+import org.eclipse.tractusx.sde.common.submodel.executor.AspectPayloadMaterialiser;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.CsvParse;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.GenerateUrnUUID;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.JsonRecordFormating;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.JsonRecordValidate;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.RowContentHash;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
+import org.eclipse.tractusx.sde.submodels.batch.mapper.BatchMapper;
+import org.eclipse.tractusx.sde.submodels.batch.model.Batch;
+import org.eclipse.tractusx.sde.submodels.batch.service.BatchService;
+import org.eclipse.tractusx.sde.submodels.batch.steps.DigitalTwinsBatchCsvHandlerUseCase;
+import org.eclipse.tractusx.sde.submodels.batch.steps.EDCBatchHandlerUseCase;
+import org.eclipse.tractusx.sde.submodels.batch.steps.StoreBatchCsvHandlerUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.gson.JsonObject;
+
+@ContextConfiguration(classes = { BatchExecutor.class, RowContentHash.class })
+@TestPropertySource(properties = { "submodel.skip-unchanged.enabled=true" })
+@ExtendWith(SpringExtension.class)
+class BatchExecutorTest {
+
+	@Autowired
+	private BatchExecutor batchExecutor;
+
+	@Autowired
+	private RowContentHash rowContentHash;
+
+	@MockBean
+	private CsvParse csvParse;
+
+	@MockBean
+	private JsonRecordFormating jsonRecordFormating;
+
+	@MockBean
+	private JsonRecordValidate jsonRecordValidate;
+
+	@MockBean
+	private GenerateUrnUUID generateUrnUUID;
+
+	@MockBean
+	private DigitalTwinsBatchCsvHandlerUseCase digitalTwinsBatchCsvHandlerUseCase;
+
+	@MockBean
+	private EDCBatchHandlerUseCase edcBatchHandlerUseCase;
+
+	@MockBean
+	private StoreBatchCsvHandlerUseCase storeBatchCsvHandlerUseCase;
+
+	@MockBean
+	private AspectPayloadMaterialiser aspectPayloadMaterialiser;
+
+	@MockBean
+	private BatchMapper batchMapper;
+
+	@MockBean
+	private BatchService batchService;
+
+	@MockBean
+	private BPNDiscoveryUseCaseHandler bpnDiscoveryUseCaseHandler;
+
+	@BeforeEach
+	void setUp() {
+		JsonObject schema = new JsonObject();
+		schema.addProperty("id", "batch");
+		batchExecutor.init(schema);
+		when(batchMapper.mapFrom(any(ObjectNode.class)))
+				.thenAnswer(invocation -> Batch.builder().uuid("urn:uuid:batch-1").manufacturerPartId("MPI-1").build());
+	}
+
+	@Test
+	void testUnchangedRowSkipsRegistryAndEdc() throws CsvHandlerDigitalTwinUseCaseException {
+		ObjectNode row = row();
+		String contentHash = rowContentHash.hash(row);
+		when(batchService.markUnchanged(contentHash, "process-1")).thenReturn(true);
+
+		batchExecutor.executeJsonRecord(1, row, "process-1");
+
+		verify(batchService).markUnchanged(contentHash, "process-1");
+		verify(digitalTwinsBatchCsvHandlerUseCase, never()).run(any());
+		verify(edcBatchHandlerUseCase, never()).run(anyString(), any(), anyString());
+		verify(storeBatchCsvHandlerUseCase, never()).run(any());
+		verify(aspectPayloadMaterialiser, never()).changed(anyString(), anyString(), anyString());
+	}
+
+	@Test
+	void testChangedRowIsStoredWithItsContentHash() throws CsvHandlerDigitalTwinUseCaseException {
+		ObjectNode row = row();
+		String contentHash = rowContentHash.hash(row);
+		when(batchService.markUnchanged(contentHash, "process-2")).thenReturn(false);
+
+		batchExecutor.executeJsonRecord(1, row, "process-2");
+
+		ArgumentCaptor<Batch> stored = ArgumentCaptor.forClass(Batch.class);
+		verify(digitalTwinsBatchCsvHandlerUseCase).run(any());
+		verify(storeBatchCsvHandlerUseCase).run(stored.capture());
+		assertEquals(contentHash, stored.getValue().getContentHash());
+		verify(aspectPayloadMaterialiser).changed(eq("process-2"), eq("batch"), eq("urn:uuid:batch-1"));
+	}
+
+	private static ObjectNode row() {
+		ObjectNode row = JsonMappers.objectMapper().createObjectNode();
+		row.put("manufacturer_part_id", "MPI-1");
+		row.put("batch_id", "BID-1");
+		return row;
+	}
+}
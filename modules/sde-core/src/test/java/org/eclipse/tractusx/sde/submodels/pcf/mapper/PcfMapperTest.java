@@ -0,0 +1,113 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.submodels.pcf.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import org.eclipse.tractusx.sde.common.mapper.AspectResponseFactory;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
+import org.eclipse.tractusx.sde.submodels.pcf.entity.PcfEntity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.gson.Gson;
+
+import lombok.SneakyThrows;
+
+@ContextConfiguration(classes = { PcfMapperImpl.class })
+@TestPropertySource(properties = { "manufacturerId=BPNL000000000001" })
+@ExtendWith(SpringExtension.class)
+class PcfMapperTest {
+
+	@Autowired
+	private PcfMapper pcfMapper;
+
+	@SpyBean
+	private AspectResponseFactory aspectResponseFactory;
+
+	@Test
+	void testAspectResponseMatchesGsonOutput() {
+		ObjectNode response = pcfMapper.mapToResponse(entity());
+
+		ArgumentCaptor<Object> aspect = ArgumentCaptor.forClass(Object.class);
+		verify(aspectResponseFactory).maptoReponse(any(), aspect.capture());
+		assertEquals(gsonTree(aspect.getValue()), response.get("json"));
+	}
+
+	@Test
+	void testAspectResponseUsesPcfPropertyNames() {
+		JsonNode json = pcfMapper.mapToResponse(entity()).get("json");
+
+		assertEquals("extWBCSDProductCodeCpc", json.get("extWBCSD_productCodeCpc").asText());
+		assertEquals("extWBCSDPfStatus", json.get("extWBCSD_pfStatus").asText());
+		JsonNode pcf = json.get("pcf");
+		assertEquals("extWBCSDAllocationRulesDescription", pcf.get("extWBCSD_allocationRulesDescription").asText());
+		assertEquals("extTFSAllocationWasteIncineration", pcf.get("extTFS_allocationWasteIncineration").asText());
+		JsonNode rules = pcf.get("productOrSectorSpecificRules").get(0);
+		assertEquals("extWBCSDOperator", rules.get("extWBCSD_operator").asText());
+		assertEquals("ruleName", rules.get("productOrSectorSpecificRules").get(0).get("ruleName").asText());
+	}
+
+	@Test
+	void testNullFieldsLeftOutLikeGson() {
+		PcfEntity entity = new PcfEntity();
+		ObjectNode response = pcfMapper.mapToResponse(entity);
+
+		ArgumentCaptor<Object> aspect = ArgumentCaptor.forClass(Object.class);
+		verify(aspectResponseFactory).maptoReponse(any(), aspect.capture());
+		assertEquals(gsonTree(aspect.getValue()), response.get("json"));
+	}
+
+	@SneakyThrows
+	private static JsonNode gsonTree(Object aspect) {
+		return JsonMappers.objectMapper().readTree(new Gson().toJson(aspect));
+	}
+
+	/**
+	 * Every text field set to its own name, numbers keep their defaults.
+	 */
+	@SneakyThrows
+	private static PcfEntity entity() {
+		PcfEntity entity = new PcfEntity();
+		for (Field field : PcfEntity.class.getDeclaredFields()) {
+			if (field.getType() == String.class && !Modifier.isStatic(field.getModifiers())) {
+				field.setAccessible(true);
+				field.set(entity, field.getName());
+			}
+		}
+		entity.setExtWBCSDPackagingEmissionsIncluded("true");
+		entity.setVersion(2);
+		return entity;
+	}
+}
@@ -19,39 +19,125 @@
  ********************************************************************************/
 package org.eclipse.tractusx.sde.bpndiscovery.handler;
 
-import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.tractusx.sde.bpndiscovery.model.request.BpnDiscoveryRequest;
 import org.eclipse.tractusx.sde.common.exception.ServiceException;
 import org.eclipse.tractusx.sde.common.submodel.executor.Step;
+import org.eclipse.tractusx.sde.common.submodel.executor.StepExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * Collects the BPN discovery keys of new rows per chunk and registers them
+ * with the batch API in batches of bpndiscovery.batch-size. Keys found in the
+ * {@link BpnDiscoveryKeyRegistry} are not sent again. The chunk and row are
+ * taken from the {@link StepExecutionContext}, so chunks of one process
+ * running side by side keep separate buffers. The orchestrator calls
+ * {@link #flush(String)} after each chunk, so the keys of a chunk are
+ * registered before its progress is checkpointed, and rows whose keys could
+ * not be registered are reported by a {@link BpnDiscoveryFlushException}.
+ */
 @Service
 @RequiredArgsConstructor
 public class BPNDiscoveryUseCaseHandler extends Step {
 
 	private final BpnDiscoveryProxyService bpnDiscoveryProxyService;
 
-	public void run(Map<String, String> input) throws ServiceException {
-		try {
-			BpnDiscoveryRequest bpnDiscoveryRequest = new BpnDiscoveryRequest();
-			List<BpnDiscoveryRequest> bpnDiscoveryKeyList = new ArrayList<>();
+	private final BpnDiscoveryKeyRegistry bpnDiscoveryKeyRegistry;
+
+	@Value(value = "${bpndiscovery.batch-size:500}")
+	private int batchSize;
+
+	private final Map<String, Map<BpnDiscoveryRequest, Set<Integer>>> pendingKeys = new ConcurrentHashMap<>();
+
+	public void run(String processId, Map<String, String> input) {
+		String chunk = StepExecutionContext.current().map(StepExecutionContext::getChunk).orElse(processId);
+		Integer row = StepExecutionContext.current().map(StepExecutionContext::getRow).orElse(null);
+		Map<BpnDiscoveryRequest, Set<Integer>> pending = pendingKeys.computeIfAbsent(chunk,
+				key -> new ConcurrentHashMap<>());
+
+		input.forEach((type, key) -> {
+			BpnDiscoveryRequest bpnDiscoveryRequest = new BpnDiscoveryRequest(type, key);
+			if (!bpnDiscoveryKeyRegistry.isRegistered(bpnDiscoveryRequest)) {
+				Set<Integer> rows = pending.computeIfAbsent(bpnDiscoveryRequest, k -> ConcurrentHashMap.newKeySet());
+				if (row != null)
+					rows.add(row);
+			}
+		});
+
+		if (pending.size() >= batchSize) {
+			Map<BpnDiscoveryRequest, Set<Integer>> batch = drain(pending, batchSize);
+			try {
+				register(batch);
+			} catch (ServiceException e) {
+				// retried and reported by the flush at the end of the chunk
+				batch.forEach((bpnDiscoveryRequest, rows) -> pending.merge(bpnDiscoveryRequest, rows, (a, b) -> {
+					a.addAll(b);
+					return a;
+				}));
+			}
+		}
+	}
+
+	public int flush(String chunk) throws ServiceException {
+		Map<BpnDiscoveryRequest, Set<Integer>> pending = pendingKeys.remove(chunk);
+		if (pending == null)
+			return 0;
 
-			input.entrySet().stream().forEach(e -> {
-				bpnDiscoveryRequest.setType(e.getKey());
-				bpnDiscoveryRequest.setKey(e.getValue());
-				bpnDiscoveryKeyList.add(bpnDiscoveryRequest);
-			});
+		int registered = 0;
+		ServiceException failure = null;
+		Set<Integer> failedRows = new TreeSet<>();
+		while (!pending.isEmpty()) {
+			Map<BpnDiscoveryRequest, Set<Integer>> batch = drain(pending, batchSize);
+			try {
+				registered += register(batch);
+			} catch (ServiceException e) {
+				failure = e;
+				batch.values().forEach(failedRows::addAll);
+			}
+		}
+		if (failure != null)
+			throw new BpnDiscoveryFlushException(failure.getMessage(), failedRows);
+		return registered;
+	}
 
+	private int register(Map<BpnDiscoveryRequest, Set<Integer>> batch) throws ServiceException {
+		if (batch.isEmpty())
+			return 0;
+		try {
+			List<BpnDiscoveryRequest> bpnDiscoveryKeyList = bpnDiscoveryKeyRegistry
+					.filterUnregistered(List.copyOf(batch.keySet()));
+			if (bpnDiscoveryKeyList.isEmpty())
+				return 0;
 			bpnDiscoveryProxyService.bpnDiscoveryBatchData(bpnDiscoveryKeyList);
+			bpnDiscoveryKeyRegistry.registered(bpnDiscoveryKeyList);
+			return bpnDiscoveryKeyList.size();
 		} catch (Exception e) {
-			throw new ServiceException("Exception in BPN Discovery creation : " + e.getMessage());
+			throw new ServiceException(String.format("Exception in BPN Discovery creation of %s keys : %s",
+					batch.size(), e.getMessage()));
 		}
+	}
 
+	private static Map<BpnDiscoveryRequest, Set<Integer>> drain(Map<BpnDiscoveryRequest, Set<Integer>> pending,
+			int limit) {
+		Map<BpnDiscoveryRequest, Set<Integer>> batch = new LinkedHashMap<>();
+		Iterator<BpnDiscoveryRequest> iterator = pending.keySet().iterator();
+		while (iterator.hasNext() && batch.size() < limit) {
+			BpnDiscoveryRequest bpnDiscoveryRequest = iterator.next();
+			Set<Integer> rows = pending.remove(bpnDiscoveryRequest);
+			if (rows != null)
+				batch.put(bpnDiscoveryRequest, rows);
+		}
+		return batch;
 	}
 
 }
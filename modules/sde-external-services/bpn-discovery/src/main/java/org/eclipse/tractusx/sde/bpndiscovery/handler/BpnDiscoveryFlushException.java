@@ -0,0 +1,44 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.bpndiscovery.handler;
+
+import java.util.Set;
+
+import org.eclipse.tractusx.sde.common.exception.ServiceException;
+
+import lombok.Getter;
+
+/**
+ * Raised by {@link BPNDiscoveryUseCaseHandler#flush(String)} when keys of a
+ * chunk could not be registered. Carries the rows those keys came from.
+ */
+@Getter
+public class BpnDiscoveryFlushException extends ServiceException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient Set<Integer> failedRows;
+
+	public BpnDiscoveryFlushException(String message, Set<Integer> failedRows) {
+		super(message);
+		this.failedRows = Set.copyOf(failedRows);
+	}
+}
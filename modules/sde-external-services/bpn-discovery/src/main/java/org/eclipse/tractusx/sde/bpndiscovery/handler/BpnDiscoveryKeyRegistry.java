@@ -0,0 +1,48 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.bpndiscovery.handler;
+
+import java.util.List;
+
+import org.eclipse.tractusx.sde.bpndiscovery.model.request.BpnDiscoveryRequest;
+
+/**
+ * Keys this SDE has registered with BPN discovery, kept across restarts so
+ * repeated uploads of the same parts do not register them again. A key counts
+ * as registered for bpndiscovery.key-registry.ttl after its registration, so
+ * keys removed from BPN discovery by others are registered again eventually.
+ */
+public interface BpnDiscoveryKeyRegistry {
+
+	/**
+	 * Fast check against the keys known to this instance, no remote lookups.
+	 */
+	boolean isRegistered(BpnDiscoveryRequest bpnDiscoveryKey);
+
+	/**
+	 * Returns the keys that are not registered yet, also looking at keys
+	 * registered by other instances.
+	 */
+	List<BpnDiscoveryRequest> filterUnregistered(List<BpnDiscoveryRequest> bpnDiscoveryKeys);
+
+	void registered(List<BpnDiscoveryRequest> bpnDiscoveryKeys);
+
+}
@@ -21,6 +21,8 @@
 
 package org.eclipse.tractusx.sde.digitaltwins.entities.common;
 
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
+
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -45,7 +47,7 @@ public class KeyValuePair {
     
     @SneakyThrows
     public String toJsonString() {
-        final ObjectMapper mapper = new ObjectMapper();
+        final ObjectMapper mapper = JsonMappers.objectMapper();
         return mapper.writeValueAsString(this);
     }
 }
@@ -23,6 +23,7 @@ package org.eclipse.tractusx.sde.digitaltwins.entities.request;
 
 import java.util.List;
 
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.eclipse.tractusx.sde.digitaltwins.entities.common.Endpoint;
 import org.eclipse.tractusx.sde.digitaltwins.entities.common.MultiLanguage;
 import org.eclipse.tractusx.sde.digitaltwins.entities.common.SemanticId;
@@ -51,7 +52,7 @@ public class CreateSubModelRequest {
 
     @SneakyThrows
     public String toJsonString() {
-        final ObjectMapper mapper = new ObjectMapper();
+        final ObjectMapper mapper = JsonMappers.objectMapper();
         return mapper.writeValueAsString(this);
     }
 }
\ No newline at end of file
@@ -23,6 +23,7 @@ package org.eclipse.tractusx.sde.digitaltwins.entities.request;
 
 import java.util.List;
 
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.eclipse.tractusx.sde.digitaltwins.entities.common.MultiLanguage;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
@@ -52,7 +53,7 @@ public class ShellDescriptorRequest {
 
     @SneakyThrows
     public String toJsonString() {
-        final ObjectMapper mapper = new ObjectMapper();
+        final ObjectMapper mapper = JsonMappers.objectMapper();
         return mapper.writeValueAsString(this);
     }
 }
@@ -23,7 +23,10 @@ package org.eclipse.tractusx.sde.digitaltwins.entities.request;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.eclipse.tractusx.sde.digitaltwins.entities.common.LocalIdentifier;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -49,9 +52,15 @@ public class ShellLookupRequest {
         );
     }
 
+    public Set<String> toCanonicalAssetIds() {
+        return assetIds.stream()
+                .map(localIdentifier -> localIdentifier.getKey() + "=" + localIdentifier.getValue())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
     @SneakyThrows
     public String toJsonString() {
-        final ObjectMapper mapper = new ObjectMapper();
+        final ObjectMapper mapper = JsonMappers.objectMapper();
         return mapper.writeValueAsString(assetIds);
     }
 }
\ No newline at end of file
@@ -23,6 +23,7 @@ package org.eclipse.tractusx.sde.digitaltwins.entities.response;
 
 import java.util.List;
 
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.eclipse.tractusx.sde.digitaltwins.entities.common.Endpoint;
 import org.eclipse.tractusx.sde.digitaltwins.entities.common.Extensions;
 import org.eclipse.tractusx.sde.digitaltwins.entities.common.MultiLanguage;
@@ -54,7 +55,7 @@ public class SubModelResponse {
 
     @SneakyThrows
     public String toJsonString() {
-        final ObjectMapper mapper = new ObjectMapper();
+        final ObjectMapper mapper = JsonMappers.objectMapper();
         return mapper.writeValueAsString(this);
     }
 }
\ No newline at end of file
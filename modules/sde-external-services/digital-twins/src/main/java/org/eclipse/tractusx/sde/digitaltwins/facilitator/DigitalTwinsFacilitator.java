@@ -24,6 +24,8 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.tractusx.sde.common.exception.ServiceException;
@@ -33,12 +35,14 @@ import org.eclipse.tractusx.sde.digitaltwins.entities.request.ShellLookupRequest
 import org.eclipse.tractusx.sde.digitaltwins.entities.response.ShellDescriptorResponse;
 import org.eclipse.tractusx.sde.digitaltwins.entities.response.ShellLookupResponse;
 import org.eclipse.tractusx.sde.digitaltwins.entities.response.SubModelListResponse;
+import org.eclipse.tractusx.sde.digitaltwins.facilitator.DigitalTwinsLookupCache.SpecificAssetIdState;
 import org.eclipse.tractusx.sde.digitaltwins.gateways.external.DigitalTwinsFeignClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -50,6 +54,8 @@ public class DigitalTwinsFacilitator {
 
 	private final DigitalTwinsFeignClient digitalTwinsFeignClient;
 
+	private final DigitalTwinsLookupCache digitalTwinsLookupCache;
+
 	@Value(value = "${digital-twins.hostname:default}")
 	private String digitalTwinsHost;
 
@@ -59,6 +65,16 @@ public class DigitalTwinsFacilitator {
 	@Value(value = "${manufacturerId}")
 	public String manufacturerId;
 
+	@Value(value = "${digital-twins.delete.max-concurrent-requests:8}")
+	private int maxConcurrentDeletes;
+
+	private Semaphore deletePermits;
+
+	@PostConstruct
+	public void init() {
+		deletePermits = new Semaphore(maxConcurrentDeletes);
+	}
+
 	public List<String> shellLookup(ShellLookupRequest request) throws ServiceException {
 		return shellLookupFromDDTR(request, null, manufacturerId);
 	}
@@ -69,6 +85,13 @@ public class DigitalTwinsFacilitator {
 
 		URI dtURL = StringUtils.isAllEmpty(ddtrUrl) ? getDtURL(digitalTwinsHost) : getDtURL(ddtrUrl);
 
+		return digitalTwinsLookupCache.getShellLookup(dtURL.toString(), edcBpn, request.toCanonicalAssetIds(),
+				() -> fetchShellLookup(dtURL, request, edcBpn));
+	}
+
+	@SneakyThrows
+	private List<String> fetchShellLookup(URI dtURL, ShellLookupRequest request, String edcBpn) {
+
 		List<String> shellIds = List.of();
 
 		try {
@@ -98,6 +121,7 @@ public class DigitalTwinsFacilitator {
 			if (response.getStatusCode() == HttpStatus.NO_CONTENT) {
 				deleteResponse = "Asset identifier" + shellId + "deleted successfully";
 			}
+			digitalTwinsLookupCache.invalidateShell(shellId);
 		} catch (Exception e) {
 			String error = "Error in deleteShell :" + digitalTwinsHost + ", " + shellId + "," + e.getMessage();
 			log.error(error);
@@ -120,18 +144,22 @@ public class DigitalTwinsFacilitator {
 		
 		URI dtURL = StringUtils.isAllEmpty(ddtrUrl) ? getDtURL(digitalTwinsHost) : getDtURL(ddtrUrl);
 
-		ResponseEntity<ShellDescriptorResponse> shellDescriptorResponse = digitalTwinsFeignClient
-				.getShellDescriptorByShellId(dtURL, encodeShellIdBase64Utf8(shellId), edcBpn);
-		return shellDescriptorResponse.getBody();
+		return digitalTwinsLookupCache.getShellDescriptor(dtURL.toString(), edcBpn, shellId,
+				() -> digitalTwinsFeignClient.getShellDescriptorByShellId(dtURL, encodeShellIdBase64Utf8(shellId), edcBpn)
+						.getBody());
 	}
 
 	@SneakyThrows
 	public void deleteSubmodelfromShellById(String shellId, String subModelId) {
+		deletePermits.acquire();
 		try {
 			digitalTwinsFeignClient.deleteSubmodelfromShellById(getDtURL(digitalTwinsHost),
 					encodeShellIdBase64Utf8(shellId), encodeShellIdBase64Utf8(subModelId));
 		} catch (Exception e) {
 			parseExceptionMessage(e);
+		} finally {
+			deletePermits.release();
+			digitalTwinsLookupCache.invalidateShellDescriptor(shellId);
 		}
 	}
 
@@ -139,6 +167,8 @@ public class DigitalTwinsFacilitator {
 		ShellDescriptorResponse responseBody;
 		ResponseEntity<ShellDescriptorResponse> registerSubmodel = digitalTwinsFeignClient
 				.createShellDescriptor(getDtURL(digitalTwinsHost), request);
+		if (request.getSpecificAssetIds() != null)
+			digitalTwinsLookupCache.invalidateLookupsMatching(request.getSpecificAssetIds());
 		if (registerSubmodel.getStatusCode() != HttpStatus.CREATED) {
 			responseBody = null;
 		} else {
@@ -147,24 +177,54 @@ public class DigitalTwinsFacilitator {
 		return responseBody;
 	}
 
+	/**
+	 * Replaces the specificAssetIds of a shell unless the registry already has
+	 * them. The current ones are read from the registry, not from a cache, as
+	 * they may have been edited there or written by another instance.
+	 */
 	public void updateShellSpecificAssetIdentifiers(String shellId, List<Object> specificAssetIds) {
 
+		Set<SpecificAssetIdState> desired = digitalTwinsLookupCache.toSpecificAssetIdStates(specificAssetIds);
+		if (desired.equals(currentSpecificAssetIds(shellId))) {
+			log.debug(String.format("Shell '%s' specificAssetIds unchanged, no update", shellId));
+			return;
+		}
+
 		digitalTwinsFeignClient.deleteShellSpecificAttributes(getDtURL(digitalTwinsHost),
 				encodeShellIdBase64Utf8(shellId), manufacturerId);
 
 		ResponseEntity<List<Object>> registerSubmodel = digitalTwinsFeignClient.createShellSpecificAttributes(
 				getDtURL(digitalTwinsHost), encodeShellIdBase64Utf8(shellId), manufacturerId, specificAssetIds);
+		digitalTwinsLookupCache.invalidateShell(shellId);
+		digitalTwinsLookupCache.invalidateLookupsMatching(specificAssetIds);
 		if (registerSubmodel.getStatusCode() != HttpStatus.CREATED) {
 			log.error("Error in shell SpecificAssetIdentifiers deletion: " + registerSubmodel.toString());
 		}
 	}
 
+	private Set<SpecificAssetIdState> currentSpecificAssetIds(String shellId) {
+		try {
+			ShellDescriptorResponse shell = digitalTwinsFeignClient
+					.getShellDescriptorByShellId(getDtURL(digitalTwinsHost), encodeShellIdBase64Utf8(shellId),
+							manufacturerId)
+					.getBody();
+			if (shell == null || shell.getSpecificAssetIds() == null)
+				return null;
+			return digitalTwinsLookupCache.toSpecificAssetIdStates(shell.getSpecificAssetIds());
+		} catch (Exception e) {
+			log.debug(String.format("Unable to read shell '%s', updating its specificAssetIds: %s", shellId,
+					e.getMessage()));
+			return null;
+		}
+	}
+
 	public void createSubModel(String shellId, CreateSubModelRequest request) {
 
 		request.setDescription(List.of());
 
 		ResponseEntity<String> response = digitalTwinsFeignClient.createSubModel(getDtURL(digitalTwinsHost),
 				encodeShellIdBase64Utf8(shellId), request);
+		digitalTwinsLookupCache.invalidateShellDescriptor(shellId);
 		if (response.getStatusCode() != HttpStatus.CREATED) {
 			log.error("Unable to create submodel descriptor");
 		}
@@ -0,0 +1,126 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.digitaltwins.facilitator;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
+import org.eclipse.tractusx.sde.digitaltwins.entities.common.KeyValuePair;
+import org.eclipse.tractusx.sde.digitaltwins.entities.common.Keys;
+import org.eclipse.tractusx.sde.digitaltwins.entities.response.ShellDescriptorResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+
+@Component
+public class DigitalTwinsLookupCache {
+
+	private final ObjectMapper mapper = JsonMappers.objectMapper();
+
+	@Value(value = "${digital-twins.lookup-cache.ttl:30000}")
+	private long ttl;
+
+	@Value(value = "${digital-twins.lookup-cache.max-size:10000}")
+	private long maxSize;
+
+	private Cache<ShellLookupKey, List<String>> shellLookups;
+
+	private Cache<ShellDescriptorKey, ShellDescriptorResponse> shellDescriptors;
+
+	@PostConstruct
+	public void init() {
+		shellLookups = Caffeine.newBuilder().expireAfterWrite(Duration.ofMillis(ttl)).maximumSize(maxSize).build();
+		shellDescriptors = Caffeine.newBuilder().expireAfterWrite(Duration.ofMillis(ttl)).maximumSize(maxSize)
+				.build();
+	}
+
+	/**
+	 * Concurrent lookups for the same asset ids share one registry call. Only
+	 * found shells are cached: "no shell" is asked again every time, as another
+	 * instance may have created the shell since, and caching it would register a
+	 * duplicate.
+	 */
+	public List<String> getShellLookup(String dtUrl, String edcBpn, Set<String> assetIds,
+			Supplier<List<String>> loader) {
+		List<String> shellIds = shellLookups.get(new ShellLookupKey(dtUrl, edcBpn, assetIds), key -> {
+			List<String> loaded = loader.get();
+			return loaded == null || loaded.isEmpty() ? null : List.copyOf(loaded);
+		});
+		return shellIds == null ? List.of() : shellIds;
+	}
+
+	public ShellDescriptorResponse getShellDescriptor(String dtUrl, String edcBpn, String shellId,
+			Supplier<ShellDescriptorResponse> loader) {
+		return shellDescriptors.get(new ShellDescriptorKey(dtUrl, edcBpn, shellId), key -> loader.get());
+	}
+
+	public void invalidateShellDescriptor(String shellId) {
+		shellDescriptors.asMap().keySet().removeIf(key -> key.shellId().equals(shellId));
+	}
+
+	/**
+	 * Reduces specificAssetIds, as sent to or returned by the registry, to what
+	 * an update changes: name, value and the BPNs or public readable marker
+	 * they are visible to.
+	 */
+	public Set<SpecificAssetIdState> toSpecificAssetIdStates(List<?> specificAssetIds) {
+		return specificAssetIds.stream().map(obj -> mapper.convertValue(obj, KeyValuePair.class))
+				.map(pair -> new SpecificAssetIdState(pair.getName(), pair.getValue(), visibleTo(pair)))
+				.collect(Collectors.toUnmodifiableSet());
+	}
+
+	private static Set<String> visibleTo(KeyValuePair pair) {
+		if (pair.getExternalSubjectId() == null || pair.getExternalSubjectId().getKeys() == null)
+			return Set.of();
+		return pair.getExternalSubjectId().getKeys().stream().map(Keys::getValue).collect(Collectors.toSet());
+	}
+
+	public void invalidateShell(String shellId) {
+		invalidateShellDescriptor(shellId);
+		shellLookups.asMap().values().removeIf(shellIds -> shellIds.contains(shellId));
+	}
+
+	public void invalidateLookupsMatching(List<Object> specificAssetIds) {
+		Set<String> shellAssetIds = specificAssetIds.stream()
+				.map(obj -> mapper.convertValue(obj, KeyValuePair.class))
+				.map(pair -> pair.getName() + "=" + pair.getValue())
+				.collect(Collectors.toSet());
+		shellLookups.asMap().keySet().removeIf(key -> shellAssetIds.containsAll(key.assetIds()));
+	}
+
+	record ShellLookupKey(String dtUrl, String edcBpn, Set<String> assetIds) {
+	}
+
+	record ShellDescriptorKey(String dtUrl, String edcBpn, String shellId) {
+	}
+
+	public record SpecificAssetIdState(String name, String value, Set<String> visibleTo) {
+	}
+}
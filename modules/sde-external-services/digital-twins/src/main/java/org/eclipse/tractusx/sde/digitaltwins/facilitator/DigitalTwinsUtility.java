@@ -29,6 +29,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.eclipse.tractusx.sde.common.constants.CommonConstants;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.eclipse.tractusx.sde.common.utils.UUIdGenerator;
 import org.eclipse.tractusx.sde.digitaltwins.entities.common.Endpoint;
 import org.eclipse.tractusx.sde.digitaltwins.entities.common.ExternalSubjectId;
@@ -62,7 +63,7 @@ public class DigitalTwinsUtility {
 	@Value(value = "${edc.hostname}")
 	public String edcEndpoint;
 
-	ObjectMapper mapper = new ObjectMapper();
+	ObjectMapper mapper = JsonMappers.objectMapper();
 
 	private static final Map<String, List<String>> publicReadableSpecificAssetIDs = Map.of(MANUFACTURER_PART_ID,
 			List.of("*"), ASSET_LIFECYCLE_PHASE, List.of("AsBuilt", "AsPlanned"));
@@ -185,7 +186,7 @@ public class DigitalTwinsUtility {
 
 	@SneakyThrows
 	private List<String> getFieldFromJsonNodeArray(JsonNode jsonNode, String fieldName) {
-		ObjectMapper objectMapper = new ObjectMapper();
+		ObjectMapper objectMapper = JsonMappers.objectMapper();
 
 		if (jsonNode.get(fieldName) != null)
 			return objectMapper.readValue(jsonNode.get(fieldName).toString(), new TypeReference<List<String>>() {
@@ -20,6 +20,8 @@
 
 package org.eclipse.tractusx.sde.edc.api;
 
+import java.util.List;
+
 import org.eclipse.tractusx.sde.edc.entities.request.asset.AssetEntryRequest;
 import org.eclipse.tractusx.sde.edc.entities.request.contractdefinition.ContractDefinitionRequest;
 import org.eclipse.tractusx.sde.edc.entities.request.policies.PolicyDefinitionRequest;
@@ -29,8 +31,11 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 @FeignClient(value = "EDCFeignClientApi", url = "${edc.hostname}${edc.managementpath:/data}${edc.managementpath.apiversion:/v2}", configuration = EDCDataProviderConfiguration.class)
 public interface EDCFeignClientApi {
 
@@ -40,12 +45,21 @@ public interface EDCFeignClientApi {
 	@PostMapping("/assets")
 	public String createAsset(@RequestBody AssetEntryRequest requestBody);
 
+	@PutMapping("/assets")
+	public ResponseEntity<Object> updateAsset(@RequestBody AssetEntryRequest requestBody);
+
 	@PostMapping("/policydefinitions")
 	public String createPolicy(@RequestBody PolicyDefinitionRequest requestBody);
 
 	@PostMapping("/contractdefinitions")
 	public String createContractDefination(@RequestBody ContractDefinitionRequest requestBody);
 
+	@PutMapping("/contractdefinitions")
+	public ResponseEntity<Object> updateContractDefinition(@RequestBody ContractDefinitionRequest requestBody);
+
+	@PostMapping("/contractdefinitions/request")
+	public List<JsonNode> queryContractDefinitions(@RequestBody JsonNode querySpec);
+
 	@DeleteMapping(path = "/contractdefinitions/{id}")
 	public ResponseEntity<Object> deleteContractDefinition(@PathVariable("id") String contractdefinitionsId);
 
@@ -23,6 +23,8 @@ package org.eclipse.tractusx.sde.edc.entities.request.asset;
 
 import java.util.Map;
 
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
+
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -47,7 +49,7 @@ public class AssetEntryRequest {
 
 	@SneakyThrows
 	public String toJsonString() {
-		final ObjectMapper mapper = new ObjectMapper();
+		final ObjectMapper mapper = JsonMappers.objectMapper();
 		return mapper.writeValueAsString(this);
 	}
 }
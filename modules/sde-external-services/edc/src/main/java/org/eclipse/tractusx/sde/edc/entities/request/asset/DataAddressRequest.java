@@ -23,6 +23,8 @@ package org.eclipse.tractusx.sde.edc.entities.request.asset;
 
 import java.util.HashMap;
 
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
+
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.AllArgsConstructor;
@@ -44,7 +46,7 @@ public class DataAddressRequest {
 
 	@SneakyThrows
 	public String toJsonString() {
-		final ObjectMapper mapper = new ObjectMapper();
+		final ObjectMapper mapper = JsonMappers.objectMapper();
 		return mapper.writeValueAsString(this);
 	}
 }
@@ -23,6 +23,8 @@ package org.eclipse.tractusx.sde.edc.entities.request.policies;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
+
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -51,7 +53,7 @@ public class ActionRequest {
 
 	@SneakyThrows
 	public String toJsonString() {
-		final ObjectMapper mapper = new ObjectMapper();
+		final ObjectMapper mapper = JsonMappers.objectMapper();
 		return mapper.writeValueAsString(this);
 	}
 }
@@ -20,6 +20,8 @@
 
 package org.eclipse.tractusx.sde.edc.entities.request.policies;
 
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
+
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -52,7 +54,7 @@ public class ConstraintRequest {
 
 	@SneakyThrows
 	public String toJsonString() {
-		final ObjectMapper mapper = new ObjectMapper();
+		final ObjectMapper mapper = JsonMappers.objectMapper();
 		return mapper.writeValueAsString(this);
 	}
 }
@@ -24,6 +24,7 @@ package org.eclipse.tractusx.sde.edc.entities.request.policies;
 import java.util.List;
 import java.util.Map;
 
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.eclipse.tractusx.sde.edc.model.policies.Obligation;
 import org.eclipse.tractusx.sde.edc.model.policies.Prohibition;
 
@@ -65,7 +66,7 @@ public class PolicyRequest {
 
 	@SneakyThrows
 	public String toJsonString() {
-		final ObjectMapper mapper = new ObjectMapper();
+		final ObjectMapper mapper = JsonMappers.objectMapper();
 		return mapper.writeValueAsString(this);
 	}
 }
@@ -24,13 +24,22 @@ package org.eclipse.tractusx.sde.edc.entities.request.policies;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
-import org.eclipse.tractusx.sde.common.utils.UUIdGenerator;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import lombok.SneakyThrows;
+
 @Service
 public class PolicyRequestFactory {
 
+	private final ObjectWriter canonicalWriter = JsonMappers.objectMapper().writer()
+			.with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
 	public PolicyDefinitionRequest getPolicy(String assetId, ActionRequest action,
 			Map<String, String> extensibleProperties) {
 
@@ -43,10 +52,20 @@ public class PolicyRequestFactory {
 				.prohibitions(new ArrayList<>()).build();
 
 		return PolicyDefinitionRequest.builder()
-				.id(UUIdGenerator.getUuid())
+				.id(contentId(policyRequest))
 				.policyRequest(policyRequest).build();
 	}
 
+	/**
+	 * The id is derived from the policy content, its target asset included, so
+	 * an unchanged policy keeps its id on a re-upload and a changed one gets a
+	 * new one, without asking the connector.
+	 */
+	@SneakyThrows
+	private String contentId(PolicyRequest policyRequest) {
+		return UUID.nameUUIDFromBytes(canonicalWriter.writeValueAsBytes(policyRequest)).toString();
+	}
+
 	public List<PermissionRequest> getPermissions(String assetId, ActionRequest action) {
 
 		ArrayList<PermissionRequest> permissions = new ArrayList<>();
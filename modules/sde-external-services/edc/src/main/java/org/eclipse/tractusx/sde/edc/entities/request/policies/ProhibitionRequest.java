@@ -22,6 +22,8 @@ package org.eclipse.tractusx.sde.edc.entities.request.policies;
 
 import java.util.ArrayList;
 
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
+
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.AllArgsConstructor;
@@ -45,7 +47,7 @@ public class ProhibitionRequest {
 
     @SneakyThrows
     public String toJsonString() {
-        final ObjectMapper mapper = new ObjectMapper();
+        final ObjectMapper mapper = JsonMappers.objectMapper();
         return mapper.writeValueAsString(this);
     }
 }
@@ -28,6 +28,7 @@ import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.tractusx.sde.common.entities.UsagePolicies;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.eclipse.tractusx.sde.edc.api.ContractApi;
 import org.eclipse.tractusx.sde.edc.entities.request.policies.ActionRequest;
 import org.eclipse.tractusx.sde.edc.entities.request.policies.ConstraintRequest;
@@ -90,7 +91,7 @@ public class ContractNegotiateManagementHelper extends AbstractEDCStepsHelper {
 	public ContractAgreementResponse getAgreementBasedOnNegotiationId(String type, String negotiationId) {
 		ContractAgreementResponse agreementResponse = null;
 		ContractAgreementDto agreement = null;
-		ObjectMapper objeMapper = new ObjectMapper();
+		ObjectMapper objeMapper = JsonMappers.objectMapper();
 
 		if (UtilityFunctions.checkTypeOfConnector(type)) {
 			agreement = contractApi.getAgreementBasedOnNegotiationId(new URI(providerHost), negotiationId,
@@ -132,8 +133,7 @@ public class ContractNegotiateManagementHelper extends AbstractEDCStepsHelper {
 
 	private void formatPermissionConstraint(ObjectMapper objeMapper, List<UsagePolicies> policies,
 			Object permissionObj) {
-		ObjectMapper objMapper = new ObjectMapper();
-		PermissionRequest permissionRequest = objMapper.convertValue(permissionObj, PermissionRequest.class);
+		PermissionRequest permissionRequest = objeMapper.convertValue(permissionObj, PermissionRequest.class);
 
 		Object object = permissionRequest.getConstraint().get("odrl:and");
 		if (object != null)
@@ -23,6 +23,7 @@ package org.eclipse.tractusx.sde.edc.facilitator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.tractusx.sde.common.entities.UsagePolicies;
@@ -48,46 +49,129 @@ public class CreateEDCAssetFacilator extends AbstractEDCStepsHelper {
 	private final PolicyRequestFactory policyFactory;
 	private final ContractDefinitionRequestFactory contractFactory;
 	private final PolicyConstraintBuilderService policyConstraintBuilderService;
+	private final DeleteEDCFacilitator deleteEDCFacilitator;
 
 	public Map<String, String> createEDCAsset(AssetEntryRequest assetEntryRequest, List<String> bpns,
 			List<UsagePolicies> usagePolicies) {
 
-		HashMap<String, String> extensibleProperties = new HashMap<>();
-		HashMap<String, String> output = new HashMap<>();
-
 		edcGateway.createAsset(assetEntryRequest);
 
 		String assetId = assetEntryRequest.getAsset().getId();
 
-		
-		ActionRequest accessAction = policyConstraintBuilderService.getAccessConstraints(bpns);
-
-		String customValue = getCustomValue(usagePolicies);
-		if (StringUtils.isNotBlank(getCustomValue(usagePolicies))) {
-			extensibleProperties.put(UsagePolicyEnum.CUSTOM.name(), customValue);
-		}
-		
-		PolicyDefinitionRequest accessPolicyDefinitionRequest = policyFactory.getPolicy(assetId, accessAction,
-				new HashMap<>());
+		PolicyDefinitionRequest accessPolicyDefinitionRequest = getAccessPolicy(assetId, bpns);
 		edcGateway.createPolicyDefinition(accessPolicyDefinitionRequest);
-		String accessPolicyId = accessPolicyDefinitionRequest.getId();
 
-		ActionRequest usageAction = policyConstraintBuilderService.getUsagePolicyConstraints(usagePolicies);
-		PolicyDefinitionRequest usagePolicyDefinitionRequest = policyFactory.getPolicy(assetId, usageAction,
-				extensibleProperties);
+		PolicyDefinitionRequest usagePolicyDefinitionRequest = getUsagePolicy(assetId, usagePolicies);
 		edcGateway.createPolicyDefinition(usagePolicyDefinitionRequest);
-		String usagePolicyId = usagePolicyDefinitionRequest.getId();
 
 		ContractDefinitionRequest contractDefinitionRequest = contractFactory.getContractDefinitionRequest(assetId,
-				accessPolicyId, usagePolicyId);
+				accessPolicyDefinitionRequest.getId(), usagePolicyDefinitionRequest.getId());
 
 		edcGateway.createContractDefinition(contractDefinitionRequest);
 
-		output.put("accessPolicyId", accessPolicyId);
-		output.put("usagePolicyId", usagePolicyId);
+		return getOutput(accessPolicyDefinitionRequest, usagePolicyDefinitionRequest, contractDefinitionRequest);
+
+	}
+
+	/**
+	 * Updates the offer of an existing asset in place instead of deleting and
+	 * recreating it, so partners never see it disappear. The asset is
+	 * rewritten, a policy is only created when its content changed and the
+	 * contract definition is only repointed then, after which the replaced
+	 * policies are dropped. An unchanged offer costs the asset update alone.
+	 * Without a local record the offer is looked up in the EDC, so an asset is
+	 * never offered by a second contract definition.
+	 */
+	public Map<String, String> updateEDCAsset(AssetEntryRequest assetEntryRequest, List<String> bpns,
+			List<UsagePolicies> usagePolicies, String accessPolicyId, String usagePolicyId,
+			String contractDefinitionId) {
+
+		edcGateway.updateAsset(assetEntryRequest);
+
+		String assetId = assetEntryRequest.getAsset().getId();
+
+		if (StringUtils.isBlank(contractDefinitionId)) {
+			ContractDefinitionRequest offered = findOffer(assetId);
+			if (offered != null) {
+				contractDefinitionId = offered.getId();
+				accessPolicyId = offered.getAccessPolicyId();
+				usagePolicyId = offered.getContractPolicyId();
+			}
+		}
+
+		PolicyDefinitionRequest accessPolicyDefinitionRequest = getAccessPolicy(assetId, bpns);
+		boolean accessPolicyChanged = !accessPolicyDefinitionRequest.getId().equals(accessPolicyId);
+		if (accessPolicyChanged)
+			edcGateway.createPolicyDefinition(accessPolicyDefinitionRequest);
+
+		PolicyDefinitionRequest usagePolicyDefinitionRequest = getUsagePolicy(assetId, usagePolicies);
+		boolean usagePolicyChanged = !usagePolicyDefinitionRequest.getId().equals(usagePolicyId);
+		if (usagePolicyChanged)
+			edcGateway.createPolicyDefinition(usagePolicyDefinitionRequest);
+
+		ContractDefinitionRequest contractDefinitionRequest = contractFactory.getContractDefinitionRequest(assetId,
+				accessPolicyDefinitionRequest.getId(), usagePolicyDefinitionRequest.getId());
+
+		if (StringUtils.isBlank(contractDefinitionId)) {
+			edcGateway.createContractDefinition(contractDefinitionRequest);
+		} else {
+			contractDefinitionRequest.setId(contractDefinitionId);
+			if (accessPolicyChanged || usagePolicyChanged)
+				edcGateway.updateContractDefinition(contractDefinitionRequest);
+		}
+
+		if (accessPolicyChanged && StringUtils.isNotBlank(accessPolicyId))
+			deleteEDCFacilitator.deleteAccessPolicy(accessPolicyId);
+		if (usagePolicyChanged && !StringUtils.equals(usagePolicyId, accessPolicyId))
+			deleteEDCFacilitator.deleteUsagePolicy(usagePolicyId);
+
+		return getOutput(accessPolicyDefinitionRequest, usagePolicyDefinitionRequest, contractDefinitionRequest);
+	}
+
+	/**
+	 * The contract definition offering the asset in the EDC, further ones left
+	 * by earlier uploads are deleted with their policies.
+	 */
+	private ContractDefinitionRequest findOffer(String assetId) {
+		List<ContractDefinitionRequest> offered = edcGateway.findContractDefinitions(assetId);
+		if (offered.isEmpty())
+			return null;
+
+		ContractDefinitionRequest kept = offered.get(0);
+		List<String> keptPolicyIds = Stream.of(kept.getAccessPolicyId(), kept.getContractPolicyId())
+				.filter(StringUtils::isNotBlank).toList();
+		offered.stream().skip(1).forEach(duplicate -> {
+			deleteEDCFacilitator.deleteContractDefination(duplicate.getId());
+			Stream.of(duplicate.getAccessPolicyId(), duplicate.getContractPolicyId()).filter(StringUtils::isNotBlank)
+					.filter(policyId -> !keptPolicyIds.contains(policyId)).distinct()
+					.forEach(deleteEDCFacilitator::deleteAccessPolicy);
+		});
+		return kept;
+	}
+
+	private PolicyDefinitionRequest getAccessPolicy(String assetId, List<String> bpns) {
+		ActionRequest accessAction = policyConstraintBuilderService.getAccessConstraints(bpns);
+		return policyFactory.getPolicy(assetId, accessAction, new HashMap<>());
+	}
+
+	private PolicyDefinitionRequest getUsagePolicy(String assetId, List<UsagePolicies> usagePolicies) {
+		HashMap<String, String> extensibleProperties = new HashMap<>();
+		String customValue = getCustomValue(usagePolicies);
+		if (StringUtils.isNotBlank(customValue)) {
+			extensibleProperties.put(UsagePolicyEnum.CUSTOM.name(), customValue);
+		}
+
+		ActionRequest usageAction = policyConstraintBuilderService.getUsagePolicyConstraints(usagePolicies);
+		return policyFactory.getPolicy(assetId, usageAction, extensibleProperties);
+	}
+
+	private Map<String, String> getOutput(PolicyDefinitionRequest accessPolicyDefinitionRequest,
+			PolicyDefinitionRequest usagePolicyDefinitionRequest, ContractDefinitionRequest contractDefinitionRequest) {
+		HashMap<String, String> output = new HashMap<>();
+		output.put("accessPolicyId", accessPolicyDefinitionRequest.getId());
+		output.put("usagePolicyId", usagePolicyDefinitionRequest.getId());
 		output.put("contractDefinitionId", contractDefinitionRequest.getId());
 		return output;
-
 	}
 
 	private String getCustomValue(List<UsagePolicies> usagePolicies) {
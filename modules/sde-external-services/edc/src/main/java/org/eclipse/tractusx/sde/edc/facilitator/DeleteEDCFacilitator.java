@@ -20,22 +20,67 @@
 
 package org.eclipse.tractusx.sde.edc.facilitator;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.tractusx.sde.common.exception.ServiceException;
 import org.eclipse.tractusx.sde.edc.api.EDCFeignClientApi;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 public class DeleteEDCFacilitator extends AbstractEDCStepsHelper {
 
 	private final EDCFeignClientApi eDCFeignClientApi;
 
+	@Value(value = "${edc.delete.max-concurrent-requests:16}")
+	private int maxConcurrentRequests;
+
+	private ExecutorService edcDeletePool;
+
 	public DeleteEDCFacilitator(EDCFeignClientApi eDCFeignClientApi) {
 		this.eDCFeignClientApi = eDCFeignClientApi;
 	}
 
+	@PostConstruct
+	public void init() {
+		edcDeletePool = Executors.newFixedThreadPool(maxConcurrentRequests);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		edcDeletePool.shutdown();
+	}
+
+	/**
+	 * Deletes the contract definition first, it references the policies and the
+	 * asset, then deletes the policies and the asset concurrently. All requests
+	 * run on a pool of edc.delete.max-concurrent-requests threads, which bounds
+	 * the load on the connector however many records are deleted at once.
+	 */
+	@SneakyThrows
+	public void deleteEDCAsset(String contractDefinationId, String accessPolicyId, String usagePolicyId,
+			String assetId) {
+		try {
+			CompletableFuture.runAsync(() -> deleteContractDefination(contractDefinationId), edcDeletePool).join();
+
+			CompletableFuture.allOf(CompletableFuture.runAsync(() -> deleteAccessPolicy(accessPolicyId), edcDeletePool),
+					CompletableFuture.runAsync(() -> deleteUsagePolicy(usagePolicyId), edcDeletePool),
+					CompletableFuture.runAsync(() -> deleteAssets(assetId), edcDeletePool)).join();
+		} catch (CompletionException e) {
+			throw e.getCause();
+		}
+	}
+
 	@SneakyThrows
 	public void deleteContractDefination(String contractDefinationId) {
 		try {
@@ -51,7 +96,7 @@ public class DeleteEDCFacilitator extends AbstractEDCStepsHelper {
 		try {
 			eDCFeignClientApi.deletePolicyDefinitions(accessPolicyId);
 		} catch (Exception e) {
-			parseExceptionMessage(e);
+			parsePolicyExceptionMessage(accessPolicyId, e);
 		}
 
 	}
@@ -62,7 +107,7 @@ public class DeleteEDCFacilitator extends AbstractEDCStepsHelper {
 			if (!StringUtils.isBlank(usagePolicyId))
 				eDCFeignClientApi.deletePolicyDefinitions(usagePolicyId);
 		} catch (Exception e) {
-			parseExceptionMessage(e);
+			parsePolicyExceptionMessage(usagePolicyId, e);
 		}
 
 	}
@@ -72,14 +117,29 @@ public class DeleteEDCFacilitator extends AbstractEDCStepsHelper {
 		try {
 			eDCFeignClientApi.deleteAssets(assetId);
 		} catch (Exception e) {
-			throw new ServiceException("Unable to delete EDC asset: " + e.getMessage());
+			// records of one relationship share the asset, an other record may have deleted it already
+			if (!isNotFound(e))
+				throw new ServiceException("Unable to delete EDC asset: " + e.getMessage());
 		}
 
 	}
 
+	private void parsePolicyExceptionMessage(String policyId, Exception e) throws ServiceException {
+		if (e.toString().contains("FeignException$Conflict")) {
+			log.info(String.format("Policy %s is still referenced by an other contract definition, not deleted",
+					policyId));
+			return;
+		}
+		parseExceptionMessage(e);
+	}
+
+	private boolean isNotFound(Exception e) {
+		return e.toString().contains("FeignException$NotFound") && e.toString().contains("404 Not Found");
+	}
+
 	private void parseExceptionMessage(Exception e) throws ServiceException {
 
-		if (!e.toString().contains("FeignException$NotFound") || !e.toString().contains("404 Not Found")) {
+		if (!isNotFound(e)) {
 			throw new ServiceException("Exception in EDC delete request process:" + e.getMessage());
 		}
 	}
@@ -21,14 +21,22 @@
 
 package org.eclipse.tractusx.sde.edc.gateways.external;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.eclipse.tractusx.sde.edc.api.EDCFeignClientApi;
 import org.eclipse.tractusx.sde.edc.entities.request.asset.AssetEntryRequest;
 import org.eclipse.tractusx.sde.edc.entities.request.contractdefinition.ContractDefinitionRequest;
+import org.eclipse.tractusx.sde.edc.entities.request.contractdefinition.Criterion;
 import org.eclipse.tractusx.sde.edc.entities.request.policies.PolicyDefinitionRequest;
 import org.eclipse.tractusx.sde.edc.exceptions.EDCGatewayException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
@@ -62,11 +70,23 @@ public class EDCGateway {
 		}
 	}
 
+	public void updateAsset(AssetEntryRequest request) {
+		try {
+			edcFeignClientApi.updateAsset(request);
+		} catch (FeignException e) {
+			throw new EDCGatewayException(e.getMessage());
+		}
+	}
+
 	@SneakyThrows
 	public String createPolicyDefinition(PolicyDefinitionRequest request) {
 		try {
 			return edcFeignClientApi.createPolicy(request);
 		} catch (FeignException e) {
+			// policy ids are derived from their content, an existing one is the same policy
+			if (e.status() == HttpStatus.CONFLICT.value()) {
+				return null;
+			}
 			throw new EDCGatewayException(e.getMessage());
 		}
 	}
@@ -78,4 +98,73 @@ public class EDCGateway {
 			throw new EDCGatewayException(e.getMessage());
 		}
 	}
-}
\ No newline at end of file
+
+	public void updateContractDefinition(ContractDefinitionRequest request) {
+		try {
+			edcFeignClientApi.updateContractDefinition(request);
+		} catch (FeignException e) {
+			if (e.status() == HttpStatus.NOT_FOUND.value()) {
+				createContractDefinition(request);
+				return;
+			}
+			throw new EDCGatewayException(e.getMessage());
+		}
+	}
+
+	/**
+	 * Contract definitions whose assets selector picks the asset, used when an
+	 * asset exists in the EDC without a local record of its offer.
+	 */
+	public List<ContractDefinitionRequest> findContractDefinitions(String assetId) {
+		try {
+			return edcFeignClientApi.queryContractDefinitions(contractDefinitionQuery(assetId)).stream()
+					.map(EDCGateway::toContractDefinition)
+					.filter(contractDefinition -> contractDefinition.getAssetsSelector().stream()
+							.anyMatch(criterion -> assetId.equals(criterion.getOperandRight())))
+					.toList();
+		} catch (FeignException e) {
+			throw new EDCGatewayException(e.getMessage());
+		}
+	}
+
+	private static JsonNode contractDefinitionQuery(String assetId) {
+		ObjectNode querySpec = JsonMappers.objectMapper().createObjectNode();
+		querySpec.putObject("@context").put("edc", "https://w3id.org/edc/v0.0.1/ns/");
+		querySpec.put("@type", "QuerySpec");
+		querySpec.putArray("filterExpression").addObject().put("operandLeft", "assetsSelector.operandRight")
+				.put("operator", "=").put("operandRight", assetId);
+		return querySpec;
+	}
+
+	private static ContractDefinitionRequest toContractDefinition(JsonNode node) {
+		List<Criterion> criteria = new ArrayList<>();
+		JsonNode assetsSelector = field(node, "assetsSelector");
+		if (assetsSelector != null) {
+			List<JsonNode> selectors = new ArrayList<>();
+			if (assetsSelector.isArray())
+				assetsSelector.forEach(selectors::add);
+			else
+				selectors.add(assetsSelector);
+			selectors.forEach(criterion -> criteria.add(Criterion.builder()
+					.operandLeft(text(criterion, "operandLeft"))
+					.operator(text(criterion, "operator"))
+					.operandRight(text(criterion, "operandRight"))
+					.build()));
+		}
+		return ContractDefinitionRequest.builder()
+				.id(text(node, "@id"))
+				.accessPolicyId(text(node, "accessPolicyId"))
+				.contractPolicyId(text(node, "contractPolicyId"))
+				.assetsSelector(criteria)
+				.build();
+	}
+
+	private static JsonNode field(JsonNode node, String name) {
+		return node.has(name) ? node.get(name) : node.get("edc:" + name);
+	}
+
+	private static String text(JsonNode node, String name) {
+		JsonNode value = field(node, name);
+		return value == null || value.isNull() ? null : value.asText();
+	}
+}
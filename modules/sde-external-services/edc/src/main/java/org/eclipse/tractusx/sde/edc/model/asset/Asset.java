@@ -32,6 +32,8 @@ import lombok.SneakyThrows;
 
 import java.util.Map;
 
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -44,7 +46,7 @@ public class Asset {
 	
     @SneakyThrows
     public String toJsonString() {
-        final ObjectMapper mapper = new ObjectMapper();
+        final ObjectMapper mapper = JsonMappers.objectMapper();
         return mapper.writeValueAsString(this);
     }
 }
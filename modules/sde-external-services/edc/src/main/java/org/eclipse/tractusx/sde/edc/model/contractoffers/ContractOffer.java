@@ -20,6 +20,7 @@
 
 package org.eclipse.tractusx.sde.edc.model.contractoffers;
 
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.eclipse.tractusx.sde.edc.model.asset.Asset;
 import org.eclipse.tractusx.sde.edc.model.asset.DataAddress;
 import org.eclipse.tractusx.sde.edc.model.policies.PolicyDefinition;
@@ -62,7 +63,7 @@ public class ContractOffer {
 
 	@SneakyThrows
 	public String toJsonString() {
-		final ObjectMapper mapper = new ObjectMapper();
+		final ObjectMapper mapper = JsonMappers.objectMapper();
 		return mapper.writeValueAsString(this);
 	}
 }
@@ -21,9 +21,9 @@
 package org.eclipse.tractusx.sde.edc.model.contractoffers;
 
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import lombok.SneakyThrows;
@@ -55,7 +55,7 @@ public class ContractOfferRequestFactory {
 		String jsonString = String.format(formatSchema, providerUrl, offset, limit,
 				filterExpression);
 
-		return (ObjectNode) new ObjectMapper().readTree(jsonString);
+		return (ObjectNode) JsonMappers.objectMapper().readTree(jsonString);
 	}
 
 }
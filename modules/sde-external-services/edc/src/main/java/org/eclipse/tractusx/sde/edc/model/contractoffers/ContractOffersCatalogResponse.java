@@ -33,6 +33,8 @@ import lombok.SneakyThrows;
 
 import java.util.List;
 
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -49,7 +51,7 @@ public class ContractOffersCatalogResponse {
 
 	@SneakyThrows
 	public String toJsonString() {
-		final ObjectMapper mapper = new ObjectMapper();
+		final ObjectMapper mapper = JsonMappers.objectMapper();
 		return mapper.writeValueAsString(this);
 	}
 }
@@ -20,6 +20,7 @@
 
 package org.eclipse.tractusx.sde.edc.model.policies;
 
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.eclipse.tractusx.sde.edc.entities.request.policies.Expression;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
@@ -52,7 +53,7 @@ public class Constraint {
 
     @SneakyThrows
     public String toJsonString() {
-        final ObjectMapper mapper = new ObjectMapper();
+        final ObjectMapper mapper = JsonMappers.objectMapper();
         return mapper.writeValueAsString(this);
     }
 }
@@ -33,6 +33,7 @@ import lombok.SneakyThrows;
 
 import java.util.ArrayList;
 
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.eclipse.tractusx.sde.edc.entities.request.policies.ConstraintRequest;
 
 @NoArgsConstructor
@@ -55,7 +56,7 @@ public class Permission {
 
     @SneakyThrows
     public String toJsonString() {
-        final ObjectMapper mapper = new ObjectMapper();
+        final ObjectMapper mapper = JsonMappers.objectMapper();
         return mapper.writeValueAsString(this);
     }
 
@@ -32,6 +32,8 @@ import lombok.SneakyThrows;
 
 import java.util.ArrayList;
 
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
+
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
@@ -49,7 +51,7 @@ public class Prohibition {
 
     @SneakyThrows
     public String toJsonString() {
-        final ObjectMapper mapper = new ObjectMapper();
+        final ObjectMapper mapper = JsonMappers.objectMapper();
         return mapper.writeValueAsString(this);
     }
 }
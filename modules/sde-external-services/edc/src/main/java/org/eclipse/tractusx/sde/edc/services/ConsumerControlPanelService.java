@@ -93,7 +93,9 @@ public class ConsumerControlPanelService extends AbstractEDCStepsHelper {
 						.getContractOfferRequest(providerUrl + protocolPath, limit, offset, filterExpression));
 
 		JsonNode jOffer = contractOfferCatalog.get("dcat:dataset");
-		if (jOffer.isArray()) {
+		if (jOffer == null || jOffer.isNull()) {
+			return queryOfferResponse;
+		} else if (jOffer.isArray()) {
 
 			jOffer.forEach(
 					offer -> queryOfferResponse.add(buildContractOffer(sproviderUrl, contractOfferCatalog, offer)));
@@ -0,0 +1,142 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.edc.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.tractusx.sde.edc.model.response.QueryDataOfferModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FederatedCatalogCrawler {
+
+	private final ConsumerControlPanelService consumerControlPanelService;
+
+	@Value(value = "${edc.catalog-crawler.page-size:100}")
+	private int pageSize;
+
+	@Value(value = "${edc.catalog-crawler.max-pages:50}")
+	private int maxPages;
+
+	@Value(value = "${edc.catalog-crawler.connector-timeout:30000}")
+	private long connectorTimeout;
+
+	@Value(value = "${edc.catalog-crawler.parallelism:8}")
+	private int parallelism;
+
+	private ExecutorService crawlerPool;
+
+	@PostConstruct
+	public void init() {
+		crawlerPool = Executors.newFixedThreadPool(parallelism);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		crawlerPool.shutdownNow();
+	}
+
+	/**
+	 * Crawls the connectors in parallel. A connector which does not answer
+	 * within the connector timeout, counted from when its crawl started, is
+	 * cancelled, so it does not keep a crawl thread busy, and contributes no
+	 * offers. Connectors still queued for a crawl thread do not use up their
+	 * timeout while waiting.
+	 */
+	public List<QueryDataOfferModel> crawl(Collection<String> connectors, String filterExpression) {
+
+		Map<String, ConnectorCrawl> crawls = new LinkedHashMap<>();
+		connectors.stream().distinct().forEach(connector -> {
+			CompletableFuture<Long> started = new CompletableFuture<>();
+			crawls.put(connector, new ConnectorCrawl(started, crawlerPool.submit(() -> {
+				started.complete(System.nanoTime());
+				return crawlConnector(connector, filterExpression);
+			})));
+		});
+
+		Map<String, QueryDataOfferModel> offers = new LinkedHashMap<>();
+		crawls.forEach((connector, crawl) -> awaitConnector(connector, crawl)
+				.forEach(offer -> offers.putIfAbsent(offer.getConnectorOfferUrl(), offer)));
+
+		return new ArrayList<>(offers.values());
+	}
+
+	private List<QueryDataOfferModel> awaitConnector(String connector, ConnectorCrawl crawl) {
+		Future<List<QueryDataOfferModel>> future = crawl.future();
+		try {
+			long deadline = crawl.started().get() + TimeUnit.MILLISECONDS.toNanos(connectorTimeout);
+			return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			log.error("Crawling EDC catalog of " + connector + " cancelled after " + connectorTimeout + " ms");
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			log.error("Error while crawling EDC catalog of " + connector + ", Exception :"
+					+ e.getCause().getMessage());
+		}
+		return List.of();
+	}
+
+	private List<QueryDataOfferModel> crawlConnector(String connector, String filterExpression) {
+
+		List<QueryDataOfferModel> connectorOffers = new ArrayList<>();
+		boolean lastPageFull = false;
+
+		for (int page = 0; page < maxPages && !Thread.currentThread().isInterrupted(); page++) {
+			List<QueryDataOfferModel> offers = consumerControlPanelService.queryOnDataOffers(connector,
+					page * pageSize, pageSize, filterExpression);
+			connectorOffers.addAll(offers);
+			lastPageFull = offers.size() >= pageSize;
+			if (!lastPageFull)
+				break;
+		}
+
+		if (lastPageFull && connectorOffers.size() >= maxPages * pageSize)
+			log.warn("EDC catalog of " + connector + " is incomplete, crawling stopped after " + maxPages
+					+ " full pages of " + pageSize + " offers (edc.catalog-crawler.max-pages)");
+		log.info("For Connector " + connector + ", found asset :" + connectorOffers.size());
+		return connectorOffers;
+	}
+
+	private record ConnectorCrawl(CompletableFuture<Long> started, Future<List<QueryDataOfferModel>> future) {
+	}
+}
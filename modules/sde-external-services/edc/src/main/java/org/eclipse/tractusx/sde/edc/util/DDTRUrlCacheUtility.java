@@ -0,0 +1,148 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.edc.util;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.tractusx.sde.edc.model.response.QueryDataOfferModel;
+import org.eclipse.tractusx.sde.edc.services.FederatedCatalogCrawler;
+import org.eclipse.tractusx.sde.portal.handler.PortalProxyService;
+import org.eclipse.tractusx.sde.portal.model.ConnectorInfo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DDTRUrlCacheUtility {
+
+	private final PortalProxyService portalProxyService;
+
+	private final FederatedCatalogCrawler federatedCatalogCrawler;
+
+	@Value(value = "${digital-twins.ddtr-url-cache.ttl:43200000}")
+	private long ttl;
+
+	@Value(value = "${digital-twins.ddtr-url-cache.negative-ttl:300000}")
+	private long negativeTtl;
+
+	@Value(value = "${digital-twins.ddtr-url-cache.refresh-after:21600000}")
+	private long refreshAfter;
+
+	@Value(value = "${digital-twins.ddtr-url-cache.max-size:1000}")
+	private long maxSize;
+
+	private LoadingCache<String, List<String>> ddtrUrlCache;
+
+	@PostConstruct
+	public void init() {
+		ddtrUrlCache = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfter(new DDTRUrlExpiry())
+				.refreshAfterWrite(Duration.ofMillis(refreshAfter))
+				.recordStats()
+				.build(this::lookupDDTRUrl);
+	}
+
+	public List<String> getDDTRUrl(String bpnNumber) {
+		return ddtrUrlCache.get(bpnNumber);
+	}
+
+	private List<String> lookupDDTRUrl(String bpnNumber) {
+
+		List<ConnectorInfo> connectorInfos = portalProxyService.fetchConnectorInfo(List.of(bpnNumber));
+
+		List<String> connectors = connectorInfos.stream()
+				.flatMap(connectorInfo -> connectorInfo.getConnectorEndpoint().stream()).distinct().toList();
+
+		String filterExpression = String.format("""
+				 "filterExpression": [{
+				    "operandLeft": "https://w3id.org/edc/v0.0.1/ns/type",
+				    "operator": "=",
+				    "operandRight": "data.core.digitalTwinRegistry"
+				}]""");
+
+		return federatedCatalogCrawler.crawl(connectors, filterExpression).stream()
+				.map(QueryDataOfferModel::getPublisher).filter(Objects::nonNull).distinct().toList();
+	}
+
+	public void refreshDDTRUrlCache(String bpnNumber) {
+		ddtrUrlCache.refresh(bpnNumber);
+		log.info("Refresh triggered for '" + bpnNumber + "' bpn-ddtr cache");
+	}
+
+	public void removeDDTRUrlCache(String bpnNumber) {
+		ddtrUrlCache.invalidate(bpnNumber);
+		log.info("Cleared '" + bpnNumber + "' bpn-ddtr cache");
+	}
+
+	public void cleareDDTRUrlAllCache() {
+		ddtrUrlCache.invalidateAll();
+		log.info("Cleared All bpn-ddtr cache");
+	}
+
+	public Map<String, Object> getDDTRUrlCacheStats() {
+		CacheStats stats = ddtrUrlCache.stats();
+		Map<String, Object> response = new LinkedHashMap<>();
+		response.put("size", ddtrUrlCache.estimatedSize());
+		response.put("hitCount", stats.hitCount());
+		response.put("missCount", stats.missCount());
+		response.put("hitRate", stats.hitRate());
+		response.put("loadSuccessCount", stats.loadSuccessCount());
+		response.put("loadFailureCount", stats.loadFailureCount());
+		response.put("averageLoadPenaltyMillis", stats.averageLoadPenalty() / 1_000_000);
+		response.put("evictionCount", stats.evictionCount());
+		return response;
+	}
+
+	private class DDTRUrlExpiry implements Expiry<String, List<String>> {
+
+		@Override
+		public long expireAfterCreate(String bpnNumber, List<String> dtURls, long currentTime) {
+			return Duration.ofMillis(dtURls.isEmpty() ? negativeTtl : ttl).toNanos();
+		}
+
+		@Override
+		public long expireAfterUpdate(String bpnNumber, List<String> dtURls, long currentTime,
+				long currentDuration) {
+			return expireAfterCreate(bpnNumber, dtURls, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String bpnNumber, List<String> dtURls, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+
+}
@@ -20,16 +20,21 @@
 package org.eclipse.tractusx.sde.portal.handler;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
 
 import org.eclipse.tractusx.sde.portal.api.IPartnerPoolExternalServiceApi;
-import org.eclipse.tractusx.sde.portal.api.IPortalExternalServiceApi;
 import org.eclipse.tractusx.sde.portal.model.ConnectorInfo;
 import org.eclipse.tractusx.sde.portal.model.LegalEntityData;
 import org.eclipse.tractusx.sde.portal.model.response.LegalEntityResponse;
 import org.eclipse.tractusx.sde.portal.model.response.UnifiedBPNValidationStatusEnum;
 import org.eclipse.tractusx.sde.portal.model.response.UnifiedBpnValidationResponse;
+import org.eclipse.tractusx.sde.portal.utils.ConnectorDiscoveryCacheUtilityService;
 import org.eclipse.tractusx.sde.portal.utils.MemberCompanyBPNCacheUtilityService;
 import org.springframework.stereotype.Service;
 
@@ -42,7 +47,7 @@ public class PortalProxyService {
 
 	private final MemberCompanyBPNCacheUtilityService cacheUtilityService;
 
-	private final IPortalExternalServiceApi portalExternalServiceApi;
+	private final ConnectorDiscoveryCacheUtilityService connectorDiscoveryCacheService;
 
 	private final IPartnerPoolExternalServiceApi partnerPoolExternalServiceApi;
 
@@ -61,7 +66,11 @@ public class PortalProxyService {
 
 	@SneakyThrows
 	public List<ConnectorInfo> fetchConnectorInfo(List<String> bpns) {
-		return portalExternalServiceApi.fetchConnectorInfo(bpns);
+		try {
+			return connectorDiscoveryCacheService.getConnectorInfo(bpns);
+		} catch (CompletionException e) {
+			throw e.getCause();
+		}
 	}
 
 	@SneakyThrows
@@ -69,14 +78,35 @@ public class PortalProxyService {
 
 		List<ConnectorInfo> connectorsInfo = fetchConnectorInfo(List.of(bpn));
 
+		return toUnifiedBpnValidationResponse(bpn, !connectorsInfo.isEmpty());
+	}
+
+	/**
+	 * Validates all BPNs of a request with a single connector discovery call,
+	 * the BPNs without a connector are then looked up in the member company set.
+	 */
+	@SneakyThrows
+	public Map<String, UnifiedBpnValidationResponse> unifiedBpnValidation(List<String> bpns) {
+
+		List<String> distinctBpns = bpns.stream().distinct().toList();
+		Set<String> bpnsWithConnector = fetchConnectorInfo(distinctBpns).stream().map(ConnectorInfo::getBpn)
+				.collect(Collectors.toSet());
+
+		Map<String, UnifiedBpnValidationResponse> responses = new LinkedHashMap<>();
+		for (String bpn : distinctBpns)
+			responses.put(bpn, toUnifiedBpnValidationResponse(bpn, bpnsWithConnector.contains(bpn)));
+		return responses;
+	}
+
+	private UnifiedBpnValidationResponse toUnifiedBpnValidationResponse(String bpn, boolean hasConnector) {
+
 		UnifiedBpnValidationResponse unifiedBpnValidationResponse = UnifiedBpnValidationResponse.builder()
 				.msg(bpn + " BPN number found valid connector's in partner network")
 				.bpnStatus(UnifiedBPNValidationStatusEnum.FULL_PARTNER).build();
 
-		if (connectorsInfo.isEmpty()) {
+		if (!hasConnector) {
 
-			List<String> memberBPNDataList = cacheUtilityService.getAllPartners();
-			if (!memberBPNDataList.isEmpty() && memberBPNDataList.contains(bpn)) {
+			if (cacheUtilityService.isMember(bpn)) {
 				unifiedBpnValidationResponse
 						.setMsg(bpn + " BPN number is part of partner network but there is no valid connector's found");
 				unifiedBpnValidationResponse.setBpnStatus(UnifiedBPNValidationStatusEnum.PARTNER);
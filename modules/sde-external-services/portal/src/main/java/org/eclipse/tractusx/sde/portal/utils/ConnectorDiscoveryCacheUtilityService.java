@@ -0,0 +1,218 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.portal.utils;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.tractusx.sde.portal.api.IPortalExternalServiceApi;
+import org.eclipse.tractusx.sde.portal.model.ConnectorInfo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConnectorDiscoveryCacheUtilityService {
+
+	private final IPortalExternalServiceApi portalExternalServiceApi;
+
+	@Value(value = "${portal.connector-discovery-cache.ttl:900000}")
+	private long ttl;
+
+	@Value(value = "${portal.connector-discovery-cache.negative-ttl:60000}")
+	private long negativeTtl;
+
+	@Value(value = "${portal.connector-discovery-cache.max-size:10000}")
+	private long maxSize;
+
+	@Value(value = "${portal.connector-discovery-cache.batch-window:20}")
+	private long batchWindow;
+
+	@Value(value = "${portal.connector-discovery-cache.batch-size:100}")
+	private int batchSize;
+
+	private AsyncLoadingCache<String, List<ConnectorInfo>> connectorCache;
+
+	private ScheduledExecutorService batchScheduler;
+
+	private final Object pendingLock = new Object();
+
+	private Map<String, CompletableFuture<List<ConnectorInfo>>> pendingLookups = new HashMap<>();
+
+	@PostConstruct
+	public void init() {
+		batchScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "connector-discovery-batch");
+			thread.setDaemon(true);
+			return thread;
+		});
+		connectorCache = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfter(new ConnectorInfoExpiry())
+				.recordStats()
+				.buildAsync(new ConnectorInfoLoader());
+	}
+
+	@PreDestroy
+	public void destroy() {
+		batchScheduler.shutdownNow();
+	}
+
+	/**
+	 * Connector infos of the given BPNs. Cached BPNs are answered from the
+	 * cache, the missing ones are looked up together in one portal call.
+	 */
+	public List<ConnectorInfo> getConnectorInfo(List<String> bpns) {
+		List<String> distinctBpns = bpns.stream().distinct().toList();
+		if (distinctBpns.size() == 1)
+			return connectorCache.get(distinctBpns.get(0)).join();
+
+		Map<String, List<ConnectorInfo>> connectorInfos = connectorCache.getAll(distinctBpns).join();
+		return distinctBpns.stream().flatMap(bpn -> connectorInfos.getOrDefault(bpn, List.of()).stream()).toList();
+	}
+
+	public void removeConnectorInfoCache(String bpn) {
+		connectorCache.synchronous().invalidate(bpn);
+		log.info("Cleared '" + bpn + "' connector discovery cache");
+	}
+
+	public void clearAllConnectorInfoCache() {
+		connectorCache.synchronous().invalidateAll();
+		log.info("Cleared All connector discovery cache");
+	}
+
+	public Map<String, Object> getConnectorInfoCacheStats() {
+		CacheStats stats = connectorCache.synchronous().stats();
+		Map<String, Object> response = new LinkedHashMap<>();
+		response.put("size", connectorCache.synchronous().estimatedSize());
+		response.put("hitCount", stats.hitCount());
+		response.put("missCount", stats.missCount());
+		response.put("hitRate", stats.hitRate());
+		response.put("loadSuccessCount", stats.loadSuccessCount());
+		response.put("loadFailureCount", stats.loadFailureCount());
+		response.put("averageLoadPenaltyMillis", stats.averageLoadPenalty() / 1_000_000);
+		response.put("evictionCount", stats.evictionCount());
+		return response;
+	}
+
+	/**
+	 * Single BPN misses are parked for the batch window, so concurrent requests
+	 * for different BPNs share one portal call. A full batch is sent at once.
+	 */
+	private CompletableFuture<List<ConnectorInfo>> enqueueLookup(String bpn) {
+		synchronized (pendingLock) {
+			CompletableFuture<List<ConnectorInfo>> future = pendingLookups.computeIfAbsent(bpn,
+					key -> new CompletableFuture<>());
+			if (pendingLookups.size() >= batchSize)
+				batchScheduler.execute(this::flushPendingLookups);
+			else if (pendingLookups.size() == 1)
+				batchScheduler.schedule(this::flushPendingLookups, batchWindow, TimeUnit.MILLISECONDS);
+			return future;
+		}
+	}
+
+	private void flushPendingLookups() {
+		Map<String, CompletableFuture<List<ConnectorInfo>>> batch;
+		synchronized (pendingLock) {
+			if (pendingLookups.isEmpty())
+				return;
+			batch = pendingLookups;
+			pendingLookups = new HashMap<>();
+		}
+		try {
+			Map<String, List<ConnectorInfo>> connectorInfos = lookupConnectorInfo(batch.keySet());
+			batch.forEach((bpn, future) -> future.complete(connectorInfos.get(bpn)));
+		} catch (Exception e) {
+			batch.values().forEach(future -> future.completeExceptionally(e));
+		}
+	}
+
+	private Map<String, List<ConnectorInfo>> lookupConnectorInfo(Collection<? extends String> bpns) {
+
+		List<ConnectorInfo> connectorInfos = portalExternalServiceApi.fetchConnectorInfo(List.copyOf(bpns));
+		log.debug("Connector discovery looked up for " + bpns.size() + " BPNs");
+
+		Map<String, List<ConnectorInfo>> connectorInfoByBpn = connectorInfos == null ? new HashMap<>()
+				: connectorInfos.stream().filter(connectorInfo -> connectorInfo.getBpn() != null)
+						.collect(Collectors.groupingBy(ConnectorInfo::getBpn, HashMap::new,
+								Collectors.toList()));
+		bpns.forEach(bpn -> connectorInfoByBpn.putIfAbsent(bpn, List.of()));
+		return connectorInfoByBpn;
+	}
+
+	private class ConnectorInfoLoader implements AsyncCacheLoader<String, List<ConnectorInfo>> {
+
+		@Override
+		public CompletableFuture<List<ConnectorInfo>> asyncLoad(String bpn, Executor executor) {
+			return enqueueLookup(bpn);
+		}
+
+		@Override
+		public CompletableFuture<Map<String, List<ConnectorInfo>>> asyncLoadAll(Set<? extends String> bpns,
+				Executor executor) {
+			return CompletableFuture.supplyAsync(() -> lookupConnectorInfo(bpns), executor);
+		}
+	}
+
+	private class ConnectorInfoExpiry implements Expiry<String, List<ConnectorInfo>> {
+
+		@Override
+		public long expireAfterCreate(String bpn, List<ConnectorInfo> connectorInfos, long currentTime) {
+			return Duration.ofMillis(connectorInfos.isEmpty() ? negativeTtl : ttl).toNanos();
+		}
+
+		@Override
+		public long expireAfterUpdate(String bpn, List<ConnectorInfo> connectorInfos, long currentTime,
+				long currentDuration) {
+			return expireAfterCreate(bpn, connectorInfos, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String bpn, List<ConnectorInfo> connectorInfos, long currentTime,
+				long currentDuration) {
+			return currentDuration;
+		}
+	}
+
+}
@@ -19,12 +19,13 @@
  ********************************************************************************/
 package org.eclipse.tractusx.sde.portal.utils;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.tractusx.sde.portal.api.IPortalExternalServiceApi;
 import org.hibernate.service.spi.ServiceException;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -38,10 +39,39 @@ public class MemberCompanyBPNCacheUtilityService {
 
 	private final IPortalExternalServiceApi portalExternalServiceApi;
 
-	@Cacheable("memberCompaniesList")
-	public List<String> getAllPartners() throws ServiceException {
-		log.info("Refreshed bpn fetch member companies data list");
+	private volatile Set<String> memberCompanyBpns;
+
+	/**
+	 * Member company BPNs of the last successful load, as a set so a membership
+	 * check does not scan the list. Only the first call before the background
+	 * refresh has succeeded once waits for the portal.
+	 */
+	public Set<String> getAllPartners() throws ServiceException {
+		Set<String> snapshot = memberCompanyBpns;
+		if (snapshot == null) {
+			synchronized (this) {
+				if (memberCompanyBpns == null)
+					memberCompanyBpns = fetchMemberCompanies();
+				snapshot = memberCompanyBpns;
+			}
+		}
+		return snapshot;
+	}
 
+	public boolean isMember(String bpn) throws ServiceException {
+		return getAllPartners().contains(bpn);
+	}
+
+	@Scheduled(fixedDelayString = "${portal.member-companies.refresh-interval:3600000}")
+	public void refreshMemberCompanies() {
+		try {
+			memberCompanyBpns = fetchMemberCompanies();
+		} catch (ServiceException e) {
+			log.warn("Member companies not refreshed, keeping the previous list: " + e.getMessage());
+		}
+	}
+
+	private Set<String> fetchMemberCompanies() throws ServiceException {
 		List<String> fetchMemberCompaniesData = null;
 		try {
 			fetchMemberCompaniesData = portalExternalServiceApi.fetchMemberCompaniesData();
@@ -49,13 +79,11 @@ public class MemberCompanyBPNCacheUtilityService {
 			log.error(e.getMessage());
 			throw new ServiceException(e.getMessage());
 		}
-		return fetchMemberCompaniesData;
-	}
-
-	@CacheEvict(value = "memberCompaniesList", allEntries = true)
-	@Scheduled(fixedRateString = "3600000")
-	public void removeAllBPNNumberCache() {
-		log.info("All member companies BPN cache removed");
+		// an empty body is a failed load, it must not replace the known members
+		if (fetchMemberCompaniesData == null)
+			throw new ServiceException("Portal returned no member companies data");
+		log.info("Refreshed bpn fetch member companies data list");
+		return Collections.unmodifiableSet(new HashSet<>(fetchMemberCompaniesData));
 	}
 
 }
@@ -0,0 +1,353 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.tractusx.sde.loadtest.LoadTestSettings.StubBehaviour;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * In-process stand-in for the digital twin registry, the EDC management api,
+ * BPN discovery, the portal and their token endpoint.
+ * <p>
+ * Generated csv rows carry a row key ({@link CsvGenerator#rowKey}) in their
+ * part instance id. The stub returns shell ids containing the same key, so the
+ * first registry lookup and the contract definition of a row can be matched to
+ * measure the per row latency seen from outside of SDE.
+ */
+public class CatenaXStubServer implements AutoCloseable {
+
+	private static final Pattern ROW_KEY = Pattern.compile("LT-\\d+-\\d+");
+
+	private static final String DTR_PATH = "/dtr";
+
+	private static final String EDC_PATH = "/edc";
+
+	private static final String DISCOVERY_PATH = "/discovery";
+
+	private static final String PORTAL_PATH = "/portal";
+
+	private static final String TOKEN_PATH = "/auth/token";
+
+	private final ObjectMapper mapper = new ObjectMapper();
+
+	private final LoadTestSettings settings;
+
+	private final JwtIssuer jwtIssuer;
+
+	private final HttpServer server;
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	private final Map<String, Long> rowStartNanos = new ConcurrentHashMap<>();
+
+	private final Queue<Long> rowLatencyNanos = new ConcurrentLinkedQueue<>();
+
+	private final Map<String, String> shellsByRowKey = new ConcurrentHashMap<>();
+
+	private final Map<String, List<JsonNode>> submodelsByShell = new ConcurrentHashMap<>();
+
+	private final Set<String> assetRowKeys = ConcurrentHashMap.newKeySet();
+
+	private final Map<String, LongAdder> requests = new ConcurrentHashMap<>();
+
+	private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+	public CatenaXStubServer(LoadTestSettings settings, JwtIssuer jwtIssuer) throws IOException {
+		this.settings = settings;
+		this.jwtIssuer = jwtIssuer;
+		this.server = HttpServer.create(new InetSocketAddress(settings.stubPort()), 512);
+		server.setExecutor(executor);
+		server.createContext(TOKEN_PATH, exchange -> respond(exchange, 200, tokenResponse()));
+		server.createContext(JwtIssuer.REALM_PATH, this::handleRealm);
+		server.createContext(DTR_PATH, exchange -> handle("dtr", settings.dtr(), exchange, this::handleDtr));
+		server.createContext(EDC_PATH, exchange -> handle("edc", settings.edc(), exchange, this::handleEdc));
+		server.createContext(DISCOVERY_PATH,
+				exchange -> handle("discovery", settings.discovery(), exchange, this::handleDiscovery));
+		server.createContext(PORTAL_PATH,
+				exchange -> handle("portal", settings.portal(), exchange, this::handlePortal));
+	}
+
+	public void start() {
+		server.start();
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Properties which point a SDE instance to the stubs.
+	 */
+	public Map<String, String> sdeProperties(String clientId) {
+		String stubUrl = settings.stubUrl();
+		String tokenUrl = stubUrl + TOKEN_PATH;
+		Map<String, String> properties = new TreeMap<>();
+		properties.put("keycloak.clientid", clientId);
+		properties.put("spring.security.oauth2.resourceserver.jwt.issuer-uri", jwtIssuer.getIssuer());
+		properties.put("digital-twins.hostname", stubUrl + DTR_PATH);
+		properties.put("digital-twins.authentication.url", tokenUrl);
+		properties.put("digital-twins.authentication.clientId", clientId);
+		properties.put("digital-twins.authentication.clientSecret", clientId);
+		properties.put("edc.hostname", stubUrl + EDC_PATH);
+		properties.put("edc.apiKeyHeader", "x-api-key");
+		properties.put("edc.apiKey", clientId);
+		properties.put("edc.consumer.hostname", stubUrl + EDC_PATH);
+		properties.put("edc.consumer.apikeyheader", "x-api-key");
+		properties.put("edc.consumer.apikey", clientId);
+		properties.put("dft.hostname", settings.sdeUrl());
+		properties.put("dft.apiKeyHeader", "x-api-key");
+		properties.put("dft.apiKey", clientId);
+		properties.put("manufacturerId", "BPNL00000000LOAD");
+		properties.put("partner.pool.hostname", stubUrl + PORTAL_PATH);
+		properties.put("partner.pool.authentication.url", tokenUrl);
+		properties.put("partner.pool.clientId", clientId);
+		properties.put("partner.pool.clientSecret", clientId);
+		properties.put("portal.backend.hostname", stubUrl + PORTAL_PATH);
+		properties.put("portal.backend.authentication.url", tokenUrl);
+		properties.put("portal.backend.clientId", clientId);
+		properties.put("portal.backend.clientSecret", clientId);
+		properties.put("bpndiscovery.hostname", stubUrl + DISCOVERY_PATH);
+		properties.put("discovery.authentication.url", tokenUrl);
+		properties.put("discovery.clientId", clientId);
+		properties.put("discovery.clientSecret", clientId);
+		return properties;
+	}
+
+	public List<Long> drainRowLatencies() {
+		List<Long> latencies = new ArrayList<>();
+		Long latency;
+		while ((latency = rowLatencyNanos.poll()) != null) {
+			latencies.add(latency);
+		}
+		return latencies;
+	}
+
+	public Map<String, Long> requestCounts() {
+		return counts(requests);
+	}
+
+	public Map<String, Long> errorCounts() {
+		return counts(errors);
+	}
+
+	private void handleRealm(HttpExchange exchange) throws IOException {
+		String path = exchange.getRequestURI().getPath().substring(JwtIssuer.REALM_PATH.length());
+		if (path.equals("/.well-known/openid-configuration"))
+			respond(exchange, 200, jwtIssuer.openidConfiguration());
+		else if (path.equals("/protocol/openid-connect/certs"))
+			respond(exchange, 200, jwtIssuer.jwks());
+		else if (path.equals("/protocol/openid-connect/token"))
+			respond(exchange, 200, tokenResponse());
+		else
+			respond(exchange, 404, Map.of());
+	}
+
+	private StubResponse handleDtr(String method, String path, String query, String body) throws IOException {
+
+		if (path.endsWith("/lookup/shells") && method.equals("GET")) {
+			Optional<String> rowKey = rowKey(query);
+			rowKey.ifPresent(key -> rowStartNanos.putIfAbsent(key, System.nanoTime()));
+			List<String> result = rowKey.map(shellsByRowKey::get).map(List::of).orElse(List.of());
+			return new StubResponse(200, Map.of("result", result));
+		}
+		if (path.contains("/lookup/shells/"))
+			return method.equals("DELETE") ? new StubResponse(204, null) : new StubResponse(201, List.of());
+
+		if (path.endsWith("/shell-descriptors") && method.equals("POST")) {
+			String shellId = "urn:uuid:" + rowKey(body).orElse("LT-0-0") + "-shell";
+			rowKey(body).ifPresent(key -> shellsByRowKey.put(key, shellId));
+			return new StubResponse(201, Map.of("id", shellId, "idShort", shellId));
+		}
+
+		String shell = pathSegmentAfter(path, "/shell-descriptors/");
+		if (path.endsWith("/submodel-descriptors")) {
+			if (method.equals("POST")) {
+				submodelsByShell.compute(shell, (key, existing) -> append(existing, readTree(body)));
+				return new StubResponse(201, body);
+			}
+			return new StubResponse(200, Map.of("result", submodelsByShell.getOrDefault(shell, List.of())));
+		}
+		if (method.equals("DELETE")) {
+			if (!path.contains("/submodel-descriptors/"))
+				submodelsByShell.remove(shell);
+			return new StubResponse(204, null);
+		}
+		return new StubResponse(200, Map.of("id", shell, "submodelDescriptors",
+				submodelsByShell.getOrDefault(shell, List.of())));
+	}
+
+	private StubResponse handleEdc(String method, String path, String query, String body) {
+
+		if (method.equals("DELETE")) {
+			if (path.contains("/assets/"))
+				rowKey(path).ifPresent(assetRowKeys::remove);
+			return new StubResponse(204, null);
+		}
+		if (path.contains("/assets/") && method.equals("GET"))
+			return rowKey(path).filter(assetRowKeys::contains).isPresent() ? new StubResponse(200, Map.of())
+					: new StubResponse(404, Map.of());
+
+		if (path.endsWith("/assets")) {
+			rowKey(body).ifPresent(assetRowKeys::add);
+		} else if (path.endsWith("/contractdefinitions")) {
+			rowKey(body).map(rowStartNanos::remove)
+					.ifPresent(start -> rowLatencyNanos.add(System.nanoTime() - start));
+		} else if (path.contains("/edrs") || path.endsWith("/contractdefinitions/request")) {
+			return new StubResponse(200, List.of());
+		}
+		return new StubResponse(200, Map.of());
+	}
+
+	private StubResponse handleDiscovery(String method, String path, String query, String body) {
+		if (method.equals("DELETE"))
+			return new StubResponse(204, null);
+		if (path.endsWith("/search"))
+			return new StubResponse(200, Map.of("bpns", List.of()));
+		return new StubResponse(201, List.of());
+	}
+
+	private StubResponse handlePortal(String method, String path, String query, String body) {
+		return new StubResponse(200, List.of());
+	}
+
+	private void handle(String stub, StubBehaviour behaviour, HttpExchange exchange, StubHandler handler)
+			throws IOException {
+		try (exchange) {
+			requests.computeIfAbsent(stub, key -> new LongAdder()).increment();
+			String body = readBody(exchange.getRequestBody());
+
+			long delay = behaviour.latency()
+					+ (behaviour.jitter() > 0 ? ThreadLocalRandom.current().nextLong(behaviour.jitter() + 1) : 0);
+			if (delay > 0)
+				Thread.sleep(delay);
+
+			if (behaviour.errorRate() > 0 && ThreadLocalRandom.current().nextDouble() < behaviour.errorRate()) {
+				errors.computeIfAbsent(stub, key -> new LongAdder()).increment();
+				respond(exchange, 500, Map.of("message", "Injected " + stub + " error"));
+				return;
+			}
+
+			String query = exchange.getRequestURI().getRawQuery();
+			StubResponse response = handler.handle(exchange.getRequestMethod(),
+					exchange.getRequestURI().getPath(),
+					query == null ? "" : URLDecoder.decode(query, StandardCharsets.UTF_8), body);
+			respond(exchange, response.status(), response.body());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+		if (body == null) {
+			exchange.sendResponseHeaders(status, -1);
+			return;
+		}
+		byte[] bytes = body instanceof String text ? text.getBytes(StandardCharsets.UTF_8)
+				: mapper.writeValueAsBytes(body);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream output = exchange.getResponseBody()) {
+			output.write(bytes);
+		}
+	}
+
+	private Map<String, Object> tokenResponse() {
+		try {
+			return Map.of("access_token", jwtIssuer.issueToken(3600), "expires_in", 3600, "token_type", "Bearer");
+		} catch (Exception e) {
+			throw new IllegalStateException("Unable to issue token", e);
+		}
+	}
+
+	private JsonNode readTree(String body) {
+		try {
+			return mapper.readTree(body);
+		} catch (IOException e) {
+			return mapper.createObjectNode();
+		}
+	}
+
+	private static List<JsonNode> append(List<JsonNode> existing, JsonNode node) {
+		List<JsonNode> list = existing == null ? new ArrayList<>() : new ArrayList<>(existing);
+		list.add(node);
+		return List.copyOf(list);
+	}
+
+	private static String readBody(InputStream input) throws IOException {
+		return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+	}
+
+	private static Optional<String> rowKey(String text) {
+		Matcher matcher = ROW_KEY.matcher(text);
+		return matcher.find() ? Optional.of(matcher.group()) : Optional.empty();
+	}
+
+	private static String pathSegmentAfter(String path, String prefix) {
+		int index = path.indexOf(prefix);
+		if (index < 0)
+			return "";
+		String rest = path.substring(index + prefix.length());
+		int end = rest.indexOf('/');
+		return end < 0 ? rest : rest.substring(0, end);
+	}
+
+	private static Map<String, Long> counts(Map<String, LongAdder> adders) {
+		Map<String, Long> counts = new TreeMap<>();
+		adders.forEach((key, value) -> counts.put(key, value.sum()));
+		return counts;
+	}
+
+	@FunctionalInterface
+	private interface StubHandler {
+		StubResponse handle(String method, String path, String query, String body) throws IOException;
+	}
+
+	private record StubResponse(int status, Object body) {
+	}
+}
@@ -0,0 +1,101 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.loadtest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Generates upload csv files from the schema of a submodel. Every row uses the
+ * schema examples, the uuid is left empty so SDE generates it and the part
+ * instance and manufacturer part ids carry the row key so each row creates its
+ * own twin.
+ */
+public class CsvGenerator {
+
+	private static final String SEPARATOR = ";";
+
+	private final List<String> fields = new ArrayList<>();
+
+	private final List<String> examples = new ArrayList<>();
+
+	public CsvGenerator(String submodel) throws IOException {
+		try (InputStream input = CsvGenerator.class.getResourceAsStream("/" + submodel + ".json")) {
+			if (input == null)
+				throw new IllegalArgumentException("No schema found for submodel " + submodel);
+
+			JsonNode properties = new ObjectMapper().readTree(input).path("items").path("properties");
+			Iterator<String> fieldNames = properties.fieldNames();
+			while (fieldNames.hasNext()) {
+				String field = fieldNames.next();
+				JsonNode example = properties.path(field).path("examples").path(0);
+				fields.add(field);
+				examples.add(example.isMissingNode() || example.isNull() ? "" : example.asText());
+			}
+		}
+	}
+
+	public static String rowKey(int upload, int row) {
+		return "LT-" + upload + "-" + row;
+	}
+
+	public Path generate(int upload, int rows) throws IOException {
+		Path file = Files.createTempFile("sde-loadtest-" + upload + "-", ".csv");
+		try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+			writer.write(String.join(SEPARATOR, fields));
+			writer.newLine();
+			for (int row = 0; row < rows; row++) {
+				writer.write(row(rowKey(upload, row)));
+				writer.newLine();
+			}
+		}
+		return file;
+	}
+
+	private String row(String rowKey) {
+		StringBuilder line = new StringBuilder();
+		for (int i = 0; i < fields.size(); i++) {
+			if (i > 0)
+				line.append(SEPARATOR);
+			line.append(value(fields.get(i), examples.get(i), rowKey));
+		}
+		return line.toString();
+	}
+
+	private static String value(String field, String example, String rowKey) {
+		if (field.equals("uuid"))
+			return "";
+		if (field.equals("part_instance_id"))
+			return rowKey;
+		if (field.endsWith("_instance_id") || field.endsWith("manufacturer_part_id"))
+			return rowKey + "-" + field;
+		return example;
+	}
+}
@@ -0,0 +1,85 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.loadtest;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+
+/**
+ * Samples the used heap of SDE every second over remote JMX.
+ */
+public class HeapSampler implements AutoCloseable {
+
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+	private final AtomicLong maxUsed = new AtomicLong(-1);
+
+	private final AtomicLong lastUsed = new AtomicLong(-1);
+
+	private JMXConnector connector;
+
+	public static HeapSampler connect(String jmx) {
+		HeapSampler sampler = new HeapSampler();
+		if (!jmx.isBlank())
+			sampler.scheduler.scheduleAtFixedRate(() -> sampler.sample(jmx), 0, 1, TimeUnit.SECONDS);
+		return sampler;
+	}
+
+	public long getMaxUsed() {
+		return maxUsed.get();
+	}
+
+	public long getLastUsed() {
+		return lastUsed.get();
+	}
+
+	private void sample(String jmx) {
+		try {
+			if (connector == null)
+				connector = JMXConnectorFactory
+						.connect(new JMXServiceURL("service:jmx:rmi:///jndi/rmi://" + jmx + "/jmxrmi"));
+
+			MemoryMXBean memory = ManagementFactory.newPlatformMXBeanProxy(connector.getMBeanServerConnection(),
+					ManagementFactory.MEMORY_MXBEAN_NAME, MemoryMXBean.class);
+			long used = memory.getHeapMemoryUsage().getUsed();
+			lastUsed.set(used);
+			maxUsed.accumulateAndGet(used, Math::max);
+		} catch (IOException | RuntimeException e) {
+			connector = null;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		scheduler.shutdownNow();
+		if (connector != null)
+			connector.close();
+	}
+}
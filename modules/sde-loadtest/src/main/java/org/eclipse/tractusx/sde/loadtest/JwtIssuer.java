@@ -0,0 +1,119 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.loadtest;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Minimal OpenID issuer for the load test. SDE validates the tokens of the
+ * load test client against the published key set and the stubbed services
+ * hand out the same tokens on their token endpoint.
+ */
+public class JwtIssuer {
+
+	public static final String REALM_PATH = "/realms/loadtest";
+
+	private static final String KEY_ID = "loadtest";
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+	private final ObjectMapper mapper = new ObjectMapper();
+
+	private final KeyPair keyPair;
+
+	private final String issuer;
+
+	private final String clientId;
+
+	public JwtIssuer(String baseUrl, String clientId) throws GeneralSecurityException {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		this.keyPair = generator.generateKeyPair();
+		this.issuer = baseUrl + REALM_PATH;
+		this.clientId = clientId;
+	}
+
+	public String getIssuer() {
+		return issuer;
+	}
+
+	public Map<String, Object> openidConfiguration() {
+		return Map.of("issuer", issuer,
+				"jwks_uri", issuer + "/protocol/openid-connect/certs",
+				"token_endpoint", issuer + "/protocol/openid-connect/token",
+				"subject_types_supported", List.of("public"),
+				"response_types_supported", List.of("code"),
+				"id_token_signing_alg_values_supported", List.of("RS256"));
+	}
+
+	public Map<String, Object> jwks() {
+		RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+		return Map.of("keys", List.of(Map.of("kty", "RSA",
+				"kid", KEY_ID,
+				"use", "sig",
+				"alg", "RS256",
+				"n", encode(unsigned(publicKey.getModulus())),
+				"e", encode(unsigned(publicKey.getPublicExponent())))));
+	}
+
+	public String issueToken(long validitySeconds) throws JsonProcessingException, GeneralSecurityException {
+		long now = Instant.now().getEpochSecond();
+		Map<String, Object> header = Map.of("alg", "RS256", "typ", "JWT", "kid", KEY_ID);
+		Map<String, Object> claims = Map.of("iss", issuer,
+				"sub", "sde-loadtest",
+				"azp", clientId,
+				"preferred_username", "sde-loadtest",
+				"iat", now,
+				"exp", now + validitySeconds,
+				"realm_access", Map.of("roles", List.of("Admin")),
+				"resource_access", Map.of(clientId, Map.of("roles", List.of("Admin"))));
+
+		String content = encode(mapper.writeValueAsBytes(header)) + "." + encode(mapper.writeValueAsBytes(claims));
+
+		Signature signature = Signature.getInstance("SHA256withRSA");
+		signature.initSign(keyPair.getPrivate());
+		signature.update(content.getBytes(StandardCharsets.US_ASCII));
+		return content + "." + encode(signature.sign());
+	}
+
+	private static byte[] unsigned(BigInteger value) {
+		byte[] bytes = value.toByteArray();
+		return bytes[0] == 0 ? Arrays.copyOfRange(bytes, 1, bytes.length) : bytes;
+	}
+
+	private static String encode(byte[] bytes) {
+		return ENCODER.encodeToString(bytes);
+	}
+}
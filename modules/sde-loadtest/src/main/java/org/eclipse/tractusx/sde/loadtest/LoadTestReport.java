@@ -0,0 +1,65 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.loadtest;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Outcome of a load test run.
+ */
+public record LoadTestReport(List<JsonNode> processReports, List<Long> rowLatencyNanos, long elapsedNanos,
+		long maxHeapUsed, Map<String, Long> stubRequests, Map<String, Long> stubErrors) {
+
+	public void print(PrintStream out) {
+		int succeeded = sum("numberOfSucceededItems");
+		int failed = sum("numberOfFailedItems");
+		double seconds = elapsedNanos / 1_000_000_000d;
+
+		out.println("---- SDE load test ----");
+		processReports.forEach(report -> out.printf("process %s: %s, %d succeeded, %d failed%n",
+				report.path("processId").asText(), report.path("status").asText(),
+				report.path("numberOfSucceededItems").asInt(), report.path("numberOfFailedItems").asInt()));
+		out.printf("rows: %d succeeded, %d failed in %.1fs%n", succeeded, failed, seconds);
+		out.printf("throughput: %.1f rows/sec%n", seconds > 0 ? (succeeded + failed) / seconds : 0);
+		out.printf("row latency: p50 %.1fms, p99 %.1fms, max %.1fms (%d rows)%n", percentile(50), percentile(99),
+				percentile(100), rowLatencyNanos.size());
+		out.printf("max heap used: %s%n", maxHeapUsed < 0 ? "n/a" : (maxHeapUsed / (1024 * 1024)) + "MB");
+		out.printf("stub requests: %s, injected errors: %s%n", stubRequests, stubErrors);
+	}
+
+	private int sum(String field) {
+		return processReports.stream().mapToInt(report -> report.path(field).asInt()).sum();
+	}
+
+	private double percentile(int percentile) {
+		if (rowLatencyNanos.isEmpty())
+			return 0;
+		List<Long> sorted = new ArrayList<>(rowLatencyNanos);
+		sorted.sort(null);
+		int index = (int) Math.ceil(percentile / 100d * sorted.size()) - 1;
+		return sorted.get(Math.max(index, 0)) / 1_000_000d;
+	}
+}
@@ -0,0 +1,116 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.loadtest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Uploads generated csv files to SDE while the DTR, EDC, BPN discovery and
+ * portal apis are served by {@link CatenaXStubServer}, then reports rows/sec,
+ * per row latency percentiles and the heap used by SDE.
+ * <p>
+ * With {@code loadtest.sde-jar} the runner starts SDE itself, otherwise SDE
+ * has to be started with the printed properties.
+ */
+public class LoadTestRunner {
+
+	private static final String CLIENT_ID = "sde-loadtest";
+
+	public static void main(String[] args) throws Exception {
+		LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+		String jmx = settings.jmx().isBlank() && !settings.sdeJar().isBlank() ? "localhost:9010" : settings.jmx();
+		settings = new LoadTestSettings(settings.sdeUrl(), settings.sdeJar(), jmx, settings.stubPort(),
+				settings.submodel(), settings.rows(), settings.uploads(), settings.concurrency(), settings.timeout(),
+				settings.datasourceUrl(), settings.datasourceUsername(), settings.datasourcePassword(),
+				settings.dtr(), settings.edc(), settings.discovery(), settings.portal());
+
+		JwtIssuer jwtIssuer = new JwtIssuer(settings.stubUrl(), CLIENT_ID);
+
+		try (CatenaXStubServer stubs = new CatenaXStubServer(settings, jwtIssuer)) {
+			stubs.start();
+			Map<String, String> sdeProperties = stubs.sdeProperties(CLIENT_ID);
+
+			SdeProcess sdeProcess = null;
+			if (settings.sdeJar().isBlank()) {
+				System.out.println("Start SDE with the following properties:");
+				sdeProperties.forEach((key, value) -> System.out.println(key + "=" + value));
+			} else {
+				sdeProcess = SdeProcess.start(settings, sdeProperties);
+			}
+
+			try {
+				LoadTestReport report = run(settings, jwtIssuer, stubs);
+				report.print(System.out);
+			} finally {
+				if (sdeProcess != null)
+					sdeProcess.close();
+			}
+		}
+	}
+
+	private static LoadTestReport run(LoadTestSettings settings, JwtIssuer jwtIssuer, CatenaXStubServer stubs)
+			throws Exception {
+
+		SdeClient sdeClient = new SdeClient(settings.sdeUrl(), jwtIssuer);
+		sdeClient.awaitReady(settings.timeout());
+
+		CsvGenerator csvGenerator = new CsvGenerator(settings.submodel());
+		List<Path> files = new ArrayList<>();
+		for (int upload = 0; upload < settings.uploads(); upload++) {
+			files.add(csvGenerator.generate(upload, settings.rows()));
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(settings.concurrency());
+		try (HeapSampler heapSampler = HeapSampler.connect(settings.jmx())) {
+			long start = System.nanoTime();
+
+			List<Future<JsonNode>> futures = new ArrayList<>();
+			for (Path file : files) {
+				futures.add(executor.submit(() -> {
+					String processId = sdeClient.upload(settings.submodel(), file);
+					return sdeClient.awaitProcessReport(processId, settings.timeout());
+				}));
+			}
+
+			List<JsonNode> processReports = new ArrayList<>();
+			for (Future<JsonNode> future : futures) {
+				processReports.add(future.get());
+			}
+
+			return new LoadTestReport(processReports, stubs.drainRowLatencies(), System.nanoTime() - start,
+					heapSampler.getMaxUsed(), stubs.requestCounts(), stubs.errorCounts());
+		} finally {
+			executor.shutdownNow();
+			for (Path file : files) {
+				Files.deleteIfExists(file);
+			}
+		}
+	}
+}
@@ -0,0 +1,71 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.loadtest;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties.
+ */
+public record LoadTestSettings(String sdeUrl, String sdeJar, String jmx, int stubPort, String submodel, int rows,
+		int uploads, int concurrency, long timeout, String datasourceUrl, String datasourceUsername,
+		String datasourcePassword, StubBehaviour dtr, StubBehaviour edc, StubBehaviour discovery,
+		StubBehaviour portal) {
+
+	public static LoadTestSettings fromSystemProperties() {
+		return new LoadTestSettings(
+				property("sde-url", "http://localhost:8080/api"),
+				property("sde-jar", ""),
+				property("jmx", ""),
+				Integer.parseInt(property("stub-port", "8090")),
+				property("submodel", "serial-part-typization"),
+				Integer.parseInt(property("rows", "10000")),
+				Integer.parseInt(property("uploads", "1")),
+				Integer.parseInt(property("concurrency", "1")),
+				Long.parseLong(property("timeout", "3600000")),
+				property("datasource.url", ""),
+				property("datasource.username", ""),
+				property("datasource.password", ""),
+				stubBehaviour("dtr"),
+				stubBehaviour("edc"),
+				stubBehaviour("discovery"),
+				stubBehaviour("portal"));
+	}
+
+	public String stubUrl() {
+		return "http://localhost:" + stubPort;
+	}
+
+	private static StubBehaviour stubBehaviour(String stub) {
+		return new StubBehaviour(Long.parseLong(property(stub + ".latency", property("latency", "0"))),
+				Long.parseLong(property(stub + ".jitter", property("jitter", "0"))),
+				Double.parseDouble(property(stub + ".error-rate", property("error-rate", "0"))));
+	}
+
+	private static String property(String key, String defaultValue) {
+		return System.getProperty("loadtest." + key, defaultValue);
+	}
+
+	/**
+	 * Latency in milliseconds, added to every stub response, and the share of
+	 * requests answered with an internal server error.
+	 */
+	public record StubBehaviour(long latency, long jitter, double errorRate) {
+	}
+}
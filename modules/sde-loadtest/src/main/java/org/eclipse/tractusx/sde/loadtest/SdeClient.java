@@ -0,0 +1,124 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Drives the SDE upload and processing report apis with a token of the stub
+ * issuer.
+ */
+public class SdeClient {
+
+	private static final String META_DATA = """
+			{"type_of_access":"unrestricted","bpn_numbers":[],\
+			"usage_policies":[{"type":"PURPOSE","typeOfAccess":"UNRESTRICTED","value":""}]}""";
+
+	private static final Duration POLL_INTERVAL = Duration.ofSeconds(1);
+
+	private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+
+	private final ObjectMapper mapper = new ObjectMapper();
+
+	private final String sdeUrl;
+
+	private final JwtIssuer jwtIssuer;
+
+	public SdeClient(String sdeUrl, JwtIssuer jwtIssuer) {
+		this.sdeUrl = sdeUrl;
+		this.jwtIssuer = jwtIssuer;
+	}
+
+	public void awaitReady(long timeout) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + timeout;
+		while (System.currentTimeMillis() < deadline) {
+			try {
+				HttpRequest request = HttpRequest.newBuilder(URI.create(sdeUrl + "/ping")).GET().build();
+				if (httpClient.send(request, BodyHandlers.discarding()).statusCode() == 200)
+					return;
+			} catch (IOException e) {
+				// SDE is still starting
+			}
+			Thread.sleep(POLL_INTERVAL.toMillis());
+		}
+		throw new IllegalStateException("SDE not reachable on " + sdeUrl);
+	}
+
+	public String upload(String submodel, Path csv) throws Exception {
+		String boundary = "sde-loadtest-" + UUID.randomUUID();
+		BodyPublisher body = BodyPublishers.concat(
+				BodyPublishers.ofString(part(boundary, "meta_data", null) + META_DATA + "\r\n"),
+				BodyPublishers.ofString(part(boundary, "file", csv.getFileName().toString())),
+				BodyPublishers.ofFile(csv),
+				BodyPublishers.ofString("\r\n--" + boundary + "--\r\n"));
+
+		HttpRequest request = authorized(sdeUrl + "/" + submodel + "/upload")
+				.header("Content-Type", "multipart/form-data; boundary=" + boundary)
+				.POST(body)
+				.build();
+
+		var response = httpClient.send(request, BodyHandlers.ofString());
+		if (response.statusCode() != 200)
+			throw new IllegalStateException("Upload failed with " + response.statusCode() + ": " + response.body());
+		return response.body();
+	}
+
+	public JsonNode awaitProcessReport(String processId, long timeout) throws Exception {
+		long deadline = System.currentTimeMillis() + timeout;
+		while (System.currentTimeMillis() < deadline) {
+			HttpRequest request = authorized(sdeUrl + "/processing-report/" + processId).GET().build();
+			var response = httpClient.send(request, BodyHandlers.ofString());
+			if (response.statusCode() == 200) {
+				JsonNode report = mapper.readTree(response.body());
+				if (!List.of("", "IN_PROGRESS").contains(report.path("status").asText()))
+					return report;
+			}
+			Thread.sleep(POLL_INTERVAL.toMillis());
+		}
+		throw new IllegalStateException("Process " + processId + " not finished within " + timeout + "ms");
+	}
+
+	private HttpRequest.Builder authorized(String url) throws Exception {
+		return HttpRequest.newBuilder(URI.create(url))
+				.header("Authorization", "Bearer " + jwtIssuer.issueToken(3600))
+				.timeout(Duration.ofMinutes(5));
+	}
+
+	private static String part(String boundary, String name, String fileName) {
+		String disposition = "Content-Disposition: form-data; name=\"" + name + "\""
+				+ (fileName == null ? "" : "; filename=\"" + fileName + "\"");
+		String contentType = fileName == null ? "text/plain" : "text/csv";
+		return "--" + boundary + "\r\n" + disposition + "\r\nContent-Type: " + contentType + "\r\n\r\n";
+	}
+}
@@ -0,0 +1,73 @@
+/********************************************************************************
+ * Copyright (c) 2023 T-Systems International GmbH
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Apache License, Version 2.0 which is available at
+ * https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ ********************************************************************************/
+
+package org.eclipse.tractusx.sde.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SDE started from its application jar, configured against the stubs and with
+ * remote JMX enabled for heap sampling.
+ */
+public class SdeProcess implements AutoCloseable {
+
+	private final Process process;
+
+	private SdeProcess(Process process) {
+		this.process = process;
+	}
+
+	public static SdeProcess start(LoadTestSettings settings, Map<String, String> stubProperties) throws IOException {
+		URI sdeUri = URI.create(settings.sdeUrl());
+		String jmxPort = settings.jmx().substring(settings.jmx().lastIndexOf(':') + 1);
+
+		List<String> command = new ArrayList<>();
+		command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+		command.add("-Dcom.sun.management.jmxremote.port=" + jmxPort);
+		command.add("-Dcom.sun.management.jmxremote.rmi.port=" + jmxPort);
+		command.add("-Dcom.sun.management.jmxremote.authenticate=false");
+		command.add("-Dcom.sun.management.jmxremote.ssl=false");
+		command.add("-Djava.rmi.server.hostname=localhost");
+		command.add("-jar");
+		command.add(settings.sdeJar());
+		command.add("--server.port=" + sdeUri.getPort());
+		command.add("--server.servlet.context-path=" + sdeUri.getPath());
+		command.add("--spring.datasource.url=" + settings.datasourceUrl());
+		command.add("--spring.datasource.username=" + settings.datasourceUsername());
+		command.add("--spring.datasource.password=" + settings.datasourcePassword());
+		stubProperties.forEach((key, value) -> command.add("--" + key + "=" + value));
+
+		File log = new File("sde-loadtest.log");
+		Process process = new ProcessBuilder(command).redirectErrorStream(true)
+				.redirectOutput(ProcessBuilder.Redirect.to(log)).start();
+		return new SdeProcess(process);
+	}
+
+	@Override
+	public void close() {
+		process.destroy();
+	}
+}
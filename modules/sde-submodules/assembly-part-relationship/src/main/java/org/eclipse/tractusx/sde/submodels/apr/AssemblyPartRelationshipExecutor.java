@@ -29,10 +29,12 @@ import org.eclipse.tractusx.sde.bpndiscovery.handler.BPNDiscoveryUseCaseHandler;
 import org.eclipse.tractusx.sde.common.constants.CommonConstants;
 import org.eclipse.tractusx.sde.common.entities.csv.RowData;
 import org.eclipse.tractusx.sde.common.exception.CsvHandlerDigitalTwinUseCaseException;
+import org.eclipse.tractusx.sde.common.submodel.executor.AspectPayloadMaterialiser;
 import org.eclipse.tractusx.sde.common.submodel.executor.SubmodelExecutor;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.CsvParse;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.JsonRecordFormating;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.JsonRecordValidate;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.RowContentHash;
 import org.eclipse.tractusx.sde.submodels.apr.mapper.AspectRelationshipMapper;
 import org.eclipse.tractusx.sde.submodels.apr.model.AspectRelationship;
 import org.eclipse.tractusx.sde.submodels.apr.service.AspectRelationshipService;
@@ -65,12 +67,16 @@ public class AssemblyPartRelationshipExecutor extends SubmodelExecutor {
 
 	private final StoreAspectRelationshipCsvHandlerUseCase storeAspectRelationshipCsvHandlerUseCase;
 
+	private final AspectPayloadMaterialiser aspectPayloadMaterialiser;
+
 	private final AspectRelationshipMapper aspectRelationshipMapper;
 	
 	private final BPNDiscoveryUseCaseHandler bPNDiscoveryUseCaseHandler; 
 
 	private final AspectRelationshipService aspectRelationshipService;
 
+	private final RowContentHash rowContentHash;
+
 	@SneakyThrows
 	public void executeCsvRecord(RowData rowData, ObjectNode jsonObject, String processId) {
 
@@ -95,11 +101,17 @@ public class AssemblyPartRelationshipExecutor extends SubmodelExecutor {
 	private void nextSteps(Integer rowIndex, ObjectNode jsonObject, String processId)
 			throws CsvHandlerDigitalTwinUseCaseException {
 
+		String contentHash = rowContentHash.hash(jsonObject);
+
 		AspectRelationship aspectRelationship = aspectRelationshipMapper.mapFrom(jsonObject);
 
 		jsonRecordValidate.init(getSubmodelSchema());
 		jsonRecordValidate.run(rowIndex, jsonObject);
 
+		if (rowContentHash.isEnabled() && aspectRelationshipService.markUnchanged(contentHash, processId))
+			return;
+		aspectRelationship.setContentHash(contentHash);
+
 		digitalTwinsAspectRelationShipCsvHandlerUseCase.init(getSubmodelSchema());
 		digitalTwinsAspectRelationShipCsvHandlerUseCase.run(aspectRelationship);
 
@@ -109,10 +121,11 @@ public class AssemblyPartRelationshipExecutor extends SubmodelExecutor {
 		if (StringUtils.isBlank(aspectRelationship.getUpdated())) {
 			Map<String, String> bpnKeyMap = new HashMap<>();
 			bpnKeyMap.put(CommonConstants.MANUFACTURER_PART_ID, aspectRelationship.getChildManufacturerPartId());
-			bPNDiscoveryUseCaseHandler.run(bpnKeyMap);
+			bPNDiscoveryUseCaseHandler.run(processId, bpnKeyMap);
 		}
 
 		storeAspectRelationshipCsvHandlerUseCase.run(aspectRelationship);
+		aspectPayloadMaterialiser.changed(processId, getNameOfModel(), aspectRelationship.getParentUuid());
 	}
 
 	@Override
@@ -121,12 +134,24 @@ public class AssemblyPartRelationshipExecutor extends SubmodelExecutor {
 	}
 
 	@Override
-	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId) {
-		return aspectRelationshipService.readCreatedTwinsforDelete(refProcessId);
+	public void markDeleted(String refProcessId, List<JsonObject> deletedRecords) {
+		aspectRelationshipService.markDeleted(refProcessId, deletedRecords);
+		deletedRecords.stream().map(jsonObject -> jsonObject.get("parentCatenaXId").getAsString()).distinct()
+				.forEach(uuid -> aspectPayloadMaterialiser.refresh(getNameOfModel(), uuid));
+	}
+
+	@Override
+	public int countCreatedTwinsforDelete(String refProcessId) {
+		return aspectRelationshipService.countCreatedTwinsforDelete(refProcessId);
 	}
 
 	@Override
-	public JsonObject readCreatedTwinsDetails(String uuid) {
+	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId, JsonObject after, int pageSize) {
+		return aspectRelationshipService.readCreatedTwinsforDelete(refProcessId, after, pageSize);
+	}
+
+	@Override
+	public ObjectNode readCreatedTwinsDetails(String uuid) {
 		return aspectRelationshipService.readCreatedTwinsDetails(uuid);
 	}
 
@@ -135,4 +160,9 @@ public class AssemblyPartRelationshipExecutor extends SubmodelExecutor {
 		return aspectRelationshipService.getUpdatedData(processId);
 	}
 
+	@Override
+	public int getUnchangedRecordCount(String processId) {
+		return aspectRelationshipService.getUnchangedData(processId);
+	}
+
 }
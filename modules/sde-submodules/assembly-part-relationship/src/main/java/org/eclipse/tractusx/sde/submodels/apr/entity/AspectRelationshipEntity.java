@@ -26,12 +26,15 @@ import java.io.Serializable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.IdClass;
 import jakarta.persistence.Table;
 import lombok.Data;
 
 @Entity
-@Table(name = "aspect_relationship")
+@Table(name = "aspect_relationship", indexes = {
+        @Index(name = "aspect_relationship_process_key_idx", columnList = "process_id, parent_uuid, uuid"),
+        @Index(name = "aspect_relationship_content_hash_idx", columnList = "content_hash") })
 @Data
 @IdClass(AspectRelationshipPrimaryKey.class)
 public class AspectRelationshipEntity implements Serializable {
@@ -88,5 +91,7 @@ public class AspectRelationshipEntity implements Serializable {
     private String deleted;
     @Column(name = "updated")
     private String updated;
+    @Column(name = "content_hash")
+    private String contentHash;
 
 }
\ No newline at end of file
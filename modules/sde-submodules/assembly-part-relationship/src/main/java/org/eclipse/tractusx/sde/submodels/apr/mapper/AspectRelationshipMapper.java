@@ -26,6 +26,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.eclipse.tractusx.sde.common.mapper.AspectResponseFactory;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.eclipse.tractusx.sde.submodels.apr.entity.AspectRelationshipEntity;
 import org.eclipse.tractusx.sde.submodels.apr.model.AspectRelationship;
 import org.eclipse.tractusx.sde.submodels.apr.model.AspectRelationshipResponse;
@@ -38,7 +39,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
 import lombok.SneakyThrows;
@@ -47,7 +47,7 @@ import lombok.SneakyThrows;
 @JsonIgnoreProperties(ignoreUnknown = true)
 public abstract class AspectRelationshipMapper {
 
-	ObjectMapper mapper = new ObjectMapper();
+	ObjectMapper mapper = JsonMappers.objectMapper();
 	
 	@Autowired
 	private AspectResponseFactory aspectResponseFactory;
@@ -63,18 +63,18 @@ public abstract class AspectRelationshipMapper {
 	
 	@SneakyThrows
 	public AspectRelationship mapFrom(ObjectNode aspectRelationship) {
-		return mapper.readValue(aspectRelationship.toString(), AspectRelationship.class);
+		return mapper.treeToValue(aspectRelationship, AspectRelationship.class);
 	}
 
 	public AspectRelationshipEntity mapforEntity(JsonObject entity) {
-		return new Gson().fromJson(entity, AspectRelationshipEntity.class);
+		return JsonMappers.gson().fromJson(entity, AspectRelationshipEntity.class);
 	}
 
 	public JsonObject mapFromEntity(AspectRelationshipEntity aspectRelationship) {
-		return new Gson().toJsonTree(aspectRelationship).getAsJsonObject();
+		return JsonMappers.gson().toJsonTree(aspectRelationship).getAsJsonObject();
 	}
 
-	public JsonObject mapToResponse(String parentCatenaXUuid, List<AspectRelationshipEntity> aspectRelationships) {
+	public ObjectNode mapToResponse(String parentCatenaXUuid, List<AspectRelationshipEntity> aspectRelationships) {
 
 		if (aspectRelationships == null || aspectRelationships.isEmpty()) {
 			return null;
@@ -89,14 +89,14 @@ public abstract class AspectRelationshipMapper {
 		
 		AspectRelationshipEntity aspectRelationshipEntity = aspectRelationships.get(0);
 		
-		JsonObject csvObj = mapFromEntity(aspectRelationshipEntity);
+		AspectRelationship csvObj = mapFrom(aspectRelationshipEntity);
 
 		return aspectResponseFactory.maptoReponse(csvObj, build);
 
 	}
 
 	public AspectRelationshipResponse mapforResponse(JsonObject entity) {
-		return new Gson().fromJson(entity, AspectRelationshipResponse.class);
+		return JsonMappers.gson().fromJson(entity, AspectRelationshipResponse.class);
 	}
 
 	private ChildItems toChildItems(AspectRelationshipEntity entity) {
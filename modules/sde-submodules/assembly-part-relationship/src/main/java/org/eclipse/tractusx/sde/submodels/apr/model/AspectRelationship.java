@@ -26,6 +26,7 @@ import java.util.List;
 
 import org.eclipse.tractusx.sde.common.entities.UsagePolicies;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -49,6 +50,8 @@ public class AspectRelationship {
 	private String contractDefinationId;
 	private String deleted;
 	private String updated;
+	@JsonIgnore
+	private String contentHash;
 	private String oldSubmodelIdforUpdateCase;
 
 	@JsonProperty(value = "row_number")
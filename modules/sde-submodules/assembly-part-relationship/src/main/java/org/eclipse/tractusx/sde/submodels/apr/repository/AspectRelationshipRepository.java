@@ -25,8 +25,11 @@ package org.eclipse.tractusx.sde.submodels.apr.repository;
 import java.util.List;
 
 import org.eclipse.tractusx.sde.submodels.apr.entity.AspectRelationshipEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface AspectRelationshipRepository extends JpaRepository<AspectRelationshipEntity, String> {
 
@@ -34,10 +37,37 @@ public interface AspectRelationshipRepository extends JpaRepository<AspectRelati
 	
 	AspectRelationshipEntity findByChildCatenaXId(String uuid);
 
-	List<AspectRelationshipEntity> findByProcessId(String processId);
-
 	@Query("select count(ar) from AspectRelationshipEntity ar where ar.updated = ?1 and ar.processId = ?2")
 	long countByUpdatedAndProcessId(String updated, String processId);
 
 	AspectRelationshipEntity findTop1BySubModelId(String subModelId);
+
+	@Modifying
+	@Transactional
+	@Query("update AspectRelationshipEntity e set e.processId = ?2, e.updated = ?3 where e.contentHash = ?1 "
+			+ "and (e.deleted is null or e.deleted <> ?4)")
+	int markUnchanged(String contentHash, String processId, String updated, String deleted);
+
+	@Modifying
+	@Transactional
+	@Query("update AspectRelationshipEntity e set e.deleted = ?4 where e.processId = ?1 and e.childCatenaXId in ?2 "
+			+ "and concat(e.parentCatenaXId, '|', e.childCatenaXId) in ?3")
+	int markDeleted(String processId, List<String> childUuids, List<String> relationshipKeys, String deleted);
+
+	static String relationshipKey(String parentCatenaXId, String childCatenaXId) {
+		return parentCatenaXId + "|" + childCatenaXId;
+	}
+
+	@Query("select count(e) from AspectRelationshipEntity e where e.processId = ?1")
+	long countByProcessId(String processId);
+
+	@Query("select count(e) from AspectRelationshipEntity e where e.processId = ?1 "
+			+ "and (e.deleted is null or e.deleted <> ?2)")
+	long countUndeletedByProcessId(String processId, String deleted);
+
+	@Query("select e from AspectRelationshipEntity e where e.processId = ?1 and (e.deleted is null or e.deleted <> ?2) "
+			+ "and (e.parentCatenaXId > ?3 or (e.parentCatenaXId = ?3 and e.childCatenaXId > ?4)) "
+			+ "order by e.parentCatenaXId, e.childCatenaXId")
+	List<AspectRelationshipEntity> findUndeletedByProcessIdAfter(String processId, String deleted,
+			String afterParentCatenaXId, String afterChildCatenaXId, Pageable page);
 }
@@ -30,8 +30,10 @@ import org.eclipse.tractusx.sde.edc.facilitator.DeleteEDCFacilitator;
 import org.eclipse.tractusx.sde.submodels.apr.entity.AspectRelationshipEntity;
 import org.eclipse.tractusx.sde.submodels.apr.mapper.AspectRelationshipMapper;
 import org.eclipse.tractusx.sde.submodels.apr.repository.AspectRelationshipRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.gson.JsonObject;
 
 import lombok.AllArgsConstructor;
@@ -51,17 +53,23 @@ public class AspectRelationshipService {
 
 	private final DigitalTwinsFacilitator deleteDigitalTwinsFacilitator;
 
-	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId) {
-
-		return Optional
-				.ofNullable(Optional.ofNullable(aspectRelationshipRepository.findByProcessId(refProcessId))
-						.filter(a -> !a.isEmpty())
-						.orElseThrow(() -> new NoDataFoundException(
-								String.format("No data found for processid %s ", refProcessId)))
-						.stream().filter(e -> !DELETED_Y.equals(e.getDeleted()))
-						.map(aspectRelationshipMapper::mapFromEntity).toList())
-				.filter(a -> !a.isEmpty()).orElseThrow(
-						() -> new NoDataFoundException("No data founds for deletion, All records are already deleted"));
+	public int countCreatedTwinsforDelete(String refProcessId) {
+
+		if (aspectRelationshipRepository.countByProcessId(refProcessId) == 0)
+			throw new NoDataFoundException(String.format("No data found for processid %s ", refProcessId));
+
+		int count = (int) aspectRelationshipRepository.countUndeletedByProcessId(refProcessId, DELETED_Y);
+		if (count == 0)
+			throw new NoDataFoundException("No data founds for deletion, All records are already deleted");
+		return count;
+	}
+
+	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId, JsonObject after, int pageSize) {
+		AspectRelationshipEntity last = after == null ? null : aspectRelationshipMapper.mapforEntity(after);
+		return aspectRelationshipRepository
+				.findUndeletedByProcessIdAfter(refProcessId, DELETED_Y, last == null ? "" : last.getParentCatenaXId(),
+						last == null ? "" : last.getChildCatenaXId(), PageRequest.of(0, pageSize))
+				.stream().map(aspectRelationshipMapper::mapFromEntity).toList();
 	}
 
 	public void deleteAllDataBySequence(JsonObject jsonObject) {
@@ -72,28 +80,26 @@ public class AspectRelationshipService {
 
 		deleteDigitalTwinsFacilitator.deleteSubmodelfromShellById(aspectRelationshipEntity.getShellId(),
 				aspectRelationshipEntity.getSubModelId());
-
-		saveAspectRelationshipWithDeleted(aspectRelationshipEntity);
 	}
 
 	@SneakyThrows
 	public void deleteEDCAsset(AspectRelationshipEntity aspectRelationshipEntity) {
-
-		deleteEDCFacilitator.deleteContractDefination(aspectRelationshipEntity.getContractDefinationId());
-
-		deleteEDCFacilitator.deleteAccessPolicy(aspectRelationshipEntity.getAccessPolicyId());
-
-		deleteEDCFacilitator.deleteUsagePolicy(aspectRelationshipEntity.getUsagePolicyId());
-
-		deleteEDCFacilitator.deleteAssets(aspectRelationshipEntity.getAssetId());
+		deleteEDCFacilitator.deleteEDCAsset(aspectRelationshipEntity.getContractDefinationId(),
+				aspectRelationshipEntity.getAccessPolicyId(),
+				aspectRelationshipEntity.getUsagePolicyId(),
+				aspectRelationshipEntity.getAssetId());
 	}
 
-	private void saveAspectRelationshipWithDeleted(AspectRelationshipEntity aspectRelationshipEntity) {
-		aspectRelationshipEntity.setDeleted(DELETED_Y);
-		aspectRelationshipRepository.save(aspectRelationshipEntity);
+	public void markDeleted(String refProcessId, List<JsonObject> deletedRecords) {
+		List<AspectRelationshipEntity> entities = deletedRecords.stream().map(aspectRelationshipMapper::mapforEntity).toList();
+		List<String> childUuids = entities.stream().map(AspectRelationshipEntity::getChildCatenaXId).distinct().toList();
+		List<String> relationshipKeys = entities.stream()
+				.map(e -> AspectRelationshipRepository.relationshipKey(e.getParentCatenaXId(), e.getChildCatenaXId()))
+				.toList();
+		aspectRelationshipRepository.markDeleted(refProcessId, childUuids, relationshipKeys, DELETED_Y);
 	}
 
-	public JsonObject readCreatedTwinsDetails(String uuid) {
+	public ObjectNode readCreatedTwinsDetails(String uuid) {
 		List<AspectRelationshipEntity> entities = Optional
 				.ofNullable(aspectRelationshipRepository.findByParentCatenaXId(uuid))
 				.orElseThrow(() -> new NoDataFoundException("No data found uuid " + uuid));
@@ -111,6 +117,16 @@ public class AspectRelationshipService {
 		return (int) aspectRelationshipRepository.countByUpdatedAndProcessId(CommonConstants.UPDATED_Y, refProcessId);
 	}
 
+	public boolean markUnchanged(String contentHash, String processId) {
+		return aspectRelationshipRepository.markUnchanged(contentHash, processId,
+				CommonConstants.UPDATED_UNCHANGED, CommonConstants.DELETED_Y) > 0;
+	}
+
+	public int getUnchangedData(String refProcessId) {
+		return (int) aspectRelationshipRepository.countByUpdatedAndProcessId(CommonConstants.UPDATED_UNCHANGED,
+				refProcessId);
+	}
+
 	public AspectRelationshipEntity readEntityBySubModelId(String subModelId) {
 		return Optional.ofNullable(aspectRelationshipRepository.findTop1BySubModelId(subModelId))
 				.orElseThrow(() -> new NoDataFoundException(
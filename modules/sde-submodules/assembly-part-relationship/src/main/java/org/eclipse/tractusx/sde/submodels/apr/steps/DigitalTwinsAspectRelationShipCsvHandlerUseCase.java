@@ -22,11 +22,9 @@
 
 package org.eclipse.tractusx.sde.submodels.apr.steps;
 
-import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.tractusx.sde.common.constants.CommonConstants;
 import org.eclipse.tractusx.sde.common.exception.CsvHandlerDigitalTwinUseCaseException;
@@ -38,6 +36,7 @@ import org.eclipse.tractusx.sde.digitaltwins.entities.response.ShellDescriptorRe
 import org.eclipse.tractusx.sde.digitaltwins.entities.response.SubModelResponse;
 import org.eclipse.tractusx.sde.digitaltwins.facilitator.DigitalTwinsFacilitator;
 import org.eclipse.tractusx.sde.digitaltwins.facilitator.DigitalTwinsUtility;
+import org.eclipse.tractusx.sde.edc.util.DDTRUrlCacheUtility;
 import org.eclipse.tractusx.sde.submodels.apr.model.AspectRelationship;
 import org.springframework.stereotype.Service;
 
@@ -54,8 +53,6 @@ public class DigitalTwinsAspectRelationShipCsvHandlerUseCase extends Step {
 	private final DigitalTwinsUtility digitalTwinsUtility;
 	private final DDTRUrlCacheUtility dDTRUrlCacheUtility;
 
-	private static final Map<String, LocalDateTime> map = new ConcurrentHashMap<>();
-
 	@SneakyThrows
 	public AspectRelationship run(AspectRelationship aspectRelationShip) throws CsvHandlerDigitalTwinUseCaseException {
 		try {
@@ -234,23 +231,19 @@ public class DigitalTwinsAspectRelationShipCsvHandlerUseCase extends Step {
 	}
 
 	public List<String> getDDTRUrl(String bpnNumber) {
-
-		LocalDateTime cacheExpTime = map.get(bpnNumber);
-		LocalDateTime currDate = LocalDateTime.now();
-
-		if (cacheExpTime == null)
-			cacheExpTime = currDate.plusHours(12);
-		else if (currDate.isAfter(cacheExpTime)) {
-			dDTRUrlCacheUtility.removeDDTRUrlCache(bpnNumber);
-			cacheExpTime = currDate.plusHours(12);
-		}
-		map.put(bpnNumber, cacheExpTime);
 		return dDTRUrlCacheUtility.getDDTRUrl(bpnNumber);
 	}
 
 	public void clearDDTRUrlCache() {
-		map.clear();
 		dDTRUrlCacheUtility.cleareDDTRUrlAllCache();
 	}
 
+	public void refreshDDTRUrlCache(String bpnNumber) {
+		dDTRUrlCacheUtility.refreshDDTRUrlCache(bpnNumber);
+	}
+
+	public Map<String, Object> getDDTRUrlCacheStats() {
+		return dDTRUrlCacheUtility.getDDTRUrlCacheStats();
+	}
+
 }
\ No newline at end of file
@@ -23,10 +23,11 @@
 package org.eclipse.tractusx.sde.submodels.apr.steps;
 
 import java.util.Map;
+import java.util.Optional;
 
 import org.eclipse.tractusx.sde.common.constants.CommonConstants;
 import org.eclipse.tractusx.sde.common.exception.CsvHandlerUseCaseException;
-import org.eclipse.tractusx.sde.common.exception.ServiceException;
+import org.eclipse.tractusx.sde.common.exception.NoDataFoundException;
 import org.eclipse.tractusx.sde.common.submodel.executor.Step;
 import org.eclipse.tractusx.sde.edc.entities.request.asset.AssetEntryRequest;
 import org.eclipse.tractusx.sde.edc.entities.request.asset.AssetEntryRequestFactory;
@@ -71,8 +72,7 @@ public class EDCAspectRelationshipHandlerUseCase extends Step {
 
 			} else {
 
-				deleteEDCFirstForUpdate(submodel, input, processId);
-				edcProcessingforAspectRelationship(assetEntryRequest, input);
+				edcUpdateforAspectRelationship(assetEntryRequest, input);
 				input.setUpdated(CommonConstants.UPDATED_Y);
 			}
 
@@ -99,15 +99,28 @@ public class EDCAspectRelationshipHandlerUseCase extends Step {
 	}
 
 	@SneakyThrows
-	private void deleteEDCFirstForUpdate(String submodel, AspectRelationship input, String processId) {
+	private void edcUpdateforAspectRelationship(AssetEntryRequest assetEntryRequest, AspectRelationship input) {
+
+		Optional<AspectRelationshipEntity> entity = findEntity(input.getChildUuid());
+		Map<String, String> updateEDCAsset = createEDCAssetFacilator.updateEDCAsset(assetEntryRequest,
+				input.getBpnNumbers(), input.getUsagePolicies(),
+				entity.map(AspectRelationshipEntity::getAccessPolicyId).orElse(null),
+				entity.map(AspectRelationshipEntity::getUsagePolicyId).orElse(null),
+				entity.map(AspectRelationshipEntity::getContractDefinationId).orElse(null));
+
+		// EDC transaction information for DB
+		input.setAssetId(assetEntryRequest.getAsset().getId());
+		input.setAccessPolicyId(updateEDCAsset.get("accessPolicyId"));
+		input.setUsagePolicyId(updateEDCAsset.get("usagePolicyId"));
+		input.setContractDefinationId(updateEDCAsset.get("contractDefinitionId"));
+	}
+
+	private Optional<AspectRelationshipEntity> findEntity(String uuid) {
 		try {
-			AspectRelationshipEntity aspectRelationshipEntity = aspectRelationshipService
-					.readEntity(input.getChildUuid());
-			aspectRelationshipService.deleteEDCAsset(aspectRelationshipEntity);
-		} catch (Exception e) {
-			if (!e.getMessage().contains("404 Not Found")) {
-				throw new ServiceException("Exception in EDC delete request process: " + e.getMessage());
-			}
+			return Optional.of(aspectRelationshipService.readEntity(uuid));
+		} catch (NoDataFoundException e) {
+			// asset offered without a local record yet, its offer is looked up in the EDC
+			return Optional.empty();
 		}
 	}
 
@@ -28,11 +28,13 @@ import org.eclipse.tractusx.sde.bpndiscovery.handler.BPNDiscoveryUseCaseHandler;
 import org.eclipse.tractusx.sde.common.constants.CommonConstants;
 import org.eclipse.tractusx.sde.common.entities.csv.RowData;
 import org.eclipse.tractusx.sde.common.exception.CsvHandlerDigitalTwinUseCaseException;
+import org.eclipse.tractusx.sde.common.submodel.executor.AspectPayloadMaterialiser;
 import org.eclipse.tractusx.sde.common.submodel.executor.SubmodelExecutor;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.CsvParse;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.GenerateUrnUUID;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.JsonRecordFormating;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.JsonRecordValidate;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.RowContentHash;
 import org.eclipse.tractusx.sde.submodels.batch.mapper.BatchMapper;
 import org.eclipse.tractusx.sde.submodels.batch.model.Batch;
 import org.eclipse.tractusx.sde.submodels.batch.service.BatchService;
@@ -65,9 +67,13 @@ public class BatchExecutor extends SubmodelExecutor {
 
 	private final StoreBatchCsvHandlerUseCase storeBatchCsvHandlerUseCase;
 
+	private final AspectPayloadMaterialiser aspectPayloadMaterialiser;
+
 	private final BatchMapper batchMapper;
 
 	private final BatchService batchDeleteService;
+
+	private final RowContentHash rowContentHash;
 	
 	private final BPNDiscoveryUseCaseHandler bPNDiscoveryUseCaseHandler; 
 
@@ -94,6 +100,8 @@ public class BatchExecutor extends SubmodelExecutor {
 	@SneakyThrows
 	private void nextSteps(Integer rowIndex, ObjectNode jsonObject, String processId)
 			throws CsvHandlerDigitalTwinUseCaseException {
+		String contentHash = rowContentHash.hash(jsonObject);
+
 		generateUrnUUID.run(jsonObject, processId);
 
 		jsonRecordValidate.init(getSubmodelSchema());
@@ -101,6 +109,10 @@ public class BatchExecutor extends SubmodelExecutor {
 
 		Batch batch = batchMapper.mapFrom(jsonObject);
 
+		if (rowContentHash.isEnabled() && batchDeleteService.markUnchanged(contentHash, processId))
+			return;
+		batch.setContentHash(contentHash);
+
 		digitalTwinsBatchCsvHandlerUseCase.init(getSubmodelSchema());
 		digitalTwinsBatchCsvHandlerUseCase.run(batch);
 
@@ -110,16 +122,22 @@ public class BatchExecutor extends SubmodelExecutor {
 		if (StringUtils.isBlank(batch.getUpdated())) {
 			Map<String, String> bpnKeyMap = new HashMap<>();
 			bpnKeyMap.put(CommonConstants.MANUFACTURER_PART_ID, batch.getManufacturerPartId());
-			bPNDiscoveryUseCaseHandler.run(bpnKeyMap);
+			bPNDiscoveryUseCaseHandler.run(processId, bpnKeyMap);
 		}
 
 		storeBatchCsvHandlerUseCase.run(batch);
+		aspectPayloadMaterialiser.changed(processId, getNameOfModel(), batch.getUuid());
 
 	}
 
 	@Override
-	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId) {
-		return batchDeleteService.readCreatedTwinsforDelete(refProcessId);
+	public int countCreatedTwinsforDelete(String refProcessId) {
+		return batchDeleteService.countCreatedTwinsforDelete(refProcessId);
+	}
+
+	@Override
+	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId, JsonObject after, int pageSize) {
+		return batchDeleteService.readCreatedTwinsforDelete(refProcessId, after, pageSize);
 	}
 
 	@Override
@@ -128,7 +146,14 @@ public class BatchExecutor extends SubmodelExecutor {
 	}
 
 	@Override
-	public JsonObject readCreatedTwinsDetails(String uuid) {
+	public void markDeleted(String refProcessId, List<JsonObject> deletedRecords) {
+		batchDeleteService.markDeleted(refProcessId, deletedRecords);
+		deletedRecords.stream().map(jsonObject -> jsonObject.get("uuid").getAsString()).distinct()
+				.forEach(uuid -> aspectPayloadMaterialiser.refresh(getNameOfModel(), uuid));
+	}
+
+	@Override
+	public ObjectNode readCreatedTwinsDetails(String uuid) {
 		return batchDeleteService.readCreatedTwinsDetails(uuid);
 	}
 
@@ -137,4 +162,9 @@ public class BatchExecutor extends SubmodelExecutor {
 		return batchDeleteService.getUpdatedData(processId);
 	}
 
+	@Override
+	public int getUnchangedRecordCount(String processId) {
+		return batchDeleteService.getUnchangedData(processId);
+	}
+
 }
@@ -25,10 +25,13 @@ import java.io.Serializable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Data;
 
-@Table(name = "batch")
+@Table(name = "batch", indexes = {
+        @Index(name = "batch_process_key_idx", columnList = "process_id, uuid"),
+        @Index(name = "batch_content_hash_idx", columnList = "content_hash") })
 @Entity
 @Data
 public class BatchEntity implements Serializable {
@@ -68,4 +71,6 @@ public class BatchEntity implements Serializable {
     private String deleted;
     @Column(name = "updated")
     private String updated;
+    @Column(name = "content_hash")
+    private String contentHash;
 }
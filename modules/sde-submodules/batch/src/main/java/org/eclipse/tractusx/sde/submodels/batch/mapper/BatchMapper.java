@@ -28,6 +28,7 @@ import org.eclipse.tractusx.sde.common.model.LocalIdentifier;
 import org.eclipse.tractusx.sde.common.model.ManufacturingInformation;
 import org.eclipse.tractusx.sde.common.model.PartTypeInformation;
 import org.eclipse.tractusx.sde.common.model.SubmodelResultResponse;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.eclipse.tractusx.sde.submodels.batch.constants.BatchConstants;
 import org.eclipse.tractusx.sde.submodels.batch.entity.BatchEntity;
 import org.eclipse.tractusx.sde.submodels.batch.model.Batch;
@@ -37,7 +38,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
 import lombok.SneakyThrows;
@@ -46,7 +46,7 @@ import lombok.SneakyThrows;
 public abstract class BatchMapper {
 	
 	
-	ObjectMapper mapper = new ObjectMapper();
+	ObjectMapper mapper = JsonMappers.objectMapper();
 	
 	@Autowired
 	private AspectResponseFactory aspectResponseFactory;
@@ -58,18 +58,18 @@ public abstract class BatchMapper {
 
 	@SneakyThrows
 	public Batch mapFrom(ObjectNode batch) {
-		return mapper.readValue(batch.toString(), Batch.class);
+		return mapper.treeToValue(batch, Batch.class);
 	}
 
 	public BatchEntity mapforEntity(JsonObject batch) {
-		return new Gson().fromJson(batch, BatchEntity.class);
+		return JsonMappers.gson().fromJson(batch, BatchEntity.class);
 	}
 
 	public JsonObject mapFromEntity(BatchEntity batch) {
-		return new Gson().toJsonTree(batch).getAsJsonObject();
+		return JsonMappers.gson().toJsonTree(batch).getAsJsonObject();
 	}
 
-	public JsonObject mapToResponse(BatchEntity entity) {
+	public ObjectNode mapToResponse(BatchEntity entity) {
 
 		if (entity == null) {
 			return null;
@@ -24,6 +24,7 @@ import java.util.List;
 
 import org.eclipse.tractusx.sde.common.entities.UsagePolicies;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -107,4 +108,7 @@ public class Batch {
 	@JsonProperty(value = "updated")
 	private String updated;
 
+	@JsonIgnore
+	private String contentHash;
+
 }
@@ -23,17 +23,38 @@ package org.eclipse.tractusx.sde.submodels.batch.repository;
 import java.util.List;
 
 import org.eclipse.tractusx.sde.submodels.batch.entity.BatchEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface BatchRepository extends CrudRepository<BatchEntity, String> {
 
 
 	BatchEntity findByUuid(String uuid);
 
-	List<BatchEntity> findByProcessId(String processId);
-	
-	
 	@Query("select count(be) from BatchEntity be where be.updated = ?1 and be.processId = ?2")
 	long countByUpdatedAndProcessId(String updated, String processId);
-}
\ No newline at end of file
+
+	@Modifying
+	@Transactional
+	@Query("update BatchEntity e set e.processId = ?2, e.updated = ?3 where e.contentHash = ?1 "
+			+ "and (e.deleted is null or e.deleted <> ?4)")
+	int markUnchanged(String contentHash, String processId, String updated, String deleted);
+
+	@Modifying
+	@Transactional
+	@Query("update BatchEntity e set e.deleted = ?3 where e.processId = ?1 and e.uuid in ?2")
+	int markDeleted(String processId, List<String> uuids, String deleted);
+
+	@Query("select count(e) from BatchEntity e where e.processId = ?1")
+	long countByProcessId(String processId);
+
+	@Query("select count(e) from BatchEntity e where e.processId = ?1 and (e.deleted is null or e.deleted <> ?2)")
+	long countUndeletedByProcessId(String processId, String deleted);
+
+	@Query("select e from BatchEntity e where e.processId = ?1 "
+			+ "and (e.deleted is null or e.deleted <> ?2) and e.uuid > ?3 order by e.uuid")
+	List<BatchEntity> findUndeletedByProcessIdAfter(String processId, String deleted, String afterUuid, Pageable page);
+}
@@ -29,8 +29,10 @@ import org.eclipse.tractusx.sde.edc.facilitator.DeleteEDCFacilitator;
 import org.eclipse.tractusx.sde.submodels.batch.entity.BatchEntity;
 import org.eclipse.tractusx.sde.submodels.batch.mapper.BatchMapper;
 import org.eclipse.tractusx.sde.submodels.batch.repository.BatchRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.gson.JsonObject;
 
 import lombok.AllArgsConstructor;
@@ -50,16 +52,22 @@ public class BatchService {
 
 	private final DigitalTwinsFacilitator deleteDigitalTwinsFacilitator;
 
-	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId) {
+	public int countCreatedTwinsforDelete(String refProcessId) {
 
-		return Optional
-				.ofNullable(Optional.ofNullable(batchRepository.findByProcessId(refProcessId)).filter(a -> !a.isEmpty())
-						.orElseThrow(() -> new NoDataFoundException(
-								String.format("No data found for processid %s ", refProcessId)))
-						.stream().filter(e -> !DELETED_Y.equals(e.getDeleted())).map(batchMapper::mapFromEntity)
-						.toList())
-				.filter(a -> !a.isEmpty()).orElseThrow(
-						() -> new NoDataFoundException("No data founds for deletion, All records are already deleted"));
+		if (batchRepository.countByProcessId(refProcessId) == 0)
+			throw new NoDataFoundException(String.format("No data found for processid %s ", refProcessId));
+
+		int count = (int) batchRepository.countUndeletedByProcessId(refProcessId, DELETED_Y);
+		if (count == 0)
+			throw new NoDataFoundException("No data founds for deletion, All records are already deleted");
+		return count;
+	}
+
+	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId, JsonObject after, int pageSize) {
+		String afterUuid = after == null ? "" : batchMapper.mapforEntity(after).getUuid();
+		return batchRepository
+				.findUndeletedByProcessIdAfter(refProcessId, DELETED_Y, afterUuid, PageRequest.of(0, pageSize))
+				.stream().map(batchMapper::mapFromEntity).toList();
 	}
 
 	@SneakyThrows
@@ -71,28 +79,21 @@ public class BatchService {
 
 		deleteDigitalTwinsFacilitator.deleteSubmodelfromShellById(batchEntity.getShellId(),
 				batchEntity.getSubModelId());
-
-		saveBatchWithDeleted(batchEntity);
 	}
 
 	@SneakyThrows
 	public void deleteEDCAsset(BatchEntity batchEntity) {
-
-		deleteEDCFacilitator.deleteContractDefination(batchEntity.getContractDefinationId());
-
-		deleteEDCFacilitator.deleteAccessPolicy(batchEntity.getAccessPolicyId());
-
-		deleteEDCFacilitator.deleteUsagePolicy(batchEntity.getUsagePolicyId());
-
-		deleteEDCFacilitator.deleteAssets(batchEntity.getAssetId());
+		deleteEDCFacilitator.deleteEDCAsset(batchEntity.getContractDefinationId(), batchEntity.getAccessPolicyId(),
+				batchEntity.getUsagePolicyId(), batchEntity.getAssetId());
 	}
 
-	private void saveBatchWithDeleted(BatchEntity batchEntity) {
-		batchEntity.setDeleted(DELETED_Y);
-		batchRepository.save(batchEntity);
+	public void markDeleted(String refProcessId, List<JsonObject> deletedRecords) {
+		List<String> uuids = deletedRecords.stream().map(batchMapper::mapforEntity)
+				.map(BatchEntity::getUuid).toList();
+		batchRepository.markDeleted(refProcessId, uuids, DELETED_Y);
 	}
 
-	public JsonObject readCreatedTwinsDetails(String uuid) {
+	public ObjectNode readCreatedTwinsDetails(String uuid) {
 		return batchMapper.mapToResponse(readEntity(uuid));
 	}
 
@@ -106,4 +107,13 @@ public class BatchService {
 		return (int) batchRepository.countByUpdatedAndProcessId(CommonConstants.UPDATED_Y, refProcessId);
 	}
 
+	public boolean markUnchanged(String contentHash, String processId) {
+		return batchRepository.markUnchanged(contentHash, processId, CommonConstants.UPDATED_UNCHANGED,
+				CommonConstants.DELETED_Y) > 0;
+	}
+
+	public int getUnchangedData(String refProcessId) {
+		return (int) batchRepository.countByUpdatedAndProcessId(CommonConstants.UPDATED_UNCHANGED, refProcessId);
+	}
+
 }
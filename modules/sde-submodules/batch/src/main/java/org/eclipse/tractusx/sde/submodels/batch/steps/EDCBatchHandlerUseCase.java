@@ -21,10 +21,11 @@
 package org.eclipse.tractusx.sde.submodels.batch.steps;
 
 import java.util.Map;
+import java.util.Optional;
 
 import org.eclipse.tractusx.sde.common.constants.CommonConstants;
 import org.eclipse.tractusx.sde.common.exception.CsvHandlerUseCaseException;
-import org.eclipse.tractusx.sde.common.exception.ServiceException;
+import org.eclipse.tractusx.sde.common.exception.NoDataFoundException;
 import org.eclipse.tractusx.sde.common.submodel.executor.Step;
 import org.eclipse.tractusx.sde.edc.entities.request.asset.AssetEntryRequest;
 import org.eclipse.tractusx.sde.edc.entities.request.asset.AssetEntryRequestFactory;
@@ -61,8 +62,7 @@ public class EDCBatchHandlerUseCase extends Step {
 				edcProcessingforBatch(assetEntryRequest, input);
 
 			} else {
-				deleteEDCFirstForUpdate(submodel, input, processId);
-				edcProcessingforBatch(assetEntryRequest, input);
+				edcUpdateforBatch(assetEntryRequest, input);
 				input.setUpdated(CommonConstants.UPDATED_Y);
 			}
 
@@ -73,14 +73,28 @@ public class EDCBatchHandlerUseCase extends Step {
 	}
 
 	@SneakyThrows
-	private void deleteEDCFirstForUpdate(String submodel, Batch input, String processId) {
+	private void edcUpdateforBatch(AssetEntryRequest assetEntryRequest, Batch input) {
+
+		Optional<BatchEntity> entity = findEntity(input.getUuid());
+		Map<String, String> updateEDCAsset = createEDCAssetFacilator.updateEDCAsset(assetEntryRequest,
+				input.getBpnNumbers(), input.getUsagePolicies(),
+				entity.map(BatchEntity::getAccessPolicyId).orElse(null),
+				entity.map(BatchEntity::getUsagePolicyId).orElse(null),
+				entity.map(BatchEntity::getContractDefinationId).orElse(null));
+
+		// EDC transaction information for DB
+		input.setAssetId(assetEntryRequest.getAsset().getId());
+		input.setAccessPolicyId(updateEDCAsset.get("accessPolicyId"));
+		input.setUsagePolicyId(updateEDCAsset.get("usagePolicyId"));
+		input.setContractDefinationId(updateEDCAsset.get("contractDefinitionId"));
+	}
+
+	private Optional<BatchEntity> findEntity(String uuid) {
 		try {
-			BatchEntity batchEntity = batchDeleteService.readEntity(input.getUuid());
-			batchDeleteService.deleteEDCAsset(batchEntity);
-		} catch (Exception e) {
-			if (!e.getMessage().contains("404 Not Found")) {
-				throw new ServiceException("Unable to delete EDC offer for update: " + e.getMessage());
-			}
+			return Optional.of(batchDeleteService.readEntity(uuid));
+		} catch (NoDataFoundException e) {
+			// asset offered without a local record yet, its offer is looked up in the EDC
+			return Optional.empty();
 		}
 	}
 
@@ -24,10 +24,13 @@ import java.io.Serializable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Data;
 
-@Table(name = "part_as_planned")
+@Table(name = "part_as_planned", indexes = {
+        @Index(name = "part_as_planned_process_key_idx", columnList = "process_id, uuid"),
+        @Index(name = "part_as_planned_content_hash_idx", columnList = "content_hash") })
 @Entity
 @Data
 public class PartAsPlannedEntity implements Serializable {
@@ -80,4 +83,7 @@ public class PartAsPlannedEntity implements Serializable {
     
     @Column(name = "updated")
     private String updated;
+
+    @Column(name = "content_hash")
+    private String contentHash;
 }
\ No newline at end of file
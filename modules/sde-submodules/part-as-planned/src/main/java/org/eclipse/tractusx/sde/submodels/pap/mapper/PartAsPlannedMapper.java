@@ -20,6 +20,7 @@
 package org.eclipse.tractusx.sde.submodels.pap.mapper;
 
 import org.eclipse.tractusx.sde.common.mapper.AspectResponseFactory;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.eclipse.tractusx.sde.submodels.pap.entity.PartAsPlannedEntity;
 import org.eclipse.tractusx.sde.submodels.pap.model.PartAsPlanned;
 import org.eclipse.tractusx.sde.submodels.pap.model.PartAsPlannedAspectResponse;
@@ -31,7 +32,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
 import lombok.SneakyThrows;
@@ -39,7 +39,7 @@ import lombok.SneakyThrows;
 @Mapper(componentModel = "spring")
 public abstract class PartAsPlannedMapper {
 
-	ObjectMapper mapper = new ObjectMapper();
+	ObjectMapper mapper = JsonMappers.objectMapper();
 	
 	@Autowired
 	private AspectResponseFactory aspectResponseFactory;
@@ -51,18 +51,18 @@ public abstract class PartAsPlannedMapper {
 
 	@SneakyThrows
 	public PartAsPlanned mapFrom(ObjectNode partAsPlanned) {
-		return mapper.readValue(partAsPlanned.toString(), PartAsPlanned.class);
+		return mapper.treeToValue(partAsPlanned, PartAsPlanned.class);
 	}
 
 	public PartAsPlannedEntity mapforEntity(JsonObject partAsPlannedAspect) {
-		return new Gson().fromJson(partAsPlannedAspect, PartAsPlannedEntity.class);
+		return JsonMappers.gson().fromJson(partAsPlannedAspect, PartAsPlannedEntity.class);
 	}
 
 	public JsonObject mapFromEntity(PartAsPlannedEntity partAsPlannedAspectAspect) {
-		return new Gson().toJsonTree(partAsPlannedAspectAspect).getAsJsonObject();
+		return JsonMappers.gson().toJsonTree(partAsPlannedAspectAspect).getAsJsonObject();
 	}
 
-	public JsonObject mapToResponse(PartAsPlannedEntity entity) {
+	public ObjectNode mapToResponse(PartAsPlannedEntity entity) {
 
 		if (entity == null) {
 			return null;
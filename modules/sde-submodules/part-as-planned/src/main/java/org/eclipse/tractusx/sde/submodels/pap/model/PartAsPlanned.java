@@ -23,6 +23,7 @@ import java.util.List;
 
 import org.eclipse.tractusx.sde.common.entities.UsagePolicies;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -96,4 +97,7 @@ public class PartAsPlanned {
 	
 	@JsonProperty(value = "updated")
 	private String updated;
+
+	@JsonIgnore
+	private String contentHash;
 }
@@ -22,8 +22,11 @@ package org.eclipse.tractusx.sde.submodels.pap.repository;
 import java.util.List;
 
 import org.eclipse.tractusx.sde.submodels.pap.entity.PartAsPlannedEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface PartAsPlannedRepository extends CrudRepository<PartAsPlannedEntity, String> {
 	
@@ -35,11 +38,32 @@ public interface PartAsPlannedRepository extends CrudRepository<PartAsPlannedEnt
 
 	PartAsPlannedEntity findByUuid(String uuid);
 
-	List<PartAsPlannedEntity> findByProcessId(String processId);
-	
 	PartAsPlannedEntity findByManufacturerPartId(String manufacturerPartId);
 
 	@Query("select count(pe) from PartAsPlannedEntity pe where pe.updated = ?1 and pe.processId = ?2")
 	long countByUpdatedAndProcessId(String updated, String processId);
 	
+
+	@Modifying
+	@Transactional
+	@Query("update PartAsPlannedEntity e set e.processId = ?2, e.updated = ?3 where e.contentHash = ?1 "
+			+ "and (e.deleted is null or e.deleted <> ?4)")
+	int markUnchanged(String contentHash, String processId, String updated, String deleted);
+
+	@Modifying
+	@Transactional
+	@Query("update PartAsPlannedEntity e set e.deleted = ?3 where e.processId = ?1 and e.uuid in ?2")
+	int markDeleted(String processId, List<String> uuids, String deleted);
+
+	@Query("select count(e) from PartAsPlannedEntity e where e.processId = ?1")
+	long countByProcessId(String processId);
+
+	@Query("select count(e) from PartAsPlannedEntity e where e.processId = ?1 "
+			+ "and (e.deleted is null or e.deleted <> ?2)")
+	long countUndeletedByProcessId(String processId, String deleted);
+
+	@Query("select e from PartAsPlannedEntity e where e.processId = ?1 "
+			+ "and (e.deleted is null or e.deleted <> ?2) and e.uuid > ?3 order by e.uuid")
+	List<PartAsPlannedEntity> findUndeletedByProcessIdAfter(String processId, String deleted, String afterUuid,
+			Pageable page);
 }
@@ -29,8 +29,10 @@ import org.eclipse.tractusx.sde.edc.facilitator.DeleteEDCFacilitator;
 import org.eclipse.tractusx.sde.submodels.pap.entity.PartAsPlannedEntity;
 import org.eclipse.tractusx.sde.submodels.pap.mapper.PartAsPlannedMapper;
 import org.eclipse.tractusx.sde.submodels.pap.repository.PartAsPlannedRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.gson.JsonObject;
 
 import lombok.AllArgsConstructor;
@@ -47,18 +49,22 @@ public class PartAsPlannedService {
 
 	private final DigitalTwinsFacilitator deleteDigitalTwinsFacilitator;
 
-	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId) {
+	public int countCreatedTwinsforDelete(String refProcessId) {
 
-		return Optional
-				.ofNullable(Optional.ofNullable(partAsPlannedRepository.findByProcessId(refProcessId))
-						.filter(a -> !a.isEmpty())
-						.orElseThrow(() -> new NoDataFoundException(
-								String.format("No data found for processid %s ", refProcessId)))
-						.stream().filter(e -> !CommonConstants.DELETED_Y.equals(e.getDeleted()))
-						.map(partAsPlannedMapper::mapFromEntity).toList())
-				.filter(a -> !a.isEmpty()).orElseThrow(
-						() -> new NoDataFoundException("No data founds for deletion, All records are already deleted"));
+		if (partAsPlannedRepository.countByProcessId(refProcessId) == 0)
+			throw new NoDataFoundException(String.format("No data found for processid %s ", refProcessId));
 
+		int count = (int) partAsPlannedRepository.countUndeletedByProcessId(refProcessId, CommonConstants.DELETED_Y);
+		if (count == 0)
+			throw new NoDataFoundException("No data founds for deletion, All records are already deleted");
+		return count;
+	}
+
+	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId, JsonObject after, int pageSize) {
+		String afterUuid = after == null ? "" : partAsPlannedMapper.mapforEntity(after).getUuid();
+		return partAsPlannedRepository
+				.findUndeletedByProcessIdAfter(refProcessId, CommonConstants.DELETED_Y, afterUuid, PageRequest.of(0, pageSize))
+				.stream().map(partAsPlannedMapper::mapFromEntity).toList();
 	}
 
 	public void deleteAllDataBySequence(JsonObject jsonObject) {
@@ -69,28 +75,22 @@ public class PartAsPlannedService {
 
 		deleteDigitalTwinsFacilitator.deleteSubmodelfromShellById(partAsPlannedEntity.getShellId(),
 				partAsPlannedEntity.getSubModelId());
-
-		saveAspectWithDeleted(partAsPlannedEntity);
 	}
 
 	public void deleteEDCAsset(PartAsPlannedEntity partAsPlannedEntity) {
-
-		deleteEDCFacilitator.deleteContractDefination(partAsPlannedEntity.getContractDefinationId());
-
-		deleteEDCFacilitator.deleteAccessPolicy(partAsPlannedEntity.getAccessPolicyId());
-
-		deleteEDCFacilitator.deleteUsagePolicy(partAsPlannedEntity.getUsagePolicyId());
-
-		deleteEDCFacilitator.deleteAssets(partAsPlannedEntity.getAssetId());
+		deleteEDCFacilitator.deleteEDCAsset(partAsPlannedEntity.getContractDefinationId(),
+				partAsPlannedEntity.getAccessPolicyId(),
+				partAsPlannedEntity.getUsagePolicyId(),
+				partAsPlannedEntity.getAssetId());
 	}
 
-	private void saveAspectWithDeleted(PartAsPlannedEntity aspectEntity) {
-
-		aspectEntity.setDeleted(CommonConstants.DELETED_Y);
-		partAsPlannedRepository.save(aspectEntity);
+	public void markDeleted(String refProcessId, List<JsonObject> deletedRecords) {
+		List<String> uuids = deletedRecords.stream().map(partAsPlannedMapper::mapforEntity)
+				.map(PartAsPlannedEntity::getUuid).toList();
+		partAsPlannedRepository.markDeleted(refProcessId, uuids, CommonConstants.DELETED_Y);
 	}
 
-	public JsonObject readCreatedTwinsDetails(String uuid) {
+	public ObjectNode readCreatedTwinsDetails(String uuid) {
 		return partAsPlannedMapper.mapToResponse(readEntity(uuid));
 	}
 
@@ -99,6 +99,16 @@ public class PartAsPlannedService {
 		return (int) partAsPlannedRepository.countByUpdatedAndProcessId(CommonConstants.UPDATED_Y, refProcessId);
 	}
 
+	public boolean markUnchanged(String contentHash, String processId) {
+		return partAsPlannedRepository.markUnchanged(contentHash, processId, CommonConstants.UPDATED_UNCHANGED,
+				CommonConstants.DELETED_Y) > 0;
+	}
+
+	public int getUnchangedData(String refProcessId) {
+		return (int) partAsPlannedRepository.countByUpdatedAndProcessId(CommonConstants.UPDATED_UNCHANGED,
+				refProcessId);
+	}
+
 	public PartAsPlannedEntity readEntity(String uuid) {
 		return Optional.ofNullable(partAsPlannedRepository.findByUuid(uuid))
 				.orElseThrow(() -> new NoDataFoundException("No data found uuid " + uuid));
@@ -28,11 +28,13 @@ import org.eclipse.tractusx.sde.bpndiscovery.handler.BPNDiscoveryUseCaseHandler;
 import org.eclipse.tractusx.sde.common.constants.CommonConstants;
 import org.eclipse.tractusx.sde.common.entities.csv.RowData;
 import org.eclipse.tractusx.sde.common.exception.CsvHandlerDigitalTwinUseCaseException;
+import org.eclipse.tractusx.sde.common.submodel.executor.AspectPayloadMaterialiser;
 import org.eclipse.tractusx.sde.common.submodel.executor.SubmodelExecutor;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.CsvParse;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.GenerateUrnUUID;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.JsonRecordFormating;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.JsonRecordValidate;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.RowContentHash;
 import org.eclipse.tractusx.sde.submodels.psiap.mapper.PartSiteInformationAsPlannedMapper;
 import org.eclipse.tractusx.sde.submodels.psiap.model.PartSiteInformationAsPlanned;
 import org.eclipse.tractusx.sde.submodels.psiap.services.PartSiteInformationAsPlannedService;
@@ -67,7 +69,11 @@ public class PartSiteInformationAsPlannedExecutor extends SubmodelExecutor {
 
 	private final StorePartSiteInformationAsPlannedHandlerStep storePartSiteInformationAsPlannedCsvHandlerUseCase;
 
+	private final AspectPayloadMaterialiser aspectPayloadMaterialiser;
+
 	private final PartSiteInformationAsPlannedService partSiteInformationAsPlannedService;
+
+	private final RowContentHash rowContentHash;
 	
 	private final BPNDiscoveryUseCaseHandler bPNDiscoveryUseCaseHandler; 
 
@@ -95,6 +101,8 @@ public class PartSiteInformationAsPlannedExecutor extends SubmodelExecutor {
 	private void nextSteps(Integer rowIndex, ObjectNode jsonObject, String processId)
 			throws CsvHandlerDigitalTwinUseCaseException {
 
+		String contentHash = rowContentHash.hash(jsonObject);
+
 		generateUrnUUID.run(jsonObject, processId);
 
 		jsonRecordValidate.init(getSubmodelSchema());
@@ -102,6 +110,10 @@ public class PartSiteInformationAsPlannedExecutor extends SubmodelExecutor {
 
 		PartSiteInformationAsPlanned partAsPlannedAspect = partSiteInformationAsPlannedMapper.mapFrom(jsonObject);
 
+		if (rowContentHash.isEnabled() && partSiteInformationAsPlannedService.markUnchanged(contentHash, processId))
+			return;
+		partAsPlannedAspect.setContentHash(contentHash);
+
 		digitalTwinsPartSiteInformationAsPlannedHandlerStep.init(getSubmodelSchema());
 		digitalTwinsPartSiteInformationAsPlannedHandlerStep.run(partAsPlannedAspect);
 
@@ -111,10 +123,11 @@ public class PartSiteInformationAsPlannedExecutor extends SubmodelExecutor {
 		if (StringUtils.isBlank(partAsPlannedAspect.getUpdated())) {
 			Map<String, String> bpnKeyMap = new HashMap<>();
 			bpnKeyMap.put(CommonConstants.MANUFACTURER_PART_ID, partAsPlannedAspect.getManufacturerPartId());
-			bPNDiscoveryUseCaseHandler.run(bpnKeyMap);
+			bPNDiscoveryUseCaseHandler.run(processId, bpnKeyMap);
 		}
 
 		storePartSiteInformationAsPlannedCsvHandlerUseCase.run(partAsPlannedAspect);
+		aspectPayloadMaterialiser.changed(processId, getNameOfModel(), partAsPlannedAspect.getUuid());
 	}
 
 	@Override
@@ -123,12 +136,24 @@ public class PartSiteInformationAsPlannedExecutor extends SubmodelExecutor {
 	}
 
 	@Override
-	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId) {
-		return partSiteInformationAsPlannedService.readCreatedTwinsforDelete(refProcessId);
+	public void markDeleted(String refProcessId, List<JsonObject> deletedRecords) {
+		partSiteInformationAsPlannedService.markDeleted(refProcessId, deletedRecords);
+		deletedRecords.stream().map(jsonObject -> jsonObject.get("uuid").getAsString()).distinct()
+				.forEach(uuid -> aspectPayloadMaterialiser.refresh(getNameOfModel(), uuid));
+	}
+
+	@Override
+	public int countCreatedTwinsforDelete(String refProcessId) {
+		return partSiteInformationAsPlannedService.countCreatedTwinsforDelete(refProcessId);
 	}
 
 	@Override
-	public JsonObject readCreatedTwinsDetails(String uuid) {
+	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId, JsonObject after, int pageSize) {
+		return partSiteInformationAsPlannedService.readCreatedTwinsforDelete(refProcessId, after, pageSize);
+	}
+
+	@Override
+	public ObjectNode readCreatedTwinsDetails(String uuid) {
 		return partSiteInformationAsPlannedService.readCreatedTwinsDetails(uuid);
 	}
 
@@ -137,5 +162,10 @@ public class PartSiteInformationAsPlannedExecutor extends SubmodelExecutor {
 		return partSiteInformationAsPlannedService.getUpdatedData(processId);
 	}
 
+	@Override
+	public int getUnchangedRecordCount(String processId) {
+		return partSiteInformationAsPlannedService.getUnchangedData(processId);
+	}
+
 
 }
@@ -24,6 +24,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.eclipse.tractusx.sde.common.mapper.AspectResponseFactory;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.eclipse.tractusx.sde.submodels.psiap.entity.PartSiteInformationAsPlannedEntity;
 import org.eclipse.tractusx.sde.submodels.psiap.model.PartSiteInformationAsPlanned;
 import org.eclipse.tractusx.sde.submodels.psiap.model.PartSiteInformationAsPlannedAspectResponse;
@@ -34,7 +35,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
 import lombok.SneakyThrows;
@@ -42,7 +42,7 @@ import lombok.SneakyThrows;
 @Mapper(componentModel = "spring")
 public abstract class PartSiteInformationAsPlannedMapper {
 
-	ObjectMapper mapper=new ObjectMapper();
+	ObjectMapper mapper=JsonMappers.objectMapper();
 	
 	@Autowired
 	private AspectResponseFactory aspectResponseFactory;
@@ -54,18 +54,18 @@ public abstract class PartSiteInformationAsPlannedMapper {
 
 	@SneakyThrows
 	public PartSiteInformationAsPlanned mapFrom(ObjectNode partSiteInformationAsPlanned) {
-		return mapper.readValue(partSiteInformationAsPlanned.toString(), PartSiteInformationAsPlanned.class);
+		return mapper.treeToValue(partSiteInformationAsPlanned, PartSiteInformationAsPlanned.class);
 	}
 	
 	public PartSiteInformationAsPlannedEntity mapforEntity(JsonObject partSiteInformationAsPlannedAspect) {
-		return new Gson().fromJson(partSiteInformationAsPlannedAspect, PartSiteInformationAsPlannedEntity.class);
+		return JsonMappers.gson().fromJson(partSiteInformationAsPlannedAspect, PartSiteInformationAsPlannedEntity.class);
 	}
 
 	public JsonObject mapFromEntity(PartSiteInformationAsPlannedEntity partSiteInformationAsPlannedAspect) {
-		return new Gson().toJsonTree(partSiteInformationAsPlannedAspect).getAsJsonObject();
+		return JsonMappers.gson().toJsonTree(partSiteInformationAsPlannedAspect).getAsJsonObject();
 	}
 
-	public JsonObject mapToResponse(String catenaXId, List<PartSiteInformationAsPlannedEntity> partSiteInformationAsPlannedEntity) {
+	public ObjectNode mapToResponse(String catenaXId, List<PartSiteInformationAsPlannedEntity> partSiteInformationAsPlannedEntity) {
 
 		if (partSiteInformationAsPlannedEntity == null || partSiteInformationAsPlannedEntity.isEmpty()) {
 			return null;
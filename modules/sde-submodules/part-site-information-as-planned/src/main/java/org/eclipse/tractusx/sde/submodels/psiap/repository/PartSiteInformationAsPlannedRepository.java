@@ -22,8 +22,11 @@ package org.eclipse.tractusx.sde.submodels.psiap.repository;
 import java.util.List;
 
 import org.eclipse.tractusx.sde.submodels.psiap.entity.PartSiteInformationAsPlannedEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface PartSiteInformationAsPlannedRepository extends CrudRepository<PartSiteInformationAsPlannedEntity, String> {
 	
@@ -35,11 +38,31 @@ public interface PartSiteInformationAsPlannedRepository extends CrudRepository<P
 	
 	List<PartSiteInformationAsPlannedEntity> findAllByUuid(String uuid);
 	
-	List<PartSiteInformationAsPlannedEntity> findByProcessId(String processId);
-	
 	PartSiteInformationAsPlannedEntity findByManufacturerPartId(String manufacturerPartId);
 
 	@Query("select count(pe) from PartSiteInformationAsPlannedEntity pe where pe.updated = ?1 and pe.processId = ?2")
 	long countByUpdatedAndProcessId(String updated, String processId);
 
+	@Modifying
+	@Transactional
+	@Query("update PartSiteInformationAsPlannedEntity e set e.processId = ?2, e.updated = ?3 where e.contentHash = ?1 "
+			+ "and (e.deleted is null or e.deleted <> ?4)")
+	int markUnchanged(String contentHash, String processId, String updated, String deleted);
+
+	@Modifying
+	@Transactional
+	@Query("update PartSiteInformationAsPlannedEntity e set e.deleted = ?3 where e.processId = ?1 and e.uuid in ?2")
+	int markDeleted(String processId, List<String> uuids, String deleted);
+
+	@Query("select count(e) from PartSiteInformationAsPlannedEntity e where e.processId = ?1")
+	long countByProcessId(String processId);
+
+	@Query("select count(e) from PartSiteInformationAsPlannedEntity e where e.processId = ?1 "
+			+ "and (e.deleted is null or e.deleted <> ?2)")
+	long countUndeletedByProcessId(String processId, String deleted);
+
+	@Query("select e from PartSiteInformationAsPlannedEntity e where e.processId = ?1 "
+			+ "and (e.deleted is null or e.deleted <> ?2) and e.uuid > ?3 order by e.uuid")
+	List<PartSiteInformationAsPlannedEntity> findUndeletedByProcessIdAfter(String processId, String deleted, String afterUuid,
+			Pageable page);
 }
@@ -29,8 +29,10 @@ import org.eclipse.tractusx.sde.edc.facilitator.DeleteEDCFacilitator;
 import org.eclipse.tractusx.sde.submodels.psiap.entity.PartSiteInformationAsPlannedEntity;
 import org.eclipse.tractusx.sde.submodels.psiap.mapper.PartSiteInformationAsPlannedMapper;
 import org.eclipse.tractusx.sde.submodels.psiap.repository.PartSiteInformationAsPlannedRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.gson.JsonObject;
 
 import lombok.AllArgsConstructor;
@@ -46,18 +48,22 @@ public class PartSiteInformationAsPlannedService {
 
 	private final DigitalTwinsFacilitator deleteDigitalTwinsFacilitator;
 
-	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId) {
+	public int countCreatedTwinsforDelete(String refProcessId) {
 
-		return Optional
-				.ofNullable(Optional.ofNullable(partSiteInformationAsPlannedRepository.findByProcessId(refProcessId))
-						.filter(a -> !a.isEmpty())
-						.orElseThrow(() -> new NoDataFoundException(
-								String.format("No data found for processid %s ", refProcessId)))
-						.stream().filter(e -> !CommonConstants.DELETED_Y.equals(e.getDeleted()))
-						.map(partSiteInformationAsPlannedMapper::mapFromEntity).toList())
-				.filter(a -> !a.isEmpty()).orElseThrow(
-						() -> new NoDataFoundException("No data founds for deletion, All records are already deleted"));
+		if (partSiteInformationAsPlannedRepository.countByProcessId(refProcessId) == 0)
+			throw new NoDataFoundException(String.format("No data found for processid %s ", refProcessId));
 
+		int count = (int) partSiteInformationAsPlannedRepository.countUndeletedByProcessId(refProcessId, CommonConstants.DELETED_Y);
+		if (count == 0)
+			throw new NoDataFoundException("No data founds for deletion, All records are already deleted");
+		return count;
+	}
+
+	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId, JsonObject after, int pageSize) {
+		String afterUuid = after == null ? "" : partSiteInformationAsPlannedMapper.mapforEntity(after).getUuid();
+		return partSiteInformationAsPlannedRepository
+				.findUndeletedByProcessIdAfter(refProcessId, CommonConstants.DELETED_Y, afterUuid, PageRequest.of(0, pageSize))
+				.stream().map(partSiteInformationAsPlannedMapper::mapFromEntity).toList();
 	}
 
 	public void deleteAllDataBySequence(JsonObject jsonObject) {
@@ -69,28 +75,22 @@ public class PartSiteInformationAsPlannedService {
 
 		deleteDigitalTwinsFacilitator.deleteSubmodelfromShellById(partSiteInformationAsPlannedEntity.getShellId(),
 				partSiteInformationAsPlannedEntity.getSubModelId());
-
-		saveAspectWithDeleted(partSiteInformationAsPlannedEntity);
 	}
 
 	public void deleteEDCAsset(PartSiteInformationAsPlannedEntity partSiteInformationAsPlannedEntity) {
-
-		deleteEDCFacilitator.deleteContractDefination(partSiteInformationAsPlannedEntity.getContractDefinationId());
-
-		deleteEDCFacilitator.deleteAccessPolicy(partSiteInformationAsPlannedEntity.getAccessPolicyId());
-
-		deleteEDCFacilitator.deleteUsagePolicy(partSiteInformationAsPlannedEntity.getUsagePolicyId());
-
-		deleteEDCFacilitator.deleteAssets(partSiteInformationAsPlannedEntity.getAssetId());
+		deleteEDCFacilitator.deleteEDCAsset(partSiteInformationAsPlannedEntity.getContractDefinationId(),
+				partSiteInformationAsPlannedEntity.getAccessPolicyId(),
+				partSiteInformationAsPlannedEntity.getUsagePolicyId(),
+				partSiteInformationAsPlannedEntity.getAssetId());
 	}
 
-	private void saveAspectWithDeleted(PartSiteInformationAsPlannedEntity aspectEntity) {
-
-		aspectEntity.setDeleted(CommonConstants.DELETED_Y);
-		partSiteInformationAsPlannedRepository.save(aspectEntity);
+	public void markDeleted(String refProcessId, List<JsonObject> deletedRecords) {
+		List<String> uuids = deletedRecords.stream().map(partSiteInformationAsPlannedMapper::mapforEntity)
+				.map(PartSiteInformationAsPlannedEntity::getUuid).toList();
+		partSiteInformationAsPlannedRepository.markDeleted(refProcessId, uuids, CommonConstants.DELETED_Y);
 	}
 
-	public JsonObject readCreatedTwinsDetails(String uuid) {
+	public ObjectNode readCreatedTwinsDetails(String uuid) {
 		List<PartSiteInformationAsPlannedEntity> entities = Optional
 				.ofNullable(partSiteInformationAsPlannedRepository.findAllByUuid(uuid))
 				.orElseThrow(() -> new NoDataFoundException("No data found uuid " + uuid));
@@ -104,6 +104,16 @@ public class PartSiteInformationAsPlannedService {
 				refProcessId);
 	}
 
+	public boolean markUnchanged(String contentHash, String processId) {
+		return partSiteInformationAsPlannedRepository.markUnchanged(contentHash, processId,
+				CommonConstants.UPDATED_UNCHANGED, CommonConstants.DELETED_Y) > 0;
+	}
+
+	public int getUnchangedData(String refProcessId) {
+		return (int) partSiteInformationAsPlannedRepository.countByUpdatedAndProcessId(CommonConstants.UPDATED_UNCHANGED,
+				refProcessId);
+	}
+
 	public PartSiteInformationAsPlannedEntity readEntity(String uuid) {
 		return Optional.ofNullable(partSiteInformationAsPlannedRepository.findByUuid(uuid))
 				.orElseThrow(() -> new NoDataFoundException("No data found uuid " + uuid));
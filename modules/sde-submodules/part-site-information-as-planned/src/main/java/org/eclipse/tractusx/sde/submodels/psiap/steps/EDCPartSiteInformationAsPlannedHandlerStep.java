@@ -20,10 +20,11 @@
 package org.eclipse.tractusx.sde.submodels.psiap.steps;
 
 import java.util.Map;
+import java.util.Optional;
 
 import org.eclipse.tractusx.sde.common.constants.CommonConstants;
 import org.eclipse.tractusx.sde.common.exception.CsvHandlerUseCaseException;
-import org.eclipse.tractusx.sde.common.exception.ServiceException;
+import org.eclipse.tractusx.sde.common.exception.NoDataFoundException;
 import org.eclipse.tractusx.sde.common.submodel.executor.Step;
 import org.eclipse.tractusx.sde.edc.entities.request.asset.AssetEntryRequest;
 import org.eclipse.tractusx.sde.edc.entities.request.asset.AssetEntryRequestFactory;
@@ -60,8 +61,7 @@ public class EDCPartSiteInformationAsPlannedHandlerStep extends Step {
 				edcProcessingforPartAsPlanned(assetEntryRequest, input);
 			} else {
 
-				deleteEDCFirstForUpdate(submodel, input, processId);
-				edcProcessingforPartAsPlanned(assetEntryRequest, input);
+				edcUpdateforPartAsPlanned(assetEntryRequest, input);
 				input.setUpdated(CommonConstants.UPDATED_Y);
 			}
 
@@ -72,16 +72,28 @@ public class EDCPartSiteInformationAsPlannedHandlerStep extends Step {
 	}
 
 	@SneakyThrows
-	private void deleteEDCFirstForUpdate(String submodel, PartSiteInformationAsPlanned input, String processId) {
-		try {
-			PartSiteInformationAsPlannedEntity partSiteInformationAsPlannedEntity = partSiteInformationAsPlannedService
-					.readEntity(input.getUuid());
-			partSiteInformationAsPlannedService.deleteEDCAsset(partSiteInformationAsPlannedEntity);
+	private void edcUpdateforPartAsPlanned(AssetEntryRequest assetEntryRequest, PartSiteInformationAsPlanned input) {
 
-		} catch (Exception e) {
-			if (!e.getMessage().contains("404 Not Found")) {
-				throw new ServiceException("Unable to delete EDC offer for update: " + e.getMessage());
-			}
+		Optional<PartSiteInformationAsPlannedEntity> entity = findEntity(input.getUuid());
+		Map<String, String> updateEDCAsset = createEDCAssetFacilator.updateEDCAsset(assetEntryRequest,
+				input.getBpnNumbers(), input.getUsagePolicies(),
+				entity.map(PartSiteInformationAsPlannedEntity::getAccessPolicyId).orElse(null),
+				entity.map(PartSiteInformationAsPlannedEntity::getUsagePolicyId).orElse(null),
+				entity.map(PartSiteInformationAsPlannedEntity::getContractDefinationId).orElse(null));
+
+		// EDC transaction information for DB
+		input.setAssetId(assetEntryRequest.getAsset().getId());
+		input.setAccessPolicyId(updateEDCAsset.get("accessPolicyId"));
+		input.setUsagePolicyId(updateEDCAsset.get("usagePolicyId"));
+		input.setContractDefinationId(updateEDCAsset.get("contractDefinitionId"));
+	}
+
+	private Optional<PartSiteInformationAsPlannedEntity> findEntity(String uuid) {
+		try {
+			return Optional.of(partSiteInformationAsPlannedService.readEntity(uuid));
+		} catch (NoDataFoundException e) {
+			// asset offered without a local record yet, its offer is looked up in the EDC
+			return Optional.empty();
 		}
 	}
 
@@ -28,11 +28,13 @@ import org.eclipse.tractusx.sde.bpndiscovery.handler.BPNDiscoveryUseCaseHandler;
 import org.eclipse.tractusx.sde.common.constants.CommonConstants;
 import org.eclipse.tractusx.sde.common.entities.csv.RowData;
 import org.eclipse.tractusx.sde.common.exception.CsvHandlerDigitalTwinUseCaseException;
+import org.eclipse.tractusx.sde.common.submodel.executor.AspectPayloadMaterialiser;
 import org.eclipse.tractusx.sde.common.submodel.executor.SubmodelExecutor;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.CsvParse;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.GenerateUrnUUID;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.JsonRecordFormating;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.JsonRecordValidate;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.RowContentHash;
 import org.eclipse.tractusx.sde.submodels.pcf.mapper.PcfMapper;
 import org.eclipse.tractusx.sde.submodels.pcf.model.PcfAspect;
 import org.eclipse.tractusx.sde.submodels.pcf.service.PcfService;
@@ -66,11 +68,15 @@ public class PcfExecutor extends SubmodelExecutor {
 	private final EDCPcfHandlerUseCase eDCAspectHandlerUseCaseforPcf;
 
 	private final StorePcfCsvHandlerUseCase storeAspectCsvHandlerUseCaseforPcf;
+
+	private final AspectPayloadMaterialiser aspectPayloadMaterialiser;
 	
 	private final BPNDiscoveryUseCaseHandler bPNDiscoveryUseCaseHandlerforPcf; 
 
 	private final PcfService aspectServiceforPcf;
 
+	private final RowContentHash rowContentHash;
+
 	@SneakyThrows
 	public void executeCsvRecord(RowData rowData, ObjectNode jsonObject, String processId) {
 
@@ -95,6 +101,8 @@ public class PcfExecutor extends SubmodelExecutor {
 	private void nextStepsforPcf(Integer rowIndex, ObjectNode jsonObject, String processId)
 			throws CsvHandlerDigitalTwinUseCaseException {
 
+		String contentHash = rowContentHash.hash(jsonObject);
+
 		//Setting uuid for global asset id use
 		jsonObject.put("uuid", jsonObject.get("id").asText());
 		//setting this fields for digital twin shell short id generation
@@ -108,6 +116,10 @@ public class PcfExecutor extends SubmodelExecutor {
 
 		PcfAspect pcfAspect = pcfMapperforPcf.mapFrom(jsonObject);
 
+		if (rowContentHash.isEnabled() && aspectServiceforPcf.markUnchanged(contentHash, processId))
+			return;
+		pcfAspect.setContentHashforPcf(contentHash);
+
 		
 		
 		digitalTwinsAspectCsvHandlerUseCaseforPcf.init(getSubmodelSchema());
@@ -119,10 +131,11 @@ public class PcfExecutor extends SubmodelExecutor {
 		if (StringUtils.isBlank(pcfAspect.getUpdatedforPcf())) {
 			Map<String, String> bpnKeyMap = new HashMap<>();
 			bpnKeyMap.put(CommonConstants.MANUFACTURER_PART_ID, pcfAspect.getProductId());
-			bPNDiscoveryUseCaseHandlerforPcf.run(bpnKeyMap);
+			bPNDiscoveryUseCaseHandlerforPcf.run(processId, bpnKeyMap);
 		}
 
 		storeAspectCsvHandlerUseCaseforPcf.run(pcfAspect);
+		aspectPayloadMaterialiser.changed(processId, getNameOfModel(), pcfAspect.getId());
 	}
 
 	@Override
@@ -131,12 +144,24 @@ public class PcfExecutor extends SubmodelExecutor {
 	}
 
 	@Override
-	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId) {
-		return aspectServiceforPcf.readCreatedTwinsforDelete(refProcessId);
+	public void markDeleted(String refProcessId, List<JsonObject> deletedRecords) {
+		aspectServiceforPcf.markDeleted(refProcessId, deletedRecords);
+		deletedRecords.stream().map(jsonObject -> jsonObject.get("id").getAsString()).distinct()
+				.forEach(uuid -> aspectPayloadMaterialiser.refresh(getNameOfModel(), uuid));
+	}
+
+	@Override
+	public int countCreatedTwinsforDelete(String refProcessId) {
+		return aspectServiceforPcf.countCreatedTwinsforDelete(refProcessId);
 	}
 
 	@Override
-	public JsonObject readCreatedTwinsDetails(String uuid) {
+	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId, JsonObject after, int pageSize) {
+		return aspectServiceforPcf.readCreatedTwinsforDelete(refProcessId, after, pageSize);
+	}
+
+	@Override
+	public ObjectNode readCreatedTwinsDetails(String uuid) {
 		return aspectServiceforPcf.readCreatedTwinsDetails(uuid);
 	}
 
@@ -145,5 +170,10 @@ public class PcfExecutor extends SubmodelExecutor {
 		return aspectServiceforPcf.getUpdatedData(processId);
 	}
 
+	@Override
+	public int getUnchangedRecordCount(String processId) {
+		return aspectServiceforPcf.getUnchangedData(processId);
+	}
+
 
 }
@@ -25,10 +25,13 @@ import java.io.Serializable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Data;
 
-@Table(name = "pcf_aspect")
+@Table(name = "pcf_aspect", indexes = {
+        @Index(name = "pcf_aspect_process_key_idx", columnList = "process_id, id"),
+        @Index(name = "pcf_aspect_content_hash_idx", columnList = "content_hash") })
 @Entity
 @Data
 public class PcfEntity implements Serializable {
@@ -152,4 +155,6 @@ public class PcfEntity implements Serializable {
     private String deletedforPcf;
     @Column(name = "updated")
     private String updatedforPcf;
+    @Column(name = "content_hash")
+    private String contentHashforPcf;
 }
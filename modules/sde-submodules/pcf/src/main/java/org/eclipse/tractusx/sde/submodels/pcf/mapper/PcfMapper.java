@@ -22,6 +22,7 @@ package org.eclipse.tractusx.sde.submodels.pcf.mapper;
 import java.util.List;
 
 import org.eclipse.tractusx.sde.common.mapper.AspectResponseFactory;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.eclipse.tractusx.sde.submodels.pcf.entity.PcfEntity;
 import org.eclipse.tractusx.sde.submodels.pcf.model.CompanyIds;
 import org.eclipse.tractusx.sde.submodels.pcf.model.CrossSectoralStandardsUsed;
@@ -41,7 +42,6 @@ import org.springframework.beans.factory.annotation.Value;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
 import lombok.SneakyThrows;
@@ -55,7 +55,7 @@ public abstract class PcfMapper {
 	@Autowired
 	private AspectResponseFactory aspectResponseFactory;
 	
-	ObjectMapper mapper = new ObjectMapper();
+	ObjectMapper mapper = JsonMappers.objectMapper();
 
 	@Mapping(target = "rowNumberforPcf", ignore = true)
 	public abstract PcfAspect mapFrom(PcfEntity aspect);
@@ -64,18 +64,18 @@ public abstract class PcfMapper {
 
 	@SneakyThrows
 	public PcfAspect mapFrom(ObjectNode aspect) {
-		return mapper.readValue(aspect.toString(), PcfAspect.class);
+		return mapper.treeToValue(aspect, PcfAspect.class);
 	}
 
 	public PcfEntity mapforEntity(JsonObject aspect) {
-		return new Gson().fromJson(aspect, PcfEntity.class);
+		return JsonMappers.gson().fromJson(aspect, PcfEntity.class);
 	}
 
 	public JsonObject mapFromEntity(PcfEntity aspect) {
-		return new Gson().toJsonTree(aspect).getAsJsonObject();
+		return JsonMappers.gson().toJsonTree(aspect).getAsJsonObject();
 	}
 
-	public JsonObject mapToResponse(PcfEntity entity) {
+	public ObjectNode mapToResponse(PcfEntity entity) {
 
 		if (entity == null) {
 			return null;
@@ -21,6 +21,7 @@ package org.eclipse.tractusx.sde.submodels.pcf.model;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.gson.annotations.SerializedName;
 
 import lombok.AllArgsConstructor;
@@ -44,6 +45,7 @@ public class Pcf {
 	private double biogenicCarbonWithdrawal; // 0.0,
 	private double distributionStageBiogenicCarbonEmissionsOtherThanCO2; // 1.0,
 	
+	@JsonProperty("extWBCSD_allocationRulesDescription")
 	@SerializedName("extWBCSD_allocationRulesDescription")
 	private String extWBCSDAllocationRulesDescription;//In accordance with Catena-X PCF Rulebook
 	
@@ -52,6 +54,7 @@ public class Pcf {
 	private double exemptedEmissionsPercent; // 0.0,
 	private String geographyCountrySubdivision;//US-NY
 	
+	@JsonProperty("extTFS_luGhgEmissions")
 	@SerializedName("extTFS_luGhgEmissions")
 	private double extTFSLuGhgEmissions; // 0.3,
 	private double distributionStageBiogenicCarbonWithdrawal; // 0.5,
@@ -59,19 +62,23 @@ public class Pcf {
 	private double aircraftGhgEmissions; // 0.0,
 	private double productMassPerDeclaredUnit; // 0.456,
 	
+	@JsonProperty("extWBCSD_operator")
 	@SerializedName("extWBCSD_operator")
 	private String extWBCSDOperator;//PEF
 	
 	private String ruleName;//urn:tfs-initiative.com:PCR:The Product Carbon Footprint Guideline for the Chemical Industry:version:v2.0
 	
+	@JsonProperty("extWBCSD_otherOperatorName")
 	@SerializedName("extWBCSD_otherOperatorName")
 	private String extWBCSDOtherOperatorName;//NSF
 	
+	@JsonProperty("extTFS_allocationWasteIncineration")
 	@SerializedName("extTFS_allocationWasteIncineration")
 	private String extTFSAllocationWasteIncineration;//cut-off
 	private double pcfExcludingBiogenic; // 2.0,
 	private String referencePeriodEnd;//2022-12-31T23:59:59Z
 	
+	@JsonProperty("extWBCSD_characterizationFactors")
 	@SerializedName("extWBCSD_characterizationFactors")
 	private String extWBCSDCharacterizationFactors;//AR5
 	private String secondaryEmissionFactorSource;//ecoinvent 3.8
@@ -83,23 +90,28 @@ public class Pcf {
 	private String boundaryProcessesDescription;//Electricity consumption included as an input in the production phase
 	private String geographyCountry;//DE
 	
+	@JsonProperty("extWBCSD_packagingGhgEmissions")
 	@SerializedName("extWBCSD_packagingGhgEmissions")
 	private double extWBCSDPackagingGhgEmissions; // 0,
 	private double dlucGhgEmissions; // 0.4,
 	private double carbonContentTotal; // 2.5,
 	
+	@JsonProperty("extTFS_distributionStageLuGhgEmissions")
 	@SerializedName("extTFS_distributionStageLuGhgEmissions")
 	private double extTFSDistributionStageLuGhgEmissions; // 1.1,
 	private double primaryDataShare; // 56.12,
 	
+	@JsonProperty("extWBCSD_packagingEmissionsIncluded")
 	@SerializedName("extWBCSD_packagingEmissionsIncluded")
 	private boolean extWBCSDPackagingEmissionsIncluded;//true
 	
+	@JsonProperty("extWBCSD_fossilCarbonContent")
 	@SerializedName("extWBCSD_fossilCarbonContent")
 	private double extWBCSDFossilCarbonContent; // 0.1,
 	
 	private String crossSectoralStandard;//GHG Protocol Product standard
 	
+	@JsonProperty("extTFS_distributionStageDlucGhgEmissions")
 	@SerializedName("extTFS_distributionStageDlucGhgEmissions")
 	private double extTFSDistributionStageDlucGhgEmissions; // 1.0,
 	private double distributionStagePcfIncludingBiogenic; // 0.0,
@@ -24,6 +24,7 @@ import java.util.List;
 
 import org.eclipse.tractusx.sde.common.entities.UsagePolicies;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -177,4 +178,7 @@ public class PcfAspect {
 	@JsonProperty(value = "updated")
 	private String updatedforPcf;
 
+	@JsonIgnore
+	private String contentHashforPcf;
+
 }
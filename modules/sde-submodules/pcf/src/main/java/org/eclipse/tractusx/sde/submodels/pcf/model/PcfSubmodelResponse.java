@@ -21,6 +21,7 @@ package org.eclipse.tractusx.sde.submodels.pcf.model;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.gson.annotations.SerializedName;
 
 import lombok.AllArgsConstructor;
@@ -35,11 +36,13 @@ public class PcfSubmodelResponse {
 	private String specVersion;
 	private List<CompanyIds> companyIds;
 	
+	@JsonProperty("extWBCSD_productCodeCpc")
 	@SerializedName(value = "extWBCSD_productCodeCpc")
 	private String extWBCSDProductCodeCpc;
 	private String created;
 	private String companyName;
 	
+	@JsonProperty("extWBCSD_pfStatus")
 	@SerializedName(value = "extWBCSD_pfStatus")
 	private String extWBCSDPfStatus;
 	private String productName;
@@ -21,6 +21,7 @@ package org.eclipse.tractusx.sde.submodels.pcf.model;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.gson.annotations.SerializedName;
 
 import lombok.AllArgsConstructor;
@@ -32,12 +33,15 @@ import lombok.Data;
 @AllArgsConstructor
 public class ProductOrSectorSpecificRules {
 	
+	@JsonProperty("extWBCSD_operator")
 	@SerializedName(value = "extWBCSD_operator")
 	private String extWBCSDOperator;
 	
+	@JsonProperty("productOrSectorSpecificRules")
 	@SerializedName(value = "productOrSectorSpecificRules")
 	private List<ProductOrSectorSpecificRule> productOrSectorSpecificRulesObj;
 	
+	@JsonProperty("extWBCSD_otherOperatorName")
 	@SerializedName(value = "extWBCSD_otherOperatorName")
 	private String extWBCSDOtherOperatorName;
 
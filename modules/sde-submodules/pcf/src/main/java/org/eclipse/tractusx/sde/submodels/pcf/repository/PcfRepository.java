@@ -23,16 +23,38 @@ package org.eclipse.tractusx.sde.submodels.pcf.repository;
 import java.util.List;
 
 import org.eclipse.tractusx.sde.submodels.pcf.entity.PcfEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface PcfRepository extends CrudRepository<PcfEntity, String> {
 
-	List<PcfEntity> findByProcessIdforPcf(String processIdforPcf);
-
 	@Query("select count(ae) from PcfEntity ae where ae.updatedforPcf = ?1 and ae.processIdforPcf = ?2")
 	long countByUpdatedAndProcessId(String updated, String processId);
 	
 	
 
-}
\ No newline at end of file
+	@Modifying
+	@Transactional
+	@Query("update PcfEntity e set e.processIdforPcf = ?2, e.updatedforPcf = ?3 where e.contentHashforPcf = ?1 "
+			+ "and (e.deletedforPcf is null or e.deletedforPcf <> ?4)")
+	int markUnchanged(String contentHash, String processId, String updated, String deleted);
+
+	@Modifying
+	@Transactional
+	@Query("update PcfEntity e set e.deletedforPcf = ?3 where e.processIdforPcf = ?1 and e.id in ?2")
+	int markDeleted(String processId, List<String> ids, String deleted);
+
+	@Query("select count(e) from PcfEntity e where e.processIdforPcf = ?1")
+	long countByProcessId(String processId);
+
+	@Query("select count(e) from PcfEntity e where e.processIdforPcf = ?1 "
+			+ "and (e.deletedforPcf is null or e.deletedforPcf <> ?2)")
+	long countUndeletedByProcessId(String processId, String deleted);
+
+	@Query("select e from PcfEntity e where e.processIdforPcf = ?1 "
+			+ "and (e.deletedforPcf is null or e.deletedforPcf <> ?2) and e.id > ?3 order by e.id")
+	List<PcfEntity> findUndeletedByProcessIdAfter(String processId, String deleted, String afterId, Pageable page);
+}
@@ -29,8 +29,10 @@ import org.eclipse.tractusx.sde.edc.facilitator.DeleteEDCFacilitator;
 import org.eclipse.tractusx.sde.submodels.pcf.entity.PcfEntity;
 import org.eclipse.tractusx.sde.submodels.pcf.mapper.PcfMapper;
 import org.eclipse.tractusx.sde.submodels.pcf.repository.PcfRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.gson.JsonObject;
 
 import lombok.AllArgsConstructor;
@@ -49,17 +51,22 @@ public class PcfService {
 
 	private final DigitalTwinsFacilitator deleteDigitalTwinsFacilitator;
 
-	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId) {
+	public int countCreatedTwinsforDelete(String refProcessId) {
 
-		return Optional
-				.ofNullable(Optional.ofNullable(pcfRepository.findByProcessIdforPcf(refProcessId)).filter(a -> !a.isEmpty())
-						.orElseThrow(() -> new NoDataFoundException(
-								String.format("No data found for processid %s ", refProcessId)))
-						.stream().filter(e -> !DELETED_Y.equals(e.getDeletedforPcf())).map(pcfMapper::mapFromEntity)
-						.toList())
-				.filter(a -> !a.isEmpty()).orElseThrow(
-						() -> new NoDataFoundException("No data founds for deletion, All records are already deleted"));
+		if (pcfRepository.countByProcessId(refProcessId) == 0)
+			throw new NoDataFoundException(String.format("No data found for processid %s ", refProcessId));
 
+		int count = (int) pcfRepository.countUndeletedByProcessId(refProcessId, DELETED_Y);
+		if (count == 0)
+			throw new NoDataFoundException("No data founds for deletion, All records are already deleted");
+		return count;
+	}
+
+	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId, JsonObject after, int pageSize) {
+		String afterId = after == null ? "" : pcfMapper.mapforEntity(after).getId();
+		return pcfRepository
+				.findUndeletedByProcessIdAfter(refProcessId, DELETED_Y, afterId, PageRequest.of(0, pageSize))
+				.stream().map(pcfMapper::mapFromEntity).toList();
 	}
 
 	public void deleteAllDataBySequence(JsonObject jsonObject) {
@@ -70,27 +77,22 @@ public class PcfService {
 
 		deleteDigitalTwinsFacilitator.deleteSubmodelfromShellById(pcfEntity.getShellIdforPcf(),
 				pcfEntity.getSubModelIdforPcf());
-
-		saveAspectWithDeleted(pcfEntity);
 	}
 
 	public void deleteEDCAsset(PcfEntity pcfEntity) {
-
-		deleteEDCFacilitator.deleteContractDefination(pcfEntity.getContractDefinationIdforPcf());
-
-		deleteEDCFacilitator.deleteAccessPolicy(pcfEntity.getAccessPolicyIdforPcf());
-
-		deleteEDCFacilitator.deleteUsagePolicy(pcfEntity.getUsagePolicyIdforPcf());
-
-		deleteEDCFacilitator.deleteAssets(pcfEntity.getAssetIdforPcf());
+		deleteEDCFacilitator.deleteEDCAsset(pcfEntity.getContractDefinationIdforPcf(),
+				pcfEntity.getAccessPolicyIdforPcf(),
+				pcfEntity.getUsagePolicyIdforPcf(),
+				pcfEntity.getAssetIdforPcf());
 	}
 
-	private void saveAspectWithDeleted(PcfEntity pcfEntity) {
-		pcfEntity.setDeletedforPcf(DELETED_Y);
-		pcfRepository.save(pcfEntity);
+	public void markDeleted(String refProcessId, List<JsonObject> deletedRecords) {
+		List<String> uuids = deletedRecords.stream().map(pcfMapper::mapforEntity)
+				.map(PcfEntity::getId).toList();
+		pcfRepository.markDeleted(refProcessId, uuids, DELETED_Y);
 	}
 
-	public JsonObject readCreatedTwinsDetails(String uuid) {
+	public ObjectNode readCreatedTwinsDetails(String uuid) {
 		return pcfMapper.mapToResponse(readEntity(uuid));
 	}
 
@@ -106,4 +108,13 @@ public class PcfService {
 		return (int) pcfRepository.countByUpdatedAndProcessId(CommonConstants.UPDATED_Y, refProcessId);
 	}
 
+	public boolean markUnchanged(String contentHash, String processId) {
+		return pcfRepository.markUnchanged(contentHash, processId, CommonConstants.UPDATED_UNCHANGED,
+				CommonConstants.DELETED_Y) > 0;
+	}
+
+	public int getUnchangedData(String refProcessId) {
+		return (int) pcfRepository.countByUpdatedAndProcessId(CommonConstants.UPDATED_UNCHANGED, refProcessId);
+	}
+
 }
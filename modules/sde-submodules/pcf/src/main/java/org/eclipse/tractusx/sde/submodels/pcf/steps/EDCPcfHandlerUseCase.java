@@ -21,10 +21,11 @@
 package org.eclipse.tractusx.sde.submodels.pcf.steps;
 
 import java.util.Map;
+import java.util.Optional;
 
 import org.eclipse.tractusx.sde.common.constants.CommonConstants;
 import org.eclipse.tractusx.sde.common.exception.CsvHandlerUseCaseException;
-import org.eclipse.tractusx.sde.common.exception.ServiceException;
+import org.eclipse.tractusx.sde.common.exception.NoDataFoundException;
 import org.eclipse.tractusx.sde.common.submodel.executor.Step;
 import org.eclipse.tractusx.sde.edc.entities.request.asset.AssetEntryRequest;
 import org.eclipse.tractusx.sde.edc.entities.request.asset.AssetEntryRequestFactory;
@@ -63,8 +64,7 @@ public class EDCPcfHandlerUseCase extends Step {
 
 			} else {
 
-				deleteEDCFirstForUpdate(submodel, input, processId);
-				edcProcessingforAspect(assetEntryRequest, input);
+				edcUpdateforAspect(assetEntryRequest, input);
 				input.setUpdatedforPcf(CommonConstants.UPDATED_Y);
 			}
 
@@ -75,14 +75,28 @@ public class EDCPcfHandlerUseCase extends Step {
 	}
 
 	@SneakyThrows
-	private void deleteEDCFirstForUpdate(String submodel, PcfAspect input, String processId) {
+	private void edcUpdateforAspect(AssetEntryRequest assetEntryRequest, PcfAspect input) {
+
+		Optional<PcfEntity> entity = findEntity(input.getId());
+		Map<String, String> updateEDCAsset = createEDCAssetFacilator.updateEDCAsset(assetEntryRequest,
+				input.getBpnNumbersforPcf(), input.getUsagePoliciesforPcf(),
+				entity.map(PcfEntity::getAccessPolicyIdforPcf).orElse(null),
+				entity.map(PcfEntity::getUsagePolicyIdforPcf).orElse(null),
+				entity.map(PcfEntity::getContractDefinationIdforPcf).orElse(null));
+
+		// EDC transaction information for DB
+		input.setAssetIdforPcf(assetEntryRequest.getAsset().getId());
+		input.setAccessPolicyIdforPcf(updateEDCAsset.get("accessPolicyId"));
+		input.setUsagePolicyIdforPcf(updateEDCAsset.get("usagePolicyId"));
+		input.setContractDefinationIdforPcf(updateEDCAsset.get("contractDefinitionId"));
+	}
+
+	private Optional<PcfEntity> findEntity(String uuid) {
 		try {
-			PcfEntity entity = aspectService.readEntity(input.getId());
-			aspectService.deleteEDCAsset(entity);
-		} catch (Exception e) {
-			if (!e.getMessage().contains("404 Not Found")) {
-				throw new ServiceException("Unable to delete EDC offer for update: " + e.getMessage());
-			}
+			return Optional.of(aspectService.readEntity(uuid));
+		} catch (NoDataFoundException e) {
+			// asset offered without a local record yet, its offer is looked up in the EDC
+			return Optional.empty();
 		}
 	}
 
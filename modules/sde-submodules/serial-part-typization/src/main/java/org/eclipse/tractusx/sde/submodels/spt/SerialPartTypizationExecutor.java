@@ -30,11 +30,13 @@ import org.eclipse.tractusx.sde.bpndiscovery.handler.BPNDiscoveryUseCaseHandler;
 import org.eclipse.tractusx.sde.common.constants.CommonConstants;
 import org.eclipse.tractusx.sde.common.entities.csv.RowData;
 import org.eclipse.tractusx.sde.common.exception.CsvHandlerDigitalTwinUseCaseException;
+import org.eclipse.tractusx.sde.common.submodel.executor.AspectPayloadMaterialiser;
 import org.eclipse.tractusx.sde.common.submodel.executor.SubmodelExecutor;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.CsvParse;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.GenerateUrnUUID;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.JsonRecordFormating;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.JsonRecordValidate;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.RowContentHash;
 import org.eclipse.tractusx.sde.submodels.spt.mapper.AspectMapper;
 import org.eclipse.tractusx.sde.submodels.spt.model.Aspect;
 import org.eclipse.tractusx.sde.submodels.spt.service.AspectService;
@@ -68,11 +70,15 @@ public class SerialPartTypizationExecutor extends SubmodelExecutor {
 	private final EDCAspectHandlerUseCase eDCAspectHandlerUseCase;
 
 	private final StoreAspectCsvHandlerUseCase storeAspectCsvHandlerUseCase;
+
+	private final AspectPayloadMaterialiser aspectPayloadMaterialiser;
 	
 	private final BPNDiscoveryUseCaseHandler bPNDiscoveryUseCaseHandler; 
 
 	private final AspectService aspectService;
 
+	private final RowContentHash rowContentHash;
+
 	@SneakyThrows
 	public void executeCsvRecord(RowData rowData, ObjectNode jsonObject, String processId) {
 
@@ -97,6 +103,8 @@ public class SerialPartTypizationExecutor extends SubmodelExecutor {
 	private void nextSteps(Integer rowIndex, ObjectNode jsonObject, String processId)
 			throws CsvHandlerDigitalTwinUseCaseException {
 
+		String contentHash = rowContentHash.hash(jsonObject);
+
 		generateUrnUUID.run(jsonObject, processId);
 
 		jsonRecordValidate.init(getSubmodelSchema());
@@ -104,6 +112,10 @@ public class SerialPartTypizationExecutor extends SubmodelExecutor {
 
 		Aspect aspect = aspectMapper.mapFrom(jsonObject);
 
+		if (rowContentHash.isEnabled() && aspectService.markUnchanged(contentHash, processId))
+			return;
+		aspect.setContentHash(contentHash);
+
 		digitalTwinsAspectCsvHandlerUseCase.init(getSubmodelSchema());
 		digitalTwinsAspectCsvHandlerUseCase.run(aspect);
 
@@ -113,10 +125,11 @@ public class SerialPartTypizationExecutor extends SubmodelExecutor {
 		if (StringUtils.isBlank(aspect.getUpdated())) {
 			Map<String, String> bpnKeyMap = new HashMap<>();
 			bpnKeyMap.put(CommonConstants.MANUFACTURER_PART_ID, aspect.getManufacturerPartId());
-			bPNDiscoveryUseCaseHandler.run(bpnKeyMap);
+			bPNDiscoveryUseCaseHandler.run(processId, bpnKeyMap);
 		}
 
 		storeAspectCsvHandlerUseCase.run(aspect);
+		aspectPayloadMaterialiser.changed(processId, getNameOfModel(), aspect.getUuid());
 	}
 
 	@Override
@@ -125,12 +138,24 @@ public class SerialPartTypizationExecutor extends SubmodelExecutor {
 	}
 
 	@Override
-	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId) {
-		return aspectService.readCreatedTwinsforDelete(refProcessId);
+	public void markDeleted(String refProcessId, List<JsonObject> deletedRecords) {
+		aspectService.markDeleted(refProcessId, deletedRecords);
+		deletedRecords.stream().map(jsonObject -> jsonObject.get("uuid").getAsString()).distinct()
+				.forEach(uuid -> aspectPayloadMaterialiser.refresh(getNameOfModel(), uuid));
+	}
+
+	@Override
+	public int countCreatedTwinsforDelete(String refProcessId) {
+		return aspectService.countCreatedTwinsforDelete(refProcessId);
 	}
 
 	@Override
-	public JsonObject readCreatedTwinsDetails(String uuid) {
+	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId, JsonObject after, int pageSize) {
+		return aspectService.readCreatedTwinsforDelete(refProcessId, after, pageSize);
+	}
+
+	@Override
+	public ObjectNode readCreatedTwinsDetails(String uuid) {
 		return aspectService.readCreatedTwinsDetails(uuid);
 	}
 
@@ -139,4 +164,9 @@ public class SerialPartTypizationExecutor extends SubmodelExecutor {
 		return aspectService.getUpdatedData(processId);
 	}
 
+	@Override
+	public int getUnchangedRecordCount(String processId) {
+		return aspectService.getUnchangedData(processId);
+	}
+
 }
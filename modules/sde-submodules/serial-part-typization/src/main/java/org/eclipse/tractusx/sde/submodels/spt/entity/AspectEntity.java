@@ -27,10 +27,13 @@ import java.io.Serializable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Data;
 
-@Table(name = "aspect")
+@Table(name = "aspect", indexes = {
+        @Index(name = "aspect_process_key_idx", columnList = "process_id, uuid"),
+        @Index(name = "aspect_content_hash_idx", columnList = "content_hash") })
 @Entity
 @Data
 public class AspectEntity implements Serializable {
@@ -76,4 +79,6 @@ public class AspectEntity implements Serializable {
     private String deleted;
     @Column(name = "updated")
     private String updated;
+    @Column(name = "content_hash")
+    private String contentHash;
 }
@@ -33,6 +33,7 @@ import org.eclipse.tractusx.sde.common.model.LocalIdentifier;
 import org.eclipse.tractusx.sde.common.model.ManufacturingInformation;
 import org.eclipse.tractusx.sde.common.model.PartTypeInformation;
 import org.eclipse.tractusx.sde.common.model.SubmodelResultResponse;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.eclipse.tractusx.sde.submodels.spt.entity.AspectEntity;
 import org.eclipse.tractusx.sde.submodels.spt.model.Aspect;
 import org.mapstruct.Mapper;
@@ -43,7 +44,6 @@ import org.springframework.beans.factory.annotation.Value;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
 import lombok.SneakyThrows;
@@ -53,7 +53,7 @@ public abstract class AspectMapper {
 	@Value(value = "${manufacturerId}")
 	private String manufacturerId;
 
-	ObjectMapper mapper = new ObjectMapper();
+	ObjectMapper mapper = JsonMappers.objectMapper();
 	
 	@Autowired
 	private AspectResponseFactory aspectResponseFactory;
@@ -66,18 +66,18 @@ public abstract class AspectMapper {
 
 	@SneakyThrows
 	public Aspect mapFrom(ObjectNode aspect) {
-		return mapper.readValue(aspect.toString(), Aspect.class);
+		return mapper.treeToValue(aspect, Aspect.class);
 	}
 
 	public AspectEntity mapforEntity(JsonObject aspect) {
-		return new Gson().fromJson(aspect, AspectEntity.class);
+		return JsonMappers.gson().fromJson(aspect, AspectEntity.class);
 	}
 
 	public JsonObject mapFromEntity(AspectEntity aspect) {
-		return new Gson().toJsonTree(aspect).getAsJsonObject();
+		return JsonMappers.gson().toJsonTree(aspect).getAsJsonObject();
 	}
 
-	public JsonObject mapToResponse(AspectEntity entity) {
+	public ObjectNode mapToResponse(AspectEntity entity) {
 
 		if (entity == null) {
 			return null;
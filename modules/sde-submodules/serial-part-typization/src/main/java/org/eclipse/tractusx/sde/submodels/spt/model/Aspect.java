@@ -26,6 +26,7 @@ import java.util.List;
 
 import org.eclipse.tractusx.sde.common.entities.UsagePolicies;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -109,6 +110,9 @@ public class Aspect {
 	@JsonProperty(value = "updated")
 	private String updated;
 
+	@JsonIgnore
+	private String contentHash;
+
     public boolean hasOptionalIdentifier() {
         boolean hasKey = this.getOptionalIdentifierKey() != null && !this.getOptionalIdentifierKey().isBlank();
         boolean hasValue = this.getOptionalIdentifierValue() != null && !this.getOptionalIdentifierValue().isBlank();
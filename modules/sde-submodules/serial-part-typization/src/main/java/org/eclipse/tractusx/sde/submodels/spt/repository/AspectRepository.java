@@ -26,8 +26,11 @@ import java.util.List;
 
 import org.eclipse.tractusx.sde.common.enums.OptionalIdentifierKeyEnum;
 import org.eclipse.tractusx.sde.submodels.spt.entity.AspectEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface AspectRepository extends CrudRepository<AspectEntity, String> {
 
@@ -53,11 +56,28 @@ public interface AspectRepository extends CrudRepository<AspectEntity, String> {
 
 	AspectEntity findByUuid(String uuid);
 
-	List<AspectEntity> findByProcessId(String processId);
-
-
 	@Query("select count(ae) from AspectEntity ae where ae.updated = ?1 and ae.processId = ?2")
 	long countByUpdatedAndProcessId(String updated, String processId);
 	
 
-}
\ No newline at end of file
+	@Modifying
+	@Transactional
+	@Query("update AspectEntity e set e.processId = ?2, e.updated = ?3 where e.contentHash = ?1 "
+			+ "and (e.deleted is null or e.deleted <> ?4)")
+	int markUnchanged(String contentHash, String processId, String updated, String deleted);
+
+	@Modifying
+	@Transactional
+	@Query("update AspectEntity e set e.deleted = ?3 where e.processId = ?1 and e.uuid in ?2")
+	int markDeleted(String processId, List<String> uuids, String deleted);
+
+	@Query("select count(e) from AspectEntity e where e.processId = ?1")
+	long countByProcessId(String processId);
+
+	@Query("select count(e) from AspectEntity e where e.processId = ?1 and (e.deleted is null or e.deleted <> ?2)")
+	long countUndeletedByProcessId(String processId, String deleted);
+
+	@Query("select e from AspectEntity e where e.processId = ?1 "
+			+ "and (e.deleted is null or e.deleted <> ?2) and e.uuid > ?3 order by e.uuid")
+	List<AspectEntity> findUndeletedByProcessIdAfter(String processId, String deleted, String afterUuid, Pageable page);
+}
@@ -31,8 +31,10 @@ import org.eclipse.tractusx.sde.edc.facilitator.DeleteEDCFacilitator;
 import org.eclipse.tractusx.sde.submodels.spt.entity.AspectEntity;
 import org.eclipse.tractusx.sde.submodels.spt.mapper.AspectMapper;
 import org.eclipse.tractusx.sde.submodels.spt.repository.AspectRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.gson.JsonObject;
 
 import lombok.AllArgsConstructor;
@@ -51,18 +53,22 @@ public class AspectService {
 
 	private final DigitalTwinsFacilitator deleteDigitalTwinsFacilitator;
 
-	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId) {
+	public int countCreatedTwinsforDelete(String refProcessId) {
 
-		return Optional
-				.ofNullable(Optional.ofNullable(aspectRepository.findByProcessId(refProcessId))
-						.filter(a -> !a.isEmpty())
-						.orElseThrow(() -> new NoDataFoundException(
-								String.format("No data found for processid %s ", refProcessId)))
-						.stream().filter(e -> !DELETED_Y.equals(e.getDeleted())).map(aspectMapper::mapFromEntity)
-						.toList())
-				.filter(a -> !a.isEmpty()).orElseThrow(
-						() -> new NoDataFoundException("No data founds for deletion, All records are already deleted"));
+		if (aspectRepository.countByProcessId(refProcessId) == 0)
+			throw new NoDataFoundException(String.format("No data found for processid %s ", refProcessId));
 
+		int count = (int) aspectRepository.countUndeletedByProcessId(refProcessId, DELETED_Y);
+		if (count == 0)
+			throw new NoDataFoundException("No data founds for deletion, All records are already deleted");
+		return count;
+	}
+
+	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId, JsonObject after, int pageSize) {
+		String afterUuid = after == null ? "" : aspectMapper.mapforEntity(after).getUuid();
+		return aspectRepository
+				.findUndeletedByProcessIdAfter(refProcessId, DELETED_Y, afterUuid, PageRequest.of(0, pageSize))
+				.stream().map(aspectMapper::mapFromEntity).toList();
 	}
 
 	public void deleteAllDataBySequence(JsonObject jsonObject) {
@@ -72,27 +78,20 @@ public class AspectService {
 		deleteEDCAsset(aspectEntity);
 
 		deleteDigitalTwinsFacilitator.deleteSubmodelfromShellById(aspectEntity.getShellId(), aspectEntity.getSubModelId());
-
-		saveAspectWithDeleted(aspectEntity);
 	}
 
 	public void deleteEDCAsset(AspectEntity aspectEntity) {
-
-		deleteEDCFacilitator.deleteContractDefination(aspectEntity.getContractDefinationId());
-
-		deleteEDCFacilitator.deleteAccessPolicy(aspectEntity.getAccessPolicyId());
-
-		deleteEDCFacilitator.deleteUsagePolicy(aspectEntity.getUsagePolicyId());
-
-		deleteEDCFacilitator.deleteAssets(aspectEntity.getAssetId());
+		deleteEDCFacilitator.deleteEDCAsset(aspectEntity.getContractDefinationId(), aspectEntity.getAccessPolicyId(),
+				aspectEntity.getUsagePolicyId(), aspectEntity.getAssetId());
 	}
 
-	private void saveAspectWithDeleted(AspectEntity aspectEntity) {
-		aspectEntity.setDeleted(DELETED_Y);
-		aspectRepository.save(aspectEntity);
+	public void markDeleted(String refProcessId, List<JsonObject> deletedRecords) {
+		List<String> uuids = deletedRecords.stream().map(aspectMapper::mapforEntity)
+				.map(AspectEntity::getUuid).toList();
+		aspectRepository.markDeleted(refProcessId, uuids, DELETED_Y);
 	}
 
-	public JsonObject readCreatedTwinsDetails(String uuid) {
+	public ObjectNode readCreatedTwinsDetails(String uuid) {
 		return aspectMapper.mapToResponse(readEntity(uuid));
 	}
 
@@ -106,4 +105,13 @@ public class AspectService {
 		return (int) aspectRepository.countByUpdatedAndProcessId(CommonConstants.UPDATED_Y, refProcessId);
 	}
 
+	public boolean markUnchanged(String contentHash, String processId) {
+		return aspectRepository.markUnchanged(contentHash, processId, CommonConstants.UPDATED_UNCHANGED,
+				CommonConstants.DELETED_Y) > 0;
+	}
+
+	public int getUnchangedData(String refProcessId) {
+		return (int) aspectRepository.countByUpdatedAndProcessId(CommonConstants.UPDATED_UNCHANGED, refProcessId);
+	}
+
 }
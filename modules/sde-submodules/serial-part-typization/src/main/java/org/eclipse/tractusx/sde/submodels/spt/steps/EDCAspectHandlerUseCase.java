@@ -23,10 +23,11 @@
 package org.eclipse.tractusx.sde.submodels.spt.steps;
 
 import java.util.Map;
+import java.util.Optional;
 
 import org.eclipse.tractusx.sde.common.constants.CommonConstants;
 import org.eclipse.tractusx.sde.common.exception.CsvHandlerUseCaseException;
-import org.eclipse.tractusx.sde.common.exception.ServiceException;
+import org.eclipse.tractusx.sde.common.exception.NoDataFoundException;
 import org.eclipse.tractusx.sde.common.submodel.executor.Step;
 import org.eclipse.tractusx.sde.edc.entities.request.asset.AssetEntryRequest;
 import org.eclipse.tractusx.sde.edc.entities.request.asset.AssetEntryRequestFactory;
@@ -65,8 +66,7 @@ public class EDCAspectHandlerUseCase extends Step {
 
 			} else {
 
-				deleteEDCFirstForUpdate(submodel, input, processId);
-				edcProcessingforAspect(assetEntryRequest, input);
+				edcUpdateforAspect(assetEntryRequest, input);
 				input.setUpdated(CommonConstants.UPDATED_Y);
 			}
 
@@ -77,14 +77,28 @@ public class EDCAspectHandlerUseCase extends Step {
 	}
 
 	@SneakyThrows
-	private void deleteEDCFirstForUpdate(String submodel, Aspect input, String processId) {
+	private void edcUpdateforAspect(AssetEntryRequest assetEntryRequest, Aspect input) {
+
+		Optional<AspectEntity> entity = findEntity(input.getUuid());
+		Map<String, String> updateEDCAsset = createEDCAssetFacilator.updateEDCAsset(assetEntryRequest,
+				input.getBpnNumbers(), input.getUsagePolicies(),
+				entity.map(AspectEntity::getAccessPolicyId).orElse(null),
+				entity.map(AspectEntity::getUsagePolicyId).orElse(null),
+				entity.map(AspectEntity::getContractDefinationId).orElse(null));
+
+		// EDC transaction information for DB
+		input.setAssetId(assetEntryRequest.getAsset().getId());
+		input.setAccessPolicyId(updateEDCAsset.get("accessPolicyId"));
+		input.setUsagePolicyId(updateEDCAsset.get("usagePolicyId"));
+		input.setContractDefinationId(updateEDCAsset.get("contractDefinitionId"));
+	}
+
+	private Optional<AspectEntity> findEntity(String uuid) {
 		try {
-			AspectEntity entity = aspectService.readEntity(input.getUuid());
-			aspectService.deleteEDCAsset(entity);
-		} catch (Exception e) {
-			if (!e.getMessage().contains("404 Not Found")) {
-				throw new ServiceException("Unable to delete EDC offer for update: " + e.getMessage());
-			}
+			return Optional.of(aspectService.readEntity(uuid));
+		} catch (NoDataFoundException e) {
+			// asset offered without a local record yet, its offer is looked up in the EDC
+			return Optional.empty();
 		}
 	}
 
@@ -28,10 +28,12 @@ import org.eclipse.tractusx.sde.bpndiscovery.handler.BPNDiscoveryUseCaseHandler;
 import org.eclipse.tractusx.sde.common.constants.CommonConstants;
 import org.eclipse.tractusx.sde.common.entities.csv.RowData;
 import org.eclipse.tractusx.sde.common.exception.CsvHandlerDigitalTwinUseCaseException;
+import org.eclipse.tractusx.sde.common.submodel.executor.AspectPayloadMaterialiser;
 import org.eclipse.tractusx.sde.common.submodel.executor.SubmodelExecutor;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.CsvParse;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.JsonRecordFormating;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.JsonRecordValidate;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.RowContentHash;
 import org.eclipse.tractusx.sde.submodels.slbap.mapper.SingleLevelBoMAsPlannedMapper;
 import org.eclipse.tractusx.sde.submodels.slbap.model.SingleLevelBoMAsPlanned;
 import org.eclipse.tractusx.sde.submodels.slbap.services.SingleLevelBoMAsPlannedService;
@@ -66,10 +68,14 @@ public class SingleLevelBoMAsPlannedExecutor extends SubmodelExecutor {
 	private final EDCSingleLevelBoMAsPlannedHandlerStep eDCHandlerStep;
 
 	private final StoreSingleLevelBoMAsPlannedStep storeSingleLevelBoMAsPlannedStep;
+
+	private final AspectPayloadMaterialiser aspectPayloadMaterialiser;
 	
 	private final SingleLevelBoMAsPlannedMapper singleLevelBoMAsPlannedMapper;
 
 	private final SingleLevelBoMAsPlannedService singleLevelBoMAsPlannedService;
+
+	private final RowContentHash rowContentHash;
 	
 	private final BPNDiscoveryUseCaseHandler bPNDiscoveryUseCaseHandler;
 
@@ -96,6 +102,8 @@ public class SingleLevelBoMAsPlannedExecutor extends SubmodelExecutor {
 	@SneakyThrows
 	private void nextSteps(Integer rowIndex, ObjectNode jsonObject, String processId) throws CsvHandlerDigitalTwinUseCaseException {
 
+		String contentHash = rowContentHash.hash(jsonObject);
+
 		SingleLevelBoMAsPlanned singleLevelBoMAsPlanned = singleLevelBoMAsPlannedMapper.mapFrom(jsonObject);
 
 		generateUrnUUID.run(singleLevelBoMAsPlanned, processId);
@@ -106,6 +114,10 @@ public class SingleLevelBoMAsPlannedExecutor extends SubmodelExecutor {
 		jsonRecordValidate.init(getSubmodelSchema());
 		jsonRecordValidate.run(rowIndex, jsonObject);
 
+		if (rowContentHash.isEnabled() && singleLevelBoMAsPlannedService.markUnchanged(contentHash, processId))
+			return;
+		singleLevelBoMAsPlanned.setContentHash(contentHash);
+
 		digitalTwinsHandlerStep.init(getSubmodelSchema());
 		digitalTwinsHandlerStep.run(singleLevelBoMAsPlanned);
 
@@ -115,10 +127,11 @@ public class SingleLevelBoMAsPlannedExecutor extends SubmodelExecutor {
 		if (StringUtils.isBlank(singleLevelBoMAsPlanned.getUpdated())) {
 			Map<String, String> bpnKeyMap = new HashMap<>();
 			bpnKeyMap.put(CommonConstants.MANUFACTURER_PART_ID, singleLevelBoMAsPlanned.getChildManufacturerPartId());
-			bPNDiscoveryUseCaseHandler.run(bpnKeyMap);
+			bPNDiscoveryUseCaseHandler.run(processId, bpnKeyMap);
 		}
 
 		storeSingleLevelBoMAsPlannedStep.run(singleLevelBoMAsPlanned);
+		aspectPayloadMaterialiser.changed(processId, getNameOfModel(), singleLevelBoMAsPlanned.getParentUuid());
 	}
 
 	@Override
@@ -127,12 +140,24 @@ public class SingleLevelBoMAsPlannedExecutor extends SubmodelExecutor {
 	}
 
 	@Override
-	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId) {
-		return singleLevelBoMAsPlannedService.readCreatedTwinsforDelete(refProcessId);
+	public void markDeleted(String refProcessId, List<JsonObject> deletedRecords) {
+		singleLevelBoMAsPlannedService.markDeleted(refProcessId, deletedRecords);
+		deletedRecords.stream().map(jsonObject -> jsonObject.get("parentCatenaXId").getAsString()).distinct()
+				.forEach(uuid -> aspectPayloadMaterialiser.refresh(getNameOfModel(), uuid));
+	}
+
+	@Override
+	public int countCreatedTwinsforDelete(String refProcessId) {
+		return singleLevelBoMAsPlannedService.countCreatedTwinsforDelete(refProcessId);
 	}
 
 	@Override
-	public JsonObject readCreatedTwinsDetails(String uuid) {
+	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId, JsonObject after, int pageSize) {
+		return singleLevelBoMAsPlannedService.readCreatedTwinsforDelete(refProcessId, after, pageSize);
+	}
+
+	@Override
+	public ObjectNode readCreatedTwinsDetails(String uuid) {
 		return singleLevelBoMAsPlannedService.readCreatedTwinsDetails(uuid);
 	}
 
@@ -141,4 +166,9 @@ public class SingleLevelBoMAsPlannedExecutor extends SubmodelExecutor {
 		return singleLevelBoMAsPlannedService.getUpdatedData(processId);
 	}
 
+	@Override
+	public int getUnchangedRecordCount(String processId) {
+		return singleLevelBoMAsPlannedService.getUnchangedData(processId);
+	}
+
 }
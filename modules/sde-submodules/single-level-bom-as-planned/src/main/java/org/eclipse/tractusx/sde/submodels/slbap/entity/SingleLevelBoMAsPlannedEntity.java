@@ -24,11 +24,14 @@ import java.io.Serializable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.IdClass;
 import jakarta.persistence.Table;
 import lombok.Data;
 
-@Table(name = "single_level_bom_as_planned")
+@Table(name = "single_level_bom_as_planned", indexes = {
+        @Index(name = "single_level_bom_as_planned_process_key_idx", columnList = "process_id, parent_uuid, uuid"),
+        @Index(name = "single_level_bom_as_planned_content_hash_idx", columnList = "content_hash") })
 @Entity
 @Data
 @IdClass(SingleLevelBoMAsPlannedPrimaryKey.class)
@@ -92,4 +95,7 @@ public class SingleLevelBoMAsPlannedEntity implements Serializable {
     
     @Column(name = "updated")
     private String updated;
+
+    @Column(name = "content_hash")
+    private String contentHash;
 }
@@ -24,6 +24,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.eclipse.tractusx.sde.common.mapper.AspectResponseFactory;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.eclipse.tractusx.sde.submodels.slbap.entity.SingleLevelBoMAsPlannedEntity;
 import org.eclipse.tractusx.sde.submodels.slbap.model.ChildParts;
 import org.eclipse.tractusx.sde.submodels.slbap.model.MeasurementUnit;
@@ -36,7 +37,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
 import lombok.SneakyThrows;
@@ -44,7 +44,7 @@ import lombok.SneakyThrows;
 @Mapper(componentModel = "spring")
 public abstract class SingleLevelBoMAsPlannedMapper {
 
-	ObjectMapper mapper = new ObjectMapper();
+	ObjectMapper mapper = JsonMappers.objectMapper();
 	
 	@Autowired
 	private AspectResponseFactory aspectResponseFactory;
@@ -59,18 +59,18 @@ public abstract class SingleLevelBoMAsPlannedMapper {
 
 	@SneakyThrows
 	public SingleLevelBoMAsPlanned mapFrom(ObjectNode singleLevelBoMAsPlanned) {
-		return mapper.readValue(singleLevelBoMAsPlanned.toString(), SingleLevelBoMAsPlanned.class);
+		return mapper.treeToValue(singleLevelBoMAsPlanned, SingleLevelBoMAsPlanned.class);
 	}
 
 	public SingleLevelBoMAsPlannedEntity mapforEntity(JsonObject singleLevelBoMAsPlanned) {
-		return new Gson().fromJson(singleLevelBoMAsPlanned, SingleLevelBoMAsPlannedEntity.class);
+		return JsonMappers.gson().fromJson(singleLevelBoMAsPlanned, SingleLevelBoMAsPlannedEntity.class);
 	}
 
 	public JsonObject mapFromEntity(SingleLevelBoMAsPlannedEntity singleLevelBoMAsPlannedEntity) {
-		return new Gson().toJsonTree(singleLevelBoMAsPlannedEntity).getAsJsonObject();
+		return JsonMappers.gson().toJsonTree(singleLevelBoMAsPlannedEntity).getAsJsonObject();
 	}
 
-	public JsonObject mapToResponse(String parentCatenaXUuid,
+	public ObjectNode mapToResponse(String parentCatenaXUuid,
 			List<SingleLevelBoMAsPlannedEntity> singleLevelBoMAsPlannedEntity) {
 
 		if (singleLevelBoMAsPlannedEntity == null || singleLevelBoMAsPlannedEntity.isEmpty()) {
@@ -22,13 +22,14 @@ package org.eclipse.tractusx.sde.submodels.slbap.repository;
 import java.util.List;
 
 import org.eclipse.tractusx.sde.submodels.slbap.entity.SingleLevelBoMAsPlannedEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface SingleLevelBoMAsPlannedRepository extends CrudRepository<SingleLevelBoMAsPlannedEntity, String> {
 
-	List<SingleLevelBoMAsPlannedEntity> findByProcessId(String processId);
-	
     List<SingleLevelBoMAsPlannedEntity> findByParentCatenaXId(String parentCatenaXId);
     
 	@Query("select count(ae) from SingleLevelBoMAsPlannedEntity ae where ae.updated = ?1 and ae.processId = ?2")
@@ -36,4 +37,32 @@ public interface SingleLevelBoMAsPlannedRepository extends CrudRepository<Single
 	
 	SingleLevelBoMAsPlannedEntity findByChildCatenaXId(String uuid);
 
+	@Modifying
+	@Transactional
+	@Query("update SingleLevelBoMAsPlannedEntity e set e.processId = ?2, e.updated = ?3 where e.contentHash = ?1 "
+			+ "and (e.deleted is null or e.deleted <> ?4)")
+	int markUnchanged(String contentHash, String processId, String updated, String deleted);
+
+	@Modifying
+	@Transactional
+	@Query("update SingleLevelBoMAsPlannedEntity e set e.deleted = ?4 where e.processId = ?1 and e.childCatenaXId in ?2 "
+			+ "and concat(e.parentCatenaXId, '|', e.childCatenaXId) in ?3")
+	int markDeleted(String processId, List<String> childUuids, List<String> relationshipKeys, String deleted);
+
+	static String relationshipKey(String parentCatenaXId, String childCatenaXId) {
+		return parentCatenaXId + "|" + childCatenaXId;
+	}
+
+	@Query("select count(e) from SingleLevelBoMAsPlannedEntity e where e.processId = ?1")
+	long countByProcessId(String processId);
+
+	@Query("select count(e) from SingleLevelBoMAsPlannedEntity e where e.processId = ?1 "
+			+ "and (e.deleted is null or e.deleted <> ?2)")
+	long countUndeletedByProcessId(String processId, String deleted);
+
+	@Query("select e from SingleLevelBoMAsPlannedEntity e where e.processId = ?1 and (e.deleted is null or e.deleted <> ?2) "
+			+ "and (e.parentCatenaXId > ?3 or (e.parentCatenaXId = ?3 and e.childCatenaXId > ?4)) "
+			+ "order by e.parentCatenaXId, e.childCatenaXId")
+	List<SingleLevelBoMAsPlannedEntity> findUndeletedByProcessIdAfter(String processId, String deleted,
+			String afterParentCatenaXId, String afterChildCatenaXId, Pageable page);
 }
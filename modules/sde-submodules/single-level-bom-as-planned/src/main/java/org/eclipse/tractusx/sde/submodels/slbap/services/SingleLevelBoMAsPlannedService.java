@@ -29,8 +29,10 @@ import org.eclipse.tractusx.sde.edc.facilitator.DeleteEDCFacilitator;
 import org.eclipse.tractusx.sde.submodels.slbap.entity.SingleLevelBoMAsPlannedEntity;
 import org.eclipse.tractusx.sde.submodels.slbap.mapper.SingleLevelBoMAsPlannedMapper;
 import org.eclipse.tractusx.sde.submodels.slbap.repository.SingleLevelBoMAsPlannedRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.gson.JsonObject;
 
 import lombok.AllArgsConstructor;
@@ -47,17 +49,23 @@ public class SingleLevelBoMAsPlannedService {
 
 	private final DigitalTwinsFacilitator deleteDigitalTwinsFacilitator;
 
-	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId) {
-
-		return Optional
-				.ofNullable(Optional.ofNullable(singleLevelBoMAsPlannedRepository.findByProcessId(refProcessId))
-						.filter(a -> !a.isEmpty())
-						.orElseThrow(() -> new NoDataFoundException(
-								String.format("No data found for processid %s ", refProcessId)))
-						.stream().filter(e -> !CommonConstants.DELETED_Y.equals(e.getDeleted()))
-						.map(singleLevelBoMAsPlannedMapper::mapFromEntity).toList())
-				.filter(a -> !a.isEmpty()).orElseThrow(
-						() -> new NoDataFoundException("No data founds for deletion, All records are already deleted"));
+	public int countCreatedTwinsforDelete(String refProcessId) {
+
+		if (singleLevelBoMAsPlannedRepository.countByProcessId(refProcessId) == 0)
+			throw new NoDataFoundException(String.format("No data found for processid %s ", refProcessId));
+
+		int count = (int) singleLevelBoMAsPlannedRepository.countUndeletedByProcessId(refProcessId, CommonConstants.DELETED_Y);
+		if (count == 0)
+			throw new NoDataFoundException("No data founds for deletion, All records are already deleted");
+		return count;
+	}
+
+	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId, JsonObject after, int pageSize) {
+		SingleLevelBoMAsPlannedEntity last = after == null ? null : singleLevelBoMAsPlannedMapper.mapforEntity(after);
+		return singleLevelBoMAsPlannedRepository
+				.findUndeletedByProcessIdAfter(refProcessId, CommonConstants.DELETED_Y, last == null ? "" : last.getParentCatenaXId(),
+						last == null ? "" : last.getChildCatenaXId(), PageRequest.of(0, pageSize))
+				.stream().map(singleLevelBoMAsPlannedMapper::mapFromEntity).toList();
 	}
 
 	public void deleteAllDataBySequence(JsonObject jsonObject) {
@@ -69,16 +77,18 @@ public class SingleLevelBoMAsPlannedService {
 
 		deleteDigitalTwinsFacilitator.deleteSubmodelfromShellById(singleLevelBoMAsPlannedEntity.getShellId(),
 				singleLevelBoMAsPlannedEntity.getSubModelId());
-
-		saveSingleLevelBoMAsPlannedWithDeleted(singleLevelBoMAsPlannedEntity);
 	}
 
-	private void saveSingleLevelBoMAsPlannedWithDeleted(SingleLevelBoMAsPlannedEntity aspectRelationshipEntity) {
-		aspectRelationshipEntity.setDeleted(CommonConstants.DELETED_Y);
-		singleLevelBoMAsPlannedRepository.save(aspectRelationshipEntity);
+	public void markDeleted(String refProcessId, List<JsonObject> deletedRecords) {
+		List<SingleLevelBoMAsPlannedEntity> entities = deletedRecords.stream().map(singleLevelBoMAsPlannedMapper::mapforEntity).toList();
+		List<String> childUuids = entities.stream().map(SingleLevelBoMAsPlannedEntity::getChildCatenaXId).distinct().toList();
+		List<String> relationshipKeys = entities.stream()
+				.map(e -> SingleLevelBoMAsPlannedRepository.relationshipKey(e.getParentCatenaXId(), e.getChildCatenaXId()))
+				.toList();
+		singleLevelBoMAsPlannedRepository.markDeleted(refProcessId, childUuids, relationshipKeys, CommonConstants.DELETED_Y);
 	}
 
-	public JsonObject readCreatedTwinsDetails(String uuid) {
+	public ObjectNode readCreatedTwinsDetails(String uuid) {
 		List<SingleLevelBoMAsPlannedEntity> entities = Optional
 				.ofNullable(singleLevelBoMAsPlannedRepository.findByParentCatenaXId(uuid))
 				.orElseThrow(() -> new NoDataFoundException("No data found uuid " + uuid));
@@ -91,14 +101,10 @@ public class SingleLevelBoMAsPlannedService {
 	}
 
 	public void deleteEDCAsset(SingleLevelBoMAsPlannedEntity singleLevelBoMAsPlannedEntity) {
-
-		deleteEDCFacilitator.deleteContractDefination(singleLevelBoMAsPlannedEntity.getContractDefinationId());
-
-		deleteEDCFacilitator.deleteAccessPolicy(singleLevelBoMAsPlannedEntity.getAccessPolicyId());
-
-		deleteEDCFacilitator.deleteUsagePolicy(singleLevelBoMAsPlannedEntity.getUsagePolicyId());
-
-		deleteEDCFacilitator.deleteAssets(singleLevelBoMAsPlannedEntity.getAssetId());
+		deleteEDCFacilitator.deleteEDCAsset(singleLevelBoMAsPlannedEntity.getContractDefinationId(),
+				singleLevelBoMAsPlannedEntity.getAccessPolicyId(),
+				singleLevelBoMAsPlannedEntity.getUsagePolicyId(),
+				singleLevelBoMAsPlannedEntity.getAssetId());
 	}
 
 	public int getUpdatedData(String refProcessId) {
@@ -107,4 +113,14 @@ public class SingleLevelBoMAsPlannedService {
 				refProcessId);
 	}
 
+	public boolean markUnchanged(String contentHash, String processId) {
+		return singleLevelBoMAsPlannedRepository.markUnchanged(contentHash, processId,
+				CommonConstants.UPDATED_UNCHANGED, CommonConstants.DELETED_Y) > 0;
+	}
+
+	public int getUnchangedData(String refProcessId) {
+		return (int) singleLevelBoMAsPlannedRepository.countByUpdatedAndProcessId(CommonConstants.UPDATED_UNCHANGED,
+				refProcessId);
+	}
+
 }
@@ -20,10 +20,11 @@
 package org.eclipse.tractusx.sde.submodels.slbap.steps;
 
 import java.util.Map;
+import java.util.Optional;
 
 import org.eclipse.tractusx.sde.common.constants.CommonConstants;
 import org.eclipse.tractusx.sde.common.exception.CsvHandlerUseCaseException;
-import org.eclipse.tractusx.sde.common.exception.ServiceException;
+import org.eclipse.tractusx.sde.common.exception.NoDataFoundException;
 import org.eclipse.tractusx.sde.common.submodel.executor.Step;
 import org.eclipse.tractusx.sde.edc.entities.request.asset.AssetEntryRequest;
 import org.eclipse.tractusx.sde.edc.entities.request.asset.AssetEntryRequestFactory;
@@ -58,8 +59,7 @@ public class EDCSingleLevelBoMAsPlannedHandlerStep extends Step {
 			if (!edcGateway.assetExistsLookup(assetEntryRequest.getAsset().getId())) {
 				edcProcessingforSingleLevelBoMAsPlanned(assetEntryRequest, input);
 			} else {
-				deleteEDCFirstForUpdate(submodel, input, processId);
-				edcProcessingforSingleLevelBoMAsPlanned(assetEntryRequest, input);
+				edcUpdateforSingleLevelBoMAsPlanned(assetEntryRequest, input);
 				input.setUpdated(CommonConstants.UPDATED_Y);
 			}
 
@@ -70,16 +70,28 @@ public class EDCSingleLevelBoMAsPlannedHandlerStep extends Step {
 	}
 
 	@SneakyThrows
-	private void deleteEDCFirstForUpdate(String submodel, SingleLevelBoMAsPlanned input, String processId) {
-		try {
-			SingleLevelBoMAsPlannedEntity singleLevelBoMAsPlannedEntity = singleLevelBoMAsPlannedService
-					.readEntity(input.getChildUuid());
-			singleLevelBoMAsPlannedService.deleteEDCAsset(singleLevelBoMAsPlannedEntity);
+	private void edcUpdateforSingleLevelBoMAsPlanned(AssetEntryRequest assetEntryRequest, SingleLevelBoMAsPlanned input) {
 
-		} catch (Exception e) {
-			if (!e.getMessage().contains("404 Not Found")) {
-				throw new ServiceException("Unable to delete EDC offer for update: " + e.getMessage());
-			}
+		Optional<SingleLevelBoMAsPlannedEntity> entity = findEntity(input.getChildUuid());
+		Map<String, String> updateEDCAsset = createEDCAssetFacilator.updateEDCAsset(assetEntryRequest,
+				input.getBpnNumbers(), input.getUsagePolicies(),
+				entity.map(SingleLevelBoMAsPlannedEntity::getAccessPolicyId).orElse(null),
+				entity.map(SingleLevelBoMAsPlannedEntity::getUsagePolicyId).orElse(null),
+				entity.map(SingleLevelBoMAsPlannedEntity::getContractDefinationId).orElse(null));
+
+		// EDC transaction information for DB
+		input.setAssetId(assetEntryRequest.getAsset().getId());
+		input.setAccessPolicyId(updateEDCAsset.get("accessPolicyId"));
+		input.setUsagePolicyId(updateEDCAsset.get("usagePolicyId"));
+		input.setContractDefinationId(updateEDCAsset.get("contractDefinitionId"));
+	}
+
+	private Optional<SingleLevelBoMAsPlannedEntity> findEntity(String uuid) {
+		try {
+			return Optional.of(singleLevelBoMAsPlannedService.readEntity(uuid));
+		} catch (NoDataFoundException e) {
+			// asset offered without a local record yet, its offer is looked up in the EDC
+			return Optional.empty();
 		}
 	}
 
@@ -28,10 +28,12 @@ import org.eclipse.tractusx.sde.bpndiscovery.handler.BPNDiscoveryUseCaseHandler;
 import org.eclipse.tractusx.sde.common.constants.CommonConstants;
 import org.eclipse.tractusx.sde.common.entities.csv.RowData;
 import org.eclipse.tractusx.sde.common.exception.CsvHandlerDigitalTwinUseCaseException;
+import org.eclipse.tractusx.sde.common.submodel.executor.AspectPayloadMaterialiser;
 import org.eclipse.tractusx.sde.common.submodel.executor.SubmodelExecutor;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.CsvParse;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.JsonRecordFormating;
 import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.JsonRecordValidate;
+import org.eclipse.tractusx.sde.common.submodel.executor.create.steps.impl.RowContentHash;
 import org.eclipse.tractusx.sde.submodels.sluab.mapper.SingleLevelUsageAsBuiltMapper;
 import org.eclipse.tractusx.sde.submodels.sluab.model.SingleLevelUsageAsBuilt;
 import org.eclipse.tractusx.sde.submodels.sluab.service.SingleLevelUsageAsBuiltService;
@@ -65,9 +67,13 @@ public class SingleLevelUsageAsBuiltExecutor extends SubmodelExecutor {
 
 	private final StoreSingleLevelUsageAsBuiltCsvHandlerUseCase storeSingleLevelUsageAsBuiltCsvHandlerUseCase;
 
+	private final AspectPayloadMaterialiser aspectPayloadMaterialiser;
+
 	private final SingleLevelUsageAsBuiltMapper singleLevelUsageAsBuiltMapper;
 
 	private final SingleLevelUsageAsBuiltService singleLevelUsageAsBuiltService;
+
+	private final RowContentHash rowContentHash;
 	
 	private final BPNDiscoveryUseCaseHandler bPNDiscoveryUseCaseHandler;
 
@@ -95,6 +101,8 @@ public class SingleLevelUsageAsBuiltExecutor extends SubmodelExecutor {
 	private void nextSteps(Integer rowIndex, ObjectNode jsonObject, String processId)
 			throws CsvHandlerDigitalTwinUseCaseException {
 
+		String contentHash = rowContentHash.hash(jsonObject);
+
 		SingleLevelUsageAsBuilt singleLevelUsageAsBuilt = singleLevelUsageAsBuiltMapper.mapFrom(jsonObject);
 
 		generateUrnUUID.run(singleLevelUsageAsBuilt, processId);
@@ -105,6 +113,10 @@ public class SingleLevelUsageAsBuiltExecutor extends SubmodelExecutor {
 		jsonRecordValidate.init(getSubmodelSchema());
 		jsonRecordValidate.run(rowIndex, jsonObject);
 
+		if (rowContentHash.isEnabled() && singleLevelUsageAsBuiltService.markUnchanged(contentHash, processId))
+			return;
+		singleLevelUsageAsBuilt.setContentHash(contentHash);
+
 		digitalTwinsSingleLevelUsageAsBuiltCsvHandlerUseCase.init(getSubmodelSchema());
 		digitalTwinsSingleLevelUsageAsBuiltCsvHandlerUseCase.run(singleLevelUsageAsBuilt);
 
@@ -114,10 +126,11 @@ public class SingleLevelUsageAsBuiltExecutor extends SubmodelExecutor {
 		if (StringUtils.isBlank(singleLevelUsageAsBuilt.getUpdated())) {
 			Map<String, String> bpnKeyMap = new HashMap<>();
 			bpnKeyMap.put(CommonConstants.MANUFACTURER_PART_ID, singleLevelUsageAsBuilt.getChildManufacturerPartId());
-			bPNDiscoveryUseCaseHandler.run(bpnKeyMap);
+			bPNDiscoveryUseCaseHandler.run(processId, bpnKeyMap);
 		}
 
 		storeSingleLevelUsageAsBuiltCsvHandlerUseCase.run(singleLevelUsageAsBuilt);
+		aspectPayloadMaterialiser.changed(processId, getNameOfModel(), singleLevelUsageAsBuilt.getParentUuid());
 	}
 
 	@Override
@@ -126,12 +139,24 @@ public class SingleLevelUsageAsBuiltExecutor extends SubmodelExecutor {
 	}
 
 	@Override
-	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId) {
-		return singleLevelUsageAsBuiltService.readCreatedTwinsforDelete(refProcessId);
+	public void markDeleted(String refProcessId, List<JsonObject> deletedRecords) {
+		singleLevelUsageAsBuiltService.markDeleted(refProcessId, deletedRecords);
+		deletedRecords.stream().map(jsonObject -> jsonObject.get("parentCatenaXId").getAsString()).distinct()
+				.forEach(uuid -> aspectPayloadMaterialiser.refresh(getNameOfModel(), uuid));
+	}
+
+	@Override
+	public int countCreatedTwinsforDelete(String refProcessId) {
+		return singleLevelUsageAsBuiltService.countCreatedTwinsforDelete(refProcessId);
 	}
 
 	@Override
-	public JsonObject readCreatedTwinsDetails(String uuid) {
+	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId, JsonObject after, int pageSize) {
+		return singleLevelUsageAsBuiltService.readCreatedTwinsforDelete(refProcessId, after, pageSize);
+	}
+
+	@Override
+	public ObjectNode readCreatedTwinsDetails(String uuid) {
 		return singleLevelUsageAsBuiltService.readCreatedTwinsDetails(uuid);
 	}
 
@@ -140,4 +165,9 @@ public class SingleLevelUsageAsBuiltExecutor extends SubmodelExecutor {
 		return singleLevelUsageAsBuiltService.getUpdatedData(processId);
 	}
 
+	@Override
+	public int getUnchangedRecordCount(String processId) {
+		return singleLevelUsageAsBuiltService.getUnchangedData(processId);
+	}
+
 }
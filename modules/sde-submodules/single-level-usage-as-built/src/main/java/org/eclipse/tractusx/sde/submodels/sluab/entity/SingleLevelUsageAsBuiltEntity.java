@@ -24,12 +24,15 @@ import java.io.Serializable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.IdClass;
 import jakarta.persistence.Table;
 import lombok.Data;
 
 @Entity
-@Table(name = "single_level_usage_as_built")
+@Table(name = "single_level_usage_as_built", indexes = {
+        @Index(name = "single_level_usage_as_built_process_key_idx", columnList = "process_id, parent_uuid, uuid"),
+        @Index(name = "single_level_usage_as_built_content_hash_idx", columnList = "content_hash") })
 @Data
 @IdClass(SingleLevelUsageAsBuiltPrimaryKey.class)
 public class SingleLevelUsageAsBuiltEntity implements Serializable {
@@ -82,5 +85,7 @@ public class SingleLevelUsageAsBuiltEntity implements Serializable {
     private String deleted;
     @Column(name = "updated")
     private String updated;
+    @Column(name = "content_hash")
+    private String contentHash;
 
 }
@@ -24,6 +24,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.eclipse.tractusx.sde.common.mapper.AspectResponseFactory;
+import org.eclipse.tractusx.sde.common.utils.JsonMappers;
 import org.eclipse.tractusx.sde.submodels.sluab.entity.SingleLevelUsageAsBuiltEntity;
 import org.eclipse.tractusx.sde.submodels.sluab.model.ParentParts;
 import org.eclipse.tractusx.sde.submodels.sluab.model.Quantity;
@@ -35,7 +36,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
 import lombok.SneakyThrows;
@@ -46,7 +46,7 @@ public abstract class SingleLevelUsageAsBuiltMapper {
 	@Autowired
 	private AspectResponseFactory aspectResponseFactory;
 	
-	ObjectMapper mapper = new ObjectMapper();
+	ObjectMapper mapper = JsonMappers.objectMapper();
 
 	@Mapping(source = "parentUuid", target = "parentCatenaXId")
 	@Mapping(source = "childUuid", target = "childCatenaXId")
@@ -58,18 +58,18 @@ public abstract class SingleLevelUsageAsBuiltMapper {
 
 	@SneakyThrows
 	public SingleLevelUsageAsBuilt mapFrom(ObjectNode singleLevelUsageAsBuilt) {
-		return mapper.readValue(singleLevelUsageAsBuilt.toString(), SingleLevelUsageAsBuilt.class);
+		return mapper.treeToValue(singleLevelUsageAsBuilt, SingleLevelUsageAsBuilt.class);
 	}
 
 	public SingleLevelUsageAsBuiltEntity mapforEntity(JsonObject entity) {
-		return new Gson().fromJson(entity, SingleLevelUsageAsBuiltEntity.class);
+		return JsonMappers.gson().fromJson(entity, SingleLevelUsageAsBuiltEntity.class);
 	}
 
 	public JsonObject mapFromEntity(SingleLevelUsageAsBuiltEntity singleLevelUsageAsBuilt) {
-		return new Gson().toJsonTree(singleLevelUsageAsBuilt).getAsJsonObject();
+		return JsonMappers.gson().toJsonTree(singleLevelUsageAsBuilt).getAsJsonObject();
 	}
 
-	public JsonObject mapToResponse(String catenaXUuid, List<SingleLevelUsageAsBuiltEntity> entity) {
+	public ObjectNode mapToResponse(String catenaXUuid, List<SingleLevelUsageAsBuiltEntity> entity) {
 
 		if (entity == null || entity.isEmpty()) {
 			return null;
@@ -88,7 +88,7 @@ public abstract class SingleLevelUsageAsBuiltMapper {
 	}
 
 	public SingleLevelUsageAsBuiltResponse mapforResponse(JsonObject entity) {
-		return new Gson().fromJson(entity, SingleLevelUsageAsBuiltResponse.class);
+		return JsonMappers.gson().fromJson(entity, SingleLevelUsageAsBuiltResponse.class);
 	}
 
 	private ParentParts toParentParts(SingleLevelUsageAsBuiltEntity entity) {
@@ -23,6 +23,7 @@ import java.util.List;
 
 import org.eclipse.tractusx.sde.common.entities.UsagePolicies;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -46,6 +47,8 @@ public class SingleLevelUsageAsBuilt {
 	private String contractDefinationId;
 	private String deleted;
 	private String updated;
+	@JsonIgnore
+	private String contentHash;
 
 	@JsonProperty(value = "row_number")
 	private Integer rowNumber;
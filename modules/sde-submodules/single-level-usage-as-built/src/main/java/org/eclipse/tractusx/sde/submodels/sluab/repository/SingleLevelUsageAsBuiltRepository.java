@@ -22,8 +22,11 @@ package org.eclipse.tractusx.sde.submodels.sluab.repository;
 import java.util.List;
 
 import org.eclipse.tractusx.sde.submodels.sluab.entity.SingleLevelUsageAsBuiltEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface SingleLevelUsageAsBuiltRepository extends JpaRepository<SingleLevelUsageAsBuiltEntity, String> {
 
@@ -31,9 +34,35 @@ public interface SingleLevelUsageAsBuiltRepository extends JpaRepository<SingleL
 	
 	SingleLevelUsageAsBuiltEntity findByChildCatenaXId(String uuid);
 
-	List<SingleLevelUsageAsBuiltEntity> findByProcessId(String processId);
-
 	@Query("select count(ar) from SingleLevelUsageAsBuiltEntity ar where ar.updated = ?1 and ar.processId = ?2")
 	long countByUpdatedAndProcessId(String updated, String processId);
 
+	@Modifying
+	@Transactional
+	@Query("update SingleLevelUsageAsBuiltEntity e set e.processId = ?2, e.updated = ?3 where e.contentHash = ?1 "
+			+ "and (e.deleted is null or e.deleted <> ?4)")
+	int markUnchanged(String contentHash, String processId, String updated, String deleted);
+
+	@Modifying
+	@Transactional
+	@Query("update SingleLevelUsageAsBuiltEntity e set e.deleted = ?4 where e.processId = ?1 and e.childCatenaXId in ?2 "
+			+ "and concat(e.parentCatenaXId, '|', e.childCatenaXId) in ?3")
+	int markDeleted(String processId, List<String> childUuids, List<String> relationshipKeys, String deleted);
+
+	static String relationshipKey(String parentCatenaXId, String childCatenaXId) {
+		return parentCatenaXId + "|" + childCatenaXId;
+	}
+
+	@Query("select count(e) from SingleLevelUsageAsBuiltEntity e where e.processId = ?1")
+	long countByProcessId(String processId);
+
+	@Query("select count(e) from SingleLevelUsageAsBuiltEntity e where e.processId = ?1 "
+			+ "and (e.deleted is null or e.deleted <> ?2)")
+	long countUndeletedByProcessId(String processId, String deleted);
+
+	@Query("select e from SingleLevelUsageAsBuiltEntity e where e.processId = ?1 and (e.deleted is null or e.deleted <> ?2) "
+			+ "and (e.parentCatenaXId > ?3 or (e.parentCatenaXId = ?3 and e.childCatenaXId > ?4)) "
+			+ "order by e.parentCatenaXId, e.childCatenaXId")
+	List<SingleLevelUsageAsBuiltEntity> findUndeletedByProcessIdAfter(String processId, String deleted,
+			String afterParentCatenaXId, String afterChildCatenaXId, Pageable page);
 }
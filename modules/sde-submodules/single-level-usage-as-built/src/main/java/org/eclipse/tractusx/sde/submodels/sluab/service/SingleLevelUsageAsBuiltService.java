@@ -29,8 +29,10 @@ import org.eclipse.tractusx.sde.edc.facilitator.DeleteEDCFacilitator;
 import org.eclipse.tractusx.sde.submodels.sluab.entity.SingleLevelUsageAsBuiltEntity;
 import org.eclipse.tractusx.sde.submodels.sluab.mapper.SingleLevelUsageAsBuiltMapper;
 import org.eclipse.tractusx.sde.submodels.sluab.repository.SingleLevelUsageAsBuiltRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.gson.JsonObject;
 
 import lombok.AllArgsConstructor;
@@ -48,17 +50,23 @@ public class SingleLevelUsageAsBuiltService {
 
 	private final DigitalTwinsFacilitator deleteDigitalTwinsFacilitator;
 
-	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId) {
-
-		return Optional
-				.ofNullable(Optional.ofNullable(singleLevelUsageAsBuiltRepository.findByProcessId(refProcessId))
-						.filter(a -> !a.isEmpty())
-						.orElseThrow(() -> new NoDataFoundException(
-								String.format("No data found for processid %s ", refProcessId)))
-						.stream().filter(e -> !CommonConstants.DELETED_Y.equals(e.getDeleted()))
-						.map(singleLevelUsageAsBuiltMapper::mapFromEntity).toList())
-				.filter(a -> !a.isEmpty()).orElseThrow(
-						() -> new NoDataFoundException("No data founds for deletion, All records are already deleted"));
+	public int countCreatedTwinsforDelete(String refProcessId) {
+
+		if (singleLevelUsageAsBuiltRepository.countByProcessId(refProcessId) == 0)
+			throw new NoDataFoundException(String.format("No data found for processid %s ", refProcessId));
+
+		int count = (int) singleLevelUsageAsBuiltRepository.countUndeletedByProcessId(refProcessId, CommonConstants.DELETED_Y);
+		if (count == 0)
+			throw new NoDataFoundException("No data founds for deletion, All records are already deleted");
+		return count;
+	}
+
+	public List<JsonObject> readCreatedTwinsforDelete(String refProcessId, JsonObject after, int pageSize) {
+		SingleLevelUsageAsBuiltEntity last = after == null ? null : singleLevelUsageAsBuiltMapper.mapforEntity(after);
+		return singleLevelUsageAsBuiltRepository
+				.findUndeletedByProcessIdAfter(refProcessId, CommonConstants.DELETED_Y, last == null ? "" : last.getParentCatenaXId(),
+						last == null ? "" : last.getChildCatenaXId(), PageRequest.of(0, pageSize))
+				.stream().map(singleLevelUsageAsBuiltMapper::mapFromEntity).toList();
 	}
 
 	public void deleteAllDataBySequence(JsonObject jsonObject) {
@@ -69,28 +77,26 @@ public class SingleLevelUsageAsBuiltService {
 
 		deleteDigitalTwinsFacilitator.deleteSubmodelfromShellById(aspectRelationshipEntity.getShellId(),
 				aspectRelationshipEntity.getSubModelId());
-
-		saveAspectRelationshipWithDeleted(aspectRelationshipEntity);
 	}
 
 	@SneakyThrows
 	public void deleteEDCAsset(SingleLevelUsageAsBuiltEntity singleLevelUsageAsBuiltEntity) {
-
-		deleteEDCFacilitator.deleteContractDefination(singleLevelUsageAsBuiltEntity.getContractDefinationId());
-
-		deleteEDCFacilitator.deleteAccessPolicy(singleLevelUsageAsBuiltEntity.getAccessPolicyId());
-
-		deleteEDCFacilitator.deleteUsagePolicy(singleLevelUsageAsBuiltEntity.getUsagePolicyId());
-
-		deleteEDCFacilitator.deleteAssets(singleLevelUsageAsBuiltEntity.getAssetId());
+		deleteEDCFacilitator.deleteEDCAsset(singleLevelUsageAsBuiltEntity.getContractDefinationId(),
+				singleLevelUsageAsBuiltEntity.getAccessPolicyId(),
+				singleLevelUsageAsBuiltEntity.getUsagePolicyId(),
+				singleLevelUsageAsBuiltEntity.getAssetId());
 	}
 
-	private void saveAspectRelationshipWithDeleted(SingleLevelUsageAsBuiltEntity singleLevelUsageAsBuiltEntity) {
-		singleLevelUsageAsBuiltEntity.setDeleted(CommonConstants.DELETED_Y);
-		singleLevelUsageAsBuiltRepository.save(singleLevelUsageAsBuiltEntity);
+	public void markDeleted(String refProcessId, List<JsonObject> deletedRecords) {
+		List<SingleLevelUsageAsBuiltEntity> entities = deletedRecords.stream().map(singleLevelUsageAsBuiltMapper::mapforEntity).toList();
+		List<String> childUuids = entities.stream().map(SingleLevelUsageAsBuiltEntity::getChildCatenaXId).distinct().toList();
+		List<String> relationshipKeys = entities.stream()
+				.map(e -> SingleLevelUsageAsBuiltRepository.relationshipKey(e.getParentCatenaXId(), e.getChildCatenaXId()))
+				.toList();
+		singleLevelUsageAsBuiltRepository.markDeleted(refProcessId, childUuids, relationshipKeys, CommonConstants.DELETED_Y);
 	}
 
-	public JsonObject readCreatedTwinsDetails(String uuid) {
+	public ObjectNode readCreatedTwinsDetails(String uuid) {
 		List<SingleLevelUsageAsBuiltEntity> entities = Optional
 				.ofNullable(singleLevelUsageAsBuiltRepository.findByParentCatenaXId(uuid))
 				.orElseThrow(() -> new NoDataFoundException("No data found uuid " + uuid));
@@ -109,4 +115,14 @@ public class SingleLevelUsageAsBuiltService {
 				refProcessId);
 	}
 
+	public boolean markUnchanged(String contentHash, String processId) {
+		return singleLevelUsageAsBuiltRepository.markUnchanged(contentHash, processId,
+				CommonConstants.UPDATED_UNCHANGED, CommonConstants.DELETED_Y) > 0;
+	}
+
+	public int getUnchangedData(String refProcessId) {
+		return (int) singleLevelUsageAsBuiltRepository.countByUpdatedAndProcessId(CommonConstants.UPDATED_UNCHANGED,
+				refProcessId);
+	}
+
 }
@@ -20,10 +20,11 @@
 package org.eclipse.tractusx.sde.submodels.sluab.steps;
 
 import java.util.Map;
+import java.util.Optional;
 
 import org.eclipse.tractusx.sde.common.constants.CommonConstants;
 import org.eclipse.tractusx.sde.common.exception.CsvHandlerUseCaseException;
-import org.eclipse.tractusx.sde.common.exception.ServiceException;
+import org.eclipse.tractusx.sde.common.exception.NoDataFoundException;
 import org.eclipse.tractusx.sde.common.submodel.executor.Step;
 import org.eclipse.tractusx.sde.edc.entities.request.asset.AssetEntryRequest;
 import org.eclipse.tractusx.sde.edc.entities.request.asset.AssetEntryRequestFactory;
@@ -62,8 +63,7 @@ public class EDCSingleLevelUsageAsBuiltHandlerUseCase extends Step {
 
 			} else {
 
-				deleteEDCFirstForUpdate(submodel, input, processId);
-				edcProcessingforAspectRelationship(assetEntryRequest, input);
+				edcUpdateforAspectRelationship(assetEntryRequest, input);
 				input.setUpdated(CommonConstants.UPDATED_Y);
 			}
 
@@ -74,15 +74,28 @@ public class EDCSingleLevelUsageAsBuiltHandlerUseCase extends Step {
 	}
 
 	@SneakyThrows
-	private void deleteEDCFirstForUpdate(String submodel, SingleLevelUsageAsBuilt input, String processId) {
+	private void edcUpdateforAspectRelationship(AssetEntryRequest assetEntryRequest, SingleLevelUsageAsBuilt input) {
+
+		Optional<SingleLevelUsageAsBuiltEntity> entity = findEntity(input.getChildUuid());
+		Map<String, String> updateEDCAsset = createEDCAssetFacilator.updateEDCAsset(assetEntryRequest,
+				input.getBpnNumbers(), input.getUsagePolicies(),
+				entity.map(SingleLevelUsageAsBuiltEntity::getAccessPolicyId).orElse(null),
+				entity.map(SingleLevelUsageAsBuiltEntity::getUsagePolicyId).orElse(null),
+				entity.map(SingleLevelUsageAsBuiltEntity::getContractDefinationId).orElse(null));
+
+		// EDC transaction information for DB
+		input.setAssetId(assetEntryRequest.getAsset().getId());
+		input.setAccessPolicyId(updateEDCAsset.get("accessPolicyId"));
+		input.setUsagePolicyId(updateEDCAsset.get("usagePolicyId"));
+		input.setContractDefinationId(updateEDCAsset.get("contractDefinitionId"));
+	}
+
+	private Optional<SingleLevelUsageAsBuiltEntity> findEntity(String uuid) {
 		try {
-			SingleLevelUsageAsBuiltEntity aspectRelationshipEntity = singleLevelUsageAsBuiltService
-					.readEntity(input.getChildUuid());
-			singleLevelUsageAsBuiltService.deleteEDCAsset(aspectRelationshipEntity);
-		} catch (Exception e) {
-			if (!e.getMessage().contains("404 Not Found")) {
-				throw new ServiceException("Unable to delete EDC offer for update: " + e.getMessage());
-			}
+			return Optional.of(singleLevelUsageAsBuiltService.readEntity(uuid));
+		} catch (NoDataFoundException e) {
+			// asset offered without a local record yet, its offer is looked up in the EDC
+			return Optional.empty();
 		}
 	}
 